@@ -1,6 +1,13 @@
 package io.github.jklingsporn.vertx.jooq.classic.async;
 
 import io.github.jklingsporn.vertx.jooq.shared.async.AbstractAsyncQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.async.AsyncQueryResult;
+import io.github.jklingsporn.vertx.jooq.shared.async.BatchResult;
+import io.github.jklingsporn.vertx.jooq.shared.async.PinnedConnectionClient;
+import io.github.jklingsporn.vertx.jooq.shared.async.QueryBatch;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
+import io.github.jklingsporn.vertx.jooq.shared.internal.UnifiedQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.UnitOfWork;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -20,7 +27,7 @@ import java.util.function.Function;
 /**
  * Created by jensklingsporn on 07.02.18.
  */
-public class AsyncClassicGenericQueryExecutor extends AbstractAsyncQueryExecutor<Future<List<JsonObject>>, Future<JsonObject>, Future<Integer>> {
+public class AsyncClassicGenericQueryExecutor extends AbstractAsyncQueryExecutor<Future<List<JsonObject>>, Future<JsonObject>, Future<Integer>> implements UnifiedQueryExecutor<Future<Integer>, Future<QueryResult>> {
 
     protected final AsyncSQLClient delegate;
 
@@ -45,6 +52,40 @@ public class AsyncClassicGenericQueryExecutor extends AbstractAsyncQueryExecutor
     }
 
 
+    /**
+     * Executes the given queries one after another in one transaction on one connection of the pool, so either all or
+     * none of them are applied. If the executor's client is already in a transaction, the queries are executed in it.
+     * @param queries
+     * @return the total number of affected rows.
+     */
+    @Override
+    public Future<Integer> executeBatch(List<? extends Query> queries) {
+        if(PinnedConnectionClient.isInTransaction(delegate)){
+            return updateAll(queries);
+        }
+        return transaction(client -> new AsyncClassicGenericQueryExecutor(client).updateAll(queries));
+    }
+
+    private Future<Integer> updateAll(List<? extends Query> queries) {
+        return getConnection().compose(sqlConnection -> {
+            Future<Integer> updated = Future.succeededFuture(0);
+            for (Query query : queries) {
+                updated = updated.compose(sum -> {
+                    log(query);
+                    Future<UpdateResult> future = Future.future();
+                    sqlConnection.updateWithParams(query.getSQL(), getBindValues(query), future);
+                    return future.map(res -> sum + res.getUpdated());
+                });
+            }
+            Future<Integer> result = Future.future();
+            updated.setHandler(h -> {
+                sqlConnection.close();
+                result.handle(h);
+            });
+            return result;
+        });
+    }
+
     @Override
     public <Q extends Record> Future<List<JsonObject>> findManyJson(ResultQuery<Q> query) {
         return getConnection().compose(sqlConnection -> {
@@ -82,6 +123,100 @@ public class AsyncClassicGenericQueryExecutor extends AbstractAsyncQueryExecutor
         });
     }
 
+    @Override
+    public <Q extends Record> Future<QueryResult> query(ResultQuery<Q> query) {
+        return getConnection().compose(sqlConnection -> {
+            log(query);
+            Future<QueryResult> future = Future.future();
+            sqlConnection.queryWithParams(
+                    query.getSQL(),
+                    getBindValues(query),
+                    this.<ResultSet,QueryResult>executeAndClose(AsyncQueryResult::new, sqlConnection, future)
+            );
+            return future;
+        });
+    }
+
+    /**
+     * @return a batch of queries sent back to back on one connection of the pool.
+     * @see QueryBatch
+     */
+    public QueryBatch<Future<BatchResult>> batch(){
+        return new QueryBatch<>(queries -> getConnection().compose(sqlConnection -> {
+            Future<BatchResult> future = Future.future();
+            executeBatch(sqlConnection, queries, h -> {
+                sqlConnection.close();
+                future.handle(h);
+            });
+            return future;
+        }));
+    }
+
+    /**
+     * Executes a unit of work on one connection of the pool: all DAOs and query executors created with the client
+     * passed to the unit, e.g. <code>new SomethingDao(configuration, client)</code>, share the connection. The
+     * connection is released when the future returned by the unit completes.
+     * @param unit the unit of work.
+     * @param <X> the result type
+     * @return a future completed with the result of the unit of work after the connection has been released.
+     * @see PinnedConnectionClient
+     */
+    public <X> Future<X> session(Function<AsyncSQLClient, Future<X>> unit){
+        return withPinnedConnection(unit::apply);
+    }
+
+    /**
+     * Executes a unit of work in a transaction on one connection of the pool, see {@link #session(Function)}. The
+     * transaction is committed when the future returned by the unit succeeds and rolled back otherwise.
+     * @param unit the unit of work.
+     * @param <X> the result type
+     * @return a future completed with the result of the unit of work after the transaction has been committed, or
+     * failed if it has been rolled back.
+     */
+    public <X> Future<X> transaction(Function<AsyncSQLClient, Future<X>> unit){
+        return withPinnedConnection(client -> {
+            Future<Void> begun = Future.future();
+            client.begin(begun);
+            Future<X> result = Future.future();
+            begun.compose(v -> unit.apply(client)).setHandler(h -> client.end(h.succeeded(), ended -> {
+                if(h.succeeded() && ended.failed()){
+                    result.fail(ended.cause());
+                }else{
+                    result.handle(h);
+                }
+            }));
+            return result;
+        });
+    }
+
+    /**
+     * Writes the pending changes of a unit of work back to back in one transaction, see {@link UnitOfWork}.
+     * @param unitOfWork the unit of work.
+     * @return a future completed with the number of written rows after the transaction has been committed.
+     */
+    public Future<Integer> flush(UnitOfWork unitOfWork){
+        List<Query> queries = unitOfWork.getQueries();
+        if(queries.isEmpty()){
+            return Future.succeededFuture(0);
+        }
+        return transaction(client -> new AsyncClassicGenericQueryExecutor(client).executeBatch(queries));
+    }
+
+    private <X> Future<X> withPinnedConnection(Function<PinnedConnectionClient, Future<X>> unit){
+        return getConnection().compose(sqlConnection -> {
+            PinnedConnectionClient client = new PinnedConnectionClient(sqlConnection);
+            Future<X> work;
+            try{
+                work = unit.apply(client);
+            }catch(Throwable e){
+                work = Future.failedFuture(e);
+            }
+            Future<X> result = Future.future();
+            work.setHandler(h -> client.close(closed -> result.handle(h)));
+            return result;
+        });
+    }
+
     /**
      * @return a Future that returns a SQLConnection or an Exception.
      */
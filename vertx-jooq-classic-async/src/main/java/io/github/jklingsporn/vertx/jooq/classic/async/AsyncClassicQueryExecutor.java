@@ -1,15 +1,22 @@
 package io.github.jklingsporn.vertx.jooq.classic.async;
 
+import io.github.jklingsporn.vertx.jooq.shared.async.AsyncQueryResult;
 import io.github.jklingsporn.vertx.jooq.shared.internal.QueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.asyncsql.AsyncSQLClient;
+import io.vertx.ext.sql.ResultSet;
 import io.vertx.ext.sql.UpdateResult;
 import org.jooq.InsertResultStep;
+import org.jooq.Record;
 import org.jooq.ResultQuery;
 import org.jooq.Table;
 import org.jooq.UpdatableRecord;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -32,6 +39,18 @@ public class AsyncClassicQueryExecutor<R extends UpdatableRecord<R>,P,T> extends
         return findManyJson(query).map(ls -> ls.stream().map(pojoMapper).collect(Collectors.toList()));
     }
 
+    @Override
+    public Future<List<P>> findMany(List<? extends ResultQuery<R>> queries) {
+        Future<List<P>> result = Future.succeededFuture(new ArrayList<>());
+        for (ResultQuery<R> query : queries) {
+            result = result.compose(pojos -> findMany(query).map(chunk -> {
+                pojos.addAll(chunk);
+                return pojos;
+            }));
+        }
+        return result;
+    }
+
     @Override
     public Future<P> findOne(ResultQuery<R> query) {
         return findOneJson(query).map(val -> val == null?null:pojoMapper.apply(val));
@@ -43,15 +62,55 @@ public class AsyncClassicQueryExecutor<R extends UpdatableRecord<R>,P,T> extends
         return getConnection().compose(sqlConnection->{
             log(query);
             Future<Object> future = Future.future();
-            sqlConnection.updateWithParams(
-                    query.getSQL(),
-                    getBindValues(query),
-                    this.<UpdateResult,Object>executeAndClose(res -> res.getKeys().getLong(0),
-                            sqlConnection,
-                            future)
-            );
+            if(isReturningSupported(query)){
+                sqlConnection.queryWithParams(
+                        query.getSQL(),
+                        getBindValues(query),
+                        this.<ResultSet,Object>executeAndClose(AsyncQueryResult::new,
+                                sqlConnection,
+                                future)
+                );
+            }else{
+                sqlConnection.updateWithParams(
+                        query.getSQL(),
+                        getBindValues(query),
+                        this.<UpdateResult,Object>executeAndClose(res -> res.getKeys().getLong(0),
+                                sqlConnection,
+                                future)
+                );
+            }
             return future.map(keyMapper);
         });
     }
 
+    @Override
+    public void insertReturningRows(InsertResultStep<R> query, Handler<AsyncResult<QueryResult>> handler) {
+        getConnection().compose(sqlConnection->{
+            log(query);
+            Future<QueryResult> future = Future.future();
+            if(isReturningSupported(query)){
+                sqlConnection.queryWithParams(
+                        query.getSQL(),
+                        getBindValues(query),
+                        this.<ResultSet,QueryResult>executeAndClose(AsyncQueryResult::new,
+                                sqlConnection,
+                                future)
+                );
+            }else{
+                sqlConnection.updateWithParams(
+                        query.getSQL(),
+                        getBindValues(query),
+                        this.<UpdateResult,QueryResult>executeAndClose(this::generatedKeys,
+                                sqlConnection,
+                                future)
+                );
+            }
+            return future;
+        }).setHandler(handler);
+    }
+
+    @Override
+    public <Q extends Record> void query(ResultQuery<Q> query, Handler<AsyncResult<QueryResult>> handler) {
+        query(query).setHandler(handler);
+    }
 }
@@ -1,19 +1,28 @@
 package io.github.jklingsporn.vertx.jooq.classic.jdbc;
 
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
+import io.github.jklingsporn.vertx.jooq.shared.internal.UnifiedQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.UnitOfWork;
 import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCQueryResult;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCTransaction;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
 import org.jooq.impl.DSL;
 
+import java.util.List;
 import java.util.function.Function;
 
 /**
  * Created by jensklingsporn on 05.02.18.
  */
-public class JDBCClassicGenericQueryExecutor implements JDBCQueryExecutor<Future<?>>{
+public class JDBCClassicGenericQueryExecutor implements JDBCQueryExecutor<Future<?>>, UnifiedQueryExecutor<Future<Integer>, Future<QueryResult>> {
 
     protected final Vertx vertx;
     protected final Configuration configuration;
@@ -28,9 +37,79 @@ public class JDBCClassicGenericQueryExecutor implements JDBCQueryExecutor<Future
         return executeBlocking(h -> h.complete(function.apply(DSL.using(configuration))));
     }
 
+    @Override
+    public Future<Integer> execute(Query query) {
+        return executeBlocking(h -> h.complete(query.execute()));
+    }
+
+    /**
+     * Executes the given queries one after another as prepared statements in one transaction on one worker thread, so
+     * either all or none of them are applied. If the executor is already bound to a transaction, a savepoint is used.
+     * @param queries
+     * @return the total number of affected rows.
+     */
+    @Override
+    public Future<Integer> executeBatch(List<? extends Query> queries) {
+        return executeBlocking(h -> h.complete(JDBCTransaction.execute(configuration, vertx, tx -> tx.executeAll(queries))));
+    }
+
+    @Override
+    public <Q extends Record> Future<QueryResult> query(ResultQuery<Q> query) {
+        return executeBlocking(h -> h.complete(new JDBCQueryResult(query.fetch())));
+    }
+
+    /**
+     * Executes a unit of work in a transaction on one worker thread and one connection, e.g.
+     * <code>executor.transaction(tx -&gt; tx.dao(SomethingDao::new).insert(something))</code>. The returned future is
+     * completed after the transaction has been committed.
+     * @param unit the unit of work. It may only use DAOs created by the transaction, so the future it returns is
+     *             already completed.
+     * @param <X> the result type
+     * @return a future completed with the result of the unit of work, or failed if the transaction has been rolled back.
+     * @see JDBCTransaction
+     */
+    public <X> Future<X> transaction(Function<JDBCTransaction<Vertx>, Future<X>> unit){
+        return executeBlocking(h -> h.complete(JDBCTransaction.execute(configuration, vertx, tx -> {
+            Future<X> result = unit.apply(tx);
+            if(!result.isComplete()){
+                throw new IllegalStateException("The unit of work has not been completed synchronously");
+            }
+            if(result.failed()){
+                throw result.cause();
+            }
+            return result.result();
+        })));
+    }
+
+    /**
+     * Writes the pending changes of a unit of work one after another in one transaction on one worker thread, see
+     * {@link UnitOfWork}.
+     * @param unitOfWork the unit of work.
+     * @return a future completed with the number of written rows after the transaction has been committed.
+     */
+    public Future<Integer> flush(UnitOfWork unitOfWork){
+        List<Query> queries = unitOfWork.getQueries();
+        if(queries.isEmpty()){
+            return Future.succeededFuture(0);
+        }
+        return executeBatch(queries);
+    }
+
+    /**
+     * Executes the blocking code on the worker pool, or on the calling thread if the configuration is bound to a
+     * transaction.
+     */
     protected <X> Future<X> executeBlocking(Handler<Future<X>> blockingCodeHandler){
         Future<X> future = Future.future();
-        vertx.executeBlocking(blockingCodeHandler,future);
+        if(JDBCTransaction.isBound(configuration)){
+            try{
+                blockingCodeHandler.handle(future);
+            }catch(Throwable e){
+                future.tryFail(e);
+            }
+        }else{
+            vertx.executeBlocking(blockingCodeHandler,future);
+        }
         return future;
     }
 }
@@ -1,10 +1,15 @@
 package io.github.jklingsporn.vertx.jooq.classic.jdbc;
 
 import io.github.jklingsporn.vertx.jooq.shared.internal.QueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCQueryResult;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import org.jooq.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
@@ -26,13 +31,13 @@ public class JDBCClassicQueryExecutor<R extends UpdatableRecord<R>,P,T> extends
     }
 
     @Override
-    public Future<P> findOne(ResultQuery<R> query) {
-        return executeBlocking(h->h.complete(query.fetchOneInto(daoType)));
+    public Future<List<P>> findMany(List<? extends ResultQuery<R>> queries) {
+        return executeBlocking(h->h.complete(fetchInto(queries)));
     }
 
     @Override
-    public Future<Integer> execute(Query query) {
-        return executeBlocking(h->h.complete(query.execute()));
+    public Future<P> findOne(ResultQuery<R> query) {
+        return executeBlocking(h->h.complete(query.fetchOneInto(daoType)));
     }
 
     @Override
@@ -40,5 +45,21 @@ public class JDBCClassicQueryExecutor<R extends UpdatableRecord<R>,P,T> extends
         return executeBlocking(h->h.complete(keyMapper.apply(query.fetchOne())));
     }
 
+    @Override
+    public void insertReturningRows(InsertResultStep<R> query, Handler<AsyncResult<QueryResult>> handler) {
+        this.<QueryResult>executeBlocking(h->h.complete(new JDBCQueryResult(query.fetch()))).setHandler(handler);
+    }
+
+    @Override
+    public <Q extends Record> void query(ResultQuery<Q> query, Handler<AsyncResult<QueryResult>> handler) {
+        query(query).setHandler(handler);
+    }
 
+    private List<P> fetchInto(List<? extends ResultQuery<R>> queries) {
+        List<P> pojos = new ArrayList<>();
+        for (ResultQuery<R> query : queries) {
+            pojos.addAll(query.fetchInto(daoType));
+        }
+        return pojos;
+    }
 }
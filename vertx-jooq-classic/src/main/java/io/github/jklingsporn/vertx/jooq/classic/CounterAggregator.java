@@ -0,0 +1,65 @@
+package io.github.jklingsporn.vertx.jooq.classic;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractCounterAggregator;
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.jooq.TableField;
+import org.jooq.UpdatableRecord;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@code io.vertx.core.Future}-based <code>AbstractCounterAggregator</code>.
+ * @param <R> The {@code Record} type.
+ * @param <P> The POJO
+ * @param <T> The primary key.
+ */
+public class CounterAggregator<R extends UpdatableRecord<R>, P, T> extends AbstractCounterAggregator<R, P, T, Future<P>, Future<Integer>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(CounterAggregator.class);
+
+    public CounterAggregator(AbstractVertxDAO<R, P, T, ?, Future<P>, Future<Integer>, ?> dao, TableField<R, ? extends Number> counterField) {
+        this(dao, counterField, 10_000, 500);
+    }
+
+    public CounterAggregator(AbstractVertxDAO<R, P, T, ?, Future<P>, Future<Integer>, ?> dao, TableField<R, ? extends Number> counterField, long flushThreshold, int maxKeysPerStatement) {
+        super(dao, counterField, flushThreshold, maxKeysPerStatement);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Future<Integer> flush() {
+        List<FlushBatch> batches = prepareFlush();
+        if(batches.isEmpty()){
+            return Future.succeededFuture(0);
+        }
+        List<Future> results = new ArrayList<>(batches.size());
+        for (FlushBatch batch : batches) {
+            Future<Integer> result = Future.future();
+            try{
+                execute(batch).setHandler(h -> {
+                    batch.complete(h.succeeded());
+                    result.handle(h);
+                });
+            }catch(Throwable e){
+                batch.complete(false);
+                result.fail(e);
+            }
+            results.add(result);
+        }
+        return CompositeFuture.all(results).map(res -> res.<Integer>list().stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Override
+    protected void flushInBackground() {
+        flush().setHandler(h -> {
+            if(h.failed()){
+                logger.error("Failed flushing counters, deltas remain pending", h.cause());
+            }
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.jklingsporn.vertx.jooq.classic;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractFetchPlan;
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
+import io.github.jklingsporn.vertx.jooq.shared.internal.FetchNode;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonObject;
+import org.jooq.Condition;
+import org.jooq.ForeignKey;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A {@code io.vertx.core.Future}-based <code>AbstractFetchPlan</code>.
+ * @param <P> The POJO of the root DAO
+ */
+public class FetchPlan<P> extends AbstractFetchPlan<P, Future<List<P>>> {
+
+    public FetchPlan(AbstractVertxDAO<?, P, ?, Future<List<P>>, ?, ?, ?> root) {
+        super(root);
+    }
+
+    /**
+     * Adds a step to this plan.
+     * @param path the path of the step, e.g. <code>"lines.product"</code>.
+     * @param dao the DAO of the step's table.
+     * @param foreignKey a single-column foreign key between the table of the parent step and the table of the DAO.
+     * @return this plan.
+     */
+    public FetchPlan<P> with(String path, AbstractVertxDAO<?, ?, ?, ? extends Future<? extends List<?>>, ?, ?, ?> dao, ForeignKey<?, ?> foreignKey){
+        addStep(path, dao, foreignKey);
+        return this;
+    }
+
+    /**
+     * Executes this plan.
+     * @param condition the condition selecting the root POJOs.
+     * @return a node per root POJO.
+     */
+    public Future<List<FetchNode<P>>> fetch(Condition condition){
+        Future<List<FetchNode<P>>> result = Future.future();
+        fetch(condition, result);
+        return result;
+    }
+
+    /**
+     * Executes this plan and converts the graph into JSON.
+     * @param condition the condition selecting the root POJOs.
+     * @return a <code>JsonObject</code> per root POJO.
+     * @see FetchNode#toJson()
+     */
+    public Future<List<JsonObject>> fetchJson(Condition condition){
+        return fetch(condition).map(nodes -> nodes.stream().map(FetchNode::toJson).collect(Collectors.toList()));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected void subscribe(Object result, Handler<AsyncResult<List<?>>> handler) {
+        ((Future<List<?>>) result).setHandler(handler);
+    }
+}
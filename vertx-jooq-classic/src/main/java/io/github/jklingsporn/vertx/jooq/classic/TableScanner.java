@@ -0,0 +1,52 @@
+package io.github.jklingsporn.vertx.jooq.classic;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractTableScanner;
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import org.jooq.Condition;
+import org.jooq.UpdatableRecord;
+import org.jooq.impl.DSL;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A {@code io.vertx.core.Future}-based <code>AbstractTableScanner</code>.
+ * @param <R> The {@code Record} type.
+ * @param <P> The POJO
+ * @param <T> The primary key.
+ */
+public class TableScanner<R extends UpdatableRecord<R>, P, T> extends AbstractTableScanner<R, P, T, Future<List<P>>> {
+
+    public TableScanner(AbstractVertxDAO<R, P, T, Future<List<P>>, ?, ?, ?> dao, int partitions, int pageSize) {
+        super(dao, partitions, pageSize);
+    }
+
+    /**
+     * Scans all rows of the table.
+     * @param consumer processes a page. The next page is passed to the consumer after the returned future completed.
+     * @return the number of scanned rows.
+     */
+    public Future<Long> scan(Function<List<P>, Future<Void>> consumer){
+        return scan(DSL.trueCondition(), consumer);
+    }
+
+    /**
+     * Scans all rows matching the given condition.
+     * @param condition the condition.
+     * @param consumer processes a page. The next page is passed to the consumer after the returned future completed.
+     * @return the number of scanned rows.
+     */
+    public Future<Long> scan(Condition condition, Function<List<P>, Future<Void>> consumer){
+        Future<Long> result = Future.future();
+        scan(condition, (page, done) -> consumer.apply(page).setHandler(done), result);
+        return result;
+    }
+
+    @Override
+    protected void subscribe(Future<List<P>> result, Handler<AsyncResult<List<P>>> handler) {
+        result.setHandler(handler);
+    }
+}
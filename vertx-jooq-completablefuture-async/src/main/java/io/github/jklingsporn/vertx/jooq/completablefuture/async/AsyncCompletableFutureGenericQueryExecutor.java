@@ -1,6 +1,13 @@
 package io.github.jklingsporn.vertx.jooq.completablefuture.async;
 
 import io.github.jklingsporn.vertx.jooq.shared.async.AbstractAsyncQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.async.AsyncQueryResult;
+import io.github.jklingsporn.vertx.jooq.shared.async.BatchResult;
+import io.github.jklingsporn.vertx.jooq.shared.async.PinnedConnectionClient;
+import io.github.jklingsporn.vertx.jooq.shared.async.QueryBatch;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
+import io.github.jklingsporn.vertx.jooq.shared.internal.UnifiedQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.UnitOfWork;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -23,7 +30,7 @@ import java.util.function.Function;
 /**
  * Created by jensklingsporn on 07.02.18.
  */
-public class AsyncCompletableFutureGenericQueryExecutor extends AbstractAsyncQueryExecutor<CompletableFuture<List<JsonObject>>, CompletableFuture<JsonObject>, CompletableFuture<Integer>> {
+public class AsyncCompletableFutureGenericQueryExecutor extends AbstractAsyncQueryExecutor<CompletableFuture<List<JsonObject>>, CompletableFuture<JsonObject>, CompletableFuture<Integer>> implements UnifiedQueryExecutor<CompletableFuture<Integer>, CompletableFuture<QueryResult>> {
 
     protected final Vertx vertx;
     protected final AsyncSQLClient delegate;
@@ -50,6 +57,102 @@ public class AsyncCompletableFutureGenericQueryExecutor extends AbstractAsyncQue
         return cf;
     }
 
+    /**
+     * @return a batch of queries sent back to back on one connection of the pool.
+     * @see QueryBatch
+     */
+    public QueryBatch<CompletableFuture<BatchResult>> batch(){
+        return new QueryBatch<>(queries -> getConnection().thenCompose(sqlConnection -> {
+            CompletableFuture<BatchResult> cf = new VertxCompletableFuture<>(vertx);
+            executeBatch(sqlConnection, queries, executeAndClose(Function.identity(), sqlConnection, cf));
+            return cf;
+        }));
+    }
+
+    /**
+     * Executes a unit of work on one connection of the pool: all DAOs and query executors created with the client
+     * passed to the unit, e.g. <code>new SomethingDao(configuration, vertx, client)</code>, share the connection. The
+     * connection is released when the future returned by the unit completes.
+     * @param unit the unit of work.
+     * @param <X> the result type
+     * @return a CompletableFuture completed with the result of the unit of work after the connection has been released.
+     * @see PinnedConnectionClient
+     */
+    public <X> CompletableFuture<X> session(Function<AsyncSQLClient, CompletableFuture<X>> unit){
+        return withPinnedConnection(unit::apply);
+    }
+
+    /**
+     * Executes a unit of work in a transaction on one connection of the pool, see {@link #session(Function)}. The
+     * transaction is committed when the future returned by the unit succeeds and rolled back otherwise.
+     * @param unit the unit of work.
+     * @param <X> the result type
+     * @return a CompletableFuture completed with the result of the unit of work after the transaction has been
+     * committed, or failed if it has been rolled back.
+     */
+    public <X> CompletableFuture<X> transaction(Function<AsyncSQLClient, CompletableFuture<X>> unit){
+        return withPinnedConnection(client -> {
+            CompletableFuture<Void> begun = new VertxCompletableFuture<>(vertx);
+            client.begin(completeWith(begun));
+            CompletableFuture<X> result = new VertxCompletableFuture<>(vertx);
+            begun.thenCompose(v -> unit.apply(client)).whenComplete((res, x) -> client.end(x == null, ended -> {
+                if(x != null){
+                    result.completeExceptionally(x);
+                }else if(ended.failed()){
+                    result.completeExceptionally(ended.cause());
+                }else{
+                    result.complete(res);
+                }
+            }));
+            return result;
+        });
+    }
+
+    /**
+     * Writes the pending changes of a unit of work back to back in one transaction, see {@link UnitOfWork}.
+     * @param unitOfWork the unit of work.
+     * @return a CompletableFuture completed with the number of written rows after the transaction has been committed.
+     */
+    public CompletableFuture<Integer> flush(UnitOfWork unitOfWork){
+        List<Query> queries = unitOfWork.getQueries();
+        if(queries.isEmpty()){
+            return CompletableFuture.completedFuture(0);
+        }
+        return transaction(client -> new AsyncCompletableFutureGenericQueryExecutor(vertx, client).executeBatch(queries));
+    }
+
+    private <X> CompletableFuture<X> withPinnedConnection(Function<PinnedConnectionClient, CompletableFuture<X>> unit){
+        return getConnection().thenCompose(sqlConnection -> {
+            PinnedConnectionClient client = new PinnedConnectionClient(sqlConnection);
+            CompletableFuture<X> work;
+            try{
+                work = unit.apply(client);
+            }catch(Throwable e){
+                work = new CompletableFuture<>();
+                work.completeExceptionally(e);
+            }
+            CompletableFuture<X> result = new VertxCompletableFuture<>(vertx);
+            work.whenComplete((res, x) -> client.close(closed -> {
+                if(x != null){
+                    result.completeExceptionally(x);
+                }else{
+                    result.complete(res);
+                }
+            }));
+            return result;
+        });
+    }
+
+    private <X> Handler<AsyncResult<X>> completeWith(CompletableFuture<X> cf){
+        return h -> {
+            if (h.succeeded()) {
+                cf.complete(h.result());
+            } else {
+                cf.completeExceptionally(h.cause());
+            }
+        };
+    }
+
     protected <V,U> Handler<AsyncResult<V>> executeAndClose(Function<V, U> func, SQLConnection sqlConnection, CompletableFuture<U> cf) {
         return rs -> {
             try{
@@ -75,6 +178,41 @@ public class AsyncCompletableFutureGenericQueryExecutor extends AbstractAsyncQue
         });
     }
 
+    /**
+     * Executes the given queries one after another in one transaction on one connection of the pool, so either all or
+     * none of them are applied. If the executor's client is already in a transaction, the queries are executed in it.
+     * @param queries
+     * @return the total number of affected rows.
+     */
+    @Override
+    public CompletableFuture<Integer> executeBatch(List<? extends Query> queries) {
+        if(PinnedConnectionClient.isInTransaction(delegate)){
+            return updateAll(queries);
+        }
+        return transaction(client -> new AsyncCompletableFutureGenericQueryExecutor(vertx, client).updateAll(queries));
+    }
+
+    private CompletableFuture<Integer> updateAll(List<? extends Query> queries) {
+        return getConnection().thenCompose(sqlConnection -> {
+            CompletableFuture<Integer> updated = CompletableFuture.completedFuture(0);
+            for (Query query : queries) {
+                updated = updated.thenCompose(sum -> {
+                    log(query);
+                    CompletableFuture<Integer> cf = new VertxCompletableFuture<>(vertx);
+                    sqlConnection.updateWithParams(query.getSQL(), getBindValues(query), h -> {
+                        if (h.succeeded()) {
+                            cf.complete(sum + h.result().getUpdated());
+                        } else {
+                            cf.completeExceptionally(h.cause());
+                        }
+                    });
+                    return cf;
+                });
+            }
+            return updated.whenComplete((res, x) -> sqlConnection.close());
+        });
+    }
+
     @Override
     public <Q extends Record> CompletableFuture<List<JsonObject>> findManyJson(ResultQuery<Q> query) {
         return getConnection().thenCompose(sqlConnection -> {
@@ -108,4 +246,14 @@ public class AsyncCompletableFutureGenericQueryExecutor extends AbstractAsyncQue
         });
     }
 
+    @Override
+    public <Q extends Record> CompletableFuture<QueryResult> query(ResultQuery<Q> query) {
+        return getConnection().thenCompose(sqlConnection -> {
+            log(query);
+            CompletableFuture<QueryResult> cf = new VertxCompletableFuture<>(vertx);
+            sqlConnection.queryWithParams(query.getSQL(), getBindValues(query), executeAndClose(AsyncQueryResult::new, sqlConnection, cf));
+            return cf;
+        });
+    }
+
 }
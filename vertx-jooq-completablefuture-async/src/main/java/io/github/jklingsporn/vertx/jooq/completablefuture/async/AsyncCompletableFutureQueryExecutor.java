@@ -1,16 +1,24 @@
 package io.github.jklingsporn.vertx.jooq.completablefuture.async;
 
+import io.github.jklingsporn.vertx.jooq.shared.async.AsyncQueryResult;
 import io.github.jklingsporn.vertx.jooq.shared.internal.QueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.asyncsql.AsyncSQLClient;
+import io.vertx.ext.sql.ResultSet;
 import io.vertx.ext.sql.UpdateResult;
 import me.escoffier.vertx.completablefuture.VertxCompletableFuture;
 import org.jooq.InsertResultStep;
+import org.jooq.Record;
 import org.jooq.ResultQuery;
 import org.jooq.Table;
 import org.jooq.UpdatableRecord;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -34,6 +42,18 @@ public class AsyncCompletableFutureQueryExecutor <R extends UpdatableRecord<R>,P
         return findManyJson(query).thenApply(ls -> ls.stream().map(pojoMapper).collect(Collectors.toList()));
     }
 
+    @Override
+    public CompletableFuture<List<P>> findMany(List<? extends ResultQuery<R>> queries) {
+        CompletableFuture<List<P>> result = CompletableFuture.completedFuture(new ArrayList<>());
+        for (ResultQuery<R> query : queries) {
+            result = result.thenCompose(pojos -> findMany(query).thenApply(chunk -> {
+                pojos.addAll(chunk);
+                return pojos;
+            }));
+        }
+        return result;
+    }
+
     @Override
     public CompletableFuture<P> findOne(ResultQuery<R> query) {
         return findOneJson(query).thenApply(val -> val == null?null:pojoMapper.apply(val));
@@ -45,15 +65,55 @@ public class AsyncCompletableFutureQueryExecutor <R extends UpdatableRecord<R>,P
         return getConnection().thenCompose(sqlConnection -> {
             log(query);
             CompletableFuture<Object> cf = new VertxCompletableFuture<>(vertx);
-            sqlConnection.updateWithParams(
-                    query.getSQL(),
-                    getBindValues(query),
-                    this.<UpdateResult, Object>executeAndClose(res -> res.getKeys().getLong(0),
-                            sqlConnection,
-                            cf)
-            );
+            if(isReturningSupported(query)){
+                sqlConnection.queryWithParams(
+                        query.getSQL(),
+                        getBindValues(query),
+                        this.<ResultSet, Object>executeAndClose(AsyncQueryResult::new,
+                                sqlConnection,
+                                cf)
+                );
+            }else{
+                sqlConnection.updateWithParams(
+                        query.getSQL(),
+                        getBindValues(query),
+                        this.<UpdateResult, Object>executeAndClose(res -> res.getKeys().getLong(0),
+                                sqlConnection,
+                                cf)
+                );
+            }
             return cf.thenApply(keyMapper);
         });
     }
 
+    @Override
+    public void insertReturningRows(InsertResultStep<R> query, Handler<AsyncResult<QueryResult>> handler) {
+        getConnection().thenCompose(sqlConnection -> {
+            log(query);
+            CompletableFuture<QueryResult> cf = new VertxCompletableFuture<>(vertx);
+            if(isReturningSupported(query)){
+                sqlConnection.queryWithParams(
+                        query.getSQL(),
+                        getBindValues(query),
+                        this.<ResultSet, QueryResult>executeAndClose(AsyncQueryResult::new,
+                                sqlConnection,
+                                cf)
+                );
+            }else{
+                sqlConnection.updateWithParams(
+                        query.getSQL(),
+                        getBindValues(query),
+                        this.<UpdateResult, QueryResult>executeAndClose(this::generatedKeys,
+                                sqlConnection,
+                                cf)
+                );
+            }
+            return cf;
+        }).whenComplete((res, x) -> handler.handle(x == null ? Future.succeededFuture(res) : Future.failedFuture(x)));
+    }
+
+    @Override
+    public <Q extends Record> void query(ResultQuery<Q> query, Handler<AsyncResult<QueryResult>> handler) {
+        query(query).whenComplete((res, x) -> handler.handle(x == null ? Future.succeededFuture(res) : Future.failedFuture(x)));
+    }
 }
@@ -1,6 +1,11 @@
 package io.github.jklingsporn.vertx.jooq.completablefuture.jdbc;
 
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
+import io.github.jklingsporn.vertx.jooq.shared.internal.UnifiedQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.UnitOfWork;
 import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCQueryResult;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCTransaction;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -8,15 +13,20 @@ import io.vertx.core.Vertx;
 import me.escoffier.vertx.completablefuture.VertxCompletableFuture;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
 import org.jooq.impl.DSL;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.List;
 import java.util.function.Function;
 
 /**
  * Created by jensklingsporn on 05.02.18.
  */
-public class JDBCCompletableFutureGenericQueryExecutor implements JDBCQueryExecutor<CompletableFuture<?>>{
+public class JDBCCompletableFutureGenericQueryExecutor implements JDBCQueryExecutor<CompletableFuture<?>>, UnifiedQueryExecutor<CompletableFuture<Integer>, CompletableFuture<QueryResult>> {
 
     protected final Configuration configuration;
     protected final Vertx vertx;
@@ -31,12 +41,89 @@ public class JDBCCompletableFutureGenericQueryExecutor implements JDBCQueryExecu
         return executeBlocking(h -> h.complete(function.apply(DSL.using(configuration))));
     }
 
+    @Override
+    public CompletableFuture<Integer> execute(Query query) {
+        return executeBlocking(h -> h.complete(query.execute()));
+    }
+
+    /**
+     * Executes the given queries one after another as prepared statements in one transaction on one worker thread, so
+     * either all or none of them are applied. If the executor is already bound to a transaction, a savepoint is used.
+     * @param queries
+     * @return the total number of affected rows.
+     */
+    @Override
+    public CompletableFuture<Integer> executeBatch(List<? extends Query> queries) {
+        return executeBlocking(h -> h.complete(JDBCTransaction.execute(configuration, vertx, tx -> tx.executeAll(queries))));
+    }
+
+    @Override
+    public <Q extends Record> CompletableFuture<QueryResult> query(ResultQuery<Q> query) {
+        return executeBlocking(h -> h.complete(new JDBCQueryResult(query.fetch())));
+    }
+
+    /**
+     * Executes a unit of work in a transaction on one worker thread and one connection, e.g.
+     * <code>executor.transaction(tx -&gt; tx.dao(SomethingDao::new).insert(something))</code>. The returned future is
+     * completed after the transaction has been committed.
+     * @param unit the unit of work. It may only use DAOs created by the transaction, so the future it returns is
+     *             already completed.
+     * @param <U> the result type
+     * @return a future completed with the result of the unit of work, or failed if the transaction has been rolled back.
+     * @see JDBCTransaction
+     */
+    public <U> CompletableFuture<U> transaction(Function<JDBCTransaction<Vertx>, CompletableFuture<U>> unit){
+        return executeBlocking(h -> h.complete(JDBCTransaction.execute(configuration, vertx, tx -> {
+            CompletableFuture<U> result = unit.apply(tx);
+            if(!result.isDone()){
+                throw new IllegalStateException("The unit of work has not been completed synchronously");
+            }
+            try{
+                return result.join();
+            }catch(CompletionException e){
+                throw e.getCause();
+            }
+        })));
+    }
+
+    /**
+     * Writes the pending changes of a unit of work one after another in one transaction on one worker thread, see
+     * {@link UnitOfWork}.
+     * @param unitOfWork the unit of work.
+     * @return a CompletableFuture completed with the number of written rows after the transaction has been committed.
+     */
+    public CompletableFuture<Integer> flush(UnitOfWork unitOfWork){
+        List<Query> queries = unitOfWork.getQueries();
+        if(queries.isEmpty()){
+            return CompletableFuture.completedFuture(0);
+        }
+        return executeBatch(queries);
+    }
+
     /**
      * @param blockingCodeHandler
      * @param <U>
-     * @return a CompletableFuture that is completed when the blocking code has been executed by Vertx.
+     * @return a CompletableFuture that is completed when the blocking code has been executed by Vertx, or on the
+     * calling thread if the configuration is bound to a transaction.
      */
     <U> CompletableFuture<U> executeBlocking(Handler<Future<U>> blockingCodeHandler){
+        if(JDBCTransaction.isBound(configuration)){
+            CompletableFuture<U> future = new CompletableFuture<>();
+            Future<U> result = Future.future();
+            result.setHandler(h -> {
+                if(h.succeeded()){
+                    future.complete(h.result());
+                }else{
+                    future.completeExceptionally(h.cause());
+                }
+            });
+            try{
+                blockingCodeHandler.handle(result);
+            }catch(Throwable e){
+                result.tryFail(e);
+            }
+            return future;
+        }
         VertxCompletableFuture<U> future = new VertxCompletableFuture<>(vertx);
         vertx.executeBlocking(blockingCodeHandler, createCompletionHandler(future));
         return future;
@@ -1,9 +1,15 @@
 package io.github.jklingsporn.vertx.jooq.completablefuture.jdbc;
 
 import io.github.jklingsporn.vertx.jooq.shared.internal.QueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCQueryResult;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import org.jooq.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -20,20 +26,19 @@ public class JDBCCompletableFutureQueryExecutor<R extends UpdatableRecord<R>,P,T
         this.daoType = daoType;
     }
 
-
     @Override
     public CompletableFuture<List<P>> findMany(ResultQuery<R> query) {
         return executeBlocking(h -> h.complete(query.fetchInto(daoType)));
     }
 
     @Override
-    public CompletableFuture<P> findOne(ResultQuery<R> query) {
-        return executeBlocking(h -> h.complete(query.fetchOneInto(daoType)));
+    public CompletableFuture<List<P>> findMany(List<? extends ResultQuery<R>> queries) {
+        return executeBlocking(h -> h.complete(fetchInto(queries)));
     }
 
     @Override
-    public CompletableFuture<Integer> execute(Query query) {
-        return executeBlocking(h -> h.complete(query.execute()));
+    public CompletableFuture<P> findOne(ResultQuery<R> query) {
+        return executeBlocking(h -> h.complete(query.fetchOneInto(daoType)));
     }
 
     @Override
@@ -41,4 +46,21 @@ public class JDBCCompletableFutureQueryExecutor<R extends UpdatableRecord<R>,P,T
         return executeBlocking(h -> h.complete(keyMapper.apply(query.fetchOne())));
     }
 
+    @Override
+    public void insertReturningRows(InsertResultStep<R> query, Handler<AsyncResult<QueryResult>> handler) {
+        this.<QueryResult>executeBlocking(h -> h.complete(new JDBCQueryResult(query.fetch()))).whenComplete((res, x) -> handler.handle(x == null ? Future.succeededFuture(res) : Future.failedFuture(x)));
+    }
+
+    @Override
+    public <Q extends Record> void query(ResultQuery<Q> query, Handler<AsyncResult<QueryResult>> handler) {
+        query(query).whenComplete((res, x) -> handler.handle(x == null ? Future.succeededFuture(res) : Future.failedFuture(x)));
+    }
+
+    private List<P> fetchInto(List<? extends ResultQuery<R>> queries) {
+        List<P> pojos = new ArrayList<>();
+        for (ResultQuery<R> query : queries) {
+            pojos.addAll(query.fetchInto(daoType));
+        }
+        return pojos;
+    }
 }
@@ -0,0 +1,63 @@
+package io.github.jklingsporn.vertx.jooq.completablefuture;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractCounterAggregator;
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.jooq.TableField;
+import org.jooq.UpdatableRecord;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@code java.util.concurrent.CompletableFuture}-based <code>AbstractCounterAggregator</code>.
+ * @param <R> The {@code Record} type.
+ * @param <P> The POJO
+ * @param <T> The primary key.
+ */
+public class CounterAggregator<R extends UpdatableRecord<R>, P, T> extends AbstractCounterAggregator<R, P, T, CompletableFuture<P>, CompletableFuture<Integer>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(CounterAggregator.class);
+
+    public CounterAggregator(AbstractVertxDAO<R, P, T, ?, CompletableFuture<P>, CompletableFuture<Integer>, ?> dao, TableField<R, ? extends Number> counterField) {
+        this(dao, counterField, 10_000, 500);
+    }
+
+    public CounterAggregator(AbstractVertxDAO<R, P, T, ?, CompletableFuture<P>, CompletableFuture<Integer>, ?> dao, TableField<R, ? extends Number> counterField, long flushThreshold, int maxKeysPerStatement) {
+        super(dao, counterField, flushThreshold, maxKeysPerStatement);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Integer> flush() {
+        List<FlushBatch> batches = prepareFlush();
+        CompletableFuture<Integer>[] results = new CompletableFuture[batches.size()];
+        for (int i = 0; i < results.length; i++) {
+            FlushBatch batch = batches.get(i);
+            try{
+                results[i] = execute(batch).whenComplete((updated, x) -> batch.complete(x == null));
+            }catch(Throwable e){
+                batch.complete(false);
+                results[i] = new CompletableFuture<>();
+                results[i].completeExceptionally(e);
+            }
+        }
+        return CompletableFuture.allOf(results).thenApply(v -> {
+            int updated = 0;
+            for (CompletableFuture<Integer> result : results) {
+                updated += result.join();
+            }
+            return updated;
+        });
+    }
+
+    @Override
+    protected void flushInBackground() {
+        flush().whenComplete((updated, x) -> {
+            if(x != null){
+                logger.error("Failed flushing counters, deltas remain pending", x);
+            }
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.jklingsporn.vertx.jooq.completablefuture;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractFetchPlan;
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
+import io.github.jklingsporn.vertx.jooq.shared.internal.FetchNode;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonObject;
+import org.jooq.Condition;
+import org.jooq.ForeignKey;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * A {@code java.util.concurrent.CompletableFuture}-based <code>AbstractFetchPlan</code>.
+ * @param <P> The POJO of the root DAO
+ */
+public class FetchPlan<P> extends AbstractFetchPlan<P, CompletableFuture<List<P>>> {
+
+    public FetchPlan(AbstractVertxDAO<?, P, ?, CompletableFuture<List<P>>, ?, ?, ?> root) {
+        super(root);
+    }
+
+    /**
+     * Adds a step to this plan.
+     * @param path the path of the step, e.g. <code>"lines.product"</code>.
+     * @param dao the DAO of the step's table.
+     * @param foreignKey a single-column foreign key between the table of the parent step and the table of the DAO.
+     * @return this plan.
+     */
+    public FetchPlan<P> with(String path, AbstractVertxDAO<?, ?, ?, ? extends CompletableFuture<? extends List<?>>, ?, ?, ?> dao, ForeignKey<?, ?> foreignKey){
+        addStep(path, dao, foreignKey);
+        return this;
+    }
+
+    /**
+     * Executes this plan.
+     * @param condition the condition selecting the root POJOs.
+     * @return a node per root POJO.
+     */
+    public CompletableFuture<List<FetchNode<P>>> fetch(Condition condition){
+        CompletableFuture<List<FetchNode<P>>> result = new CompletableFuture<>();
+        fetch(condition, h -> {
+            if(h.succeeded()){
+                result.complete(h.result());
+            }else{
+                result.completeExceptionally(h.cause());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Executes this plan and converts the graph into JSON.
+     * @param condition the condition selecting the root POJOs.
+     * @return a <code>JsonObject</code> per root POJO.
+     * @see FetchNode#toJson()
+     */
+    public CompletableFuture<List<JsonObject>> fetchJson(Condition condition){
+        return fetch(condition).thenApply(nodes -> nodes.stream().map(FetchNode::toJson).collect(Collectors.toList()));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected void subscribe(Object result, Handler<AsyncResult<List<?>>> handler) {
+        ((CompletableFuture<List<?>>) result).whenComplete((res, x) -> handler.handle(x == null ? Future.succeededFuture(res) : Future.failedFuture(x)));
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.jklingsporn.vertx.jooq.completablefuture;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractKeyAllocator;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
+import io.github.jklingsporn.vertx.jooq.shared.internal.UnifiedQueryExecutor;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import org.jooq.*;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@code java.util.concurrent.CompletableFuture}-based <code>AbstractKeyAllocator</code>.
+ */
+public class KeyAllocator extends AbstractKeyAllocator<CompletableFuture<Integer>, CompletableFuture<QueryResult>> {
+
+    public KeyAllocator(UnifiedQueryExecutor<CompletableFuture<Integer>, CompletableFuture<QueryResult>> queryExecutor, Configuration configuration, Sequence<? extends Number> sequence, int blockSize) {
+        super(queryExecutor, configuration, sequence, blockSize);
+    }
+
+    public KeyAllocator(UnifiedQueryExecutor<CompletableFuture<Integer>, CompletableFuture<QueryResult>> queryExecutor, Configuration configuration, Table<?> table, Field<String> nameField, Field<? extends Number> hiField, String name, int blockSize) {
+        super(queryExecutor, configuration, table, nameField, hiField, name, blockSize);
+    }
+
+    /**
+     * @return the next key.
+     */
+    public CompletableFuture<Long> nextKey(){
+        return nextKeys(1).thenApply(keys -> keys.get(0));
+    }
+
+    /**
+     * @param count the number of keys to allocate.
+     * @return the allocated keys in ascending order.
+     */
+    public CompletableFuture<List<Long>> nextKeys(int count){
+        CompletableFuture<List<Long>> cf = new CompletableFuture<>();
+        allocate(count, h -> {
+            if(h.succeeded()){
+                cf.complete(h.result());
+            }else{
+                cf.completeExceptionally(h.cause());
+            }
+        });
+        return cf;
+    }
+
+    /**
+     * Allocates one key per POJO and assigns it using the given setter, so the POJOs can be inserted afterwards.
+     * @param pojos the POJOs.
+     * @param keySetter sets the key on a POJO, e.g. <code>(p, key) -> p.setId(key.intValue())</code>.
+     * @param <P> the POJO-type
+     * @return the given POJOs with their keys set.
+     */
+    public <P> CompletableFuture<List<P>> assignKeys(List<P> pojos, BiConsumer<? super P, Long> keySetter){
+        return nextKeys(pojos.size()).thenApply(keys -> {
+            Iterator<Long> iterator = keys.iterator();
+            pojos.forEach(pojo -> keySetter.accept(pojo, iterator.next()));
+            return pojos;
+        });
+    }
+
+    @Override
+    protected void query(ResultQuery<?> query, Handler<AsyncResult<QueryResult>> handler) {
+        queryExecutor().query(query).whenComplete((res, x) -> handler.handle(x == null ? Future.succeededFuture(res) : Future.failedFuture(x)));
+    }
+
+    @Override
+    protected void execute(Query query, Handler<AsyncResult<Integer>> handler) {
+        queryExecutor().execute(query).whenComplete((res, x) -> handler.handle(x == null ? Future.succeededFuture(res) : Future.failedFuture(x)));
+    }
+}
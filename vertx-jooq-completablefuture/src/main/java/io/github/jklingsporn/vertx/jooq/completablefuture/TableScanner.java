@@ -0,0 +1,61 @@
+package io.github.jklingsporn.vertx.jooq.completablefuture;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractTableScanner;
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import org.jooq.Condition;
+import org.jooq.UpdatableRecord;
+import org.jooq.impl.DSL;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * A {@code java.util.concurrent.CompletableFuture}-based <code>AbstractTableScanner</code>.
+ * @param <R> The {@code Record} type.
+ * @param <P> The POJO
+ * @param <T> The primary key.
+ */
+public class TableScanner<R extends UpdatableRecord<R>, P, T> extends AbstractTableScanner<R, P, T, CompletableFuture<List<P>>> {
+
+    public TableScanner(AbstractVertxDAO<R, P, T, CompletableFuture<List<P>>, ?, ?, ?> dao, int partitions, int pageSize) {
+        super(dao, partitions, pageSize);
+    }
+
+    /**
+     * Scans all rows of the table.
+     * @param consumer processes a page. The next page is passed to the consumer after the returned future completed.
+     * @return the number of scanned rows.
+     */
+    public CompletableFuture<Long> scan(Function<List<P>, CompletableFuture<Void>> consumer){
+        return scan(DSL.trueCondition(), consumer);
+    }
+
+    /**
+     * Scans all rows matching the given condition.
+     * @param condition the condition.
+     * @param consumer processes a page. The next page is passed to the consumer after the returned future completed.
+     * @return the number of scanned rows.
+     */
+    public CompletableFuture<Long> scan(Condition condition, Function<List<P>, CompletableFuture<Void>> consumer){
+        CompletableFuture<Long> result = new CompletableFuture<>();
+        scan(condition,
+                (page, done) -> consumer.apply(page).whenComplete((v, x) -> done.handle(x == null ? Future.succeededFuture() : Future.failedFuture(x))),
+                h -> {
+                    if(h.succeeded()){
+                        result.complete(h.result());
+                    }else{
+                        result.completeExceptionally(h.cause());
+                    }
+                });
+        return result;
+    }
+
+    @Override
+    protected void subscribe(CompletableFuture<List<P>> result, Handler<AsyncResult<List<P>>> handler) {
+        result.whenComplete((res, x) -> handler.handle(x == null ? Future.succeededFuture(res) : Future.failedFuture(x)));
+    }
+}
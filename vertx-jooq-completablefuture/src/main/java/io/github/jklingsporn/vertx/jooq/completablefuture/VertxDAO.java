@@ -1,10 +1,20 @@
 package io.github.jklingsporn.vertx.jooq.completablefuture;
 
 import io.github.jklingsporn.vertx.jooq.shared.internal.GenericVertxDAO;
+import io.github.jklingsporn.vertx.jooq.shared.internal.Page;
+import io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo;
+import io.vertx.core.json.JsonObject;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.SortField;
 import org.jooq.UpdatableRecord;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 /**
  * A {@code java.util.concurrent.CompletableFuture}-based API.
@@ -14,7 +24,183 @@ import java.util.concurrent.CompletableFuture;
  */
 public interface VertxDAO<R extends UpdatableRecord<R>, P, T> extends GenericVertxDAO<P,T,CompletableFuture<List<P>>,CompletableFuture<P>,CompletableFuture<Integer>,CompletableFuture<T>> {
 
+    /**
+     * Performs an async <code>INSERT</code> statement for all given POJOs in one round trip and returns their
+     * primary keys in the order of the POJOs.
+     * @param pojos
+     * @return the primary keys.
+     * @see #insertReturningPrimaries(Collection, io.vertx.core.Handler)
+     */
+    default CompletableFuture<List<T>> insertReturningPrimaries(Collection<P> pojos){
+        CompletableFuture<List<T>> cf = new CompletableFuture<>();
+        insertReturningPrimaries(pojos, h -> {
+            if(h.succeeded()){
+                cf.complete(h.result());
+            }else{
+                cf.completeExceptionally(h.cause());
+            }
+        });
+        return cf;
+    }
 
+    /**
+     * Performs an async keyset-paginated <code>SELECT</code> using the given condition.
+     * @param condition
+     * @param limit the size of a page.
+     * @param continuationToken the token of the previous page or <code>null</code> to fetch the first page.
+     * @param sortFields columns of this DAO's table. The POJOs are ordered by primary key if none are given.
+     * @return the page.
+     * @see #findManyByCondition(Condition, int, Object[], SortField[])
+     */
+    default CompletableFuture<Page<P>> findPageByCondition(Condition condition, int limit, String continuationToken, SortField<?>... sortFields){
+        Object[] seekValues = continuationToken == null ? null : seekValues(continuationToken, sortFields);
+        return findManyByCondition(condition, limit + 1, seekValues, sortFields).thenApply(rows -> Page.of(rows, limit, last -> continuationToken(last, sortFields)));
+    }
 
+    /**
+     * Performs an async <code>SELECT</code> using the given condition that only selects the given columns and
+     * converts each row into a <code>JsonObject</code> containing these columns. The POJOs have to be generated with
+     * JSON-support.
+     * @param condition
+     * @param projection columns of this DAO's table, e.g. a fetch group of the generated DAO.
+     * @return the rows as JSON.
+     * @see #findManyByCondition(Condition, Collection)
+     */
+    default CompletableFuture<List<JsonObject>> findManyJsonByCondition(Condition condition, Collection<? extends Field<?>> projection){
+        return findManyByCondition(condition, projection).thenApply(pojos -> pojos.stream().map(pojo -> ((VertxPojo) pojo).toJson(projection)).collect(Collectors.toList()));
+    }
+
+    /**
+     * Performs an async <code>SELECT COUNT(*)</code> using the given condition.
+     * @param condition
+     * @return the number of matching rows.
+     */
+    default CompletableFuture<Long> countByCondition(Condition condition){
+        CompletableFuture<Long> result = new CompletableFuture<>();
+        countByCondition(condition, h -> {
+            if(h.succeeded()){
+                result.complete(h.result());
+            }else{
+                result.completeExceptionally(h.cause());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Checks asynchronously whether a row matching the given condition exists.
+     * @param condition
+     * @return <code>true</code> if a matching row exists.
+     */
+    default CompletableFuture<Boolean> existsByCondition(Condition condition){
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        existsByCondition(condition, h -> {
+            if(h.succeeded()){
+                result.complete(h.result());
+            }else{
+                result.completeExceptionally(h.cause());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Checks asynchronously whether a row with the given primary key exists.
+     * @param id
+     * @return <code>true</code> if the row exists.
+     */
+    default CompletableFuture<Boolean> existsById(T id){
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        existsById(id, h -> {
+            if(h.succeeded()){
+                result.complete(h.result());
+            }else{
+                result.completeExceptionally(h.cause());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Performs an async <code>SELECT MIN(field)</code> using the given condition.
+     * @param field a column of this DAO's table.
+     * @param condition
+     * @param <Z> the type of the column.
+     * @return the smallest value or <code>null</code> if no row matches.
+     */
+    default <Z> CompletableFuture<Z> minByCondition(Field<Z> field, Condition condition){
+        CompletableFuture<Z> result = new CompletableFuture<>();
+        minByCondition(field, condition, h -> {
+            if(h.succeeded()){
+                result.complete(h.result());
+            }else{
+                result.completeExceptionally(h.cause());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Performs an async <code>SELECT MAX(field)</code> using the given condition.
+     * @param field a column of this DAO's table.
+     * @param condition
+     * @param <Z> the type of the column.
+     * @return the largest value or <code>null</code> if no row matches.
+     */
+    default <Z> CompletableFuture<Z> maxByCondition(Field<Z> field, Condition condition){
+        CompletableFuture<Z> result = new CompletableFuture<>();
+        maxByCondition(field, condition, h -> {
+            if(h.succeeded()){
+                result.complete(h.result());
+            }else{
+                result.completeExceptionally(h.cause());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Performs an async <code>SELECT SUM(field)</code> using the given condition.
+     * @param field a numeric column of this DAO's table.
+     * @param condition
+     * @return the sum, which is zero if no row matches.
+     */
+    default CompletableFuture<BigDecimal> sumByCondition(Field<? extends Number> field, Condition condition){
+        CompletableFuture<BigDecimal> result = new CompletableFuture<>();
+        sumByCondition(field, condition, h -> {
+            if(h.succeeded()){
+                result.complete(h.result());
+            }else{
+                result.completeExceptionally(h.cause());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Performs async <code>SELECT</code>s for all POJOs whose column matches one of the given keys, e.g. to load the
+     * children of many parents at once. Instead of one query per key, only one query per chunk of keys is executed.
+     * @param field a column of this DAO's table, usually a foreign key.
+     * @param keys the keys.
+     * @param <Z> the type of the column.
+     * @return the POJOs grouped by key. Each key is contained, keys without POJOs are mapped to an empty list.
+     * @see #findManyIn(Field, Collection)
+     */
+    default <Z> CompletableFuture<Map<Z, List<P>>> findManyGroupedBy(Field<Z> field, Collection<Z> keys){
+        return findManyIn(field, keys).thenApply(pojos -> groupBy(field, keys, pojos));
+    }
+
+    /**
+     * Like {@link #findManyGroupedBy(Field, Collection)} but for a unique column, e.g. to load the parents referenced
+     * by many children at once.
+     * @param field a unique column of this DAO's table.
+     * @param keys the keys.
+     * @param <Z> the type of the column.
+     * @return the POJOs by key. Keys without POJO are not contained. Fails with a
+     * <code>TooManyRowsException</code> if more than one POJO has the same key.
+     */
+    default <Z> CompletableFuture<Map<Z, P>> findManyMappedBy(Field<Z> field, Collection<Z> keys){
+        return findManyIn(field, keys).thenApply(pojos -> mapBy(field, keys, pojos));
+    }
 
 }
@@ -4,15 +4,19 @@ import io.github.jklingsporn.vertx.jooq.shared.JsonArrayConverter;
 import io.github.jklingsporn.vertx.jooq.shared.JsonObjectConverter;
 import io.vertx.core.impl.Arguments;
 import org.jooq.Constants;
+import org.jooq.Field;
 import org.jooq.Name;
 import org.jooq.Record;
+import org.jooq.impl.DSL;
 import org.jooq.impl.DefaultDataType;
 import org.jooq.tools.JooqLogger;
 import org.jooq.util.*;
 
 import java.io.File;
 import java.time.Instant;
-import java.util.List;
+import java.time.temporal.Temporal;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Created by jklingsporn on 17.10.16.
@@ -28,6 +32,7 @@ public class VertxGenerator extends JavaGenerator {
     private static final JooqLogger logger = JooqLogger.getLogger(VertxGenerator.class);
 
     private final boolean generateJson;
+    private boolean generateFindersOnUnindexedColumns = true;
     private VertxGeneratorStrategy vertxGeneratorStrategy;
 
     public VertxGenerator() {
@@ -93,6 +98,20 @@ public class VertxGenerator extends JavaGenerator {
         this.vertxGeneratorStrategy = (VertxGeneratorStrategy) strategy;
     }
 
+    /**
+     * @param generateFindersOnUnindexedColumns whether <code>findManyBy&lt;Column&gt;</code>-methods are generated for
+     *                                          columns that are not the leading column of a key or an index.
+     *                                          Defaults to <code>true</code>. Disable it to only expose finders that
+     *                                          are backed by an index. Requires the jOOQ-database to include indexes.
+     */
+    public void setGenerateFindersOnUnindexedColumns(boolean generateFindersOnUnindexedColumns) {
+        this.generateFindersOnUnindexedColumns = generateFindersOnUnindexedColumns;
+    }
+
+    public boolean generateFindersOnUnindexedColumns() {
+        return generateFindersOnUnindexedColumns;
+    }
+
     /**
      * @return the VertxGeneratorStrategy used. Unfortunately we cannot use #getStrategy()
      * because it returns a wrapper instance.
@@ -253,7 +272,8 @@ public class VertxGenerator extends JavaGenerator {
 
     /**
      * Copied (more ore less) from JavaGenerator.
-     * Generates fetchByCYZ- and fetchOneByCYZ-methods
+     * Generates fetchByCYZ- and fetchOneByCYZ-methods. Additionally generates finders for composite unique keys
+     * and for the leading column prefixes of the table's indexes.
      * @param table
      * @param out
      */
@@ -262,6 +282,17 @@ public class VertxGenerator extends JavaGenerator {
         String pType = vOut.ref(getStrategy().getFullJavaClassName(table, GeneratorStrategy.Mode.POJO));
         UniqueKeyDefinition primaryKey = table.getPrimaryKey();
         ColumnDefinition firstPrimaryKeyColumn = primaryKey.getKeyColumns().get(0);
+        List<IndexDefinition> indexes = table.getDatabase().getIndexes(table);
+        Set<ColumnDefinition> leadingColumns = new HashSet<>();
+        leadingColumns.add(firstPrimaryKeyColumn);
+        for (UniqueKeyDefinition uk : table.getUniqueKeys()) {
+            leadingColumns.add(uk.getKeyColumns().get(0));
+        }
+        for (IndexDefinition index : indexes) {
+            if(!index.getIndexColumns().isEmpty()){
+                leadingColumns.add(index.getIndexColumns().get(0).getColumn());
+            }
+        }
         for (ColumnDefinition column : table.getColumns()) {
             final String colName = column.getOutputName();
             final String colClass = getStrategy().getJavaClassName(column);
@@ -270,7 +301,7 @@ public class VertxGenerator extends JavaGenerator {
 
 
             //fetchById is already defined in VertxDAO
-            if(!firstPrimaryKeyColumn.equals(column)){
+            if(!firstPrimaryKeyColumn.equals(column) && (generateFindersOnUnindexedColumns() || leadingColumns.contains(column))){
 
 
                 // fetchBy[Column]([T]...)
@@ -288,10 +319,121 @@ public class VertxGenerator extends JavaGenerator {
                     // fetchOneBy[Column]([T])
                     // -----------------------
                     generateFindOneByMethods(out, pType, colName, colClass, colType, colIdentifier);
+                    generateExistsByMethods(out, colName, colClass, colType, colIdentifier);
                     break ukLoop;
                 }
             }
+
+            // fetchBy[Column]Between([T], [T], int, boolean) and fetchTopNBy[Column](int, boolean)
+            // ------------------------------------------------------------------------------
+            if(leadingColumns.contains(column) && isOrderable(column)){
+                generateFindManyByRangeMethods(out, pType, colName, colClass, colType, colIdentifier);
+            }
+        }
+
+        // findManyByIds(int[]) and deleteByIds(int[]) for Integer- and Long-keys
+        // ------------------------------------------------------------------------
+        if(primaryKey.getKeyColumns().size() == 1 && firstPrimaryKeyColumn.getType().getConverter() == null){
+            String keyType = getJavaType(firstPrimaryKeyColumn.getType());
+            if(Integer.class.getName().equals(keyType)){
+                generatePrimitiveKeyMethods(out, pType, int.class.getName());
+            }else if(Long.class.getName().equals(keyType)){
+                generatePrimitiveKeyMethods(out, pType, long.class.getName());
+            }
+        }
+
+        // fetchOneBy[Column]And[Column]([T], [T]) for composite unique keys
+        // -----------------------------------------------------------------
+        Set<Set<ColumnDefinition>> uniqueColumns = new HashSet<>();
+        uniqueColumns.add(new HashSet<>(primaryKey.getKeyColumns()));
+        for (UniqueKeyDefinition uk : table.getUniqueKeys()) {
+            if(uniqueColumns.add(new HashSet<>(uk.getKeyColumns())) && uk.getKeyColumns().size() > 1){
+                generateFindOneByMethods(out, pType, uk.getKeyColumns());
+            }
+        }
+
+        // fetchBy[Column]And[Column]([T], [T]) for each leading prefix of an index
+        // ------------------------------------------------------------------------
+        Set<Set<ColumnDefinition>> prefixes = new HashSet<>();
+        for (IndexDefinition index : indexes) {
+            List<ColumnDefinition> columns = index.getIndexColumns().stream().map(IndexColumnDefinition::getColumn).collect(Collectors.toList());
+            for (int i = 2; i <= columns.size(); i++) {
+                List<ColumnDefinition> prefix = columns.subList(0, i);
+                if(i == columns.size() && index.isUnique()){
+                    if(uniqueColumns.add(new HashSet<>(prefix))){
+                        generateFindOneByMethods(out, pType, prefix);
+                    }
+                }else if(!uniqueColumns.contains(new HashSet<>(prefix)) && prefixes.add(new HashSet<>(prefix))){
+                    generateFindManyByMethods(out, pType, prefix);
+                }
+            }
+        }
+
+        // fetchBy[Column]Grouped(Collection<T>) for single-column foreign keys of this table
+        // -----------------------------------------------------------------------------------
+        Set<ColumnDefinition> foreignKeyColumns = new LinkedHashSet<>();
+        for (ForeignKeyDefinition fk : table.getForeignKeys()) {
+            if(fk.getKeyColumns().size() == 1){
+                foreignKeyColumns.add(fk.getKeyColumns().get(0));
+            }
+        }
+        for (ColumnDefinition column : foreignKeyColumns) {
+            generateFindManyGroupedByMethods(out, pType, column);
+        }
+
+        // fetchBy[Column]Mapped(Collection<T>) for single-column keys referenced by foreign keys
+        // ---------------------------------------------------------------------------------------
+        Set<ColumnDefinition> referencedColumns = new LinkedHashSet<>();
+        List<UniqueKeyDefinition> keys = new ArrayList<>(table.getUniqueKeys());
+        keys.add(primaryKey);
+        for (UniqueKeyDefinition uk : keys) {
+            if(uk.getKeyColumns().size() == 1 && !uk.getForeignKeys().isEmpty()){
+                referencedColumns.add(uk.getKeyColumns().get(0));
+            }
         }
+        for (ColumnDefinition column : referencedColumns) {
+            generateFindManyMappedByMethods(out, pType, column);
+        }
+    }
+
+    /**
+     * Generates the constant <code>FETCH_GROUP_WITHOUT_LOBS</code> containing all columns of the table except large
+     * objects (see {@link #isLargeObject(TypedElementDefinition)}). It can be passed as projection to
+     * <code>findManyByCondition(Condition, Collection)</code>. Nothing is generated if the table has no such columns.
+     * @param table
+     * @param out
+     */
+    protected void generateFetchGroups(TableDefinition table, JavaWriter out){
+        VertxJavaWriter vOut = (VertxJavaWriter) out;
+        List<String> columns = new ArrayList<>();
+        for (ColumnDefinition column : table.getColumns()) {
+            if(!isLargeObject(column)){
+                columns.add(vOut.ref(getStrategy().getFullJavaIdentifier(column), colRefSegments(column)));
+            }
+        }
+        if(columns.size() == table.getColumns().size()){
+            return;
+        }
+        out.tab(1).javadoc("All columns of <code>%s</code> except LOB- and JSON-columns", table.getOutputName());
+        out.tab(1).println("public static final %s<%s<?>> FETCH_GROUP_WITHOUT_LOBS = %s.unmodifiableList(%s.asList(%s));",
+                List.class, Field.class, Collections.class, Arrays.class, String.join(", ", columns));
+    }
+
+    /**
+     * Overwrite this method to change which columns are excluded from the generated fetch group.
+     * @param column the column definition
+     * @return <code>true</code> if the column is mapped to a <code>JsonObject</code> or <code>JsonArray</code>, or if
+     * its SQL type is a LOB-, TEXT- or JSON-type.
+     * @see #generateFetchGroups(TableDefinition, JavaWriter)
+     */
+    protected boolean isLargeObject(TypedElementDefinition<?> column){
+        String converter = column.getType().getConverter();
+        if(converter != null && (isType(converter, JsonObjectConverter.class) || isType(converter, JsonArrayConverter.class))){
+            return true;
+        }
+        String sqlType = column.getType().getType().toLowerCase();
+        return sqlType.contains("lob") || sqlType.contains("text") || sqlType.contains("json") || sqlType.contains("large object")
+                || sqlType.equals("bytea") || sqlType.equals("longvarchar") || sqlType.equals("longvarbinary");
     }
 
     protected void generateFindOneByMethods(JavaWriter out, String pType, String colName, String colClass, String colType, String colIdentifier) {
@@ -301,6 +443,71 @@ public class VertxGenerator extends JavaGenerator {
         out.tab(1).println("}");
     }
 
+    protected void generateExistsByMethods(JavaWriter out, String colName, String colClass, String colType, String colIdentifier) {
+        out.tab(1).javadoc("Checks whether a unique record that has <code>%s = value</code> exists asynchronously", colName);
+        out.tab(1).println("public %s existsBy%s(%s value) {", getUnwrappedStrategy().renderExistsType(), colClass, colType);
+        out.tab(2).println("return existsByCondition(%s.eq(value));", colIdentifier);
+        out.tab(1).println("}");
+    }
+
+    /**
+     * Generates <code>findManyByIds</code>- and <code>deleteByIds</code>-overloads taking a primitive array for
+     * tables whose primary key is a single <code>Integer</code>- or <code>Long</code>-column.
+     * @param out
+     * @param pType the POJO-type
+     * @param primitiveType <code>int</code> or <code>long</code>
+     */
+    protected void generatePrimitiveKeyMethods(JavaWriter out, String pType, String primitiveType) {
+        out.tab(1).javadoc("Find records by their primary keys asynchronously without boxing the keys into a collection");
+        out.tab(1).println("public %s findManyByIds(%s[] ids) {", getUnwrappedStrategy().renderFindManyType(pType), primitiveType);
+        out.tab(2).println("return findManyByConditions(lookupKeyChunks(ids));");
+        out.tab(1).println("}");
+        out.tab(1).javadoc("Delete records by their primary keys asynchronously without boxing the keys into a collection");
+        out.tab(1).println("public %s deleteByIds(%s[] ids) {", getUnwrappedStrategy().renderExecType(), primitiveType);
+        out.tab(2).println("return deleteByConditions(lookupKeyChunks(ids));");
+        out.tab(1).println("}");
+    }
+
+    /**
+     * Generates <code>findManyBy[Column]Between</code>- and <code>findTopNBy[Column]</code>-methods. Both are rendered with
+     * <code>ORDER BY</code> and <code>LIMIT</code>, so the database can stop reading the column's index early.
+     * @param out
+     * @param pType the POJO-type
+     * @param colName the column name
+     * @param colClass the column's java class name
+     * @param colType the column's java type
+     * @param colIdentifier the column's identifier
+     */
+    protected void generateFindManyByRangeMethods(JavaWriter out, String pType, String colName, String colClass, String colType, String colIdentifier) {
+        out.tab(1).javadoc("Find at most <code>limit</code> records that have <code>%s BETWEEN from AND to</code> ordered by <code>%s</code> asynchronously", colName, colName);
+        out.tab(1).println("public %s findManyBy%sBetween(%s from, %s to, int limit, boolean desc) {", getUnwrappedStrategy().renderFindManyType(pType), colClass, colType, colType);
+        out.tab(2).println("return findManyByCondition(%s.between(from, to), limit, desc ? %s.desc() : %s.asc());", colIdentifier, colIdentifier, colIdentifier);
+        out.tab(1).println("}");
+        out.tab(1).javadoc("Find the first <code>n</code> records ordered by <code>%s</code> asynchronously", colName);
+        out.tab(1).println("public %s findTopNBy%s(int n, boolean desc) {", getUnwrappedStrategy().renderFindManyType(pType), colClass);
+        out.tab(2).println("return findManyByCondition(%s.trueCondition(), n, desc ? %s.desc() : %s.asc());", ((VertxJavaWriter) out).ref(DSL.class.getName()), colIdentifier, colIdentifier);
+        out.tab(1).println("}");
+    }
+
+    /**
+     * Overwrite this method to change for which columns range- and top-n-finders are generated.
+     * @param column the column definition
+     * @return <code>true</code> if the column is mapped to a number, a string or a date/time-type without a converter.
+     * @see #generateFindManyByRangeMethods(JavaWriter, String, String, String, String, String)
+     */
+    protected boolean isOrderable(TypedElementDefinition<?> column){
+        if(column.getType().getConverter() != null || isLargeObject(column)){
+            return false;
+        }
+        try {
+            Class<?> type = Class.forName(getJavaType(column.getType()));
+            return Number.class.isAssignableFrom(type) || String.class.equals(type)
+                    || Temporal.class.isAssignableFrom(type) || Date.class.isAssignableFrom(type);
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
     protected void generateFindManyByMethods(JavaWriter out, String pType, String colName, String colClass, String colType, String colIdentifier) {
         out.tab(1).javadoc("Find records that have <code>%s IN (values)</code> asynchronously", colName);
         out.tab(1).println("public %s findManyBy%s(%s<%s> values) {", getUnwrappedStrategy().renderFindManyType(pType), colClass, List.class, colType);
@@ -309,6 +516,99 @@ public class VertxGenerator extends JavaGenerator {
         out.tab(1).println("}");
     }
 
+    /**
+     * Generates <code>findOneBy[Column]And[Column]</code>- and <code>existsBy[Column]And[Column]</code>-methods for a
+     * composite unique key or unique index.
+     * @param out
+     * @param pType the POJO-type
+     * @param columns the columns of the key
+     */
+    protected void generateFindOneByMethods(JavaWriter out, String pType, List<ColumnDefinition> columns) {
+        String methodSuffix = methodSuffix(columns);
+        out.tab(1).javadoc("Find a unique record that has <code>%s</code> asynchronously", describe(columns));
+        out.tab(1).println("public %s findOneBy%s(%s) {", getUnwrappedStrategy().renderFindOneType(pType), methodSuffix, parameters(out, columns));
+        out.tab(2).println("return findOneByCondition(%s);", condition(out, columns));
+        out.tab(1).println("}");
+        out.tab(1).javadoc("Checks whether a unique record that has <code>%s</code> exists asynchronously", describe(columns));
+        out.tab(1).println("public %s existsBy%s(%s) {", getUnwrappedStrategy().renderExistsType(), methodSuffix, parameters(out, columns));
+        out.tab(2).println("return existsByCondition(%s);", condition(out, columns));
+        out.tab(1).println("}");
+    }
+
+    /**
+     * Generates a <code>findManyBy[Column]And[Column]</code>-method for the leading columns of an index.
+     * @param out
+     * @param pType the POJO-type
+     * @param columns the leading columns of the index
+     */
+    protected void generateFindManyByMethods(JavaWriter out, String pType, List<ColumnDefinition> columns) {
+        out.tab(1).javadoc("Find records that have <code>%s</code> asynchronously", describe(columns));
+        out.tab(1).println("public %s findManyBy%s(%s) {", getUnwrappedStrategy().renderFindManyType(pType), methodSuffix(columns), parameters(out, columns));
+        out.tab(2).println("return findManyByCondition(%s);", condition(out, columns));
+        out.tab(1).println("}");
+    }
+
+    /**
+     * Generates a <code>findManyBy[Column]Grouped</code>-method for a foreign key column that loads the POJOs
+     * referencing many parents with one query per chunk of keys.
+     * @param out
+     * @param pType the POJO-type
+     * @param column the foreign key column
+     */
+    protected void generateFindManyGroupedByMethods(JavaWriter out, String pType, ColumnDefinition column) {
+        VertxJavaWriter vOut = (VertxJavaWriter) out;
+        String colType = vOut.ref(getJavaType(column.getType()));
+        String mapType = String.format("%s<%s, %s<%s>>", vOut.ref(Map.class.getName()), colType, vOut.ref(List.class.getName()), pType);
+        out.tab(1).javadoc("Find records that have <code>%s IN (values)</code> grouped by <code>%s</code> asynchronously", column.getOutputName(), column.getOutputName());
+        out.tab(1).println("public %s findManyBy%sGrouped(%s<%s> values) {", getUnwrappedStrategy().renderFindManyMappedType(mapType), getStrategy().getJavaClassName(column), Collection.class, colType);
+        out.tab(2).println("return findManyGroupedBy(%s, values);", vOut.ref(getStrategy().getFullJavaIdentifier(column), colRefSegments(column)));
+        out.tab(1).println("}");
+    }
+
+    /**
+     * Generates a <code>findManyBy[Column]Mapped</code>-method for a unique column that is referenced by foreign keys,
+     * so the parents of many children can be loaded with one query per chunk of keys.
+     * @param out
+     * @param pType the POJO-type
+     * @param column the unique column
+     */
+    protected void generateFindManyMappedByMethods(JavaWriter out, String pType, ColumnDefinition column) {
+        VertxJavaWriter vOut = (VertxJavaWriter) out;
+        String colType = vOut.ref(getJavaType(column.getType()));
+        String mapType = String.format("%s<%s, %s>", vOut.ref(Map.class.getName()), colType, pType);
+        out.tab(1).javadoc("Find the unique records that have <code>%s IN (values)</code> mapped by <code>%s</code> asynchronously", column.getOutputName(), column.getOutputName());
+        out.tab(1).println("public %s findManyBy%sMapped(%s<%s> values) {", getUnwrappedStrategy().renderFindManyMappedType(mapType), getStrategy().getJavaClassName(column), Collection.class, colType);
+        out.tab(2).println("return findManyMappedBy(%s, values);", vOut.ref(getStrategy().getFullJavaIdentifier(column), colRefSegments(column)));
+        out.tab(1).println("}");
+    }
+
+    private String methodSuffix(List<ColumnDefinition> columns){
+        return columns.stream().map(getStrategy()::getJavaClassName).collect(Collectors.joining("And"));
+    }
+
+    private String describe(List<ColumnDefinition> columns){
+        return columns.stream().map(c -> c.getOutputName() + " = " + getStrategy().getJavaMemberName(c)).collect(Collectors.joining(" AND "));
+    }
+
+    private String parameters(JavaWriter out, List<ColumnDefinition> columns){
+        VertxJavaWriter vOut = (VertxJavaWriter) out;
+        return columns.stream().map(c -> vOut.ref(getJavaType(c.getType())) + " " + getStrategy().getJavaMemberName(c)).collect(Collectors.joining(", "));
+    }
+
+    private String condition(JavaWriter out, List<ColumnDefinition> columns){
+        VertxJavaWriter vOut = (VertxJavaWriter) out;
+        StringBuilder condition = new StringBuilder();
+        for (ColumnDefinition column : columns) {
+            String predicate = String.format("%s.eq(%s)", vOut.ref(getStrategy().getFullJavaIdentifier(column), colRefSegments(column)), getStrategy().getJavaMemberName(column));
+            if(condition.length() == 0){
+                condition.append(predicate);
+            }else{
+                condition.append(".and(").append(predicate).append(")");
+            }
+        }
+        return condition.toString();
+    }
+
     /**
      * Copied from JavaGenerator
      * @param key
@@ -460,6 +760,7 @@ public class VertxGenerator extends JavaGenerator {
         }
 
         out.tab(1).println("}");
+        generateFetchGroups(table, out);
         generateFetchMethods(table,out);
         generateDaoClassFooter(table, out);
         getUnwrappedStrategy().overwrite(out,className, tableIdentifier, tableRecord, pType,tType);
@@ -22,6 +22,10 @@ public interface VertxGeneratorStrategy extends GeneratorStrategy{
 
     public abstract String renderInsertReturningType(String tType);
 
+    public abstract String renderExistsType();
+
+    public abstract String renderFindManyMappedType(String mapType);
+
     public abstract String renderQueryExecutor(String rType, String pType, String tType);
 
     public abstract String renderDAOInterface(String rType, String pType, String tType);
@@ -33,6 +33,16 @@ abstract class AbstractClassicVertxGeneratorStrategy extends AbstractVertxGenera
         return String.format("Future<%s>", tType);
     }
 
+    @Override
+    public String renderExistsType() {
+        return "Future<Boolean>";
+    }
+
+    @Override
+    public String renderFindManyMappedType(String mapType) {
+        return String.format("Future<%s>", mapType);
+    }
+
     @Override
     public String renderDAOInterface(String rType, String pType, String tType) {
         return String.format("io.github.jklingsporn.vertx.jooq.classic.VertxDAO<%s,%s,%s>",rType,pType,tType);
@@ -35,6 +35,16 @@ abstract class AbstractCompletableFutureGeneratorStrategy extends AbstractVertxG
     }
 
 
+    @Override
+    public String renderExistsType() {
+        return "CompletableFuture<Boolean>";
+    }
+
+    @Override
+    public String renderFindManyMappedType(String mapType) {
+        return String.format("CompletableFuture<%s>", mapType);
+    }
+
     @Override
     public String renderDAOInterface(String rType, String pType, String tType) {
         return String.format("io.github.jklingsporn.vertx.jooq.completablefuture.VertxDAO<%s,%s,%s>",rType,pType,tType);
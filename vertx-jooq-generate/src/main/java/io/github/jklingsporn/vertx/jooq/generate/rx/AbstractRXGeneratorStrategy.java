@@ -42,6 +42,16 @@ abstract class AbstractRXGeneratorStrategy extends AbstractVertxGeneratorStrateg
         return String.format("Single<%s>", tType);
     }
 
+    @Override
+    public String renderExistsType() {
+        return "Single<Boolean>";
+    }
+
+    @Override
+    public String renderFindManyMappedType(String mapType) {
+        return String.format("Single<%s>", mapType);
+    }
+
     @Override
     public String renderDAOInterface(String rType, String pType, String tType) {
         return String.format("io.github.jklingsporn.vertx.jooq.rx.VertxDAO<%s,%s,%s>",rType,pType,tType);
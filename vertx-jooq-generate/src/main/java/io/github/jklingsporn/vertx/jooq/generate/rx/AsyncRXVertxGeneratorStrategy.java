@@ -44,6 +44,9 @@ public class AsyncRXVertxGeneratorStrategy extends AbstractRXGeneratorStrategy{
             out.println();
             out.tab(1).override();
             out.tab(1).println("public %s insertReturningPrimary(%s pojo){",renderInsertReturningType(tType),pType);
+            out.tab(2).println("if(isReturningSupported()){");
+            out.tab(3).println("return super.insertReturningPrimary(pojo);");
+            out.tab(2).println("}");
             out.tab(2).println("return Single.<%s>error(new UnsupportedOperationException(\"PK not numeric\"));",tType);
             out.tab(1).println("}");
         }
@@ -13,11 +13,15 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import javax.annotation.Generated;
 
 import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
 
 
 import java.util.concurrent.CompletableFuture;
@@ -53,6 +57,25 @@ public class SomethingDao extends AbstractAsyncVertxDAO<SomethingRecord, generat
         return object.getSomeid();
     }
 
+    /**
+     * All columns of <code>something</code> except LOB- and JSON-columns
+     */
+    public static final List<Field<?>> FETCH_GROUP_WITHOUT_LOBS = Collections.unmodifiableList(Arrays.asList(Something.SOMETHING.SOMEID, Something.SOMETHING.SOMESTRING, Something.SOMETHING.SOMEHUGENUMBER, Something.SOMETHING.SOMESMALLNUMBER, Something.SOMETHING.SOMEREGULARNUMBER, Something.SOMETHING.SOMEDOUBLE, Something.SOMETHING.SOMEENUM, Something.SOMETHING.SOMETIMESTAMP));
+
+    /**
+     * Find at most <code>limit</code> records that have <code>someId BETWEEN from AND to</code> ordered by <code>someId</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.async.regular.tables.pojos.Something>> findManyBySomeidBetween(Integer from, Integer to, int limit, boolean desc) {
+        return findManyByCondition(Something.SOMETHING.SOMEID.between(from, to), limit, desc ? Something.SOMETHING.SOMEID.desc() : Something.SOMETHING.SOMEID.asc());
+    }
+
+    /**
+     * Find the first <code>n</code> records ordered by <code>someId</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.async.regular.tables.pojos.Something>> findTopNBySomeid(int n, boolean desc) {
+        return findManyByCondition(DSL.trueCondition(), n, desc ? Something.SOMETHING.SOMEID.desc() : Something.SOMETHING.SOMEID.asc());
+    }
+
     /**
      * Find records that have <code>someString IN (values)</code> asynchronously
      */
@@ -116,6 +139,20 @@ public class SomethingDao extends AbstractAsyncVertxDAO<SomethingRecord, generat
         return findManyByCondition(Something.SOMETHING.SOMETIMESTAMP.in(values));
     }
 
+    /**
+     * Find records by their primary keys asynchronously without boxing the keys into a collection
+     */
+    public CompletableFuture<List<generated.cf.async.regular.tables.pojos.Something>> findManyByIds(int[] ids) {
+        return findManyByConditions(lookupKeyChunks(ids));
+    }
+
+    /**
+     * Delete records by their primary keys asynchronously without boxing the keys into a collection
+     */
+    public CompletableFuture<Integer> deleteByIds(int[] ids) {
+        return deleteByConditions(lookupKeyChunks(ids));
+    }
+
     @Override
     protected java.util.function.Function<Object,Integer> keyConverter(){
         return lastId -> Integer.valueOf(((Long)lastId).intValue());
@@ -6,6 +6,7 @@ package generated.cf.jdbc.guice.vertx;
 
 import generated.cf.jdbc.guice.vertx.tables.Something;
 import generated.cf.jdbc.guice.vertx.tables.Somethingcomposite;
+import generated.cf.jdbc.guice.vertx.tables.Somethingindexed;
 
 import javax.annotation.Generated;
 
@@ -31,15 +32,23 @@ public class Indexes {
     // INDEX definitions
     // -------------------------------------------------------------------------
 
-    public static final Index SYS_IDX_SYS_PK_10222_10224 = Indexes0.SYS_IDX_SYS_PK_10222_10224;
-    public static final Index SYS_IDX_SYS_PK_10226_10227 = Indexes0.SYS_IDX_SYS_PK_10226_10227;
+    public static final Index SYS_IDX_SYS_PK_11053_11055 = Indexes0.SYS_IDX_SYS_PK_11053_11055;
+    public static final Index SYS_IDX_SYS_PK_11057_11058 = Indexes0.SYS_IDX_SYS_PK_11057_11058;
+    public static final Index SOMETHINGINDEXED_CATEGORY_RANK = Indexes0.SOMETHINGINDEXED_CATEGORY_RANK;
+    public static final Index SYS_IDX_11064 = Indexes0.SYS_IDX_11064;
+    public static final Index SYS_IDX_SYS_CT_11060_11063 = Indexes0.SYS_IDX_SYS_CT_11060_11063;
+    public static final Index SYS_IDX_SYS_PK_11059_11062 = Indexes0.SYS_IDX_SYS_PK_11059_11062;
 
     // -------------------------------------------------------------------------
     // [#1459] distribute members to avoid static initialisers > 64kb
     // -------------------------------------------------------------------------
 
     private static class Indexes0 {
-        public static Index SYS_IDX_SYS_PK_10222_10224 = Internal.createIndex("SYS_IDX_SYS_PK_10222_10224", Something.SOMETHING, new OrderField[] { Something.SOMETHING.SOMEID }, true);
-        public static Index SYS_IDX_SYS_PK_10226_10227 = Internal.createIndex("SYS_IDX_SYS_PK_10226_10227", Somethingcomposite.SOMETHINGCOMPOSITE, new OrderField[] { Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID }, true);
+        public static Index SYS_IDX_SYS_PK_11053_11055 = Internal.createIndex("SYS_IDX_SYS_PK_11053_11055", Something.SOMETHING, new OrderField[] { Something.SOMETHING.SOMEID }, true);
+        public static Index SYS_IDX_SYS_PK_11057_11058 = Internal.createIndex("SYS_IDX_SYS_PK_11057_11058", Somethingcomposite.SOMETHINGCOMPOSITE, new OrderField[] { Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID }, true);
+        public static Index SOMETHINGINDEXED_CATEGORY_RANK = Internal.createIndex("SOMETHINGINDEXED_CATEGORY_RANK", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMECATEGORY, Somethingindexed.SOMETHINGINDEXED.SOMERANK }, false);
+        public static Index SYS_IDX_11064 = Internal.createIndex("SYS_IDX_11064", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMETHINGID }, false);
+        public static Index SYS_IDX_SYS_CT_11060_11063 = Internal.createIndex("SYS_IDX_SYS_CT_11060_11063", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMECODE, Somethingindexed.SOMETHINGINDEXED.SOMEVERSION }, true);
+        public static Index SYS_IDX_SYS_PK_11059_11062 = Internal.createIndex("SYS_IDX_SYS_PK_11059_11062", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMEID }, true);
     }
 }
@@ -6,11 +6,14 @@ package generated.cf.jdbc.guice.vertx;
 
 import generated.cf.jdbc.guice.vertx.tables.Something;
 import generated.cf.jdbc.guice.vertx.tables.Somethingcomposite;
+import generated.cf.jdbc.guice.vertx.tables.Somethingindexed;
 import generated.cf.jdbc.guice.vertx.tables.records.SomethingRecord;
 import generated.cf.jdbc.guice.vertx.tables.records.SomethingcompositeRecord;
+import generated.cf.jdbc.guice.vertx.tables.records.SomethingindexedRecord;
 
 import javax.annotation.Generated;
 
+import org.jooq.ForeignKey;
 import org.jooq.Identity;
 import org.jooq.UniqueKey;
 import org.jooq.impl.Internal;
@@ -35,18 +38,22 @@ public class Keys {
     // -------------------------------------------------------------------------
 
     public static final Identity<SomethingRecord, Integer> IDENTITY_SOMETHING = Identities0.IDENTITY_SOMETHING;
+    public static final Identity<SomethingindexedRecord, Integer> IDENTITY_SOMETHINGINDEXED = Identities0.IDENTITY_SOMETHINGINDEXED;
 
     // -------------------------------------------------------------------------
     // UNIQUE and PRIMARY KEY definitions
     // -------------------------------------------------------------------------
 
-    public static final UniqueKey<SomethingRecord> SYS_PK_10222 = UniqueKeys0.SYS_PK_10222;
-    public static final UniqueKey<SomethingcompositeRecord> SYS_PK_10226 = UniqueKeys0.SYS_PK_10226;
+    public static final UniqueKey<SomethingRecord> SYS_PK_11053 = UniqueKeys0.SYS_PK_11053;
+    public static final UniqueKey<SomethingcompositeRecord> SYS_PK_11057 = UniqueKeys0.SYS_PK_11057;
+    public static final UniqueKey<SomethingindexedRecord> SYS_PK_11059 = UniqueKeys0.SYS_PK_11059;
+    public static final UniqueKey<SomethingindexedRecord> SYS_CT_11060 = UniqueKeys0.SYS_CT_11060;
 
     // -------------------------------------------------------------------------
     // FOREIGN KEY definitions
     // -------------------------------------------------------------------------
 
+    public static final ForeignKey<SomethingindexedRecord, SomethingRecord> SYS_FK_11061 = ForeignKeys0.SYS_FK_11061;
 
     // -------------------------------------------------------------------------
     // [#1459] distribute members to avoid static initialisers > 64kb
@@ -54,10 +61,17 @@ public class Keys {
 
     private static class Identities0 {
         public static Identity<SomethingRecord, Integer> IDENTITY_SOMETHING = Internal.createIdentity(Something.SOMETHING, Something.SOMETHING.SOMEID);
+        public static Identity<SomethingindexedRecord, Integer> IDENTITY_SOMETHINGINDEXED = Internal.createIdentity(Somethingindexed.SOMETHINGINDEXED, Somethingindexed.SOMETHINGINDEXED.SOMEID);
     }
 
     private static class UniqueKeys0 {
-        public static final UniqueKey<SomethingRecord> SYS_PK_10222 = Internal.createUniqueKey(Something.SOMETHING, "SYS_PK_10222", Something.SOMETHING.SOMEID);
-        public static final UniqueKey<SomethingcompositeRecord> SYS_PK_10226 = Internal.createUniqueKey(Somethingcomposite.SOMETHINGCOMPOSITE, "SYS_PK_10226", Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID);
+        public static final UniqueKey<SomethingRecord> SYS_PK_11053 = Internal.createUniqueKey(Something.SOMETHING, "SYS_PK_11053", Something.SOMETHING.SOMEID);
+        public static final UniqueKey<SomethingcompositeRecord> SYS_PK_11057 = Internal.createUniqueKey(Somethingcomposite.SOMETHINGCOMPOSITE, "SYS_PK_11057", Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID);
+        public static final UniqueKey<SomethingindexedRecord> SYS_PK_11059 = Internal.createUniqueKey(Somethingindexed.SOMETHINGINDEXED, "SYS_PK_11059", Somethingindexed.SOMETHINGINDEXED.SOMEID);
+        public static final UniqueKey<SomethingindexedRecord> SYS_CT_11060 = Internal.createUniqueKey(Somethingindexed.SOMETHINGINDEXED, "SYS_CT_11060", Somethingindexed.SOMETHINGINDEXED.SOMECODE, Somethingindexed.SOMETHINGINDEXED.SOMEVERSION);
+    }
+
+    private static class ForeignKeys0 {
+        public static final ForeignKey<SomethingindexedRecord, SomethingRecord> SYS_FK_11061 = Internal.createForeignKey(generated.cf.jdbc.guice.vertx.Keys.SYS_PK_11053, Somethingindexed.SOMETHINGINDEXED, "SYS_FK_11061", Somethingindexed.SOMETHINGINDEXED.SOMETHINGID);
     }
 }
@@ -12,11 +12,17 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import javax.annotation.Generated;
 
 import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.impl.DSL;
 
 
 import java.util.concurrent.CompletableFuture;
@@ -53,6 +59,25 @@ public class SomethingDao extends AbstractVertxDAO<SomethingRecord, generated.cf
         return object.getSomeid();
     }
 
+    /**
+     * All columns of <code>SOMETHING</code> except LOB- and JSON-columns
+     */
+    public static final List<Field<?>> FETCH_GROUP_WITHOUT_LOBS = Collections.unmodifiableList(Arrays.asList(Something.SOMETHING.SOMEID, Something.SOMETHING.SOMESTRING, Something.SOMETHING.SOMEHUGENUMBER, Something.SOMETHING.SOMESMALLNUMBER, Something.SOMETHING.SOMEREGULARNUMBER, Something.SOMETHING.SOMEBOOLEAN, Something.SOMETHING.SOMEDOUBLE, Something.SOMETHING.SOMETIMESTAMP));
+
+    /**
+     * Find at most <code>limit</code> records that have <code>SOMEID BETWEEN from AND to</code> ordered by <code>SOMEID</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.guice.vertx.tables.pojos.Something>> findManyBySomeidBetween(Integer from, Integer to, int limit, boolean desc) {
+        return findManyByCondition(Something.SOMETHING.SOMEID.between(from, to), limit, desc ? Something.SOMETHING.SOMEID.desc() : Something.SOMETHING.SOMEID.asc());
+    }
+
+    /**
+     * Find the first <code>n</code> records ordered by <code>SOMEID</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.guice.vertx.tables.pojos.Something>> findTopNBySomeid(int n, boolean desc) {
+        return findManyByCondition(DSL.trueCondition(), n, desc ? Something.SOMETHING.SOMEID.desc() : Something.SOMETHING.SOMEID.asc());
+    }
+
     /**
      * Find records that have <code>SOMESTRING IN (values)</code> asynchronously
      */
@@ -115,4 +140,25 @@ public class SomethingDao extends AbstractVertxDAO<SomethingRecord, generated.cf
     public CompletableFuture<List<generated.cf.jdbc.guice.vertx.tables.pojos.Something>> findManyBySometimestamp(List<LocalDateTime> values) {
         return findManyByCondition(Something.SOMETHING.SOMETIMESTAMP.in(values));
     }
+
+    /**
+     * Find records by their primary keys asynchronously without boxing the keys into a collection
+     */
+    public CompletableFuture<List<generated.cf.jdbc.guice.vertx.tables.pojos.Something>> findManyByIds(int[] ids) {
+        return findManyByConditions(lookupKeyChunks(ids));
+    }
+
+    /**
+     * Delete records by their primary keys asynchronously without boxing the keys into a collection
+     */
+    public CompletableFuture<Integer> deleteByIds(int[] ids) {
+        return deleteByConditions(lookupKeyChunks(ids));
+    }
+
+    /**
+     * Find the unique records that have <code>SOMEID IN (values)</code> mapped by <code>SOMEID</code> asynchronously
+     */
+    public CompletableFuture<Map<Integer, generated.cf.jdbc.guice.vertx.tables.pojos.Something>> findManyBySomeidMapped(Collection<Integer> values) {
+        return findManyMappedBy(Something.SOMETHING.SOMEID, values);
+    }
 }
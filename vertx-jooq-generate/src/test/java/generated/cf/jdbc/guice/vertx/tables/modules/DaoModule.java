@@ -11,5 +11,7 @@ public class DaoModule extends AbstractModule {
         bind(new TypeLiteral<VertxDAO<generated.cf.jdbc.guice.vertx.tables.records.SomethingRecord, generated.cf.jdbc.guice.vertx.tables.pojos.Something, java.lang.Integer>>() {}).to(generated.cf.jdbc.guice.vertx.tables.daos.SomethingDao.class).asEagerSingleton();
         bind(new TypeLiteral<VertxDAO<generated.cf.jdbc.guice.vertx.tables.records.SomethingcompositeRecord, ? extends generated.cf.jdbc.guice.vertx.tables.interfaces.ISomethingcomposite, org.jooq.Record2<java.lang.Integer, java.lang.Integer>>>() {}).to(generated.cf.jdbc.guice.vertx.tables.daos.SomethingcompositeDao.class).asEagerSingleton();
         bind(new TypeLiteral<VertxDAO<generated.cf.jdbc.guice.vertx.tables.records.SomethingcompositeRecord, generated.cf.jdbc.guice.vertx.tables.pojos.Somethingcomposite, org.jooq.Record2<java.lang.Integer, java.lang.Integer>>>() {}).to(generated.cf.jdbc.guice.vertx.tables.daos.SomethingcompositeDao.class).asEagerSingleton();
+        bind(new TypeLiteral<VertxDAO<generated.cf.jdbc.guice.vertx.tables.records.SomethingindexedRecord, ? extends generated.cf.jdbc.guice.vertx.tables.interfaces.ISomethingindexed, java.lang.Integer>>() {}).to(generated.cf.jdbc.guice.vertx.tables.daos.SomethingindexedDao.class).asEagerSingleton();
+        bind(new TypeLiteral<VertxDAO<generated.cf.jdbc.guice.vertx.tables.records.SomethingindexedRecord, generated.cf.jdbc.guice.vertx.tables.pojos.Somethingindexed, java.lang.Integer>>() {}).to(generated.cf.jdbc.guice.vertx.tables.daos.SomethingindexedDao.class).asEagerSingleton();
     }
 }
@@ -6,6 +6,7 @@ package generated.cf.jdbc.regular.vertx;
 
 import generated.cf.jdbc.regular.vertx.tables.Something;
 import generated.cf.jdbc.regular.vertx.tables.Somethingcomposite;
+import generated.cf.jdbc.regular.vertx.tables.Somethingindexed;
 
 import javax.annotation.Generated;
 
@@ -31,15 +32,23 @@ public class Indexes {
     // INDEX definitions
     // -------------------------------------------------------------------------
 
-    public static final Index SYS_IDX_SYS_PK_10283_10285 = Indexes0.SYS_IDX_SYS_PK_10283_10285;
-    public static final Index SYS_IDX_SYS_PK_10287_10288 = Indexes0.SYS_IDX_SYS_PK_10287_10288;
+    public static final Index SYS_IDX_SYS_PK_10851_10853 = Indexes0.SYS_IDX_SYS_PK_10851_10853;
+    public static final Index SYS_IDX_SYS_PK_10855_10856 = Indexes0.SYS_IDX_SYS_PK_10855_10856;
+    public static final Index SOMETHINGINDEXED_CATEGORY_RANK = Indexes0.SOMETHINGINDEXED_CATEGORY_RANK;
+    public static final Index SYS_IDX_10862 = Indexes0.SYS_IDX_10862;
+    public static final Index SYS_IDX_SYS_CT_10858_10861 = Indexes0.SYS_IDX_SYS_CT_10858_10861;
+    public static final Index SYS_IDX_SYS_PK_10857_10860 = Indexes0.SYS_IDX_SYS_PK_10857_10860;
 
     // -------------------------------------------------------------------------
     // [#1459] distribute members to avoid static initialisers > 64kb
     // -------------------------------------------------------------------------
 
     private static class Indexes0 {
-        public static Index SYS_IDX_SYS_PK_10283_10285 = Internal.createIndex("SYS_IDX_SYS_PK_10283_10285", Something.SOMETHING, new OrderField[] { Something.SOMETHING.SOMEID }, true);
-        public static Index SYS_IDX_SYS_PK_10287_10288 = Internal.createIndex("SYS_IDX_SYS_PK_10287_10288", Somethingcomposite.SOMETHINGCOMPOSITE, new OrderField[] { Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID }, true);
+        public static Index SYS_IDX_SYS_PK_10851_10853 = Internal.createIndex("SYS_IDX_SYS_PK_10851_10853", Something.SOMETHING, new OrderField[] { Something.SOMETHING.SOMEID }, true);
+        public static Index SYS_IDX_SYS_PK_10855_10856 = Internal.createIndex("SYS_IDX_SYS_PK_10855_10856", Somethingcomposite.SOMETHINGCOMPOSITE, new OrderField[] { Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID }, true);
+        public static Index SOMETHINGINDEXED_CATEGORY_RANK = Internal.createIndex("SOMETHINGINDEXED_CATEGORY_RANK", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMECATEGORY, Somethingindexed.SOMETHINGINDEXED.SOMERANK }, false);
+        public static Index SYS_IDX_10862 = Internal.createIndex("SYS_IDX_10862", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMETHINGID }, false);
+        public static Index SYS_IDX_SYS_CT_10858_10861 = Internal.createIndex("SYS_IDX_SYS_CT_10858_10861", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMECODE, Somethingindexed.SOMETHINGINDEXED.SOMEVERSION }, true);
+        public static Index SYS_IDX_SYS_PK_10857_10860 = Internal.createIndex("SYS_IDX_SYS_PK_10857_10860", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMEID }, true);
     }
 }
@@ -6,11 +6,14 @@ package generated.cf.jdbc.regular.vertx;
 
 import generated.cf.jdbc.regular.vertx.tables.Something;
 import generated.cf.jdbc.regular.vertx.tables.Somethingcomposite;
+import generated.cf.jdbc.regular.vertx.tables.Somethingindexed;
 import generated.cf.jdbc.regular.vertx.tables.records.SomethingRecord;
 import generated.cf.jdbc.regular.vertx.tables.records.SomethingcompositeRecord;
+import generated.cf.jdbc.regular.vertx.tables.records.SomethingindexedRecord;
 
 import javax.annotation.Generated;
 
+import org.jooq.ForeignKey;
 import org.jooq.Identity;
 import org.jooq.UniqueKey;
 import org.jooq.impl.Internal;
@@ -35,18 +38,22 @@ public class Keys {
     // -------------------------------------------------------------------------
 
     public static final Identity<SomethingRecord, Integer> IDENTITY_SOMETHING = Identities0.IDENTITY_SOMETHING;
+    public static final Identity<SomethingindexedRecord, Integer> IDENTITY_SOMETHINGINDEXED = Identities0.IDENTITY_SOMETHINGINDEXED;
 
     // -------------------------------------------------------------------------
     // UNIQUE and PRIMARY KEY definitions
     // -------------------------------------------------------------------------
 
-    public static final UniqueKey<SomethingRecord> SYS_PK_10283 = UniqueKeys0.SYS_PK_10283;
-    public static final UniqueKey<SomethingcompositeRecord> SYS_PK_10287 = UniqueKeys0.SYS_PK_10287;
+    public static final UniqueKey<SomethingRecord> SYS_PK_10851 = UniqueKeys0.SYS_PK_10851;
+    public static final UniqueKey<SomethingcompositeRecord> SYS_PK_10855 = UniqueKeys0.SYS_PK_10855;
+    public static final UniqueKey<SomethingindexedRecord> SYS_PK_10857 = UniqueKeys0.SYS_PK_10857;
+    public static final UniqueKey<SomethingindexedRecord> SYS_CT_10858 = UniqueKeys0.SYS_CT_10858;
 
     // -------------------------------------------------------------------------
     // FOREIGN KEY definitions
     // -------------------------------------------------------------------------
 
+    public static final ForeignKey<SomethingindexedRecord, SomethingRecord> SYS_FK_10859 = ForeignKeys0.SYS_FK_10859;
 
     // -------------------------------------------------------------------------
     // [#1459] distribute members to avoid static initialisers > 64kb
@@ -54,10 +61,17 @@ public class Keys {
 
     private static class Identities0 {
         public static Identity<SomethingRecord, Integer> IDENTITY_SOMETHING = Internal.createIdentity(Something.SOMETHING, Something.SOMETHING.SOMEID);
+        public static Identity<SomethingindexedRecord, Integer> IDENTITY_SOMETHINGINDEXED = Internal.createIdentity(Somethingindexed.SOMETHINGINDEXED, Somethingindexed.SOMETHINGINDEXED.SOMEID);
     }
 
     private static class UniqueKeys0 {
-        public static final UniqueKey<SomethingRecord> SYS_PK_10283 = Internal.createUniqueKey(Something.SOMETHING, "SYS_PK_10283", Something.SOMETHING.SOMEID);
-        public static final UniqueKey<SomethingcompositeRecord> SYS_PK_10287 = Internal.createUniqueKey(Somethingcomposite.SOMETHINGCOMPOSITE, "SYS_PK_10287", Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID);
+        public static final UniqueKey<SomethingRecord> SYS_PK_10851 = Internal.createUniqueKey(Something.SOMETHING, "SYS_PK_10851", Something.SOMETHING.SOMEID);
+        public static final UniqueKey<SomethingcompositeRecord> SYS_PK_10855 = Internal.createUniqueKey(Somethingcomposite.SOMETHINGCOMPOSITE, "SYS_PK_10855", Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID);
+        public static final UniqueKey<SomethingindexedRecord> SYS_PK_10857 = Internal.createUniqueKey(Somethingindexed.SOMETHINGINDEXED, "SYS_PK_10857", Somethingindexed.SOMETHINGINDEXED.SOMEID);
+        public static final UniqueKey<SomethingindexedRecord> SYS_CT_10858 = Internal.createUniqueKey(Somethingindexed.SOMETHINGINDEXED, "SYS_CT_10858", Somethingindexed.SOMETHINGINDEXED.SOMECODE, Somethingindexed.SOMETHINGINDEXED.SOMEVERSION);
+    }
+
+    private static class ForeignKeys0 {
+        public static final ForeignKey<SomethingindexedRecord, SomethingRecord> SYS_FK_10859 = Internal.createForeignKey(generated.cf.jdbc.regular.vertx.Keys.SYS_PK_10851, Somethingindexed.SOMETHINGINDEXED, "SYS_FK_10859", Somethingindexed.SOMETHINGINDEXED.SOMETHINGID);
     }
 }
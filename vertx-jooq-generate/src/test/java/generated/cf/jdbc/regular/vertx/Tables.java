@@ -6,6 +6,7 @@ package generated.cf.jdbc.regular.vertx;
 
 import generated.cf.jdbc.regular.vertx.tables.Something;
 import generated.cf.jdbc.regular.vertx.tables.Somethingcomposite;
+import generated.cf.jdbc.regular.vertx.tables.Somethingindexed;
 
 import javax.annotation.Generated;
 
@@ -32,4 +33,9 @@ public class Tables {
      * The table <code>VERTX.SOMETHINGCOMPOSITE</code>.
      */
     public static final Somethingcomposite SOMETHINGCOMPOSITE = generated.cf.jdbc.regular.vertx.tables.Somethingcomposite.SOMETHINGCOMPOSITE;
+
+    /**
+     * The table <code>VERTX.SOMETHINGINDEXED</code>.
+     */
+    public static final Somethingindexed SOMETHINGINDEXED = generated.cf.jdbc.regular.vertx.tables.Somethingindexed.SOMETHINGINDEXED;
 }
@@ -7,6 +7,7 @@ package generated.cf.jdbc.regular.vertx;
 import generated.cf.jdbc.regular.DefaultCatalog;
 import generated.cf.jdbc.regular.vertx.tables.Something;
 import generated.cf.jdbc.regular.vertx.tables.Somethingcomposite;
+import generated.cf.jdbc.regular.vertx.tables.Somethingindexed;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -32,7 +33,7 @@ import org.jooq.impl.SchemaImpl;
 @SuppressWarnings({ "all", "unchecked", "rawtypes" })
 public class Vertx extends SchemaImpl {
 
-    private static final long serialVersionUID = 354561943;
+    private static final long serialVersionUID = -324611449;
 
     /**
      * The reference instance of <code>VERTX</code>
@@ -49,6 +50,11 @@ public class Vertx extends SchemaImpl {
      */
     public final Somethingcomposite SOMETHINGCOMPOSITE = generated.cf.jdbc.regular.vertx.tables.Somethingcomposite.SOMETHINGCOMPOSITE;
 
+    /**
+     * The table <code>VERTX.SOMETHINGINDEXED</code>.
+     */
+    public final Somethingindexed SOMETHINGINDEXED = generated.cf.jdbc.regular.vertx.tables.Somethingindexed.SOMETHINGINDEXED;
+
     /**
      * No further instances allowed
      */
@@ -75,6 +81,7 @@ public class Vertx extends SchemaImpl {
     private final List<Table<?>> getTables0() {
         return Arrays.<Table<?>>asList(
             Something.SOMETHING,
-            Somethingcomposite.SOMETHINGCOMPOSITE);
+            Somethingcomposite.SOMETHINGCOMPOSITE,
+            Somethingindexed.SOMETHINGINDEXED);
     }
 }
@@ -10,12 +10,16 @@ import generated.cf.jdbc.regular.vertx.tables.records.SomethingcompositeRecord;
 import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
 import io.vertx.core.json.JsonObject;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import javax.annotation.Generated;
 
 import org.jooq.Configuration;
+import org.jooq.Field;
 import org.jooq.Record2;
+import org.jooq.impl.DSL;
 
 
 import java.util.concurrent.CompletableFuture;
@@ -50,6 +54,25 @@ public class SomethingcompositeDao extends AbstractVertxDAO<SomethingcompositeRe
         return compositeKeyRecord(object.getSomeid(), object.getSomesecondid());
     }
 
+    /**
+     * All columns of <code>SOMETHINGCOMPOSITE</code> except LOB- and JSON-columns
+     */
+    public static final List<Field<?>> FETCH_GROUP_WITHOUT_LOBS = Collections.unmodifiableList(Arrays.asList(Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID));
+
+    /**
+     * Find at most <code>limit</code> records that have <code>SOMEID BETWEEN from AND to</code> ordered by <code>SOMEID</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite>> findManyBySomeidBetween(Integer from, Integer to, int limit, boolean desc) {
+        return findManyByCondition(Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID.between(from, to), limit, desc ? Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID.desc() : Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID.asc());
+    }
+
+    /**
+     * Find the first <code>n</code> records ordered by <code>SOMEID</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingcomposite>> findTopNBySomeid(int n, boolean desc) {
+        return findManyByCondition(DSL.trueCondition(), n, desc ? Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID.desc() : Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID.asc());
+    }
+
     /**
      * Find records that have <code>SOMESECONDID IN (values)</code> asynchronously
      */
@@ -0,0 +1,193 @@
+/*
+ * This file is generated by jOOQ.
+*/
+package generated.cf.jdbc.regular.vertx.tables.daos;
+
+
+import generated.cf.jdbc.regular.vertx.tables.Somethingindexed;
+import generated.cf.jdbc.regular.vertx.tables.records.SomethingindexedRecord;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Generated;
+
+import org.jooq.Configuration;
+import org.jooq.impl.DSL;
+
+
+import java.util.concurrent.CompletableFuture;
+import io.github.jklingsporn.vertx.jooq.completablefuture.VertxDAO;
+import io.github.jklingsporn.vertx.jooq.completablefuture.jdbc.JDBCCompletableFutureQueryExecutor;
+/**
+ * This class is generated by jOOQ.
+ */
+@Generated(
+    value = {
+        "http://www.jooq.org",
+        "jOOQ version:3.10.6"
+    },
+    comments = "This class is generated by jOOQ"
+)
+@SuppressWarnings({ "all", "unchecked", "rawtypes" })
+public class SomethingindexedDao extends AbstractVertxDAO<SomethingindexedRecord, generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed, Integer, CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>>, CompletableFuture<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>, CompletableFuture<Integer>, CompletableFuture<Integer>> implements io.github.jklingsporn.vertx.jooq.completablefuture.VertxDAO<SomethingindexedRecord,generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed,Integer> {
+
+    /**
+     * @param configuration The Configuration used for rendering and query execution.
+     * @param vertx the vertx instance
+     */
+    public SomethingindexedDao(Configuration configuration, io.vertx.core.Vertx vertx) {
+        super(Somethingindexed.SOMETHINGINDEXED, generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed.class, new JDBCCompletableFutureQueryExecutor<SomethingindexedRecord,generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed,Integer>(generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed.class,configuration,vertx), configuration);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Integer getId(generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed object) {
+        return object.getSomeid();
+    }
+
+    /**
+     * Find at most <code>limit</code> records that have <code>SOMEID BETWEEN from AND to</code> ordered by <code>SOMEID</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>> findManyBySomeidBetween(Integer from, Integer to, int limit, boolean desc) {
+        return findManyByCondition(Somethingindexed.SOMETHINGINDEXED.SOMEID.between(from, to), limit, desc ? Somethingindexed.SOMETHINGINDEXED.SOMEID.desc() : Somethingindexed.SOMETHINGINDEXED.SOMEID.asc());
+    }
+
+    /**
+     * Find the first <code>n</code> records ordered by <code>SOMEID</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>> findTopNBySomeid(int n, boolean desc) {
+        return findManyByCondition(DSL.trueCondition(), n, desc ? Somethingindexed.SOMETHINGINDEXED.SOMEID.desc() : Somethingindexed.SOMETHINGINDEXED.SOMEID.asc());
+    }
+
+    /**
+     * Find records that have <code>SOMETHINGID IN (values)</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>> findManyBySomethingid(List<Integer> values) {
+        return findManyByCondition(Somethingindexed.SOMETHINGINDEXED.SOMETHINGID.in(values));
+    }
+
+    /**
+     * Find at most <code>limit</code> records that have <code>SOMETHINGID BETWEEN from AND to</code> ordered by <code>SOMETHINGID</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>> findManyBySomethingidBetween(Integer from, Integer to, int limit, boolean desc) {
+        return findManyByCondition(Somethingindexed.SOMETHINGINDEXED.SOMETHINGID.between(from, to), limit, desc ? Somethingindexed.SOMETHINGINDEXED.SOMETHINGID.desc() : Somethingindexed.SOMETHINGINDEXED.SOMETHINGID.asc());
+    }
+
+    /**
+     * Find the first <code>n</code> records ordered by <code>SOMETHINGID</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>> findTopNBySomethingid(int n, boolean desc) {
+        return findManyByCondition(DSL.trueCondition(), n, desc ? Somethingindexed.SOMETHINGINDEXED.SOMETHINGID.desc() : Somethingindexed.SOMETHINGINDEXED.SOMETHINGID.asc());
+    }
+
+    /**
+     * Find records that have <code>SOMECODE IN (values)</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>> findManyBySomecode(List<String> values) {
+        return findManyByCondition(Somethingindexed.SOMETHINGINDEXED.SOMECODE.in(values));
+    }
+
+    /**
+     * Find at most <code>limit</code> records that have <code>SOMECODE BETWEEN from AND to</code> ordered by <code>SOMECODE</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>> findManyBySomecodeBetween(String from, String to, int limit, boolean desc) {
+        return findManyByCondition(Somethingindexed.SOMETHINGINDEXED.SOMECODE.between(from, to), limit, desc ? Somethingindexed.SOMETHINGINDEXED.SOMECODE.desc() : Somethingindexed.SOMETHINGINDEXED.SOMECODE.asc());
+    }
+
+    /**
+     * Find the first <code>n</code> records ordered by <code>SOMECODE</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>> findTopNBySomecode(int n, boolean desc) {
+        return findManyByCondition(DSL.trueCondition(), n, desc ? Somethingindexed.SOMETHINGINDEXED.SOMECODE.desc() : Somethingindexed.SOMETHINGINDEXED.SOMECODE.asc());
+    }
+
+    /**
+     * Find records that have <code>SOMEVERSION IN (values)</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>> findManyBySomeversion(List<Integer> values) {
+        return findManyByCondition(Somethingindexed.SOMETHINGINDEXED.SOMEVERSION.in(values));
+    }
+
+    /**
+     * Find records that have <code>SOMECATEGORY IN (values)</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>> findManyBySomecategory(List<String> values) {
+        return findManyByCondition(Somethingindexed.SOMETHINGINDEXED.SOMECATEGORY.in(values));
+    }
+
+    /**
+     * Find at most <code>limit</code> records that have <code>SOMECATEGORY BETWEEN from AND to</code> ordered by <code>SOMECATEGORY</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>> findManyBySomecategoryBetween(String from, String to, int limit, boolean desc) {
+        return findManyByCondition(Somethingindexed.SOMETHINGINDEXED.SOMECATEGORY.between(from, to), limit, desc ? Somethingindexed.SOMETHINGINDEXED.SOMECATEGORY.desc() : Somethingindexed.SOMETHINGINDEXED.SOMECATEGORY.asc());
+    }
+
+    /**
+     * Find the first <code>n</code> records ordered by <code>SOMECATEGORY</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>> findTopNBySomecategory(int n, boolean desc) {
+        return findManyByCondition(DSL.trueCondition(), n, desc ? Somethingindexed.SOMETHINGINDEXED.SOMECATEGORY.desc() : Somethingindexed.SOMETHINGINDEXED.SOMECATEGORY.asc());
+    }
+
+    /**
+     * Find records that have <code>SOMERANK IN (values)</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>> findManyBySomerank(List<Integer> values) {
+        return findManyByCondition(Somethingindexed.SOMETHINGINDEXED.SOMERANK.in(values));
+    }
+
+    /**
+     * Find records that have <code>SOMENOTE IN (values)</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>> findManyBySomenote(List<String> values) {
+        return findManyByCondition(Somethingindexed.SOMETHINGINDEXED.SOMENOTE.in(values));
+    }
+
+    /**
+     * Find records by their primary keys asynchronously without boxing the keys into a collection
+     */
+    public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>> findManyByIds(int[] ids) {
+        return findManyByConditions(lookupKeyChunks(ids));
+    }
+
+    /**
+     * Delete records by their primary keys asynchronously without boxing the keys into a collection
+     */
+    public CompletableFuture<Integer> deleteByIds(int[] ids) {
+        return deleteByConditions(lookupKeyChunks(ids));
+    }
+
+    /**
+     * Find a unique record that has <code>SOMECODE = somecode AND SOMEVERSION = someversion</code> asynchronously
+     */
+    public CompletableFuture<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed> findOneBySomecodeAndSomeversion(String somecode, Integer someversion) {
+        return findOneByCondition(Somethingindexed.SOMETHINGINDEXED.SOMECODE.eq(somecode).and(Somethingindexed.SOMETHINGINDEXED.SOMEVERSION.eq(someversion)));
+    }
+
+    /**
+     * Checks whether a unique record that has <code>SOMECODE = somecode AND SOMEVERSION = someversion</code> exists asynchronously
+     */
+    public CompletableFuture<Boolean> existsBySomecodeAndSomeversion(String somecode, Integer someversion) {
+        return existsByCondition(Somethingindexed.SOMETHINGINDEXED.SOMECODE.eq(somecode).and(Somethingindexed.SOMETHINGINDEXED.SOMEVERSION.eq(someversion)));
+    }
+
+    /**
+     * Find records that have <code>SOMECATEGORY = somecategory AND SOMERANK = somerank</code> asynchronously
+     */
+    public CompletableFuture<List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>> findManyBySomecategoryAndSomerank(String somecategory, Integer somerank) {
+        return findManyByCondition(Somethingindexed.SOMETHINGINDEXED.SOMECATEGORY.eq(somecategory).and(Somethingindexed.SOMETHINGINDEXED.SOMERANK.eq(somerank)));
+    }
+
+    /**
+     * Find records that have <code>SOMETHINGID IN (values)</code> grouped by <code>SOMETHINGID</code> asynchronously
+     */
+    public CompletableFuture<Map<Integer, List<generated.cf.jdbc.regular.vertx.tables.pojos.Somethingindexed>>> findManyBySomethingidGrouped(Collection<Integer> values) {
+        return findManyGroupedBy(Somethingindexed.SOMETHINGINDEXED.SOMETHINGID, values);
+    }
+}
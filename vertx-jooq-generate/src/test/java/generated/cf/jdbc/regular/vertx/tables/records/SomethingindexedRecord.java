@@ -0,0 +1,490 @@
+/*
+ * This file is generated by jOOQ.
+*/
+package generated.cf.jdbc.regular.vertx.tables.records;
+
+
+import generated.cf.jdbc.regular.vertx.tables.Somethingindexed;
+import generated.cf.jdbc.regular.vertx.tables.interfaces.ISomethingindexed;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo;
+
+import javax.annotation.Generated;
+
+import org.jooq.Field;
+import org.jooq.Record1;
+import org.jooq.Record7;
+import org.jooq.Row7;
+import org.jooq.impl.UpdatableRecordImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@Generated(
+    value = {
+        "http://www.jooq.org",
+        "jOOQ version:3.10.6"
+    },
+    comments = "This class is generated by jOOQ"
+)
+@SuppressWarnings({ "all", "unchecked", "rawtypes" })
+public class SomethingindexedRecord extends UpdatableRecordImpl<SomethingindexedRecord> implements VertxPojo, Record7<Integer, Integer, String, Integer, String, Integer, String>, ISomethingindexed {
+
+    private static final long serialVersionUID = 1867674007;
+
+    /**
+     * Setter for <code>VERTX.SOMETHINGINDEXED.SOMEID</code>.
+     */
+    @Override
+    public SomethingindexedRecord setSomeid(Integer value) {
+        set(0, value);
+        return this;
+    }
+
+    /**
+     * Getter for <code>VERTX.SOMETHINGINDEXED.SOMEID</code>.
+     */
+    @Override
+    public Integer getSomeid() {
+        return (Integer) get(0);
+    }
+
+    /**
+     * Setter for <code>VERTX.SOMETHINGINDEXED.SOMETHINGID</code>.
+     */
+    @Override
+    public SomethingindexedRecord setSomethingid(Integer value) {
+        set(1, value);
+        return this;
+    }
+
+    /**
+     * Getter for <code>VERTX.SOMETHINGINDEXED.SOMETHINGID</code>.
+     */
+    @Override
+    public Integer getSomethingid() {
+        return (Integer) get(1);
+    }
+
+    /**
+     * Setter for <code>VERTX.SOMETHINGINDEXED.SOMECODE</code>.
+     */
+    @Override
+    public SomethingindexedRecord setSomecode(String value) {
+        set(2, value);
+        return this;
+    }
+
+    /**
+     * Getter for <code>VERTX.SOMETHINGINDEXED.SOMECODE</code>.
+     */
+    @Override
+    public String getSomecode() {
+        return (String) get(2);
+    }
+
+    /**
+     * Setter for <code>VERTX.SOMETHINGINDEXED.SOMEVERSION</code>.
+     */
+    @Override
+    public SomethingindexedRecord setSomeversion(Integer value) {
+        set(3, value);
+        return this;
+    }
+
+    /**
+     * Getter for <code>VERTX.SOMETHINGINDEXED.SOMEVERSION</code>.
+     */
+    @Override
+    public Integer getSomeversion() {
+        return (Integer) get(3);
+    }
+
+    /**
+     * Setter for <code>VERTX.SOMETHINGINDEXED.SOMECATEGORY</code>.
+     */
+    @Override
+    public SomethingindexedRecord setSomecategory(String value) {
+        set(4, value);
+        return this;
+    }
+
+    /**
+     * Getter for <code>VERTX.SOMETHINGINDEXED.SOMECATEGORY</code>.
+     */
+    @Override
+    public String getSomecategory() {
+        return (String) get(4);
+    }
+
+    /**
+     * Setter for <code>VERTX.SOMETHINGINDEXED.SOMERANK</code>.
+     */
+    @Override
+    public SomethingindexedRecord setSomerank(Integer value) {
+        set(5, value);
+        return this;
+    }
+
+    /**
+     * Getter for <code>VERTX.SOMETHINGINDEXED.SOMERANK</code>.
+     */
+    @Override
+    public Integer getSomerank() {
+        return (Integer) get(5);
+    }
+
+    /**
+     * Setter for <code>VERTX.SOMETHINGINDEXED.SOMENOTE</code>.
+     */
+    @Override
+    public SomethingindexedRecord setSomenote(String value) {
+        set(6, value);
+        return this;
+    }
+
+    /**
+     * Getter for <code>VERTX.SOMETHINGINDEXED.SOMENOTE</code>.
+     */
+    @Override
+    public String getSomenote() {
+        return (String) get(6);
+    }
+
+    // -------------------------------------------------------------------------
+    // Primary key information
+    // -------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Record1<Integer> key() {
+        return (Record1) super.key();
+    }
+
+    // -------------------------------------------------------------------------
+    // Record7 type implementation
+    // -------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Row7<Integer, Integer, String, Integer, String, Integer, String> fieldsRow() {
+        return (Row7) super.fieldsRow();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Row7<Integer, Integer, String, Integer, String, Integer, String> valuesRow() {
+        return (Row7) super.valuesRow();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Field<Integer> field1() {
+        return Somethingindexed.SOMETHINGINDEXED.SOMEID;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Field<Integer> field2() {
+        return Somethingindexed.SOMETHINGINDEXED.SOMETHINGID;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Field<String> field3() {
+        return Somethingindexed.SOMETHINGINDEXED.SOMECODE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Field<Integer> field4() {
+        return Somethingindexed.SOMETHINGINDEXED.SOMEVERSION;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Field<String> field5() {
+        return Somethingindexed.SOMETHINGINDEXED.SOMECATEGORY;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Field<Integer> field6() {
+        return Somethingindexed.SOMETHINGINDEXED.SOMERANK;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Field<String> field7() {
+        return Somethingindexed.SOMETHINGINDEXED.SOMENOTE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer component1() {
+        return getSomeid();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer component2() {
+        return getSomethingid();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String component3() {
+        return getSomecode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer component4() {
+        return getSomeversion();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String component5() {
+        return getSomecategory();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer component6() {
+        return getSomerank();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String component7() {
+        return getSomenote();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer value1() {
+        return getSomeid();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer value2() {
+        return getSomethingid();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String value3() {
+        return getSomecode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer value4() {
+        return getSomeversion();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String value5() {
+        return getSomecategory();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer value6() {
+        return getSomerank();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String value7() {
+        return getSomenote();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SomethingindexedRecord value1(Integer value) {
+        setSomeid(value);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SomethingindexedRecord value2(Integer value) {
+        setSomethingid(value);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SomethingindexedRecord value3(String value) {
+        setSomecode(value);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SomethingindexedRecord value4(Integer value) {
+        setSomeversion(value);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SomethingindexedRecord value5(String value) {
+        setSomecategory(value);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SomethingindexedRecord value6(Integer value) {
+        setSomerank(value);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SomethingindexedRecord value7(String value) {
+        setSomenote(value);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SomethingindexedRecord values(Integer value1, Integer value2, String value3, Integer value4, String value5, Integer value6, String value7) {
+        value1(value1);
+        value2(value2);
+        value3(value3);
+        value4(value4);
+        value5(value5);
+        value6(value6);
+        value7(value7);
+        return this;
+    }
+
+    // -------------------------------------------------------------------------
+    // FROM and INTO
+    // -------------------------------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void from(ISomethingindexed from) {
+        setSomeid(from.getSomeid());
+        setSomethingid(from.getSomethingid());
+        setSomecode(from.getSomecode());
+        setSomeversion(from.getSomeversion());
+        setSomecategory(from.getSomecategory());
+        setSomerank(from.getSomerank());
+        setSomenote(from.getSomenote());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <E extends ISomethingindexed> E into(E into) {
+        into.from(this);
+        return into;
+    }
+
+    // -------------------------------------------------------------------------
+    // Constructors
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a detached SomethingindexedRecord
+     */
+    public SomethingindexedRecord() {
+        super(Somethingindexed.SOMETHINGINDEXED);
+    }
+
+    /**
+     * Create a detached, initialised SomethingindexedRecord
+     */
+    public SomethingindexedRecord(Integer someid, Integer somethingid, String somecode, Integer someversion, String somecategory, Integer somerank, String somenote) {
+        super(Somethingindexed.SOMETHINGINDEXED);
+
+        set(0, someid);
+        set(1, somethingid);
+        set(2, somecode);
+        set(3, someversion);
+        set(4, somecategory);
+        set(5, somerank);
+        set(6, somenote);
+    }
+
+    public SomethingindexedRecord(io.vertx.core.json.JsonObject json) {
+        this();
+        fromJson(json);
+    }
+}
@@ -10,12 +10,16 @@ import generated.classic.async.guice.tables.records.SomethingcompositeRecord;
 import io.github.jklingsporn.vertx.jooq.shared.internal.async.AbstractAsyncVertxDAO;
 import io.vertx.core.json.JsonObject;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import javax.annotation.Generated;
 
 import org.jooq.Configuration;
+import org.jooq.Field;
 import org.jooq.Record2;
+import org.jooq.impl.DSL;
 
 
 import io.vertx.core.Future;
@@ -51,6 +55,25 @@ public class SomethingcompositeDao extends AbstractAsyncVertxDAO<Somethingcompos
         return compositeKeyRecord(object.getSomeid(), object.getSomesecondid());
     }
 
+    /**
+     * All columns of <code>somethingComposite</code> except LOB- and JSON-columns
+     */
+    public static final List<Field<?>> FETCH_GROUP_WITHOUT_LOBS = Collections.unmodifiableList(Arrays.asList(Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID));
+
+    /**
+     * Find at most <code>limit</code> records that have <code>someId BETWEEN from AND to</code> ordered by <code>someId</code> asynchronously
+     */
+    public Future<List<generated.classic.async.guice.tables.pojos.Somethingcomposite>> findManyBySomeidBetween(Integer from, Integer to, int limit, boolean desc) {
+        return findManyByCondition(Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID.between(from, to), limit, desc ? Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID.desc() : Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID.asc());
+    }
+
+    /**
+     * Find the first <code>n</code> records ordered by <code>someId</code> asynchronously
+     */
+    public Future<List<generated.classic.async.guice.tables.pojos.Somethingcomposite>> findTopNBySomeid(int n, boolean desc) {
+        return findManyByCondition(DSL.trueCondition(), n, desc ? Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID.desc() : Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID.asc());
+    }
+
     /**
      * Find records that have <code>someSecondId IN (values)</code> asynchronously
      */
@@ -67,6 +90,9 @@ public class SomethingcompositeDao extends AbstractAsyncVertxDAO<Somethingcompos
 
     @Override
     public Future<Record2<Integer, Integer>> insertReturningPrimary(generated.classic.async.guice.tables.pojos.Somethingcomposite pojo){
+        if(isReturningSupported()){
+            return super.insertReturningPrimary(pojo);
+        }
         return Future.failedFuture(new UnsupportedOperationException("PK not numeric"));
     }
 }
@@ -14,6 +14,7 @@ import java.util.List;
 import javax.annotation.Generated;
 
 import org.jooq.Configuration;
+import org.jooq.impl.DSL;
 
 
 import io.vertx.core.Future;
@@ -47,6 +48,20 @@ public class SomethingwithoutjsonDao extends AbstractAsyncVertxDAO<Somethingwith
         return object.getSomeid();
     }
 
+    /**
+     * Find at most <code>limit</code> records that have <code>someId BETWEEN from AND to</code> ordered by <code>someId</code> asynchronously
+     */
+    public Future<List<generated.classic.async.regular.tables.pojos.Somethingwithoutjson>> findManyBySomeidBetween(Integer from, Integer to, int limit, boolean desc) {
+        return findManyByCondition(Somethingwithoutjson.SOMETHINGWITHOUTJSON.SOMEID.between(from, to), limit, desc ? Somethingwithoutjson.SOMETHINGWITHOUTJSON.SOMEID.desc() : Somethingwithoutjson.SOMETHINGWITHOUTJSON.SOMEID.asc());
+    }
+
+    /**
+     * Find the first <code>n</code> records ordered by <code>someId</code> asynchronously
+     */
+    public Future<List<generated.classic.async.regular.tables.pojos.Somethingwithoutjson>> findTopNBySomeid(int n, boolean desc) {
+        return findManyByCondition(DSL.trueCondition(), n, desc ? Somethingwithoutjson.SOMETHINGWITHOUTJSON.SOMEID.desc() : Somethingwithoutjson.SOMETHINGWITHOUTJSON.SOMEID.asc());
+    }
+
     /**
      * Find records that have <code>someString IN (values)</code> asynchronously
      */
@@ -6,6 +6,7 @@ package generated.classic.jdbc.custom.vertx;
 
 import generated.classic.jdbc.custom.vertx.tables.Something;
 import generated.classic.jdbc.custom.vertx.tables.Somethingcomposite;
+import generated.classic.jdbc.custom.vertx.tables.Somethingindexed;
 
 import javax.annotation.Generated;
 
@@ -31,15 +32,23 @@ public class Indexes {
     // INDEX definitions
     // -------------------------------------------------------------------------
 
-    public static final Index SYS_IDX_SYS_PK_10344_10346 = Indexes0.SYS_IDX_SYS_PK_10344_10346;
-    public static final Index SYS_IDX_SYS_PK_10348_10349 = Indexes0.SYS_IDX_SYS_PK_10348_10349;
+    public static final Index SYS_IDX_SYS_PK_10804_10806 = Indexes0.SYS_IDX_SYS_PK_10804_10806;
+    public static final Index SYS_IDX_SYS_PK_10808_10809 = Indexes0.SYS_IDX_SYS_PK_10808_10809;
+    public static final Index SOMETHINGINDEXED_CATEGORY_RANK = Indexes0.SOMETHINGINDEXED_CATEGORY_RANK;
+    public static final Index SYS_IDX_10815 = Indexes0.SYS_IDX_10815;
+    public static final Index SYS_IDX_SYS_CT_10811_10814 = Indexes0.SYS_IDX_SYS_CT_10811_10814;
+    public static final Index SYS_IDX_SYS_PK_10810_10813 = Indexes0.SYS_IDX_SYS_PK_10810_10813;
 
     // -------------------------------------------------------------------------
     // [#1459] distribute members to avoid static initialisers > 64kb
     // -------------------------------------------------------------------------
 
     private static class Indexes0 {
-        public static Index SYS_IDX_SYS_PK_10344_10346 = Internal.createIndex("SYS_IDX_SYS_PK_10344_10346", Something.SOMETHING, new OrderField[] { Something.SOMETHING.SOMEID }, true);
-        public static Index SYS_IDX_SYS_PK_10348_10349 = Internal.createIndex("SYS_IDX_SYS_PK_10348_10349", Somethingcomposite.SOMETHINGCOMPOSITE, new OrderField[] { Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID }, true);
+        public static Index SYS_IDX_SYS_PK_10804_10806 = Internal.createIndex("SYS_IDX_SYS_PK_10804_10806", Something.SOMETHING, new OrderField[] { Something.SOMETHING.SOMEID }, true);
+        public static Index SYS_IDX_SYS_PK_10808_10809 = Internal.createIndex("SYS_IDX_SYS_PK_10808_10809", Somethingcomposite.SOMETHINGCOMPOSITE, new OrderField[] { Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID }, true);
+        public static Index SOMETHINGINDEXED_CATEGORY_RANK = Internal.createIndex("SOMETHINGINDEXED_CATEGORY_RANK", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMECATEGORY, Somethingindexed.SOMETHINGINDEXED.SOMERANK }, false);
+        public static Index SYS_IDX_10815 = Internal.createIndex("SYS_IDX_10815", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMETHINGID }, false);
+        public static Index SYS_IDX_SYS_CT_10811_10814 = Internal.createIndex("SYS_IDX_SYS_CT_10811_10814", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMECODE, Somethingindexed.SOMETHINGINDEXED.SOMEVERSION }, true);
+        public static Index SYS_IDX_SYS_PK_10810_10813 = Internal.createIndex("SYS_IDX_SYS_PK_10810_10813", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMEID }, true);
     }
 }
@@ -7,6 +7,7 @@ package generated.classic.jdbc.custom.vertx;
 import generated.classic.jdbc.custom.DefaultCatalog;
 import generated.classic.jdbc.custom.vertx.tables.Something;
 import generated.classic.jdbc.custom.vertx.tables.Somethingcomposite;
+import generated.classic.jdbc.custom.vertx.tables.Somethingindexed;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -32,7 +33,7 @@ import org.jooq.impl.SchemaImpl;
 @SuppressWarnings({ "all", "unchecked", "rawtypes" })
 public class Vertx extends SchemaImpl {
 
-    private static final long serialVersionUID = 1430616807;
+    private static final long serialVersionUID = 1542698511;
 
     /**
      * The reference instance of <code>VERTX</code>
@@ -49,6 +50,11 @@ public class Vertx extends SchemaImpl {
      */
     public final Somethingcomposite SOMETHINGCOMPOSITE = generated.classic.jdbc.custom.vertx.tables.Somethingcomposite.SOMETHINGCOMPOSITE;
 
+    /**
+     * The table <code>VERTX.SOMETHINGINDEXED</code>.
+     */
+    public final Somethingindexed SOMETHINGINDEXED = generated.classic.jdbc.custom.vertx.tables.Somethingindexed.SOMETHINGINDEXED;
+
     /**
      * No further instances allowed
      */
@@ -75,6 +81,7 @@ public class Vertx extends SchemaImpl {
     private final List<Table<?>> getTables0() {
         return Arrays.<Table<?>>asList(
             Something.SOMETHING,
-            Somethingcomposite.SOMETHINGCOMPOSITE);
+            Somethingcomposite.SOMETHINGCOMPOSITE,
+            Somethingindexed.SOMETHINGINDEXED);
     }
 }
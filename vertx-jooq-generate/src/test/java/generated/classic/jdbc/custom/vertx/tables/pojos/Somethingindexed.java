@@ -0,0 +1,245 @@
+/*
+ * This file is generated by jOOQ.
+*/
+package generated.classic.jdbc.custom.vertx.tables.pojos;
+
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo;
+
+import java.io.Serializable;
+
+import javax.annotation.Generated;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@Generated(
+    value = {
+        "http://www.jooq.org",
+        "jOOQ version:3.10.6"
+    },
+    comments = "This class is generated by jOOQ"
+)
+@SuppressWarnings({ "all", "unchecked", "rawtypes" })
+public class Somethingindexed implements VertxPojo, Serializable {
+
+    private static final long serialVersionUID = 451338099;
+
+    private Integer someid;
+    private Integer somethingid;
+    private String  somecode;
+    private Integer someversion;
+    private String  somecategory;
+    private Integer somerank;
+    private String  somenote;
+
+    public Somethingindexed() {}
+
+    public Somethingindexed(Somethingindexed value) {
+        this.someid = value.someid;
+        this.somethingid = value.somethingid;
+        this.somecode = value.somecode;
+        this.someversion = value.someversion;
+        this.somecategory = value.somecategory;
+        this.somerank = value.somerank;
+        this.somenote = value.somenote;
+    }
+
+    public Somethingindexed(
+        Integer someid,
+        Integer somethingid,
+        String  somecode,
+        Integer someversion,
+        String  somecategory,
+        Integer somerank,
+        String  somenote
+    ) {
+        this.someid = someid;
+        this.somethingid = somethingid;
+        this.somecode = somecode;
+        this.someversion = someversion;
+        this.somecategory = somecategory;
+        this.somerank = somerank;
+        this.somenote = somenote;
+    }
+
+    public Integer getSomeid() {
+        return this.someid;
+    }
+
+    public Somethingindexed setSomeid(Integer someid) {
+        this.someid = someid;
+        return this;
+    }
+
+    public Integer getSomethingid() {
+        return this.somethingid;
+    }
+
+    public Somethingindexed setSomethingid(Integer somethingid) {
+        this.somethingid = somethingid;
+        return this;
+    }
+
+    public String getSomecode() {
+        return this.somecode;
+    }
+
+    public Somethingindexed setSomecode(String somecode) {
+        this.somecode = somecode;
+        return this;
+    }
+
+    public Integer getSomeversion() {
+        return this.someversion;
+    }
+
+    public Somethingindexed setSomeversion(Integer someversion) {
+        this.someversion = someversion;
+        return this;
+    }
+
+    public String getSomecategory() {
+        return this.somecategory;
+    }
+
+    public Somethingindexed setSomecategory(String somecategory) {
+        this.somecategory = somecategory;
+        return this;
+    }
+
+    public Integer getSomerank() {
+        return this.somerank;
+    }
+
+    public Somethingindexed setSomerank(Integer somerank) {
+        this.somerank = somerank;
+        return this;
+    }
+
+    public String getSomenote() {
+        return this.somenote;
+    }
+
+    public Somethingindexed setSomenote(String somenote) {
+        this.somenote = somenote;
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        final Somethingindexed other = (Somethingindexed) obj;
+        if (someid == null) {
+            if (other.someid != null)
+                return false;
+        }
+        else if (!someid.equals(other.someid))
+            return false;
+        if (somethingid == null) {
+            if (other.somethingid != null)
+                return false;
+        }
+        else if (!somethingid.equals(other.somethingid))
+            return false;
+        if (somecode == null) {
+            if (other.somecode != null)
+                return false;
+        }
+        else if (!somecode.equals(other.somecode))
+            return false;
+        if (someversion == null) {
+            if (other.someversion != null)
+                return false;
+        }
+        else if (!someversion.equals(other.someversion))
+            return false;
+        if (somecategory == null) {
+            if (other.somecategory != null)
+                return false;
+        }
+        else if (!somecategory.equals(other.somecategory))
+            return false;
+        if (somerank == null) {
+            if (other.somerank != null)
+                return false;
+        }
+        else if (!somerank.equals(other.somerank))
+            return false;
+        if (somenote == null) {
+            if (other.somenote != null)
+                return false;
+        }
+        else if (!somenote.equals(other.somenote))
+            return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((this.someid == null) ? 0 : this.someid.hashCode());
+        result = prime * result + ((this.somethingid == null) ? 0 : this.somethingid.hashCode());
+        result = prime * result + ((this.somecode == null) ? 0 : this.somecode.hashCode());
+        result = prime * result + ((this.someversion == null) ? 0 : this.someversion.hashCode());
+        result = prime * result + ((this.somecategory == null) ? 0 : this.somecategory.hashCode());
+        result = prime * result + ((this.somerank == null) ? 0 : this.somerank.hashCode());
+        result = prime * result + ((this.somenote == null) ? 0 : this.somenote.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Somethingindexed (");
+
+        sb.append(someid);
+        sb.append(", ").append(somethingid);
+        sb.append(", ").append(somecode);
+        sb.append(", ").append(someversion);
+        sb.append(", ").append(somecategory);
+        sb.append(", ").append(somerank);
+        sb.append(", ").append(somenote);
+
+        sb.append(")");
+        return sb.toString();
+    }
+
+    public Somethingindexed(io.vertx.core.json.JsonObject json) {
+        this();
+        fromJson(json);
+    }
+
+    @Override
+    public Somethingindexed fromJson(io.vertx.core.json.JsonObject json) {
+        setSomeid(json.getInteger("SOMEID"));
+        setSomethingid(json.getInteger("SOMETHINGID"));
+        setSomecode(json.getString("SOMECODE"));
+        setSomeversion(json.getInteger("SOMEVERSION"));
+        setSomecategory(json.getString("SOMECATEGORY"));
+        setSomerank(json.getInteger("SOMERANK"));
+        setSomenote(json.getString("SOMENOTE"));
+        return this;
+    }
+
+
+    @Override
+    public io.vertx.core.json.JsonObject toJson() {
+        io.vertx.core.json.JsonObject json = new io.vertx.core.json.JsonObject();
+        json.put("SOMEID",getSomeid());
+        json.put("SOMETHINGID",getSomethingid());
+        json.put("SOMECODE",getSomecode());
+        json.put("SOMEVERSION",getSomeversion());
+        json.put("SOMECATEGORY",getSomecategory());
+        json.put("SOMERANK",getSomerank());
+        json.put("SOMENOTE",getSomenote());
+        return json;
+    }
+
+}
@@ -6,6 +6,7 @@ package generated.classic.jdbc.guice.vertx;
 
 import generated.classic.jdbc.guice.vertx.tables.Something;
 import generated.classic.jdbc.guice.vertx.tables.Somethingcomposite;
+import generated.classic.jdbc.guice.vertx.tables.Somethingindexed;
 
 import javax.annotation.Generated;
 
@@ -31,15 +32,23 @@ public class Indexes {
     // INDEX definitions
     // -------------------------------------------------------------------------
 
-    public static final Index SYS_IDX_SYS_PK_10092_10094 = Indexes0.SYS_IDX_SYS_PK_10092_10094;
-    public static final Index SYS_IDX_SYS_PK_10096_10097 = Indexes0.SYS_IDX_SYS_PK_10096_10097;
+    public static final Index SYS_IDX_SYS_PK_10759_10761 = Indexes0.SYS_IDX_SYS_PK_10759_10761;
+    public static final Index SYS_IDX_SYS_PK_10763_10764 = Indexes0.SYS_IDX_SYS_PK_10763_10764;
+    public static final Index SOMETHINGINDEXED_CATEGORY_RANK = Indexes0.SOMETHINGINDEXED_CATEGORY_RANK;
+    public static final Index SYS_IDX_10770 = Indexes0.SYS_IDX_10770;
+    public static final Index SYS_IDX_SYS_CT_10766_10769 = Indexes0.SYS_IDX_SYS_CT_10766_10769;
+    public static final Index SYS_IDX_SYS_PK_10765_10768 = Indexes0.SYS_IDX_SYS_PK_10765_10768;
 
     // -------------------------------------------------------------------------
     // [#1459] distribute members to avoid static initialisers > 64kb
     // -------------------------------------------------------------------------
 
     private static class Indexes0 {
-        public static Index SYS_IDX_SYS_PK_10092_10094 = Internal.createIndex("SYS_IDX_SYS_PK_10092_10094", Something.SOMETHING, new OrderField[] { Something.SOMETHING.SOMEID }, true);
-        public static Index SYS_IDX_SYS_PK_10096_10097 = Internal.createIndex("SYS_IDX_SYS_PK_10096_10097", Somethingcomposite.SOMETHINGCOMPOSITE, new OrderField[] { Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID }, true);
+        public static Index SYS_IDX_SYS_PK_10759_10761 = Internal.createIndex("SYS_IDX_SYS_PK_10759_10761", Something.SOMETHING, new OrderField[] { Something.SOMETHING.SOMEID }, true);
+        public static Index SYS_IDX_SYS_PK_10763_10764 = Internal.createIndex("SYS_IDX_SYS_PK_10763_10764", Somethingcomposite.SOMETHINGCOMPOSITE, new OrderField[] { Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID }, true);
+        public static Index SOMETHINGINDEXED_CATEGORY_RANK = Internal.createIndex("SOMETHINGINDEXED_CATEGORY_RANK", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMECATEGORY, Somethingindexed.SOMETHINGINDEXED.SOMERANK }, false);
+        public static Index SYS_IDX_10770 = Internal.createIndex("SYS_IDX_10770", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMETHINGID }, false);
+        public static Index SYS_IDX_SYS_CT_10766_10769 = Internal.createIndex("SYS_IDX_SYS_CT_10766_10769", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMECODE, Somethingindexed.SOMETHINGINDEXED.SOMEVERSION }, true);
+        public static Index SYS_IDX_SYS_PK_10765_10768 = Internal.createIndex("SYS_IDX_SYS_PK_10765_10768", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMEID }, true);
     }
 }
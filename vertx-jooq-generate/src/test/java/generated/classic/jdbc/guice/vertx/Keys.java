@@ -6,11 +6,14 @@ package generated.classic.jdbc.guice.vertx;
 
 import generated.classic.jdbc.guice.vertx.tables.Something;
 import generated.classic.jdbc.guice.vertx.tables.Somethingcomposite;
+import generated.classic.jdbc.guice.vertx.tables.Somethingindexed;
 import generated.classic.jdbc.guice.vertx.tables.records.SomethingRecord;
 import generated.classic.jdbc.guice.vertx.tables.records.SomethingcompositeRecord;
+import generated.classic.jdbc.guice.vertx.tables.records.SomethingindexedRecord;
 
 import javax.annotation.Generated;
 
+import org.jooq.ForeignKey;
 import org.jooq.Identity;
 import org.jooq.UniqueKey;
 import org.jooq.impl.Internal;
@@ -35,18 +38,22 @@ public class Keys {
     // -------------------------------------------------------------------------
 
     public static final Identity<SomethingRecord, Integer> IDENTITY_SOMETHING = Identities0.IDENTITY_SOMETHING;
+    public static final Identity<SomethingindexedRecord, Integer> IDENTITY_SOMETHINGINDEXED = Identities0.IDENTITY_SOMETHINGINDEXED;
 
     // -------------------------------------------------------------------------
     // UNIQUE and PRIMARY KEY definitions
     // -------------------------------------------------------------------------
 
-    public static final UniqueKey<SomethingRecord> SYS_PK_10092 = UniqueKeys0.SYS_PK_10092;
-    public static final UniqueKey<SomethingcompositeRecord> SYS_PK_10096 = UniqueKeys0.SYS_PK_10096;
+    public static final UniqueKey<SomethingRecord> SYS_PK_10759 = UniqueKeys0.SYS_PK_10759;
+    public static final UniqueKey<SomethingcompositeRecord> SYS_PK_10763 = UniqueKeys0.SYS_PK_10763;
+    public static final UniqueKey<SomethingindexedRecord> SYS_PK_10765 = UniqueKeys0.SYS_PK_10765;
+    public static final UniqueKey<SomethingindexedRecord> SYS_CT_10766 = UniqueKeys0.SYS_CT_10766;
 
     // -------------------------------------------------------------------------
     // FOREIGN KEY definitions
     // -------------------------------------------------------------------------
 
+    public static final ForeignKey<SomethingindexedRecord, SomethingRecord> SYS_FK_10767 = ForeignKeys0.SYS_FK_10767;
 
     // -------------------------------------------------------------------------
     // [#1459] distribute members to avoid static initialisers > 64kb
@@ -54,10 +61,17 @@ public class Keys {
 
     private static class Identities0 {
         public static Identity<SomethingRecord, Integer> IDENTITY_SOMETHING = Internal.createIdentity(Something.SOMETHING, Something.SOMETHING.SOMEID);
+        public static Identity<SomethingindexedRecord, Integer> IDENTITY_SOMETHINGINDEXED = Internal.createIdentity(Somethingindexed.SOMETHINGINDEXED, Somethingindexed.SOMETHINGINDEXED.SOMEID);
     }
 
     private static class UniqueKeys0 {
-        public static final UniqueKey<SomethingRecord> SYS_PK_10092 = Internal.createUniqueKey(Something.SOMETHING, "SYS_PK_10092", Something.SOMETHING.SOMEID);
-        public static final UniqueKey<SomethingcompositeRecord> SYS_PK_10096 = Internal.createUniqueKey(Somethingcomposite.SOMETHINGCOMPOSITE, "SYS_PK_10096", Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID);
+        public static final UniqueKey<SomethingRecord> SYS_PK_10759 = Internal.createUniqueKey(Something.SOMETHING, "SYS_PK_10759", Something.SOMETHING.SOMEID);
+        public static final UniqueKey<SomethingcompositeRecord> SYS_PK_10763 = Internal.createUniqueKey(Somethingcomposite.SOMETHINGCOMPOSITE, "SYS_PK_10763", Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID);
+        public static final UniqueKey<SomethingindexedRecord> SYS_PK_10765 = Internal.createUniqueKey(Somethingindexed.SOMETHINGINDEXED, "SYS_PK_10765", Somethingindexed.SOMETHINGINDEXED.SOMEID);
+        public static final UniqueKey<SomethingindexedRecord> SYS_CT_10766 = Internal.createUniqueKey(Somethingindexed.SOMETHINGINDEXED, "SYS_CT_10766", Somethingindexed.SOMETHINGINDEXED.SOMECODE, Somethingindexed.SOMETHINGINDEXED.SOMEVERSION);
+    }
+
+    private static class ForeignKeys0 {
+        public static final ForeignKey<SomethingindexedRecord, SomethingRecord> SYS_FK_10767 = Internal.createForeignKey(generated.classic.jdbc.guice.vertx.Keys.SYS_PK_10759, Somethingindexed.SOMETHINGINDEXED, "SYS_FK_10767", Somethingindexed.SOMETHINGINDEXED.SOMETHINGID);
     }
 }
@@ -6,6 +6,7 @@ package generated.classic.jdbc.guice.vertx;
 
 import generated.classic.jdbc.guice.vertx.tables.Something;
 import generated.classic.jdbc.guice.vertx.tables.Somethingcomposite;
+import generated.classic.jdbc.guice.vertx.tables.Somethingindexed;
 
 import javax.annotation.Generated;
 
@@ -32,4 +33,9 @@ public class Tables {
      * The table <code>VERTX.SOMETHINGCOMPOSITE</code>.
      */
     public static final Somethingcomposite SOMETHINGCOMPOSITE = generated.classic.jdbc.guice.vertx.tables.Somethingcomposite.SOMETHINGCOMPOSITE;
+
+    /**
+     * The table <code>VERTX.SOMETHINGINDEXED</code>.
+     */
+    public static final Somethingindexed SOMETHINGINDEXED = generated.classic.jdbc.guice.vertx.tables.Somethingindexed.SOMETHINGINDEXED;
 }
@@ -0,0 +1,137 @@
+/*
+ * This file is generated by jOOQ.
+*/
+package generated.classic.jdbc.guice.vertx.tables.interfaces;
+
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo;
+
+import java.io.Serializable;
+
+import javax.annotation.Generated;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@Generated(
+    value = {
+        "http://www.jooq.org",
+        "jOOQ version:3.10.6"
+    },
+    comments = "This class is generated by jOOQ"
+)
+@SuppressWarnings({ "all", "unchecked", "rawtypes" })
+public interface ISomethingindexed extends VertxPojo, Serializable {
+
+    /**
+     * Setter for <code>VERTX.SOMETHINGINDEXED.SOMEID</code>.
+     */
+    public ISomethingindexed setSomeid(Integer value);
+
+    /**
+     * Getter for <code>VERTX.SOMETHINGINDEXED.SOMEID</code>.
+     */
+    public Integer getSomeid();
+
+    /**
+     * Setter for <code>VERTX.SOMETHINGINDEXED.SOMETHINGID</code>.
+     */
+    public ISomethingindexed setSomethingid(Integer value);
+
+    /**
+     * Getter for <code>VERTX.SOMETHINGINDEXED.SOMETHINGID</code>.
+     */
+    public Integer getSomethingid();
+
+    /**
+     * Setter for <code>VERTX.SOMETHINGINDEXED.SOMECODE</code>.
+     */
+    public ISomethingindexed setSomecode(String value);
+
+    /**
+     * Getter for <code>VERTX.SOMETHINGINDEXED.SOMECODE</code>.
+     */
+    public String getSomecode();
+
+    /**
+     * Setter for <code>VERTX.SOMETHINGINDEXED.SOMEVERSION</code>.
+     */
+    public ISomethingindexed setSomeversion(Integer value);
+
+    /**
+     * Getter for <code>VERTX.SOMETHINGINDEXED.SOMEVERSION</code>.
+     */
+    public Integer getSomeversion();
+
+    /**
+     * Setter for <code>VERTX.SOMETHINGINDEXED.SOMECATEGORY</code>.
+     */
+    public ISomethingindexed setSomecategory(String value);
+
+    /**
+     * Getter for <code>VERTX.SOMETHINGINDEXED.SOMECATEGORY</code>.
+     */
+    public String getSomecategory();
+
+    /**
+     * Setter for <code>VERTX.SOMETHINGINDEXED.SOMERANK</code>.
+     */
+    public ISomethingindexed setSomerank(Integer value);
+
+    /**
+     * Getter for <code>VERTX.SOMETHINGINDEXED.SOMERANK</code>.
+     */
+    public Integer getSomerank();
+
+    /**
+     * Setter for <code>VERTX.SOMETHINGINDEXED.SOMENOTE</code>.
+     */
+    public ISomethingindexed setSomenote(String value);
+
+    /**
+     * Getter for <code>VERTX.SOMETHINGINDEXED.SOMENOTE</code>.
+     */
+    public String getSomenote();
+
+    // -------------------------------------------------------------------------
+    // FROM and INTO
+    // -------------------------------------------------------------------------
+
+    /**
+     * Load data from another generated Record/POJO implementing the common interface ISomethingindexed
+     */
+    public void from(generated.classic.jdbc.guice.vertx.tables.interfaces.ISomethingindexed from);
+
+    /**
+     * Copy data into another generated Record/POJO implementing the common interface ISomethingindexed
+     */
+    public <E extends generated.classic.jdbc.guice.vertx.tables.interfaces.ISomethingindexed> E into(E into);
+
+    @Override
+    public default ISomethingindexed fromJson(io.vertx.core.json.JsonObject json) {
+        setSomeid(json.getInteger("SOMEID"));
+        setSomethingid(json.getInteger("SOMETHINGID"));
+        setSomecode(json.getString("SOMECODE"));
+        setSomeversion(json.getInteger("SOMEVERSION"));
+        setSomecategory(json.getString("SOMECATEGORY"));
+        setSomerank(json.getInteger("SOMERANK"));
+        setSomenote(json.getString("SOMENOTE"));
+        return this;
+    }
+
+
+    @Override
+    public default io.vertx.core.json.JsonObject toJson() {
+        io.vertx.core.json.JsonObject json = new io.vertx.core.json.JsonObject();
+        json.put("SOMEID",getSomeid());
+        json.put("SOMETHINGID",getSomethingid());
+        json.put("SOMECODE",getSomecode());
+        json.put("SOMEVERSION",getSomeversion());
+        json.put("SOMECATEGORY",getSomecategory());
+        json.put("SOMERANK",getSomerank());
+        json.put("SOMENOTE",getSomenote());
+        return json;
+    }
+
+}
@@ -6,6 +6,7 @@ package generated.classic.jdbc.regular.vertx;
 
 import generated.classic.jdbc.regular.vertx.tables.Something;
 import generated.classic.jdbc.regular.vertx.tables.Somethingcomposite;
+import generated.classic.jdbc.regular.vertx.tables.Somethingindexed;
 
 import javax.annotation.Generated;
 
@@ -31,15 +32,23 @@ public class Indexes {
     // INDEX definitions
     // -------------------------------------------------------------------------
 
-    public static final Index SYS_IDX_SYS_PK_10161_10163 = Indexes0.SYS_IDX_SYS_PK_10161_10163;
-    public static final Index SYS_IDX_SYS_PK_10165_10166 = Indexes0.SYS_IDX_SYS_PK_10165_10166;
+    public static final Index SYS_IDX_SYS_PK_10290_10292 = Indexes0.SYS_IDX_SYS_PK_10290_10292;
+    public static final Index SYS_IDX_SYS_PK_10294_10295 = Indexes0.SYS_IDX_SYS_PK_10294_10295;
+    public static final Index SOMETHINGINDEXED_CATEGORY_RANK = Indexes0.SOMETHINGINDEXED_CATEGORY_RANK;
+    public static final Index SYS_IDX_10301 = Indexes0.SYS_IDX_10301;
+    public static final Index SYS_IDX_SYS_CT_10297_10300 = Indexes0.SYS_IDX_SYS_CT_10297_10300;
+    public static final Index SYS_IDX_SYS_PK_10296_10299 = Indexes0.SYS_IDX_SYS_PK_10296_10299;
 
     // -------------------------------------------------------------------------
     // [#1459] distribute members to avoid static initialisers > 64kb
     // -------------------------------------------------------------------------
 
     private static class Indexes0 {
-        public static Index SYS_IDX_SYS_PK_10161_10163 = Internal.createIndex("SYS_IDX_SYS_PK_10161_10163", Something.SOMETHING, new OrderField[] { Something.SOMETHING.SOMEID }, true);
-        public static Index SYS_IDX_SYS_PK_10165_10166 = Internal.createIndex("SYS_IDX_SYS_PK_10165_10166", Somethingcomposite.SOMETHINGCOMPOSITE, new OrderField[] { Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID }, true);
+        public static Index SYS_IDX_SYS_PK_10290_10292 = Internal.createIndex("SYS_IDX_SYS_PK_10290_10292", Something.SOMETHING, new OrderField[] { Something.SOMETHING.SOMEID }, true);
+        public static Index SYS_IDX_SYS_PK_10294_10295 = Internal.createIndex("SYS_IDX_SYS_PK_10294_10295", Somethingcomposite.SOMETHINGCOMPOSITE, new OrderField[] { Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID }, true);
+        public static Index SOMETHINGINDEXED_CATEGORY_RANK = Internal.createIndex("SOMETHINGINDEXED_CATEGORY_RANK", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMECATEGORY, Somethingindexed.SOMETHINGINDEXED.SOMERANK }, false);
+        public static Index SYS_IDX_10301 = Internal.createIndex("SYS_IDX_10301", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMETHINGID }, false);
+        public static Index SYS_IDX_SYS_CT_10297_10300 = Internal.createIndex("SYS_IDX_SYS_CT_10297_10300", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMECODE, Somethingindexed.SOMETHINGINDEXED.SOMEVERSION }, true);
+        public static Index SYS_IDX_SYS_PK_10296_10299 = Internal.createIndex("SYS_IDX_SYS_PK_10296_10299", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMEID }, true);
     }
 }
@@ -6,11 +6,14 @@ package generated.classic.jdbc.regular.vertx;
 
 import generated.classic.jdbc.regular.vertx.tables.Something;
 import generated.classic.jdbc.regular.vertx.tables.Somethingcomposite;
+import generated.classic.jdbc.regular.vertx.tables.Somethingindexed;
 import generated.classic.jdbc.regular.vertx.tables.records.SomethingRecord;
 import generated.classic.jdbc.regular.vertx.tables.records.SomethingcompositeRecord;
+import generated.classic.jdbc.regular.vertx.tables.records.SomethingindexedRecord;
 
 import javax.annotation.Generated;
 
+import org.jooq.ForeignKey;
 import org.jooq.Identity;
 import org.jooq.UniqueKey;
 import org.jooq.impl.Internal;
@@ -35,18 +38,22 @@ public class Keys {
     // -------------------------------------------------------------------------
 
     public static final Identity<SomethingRecord, Integer> IDENTITY_SOMETHING = Identities0.IDENTITY_SOMETHING;
+    public static final Identity<SomethingindexedRecord, Integer> IDENTITY_SOMETHINGINDEXED = Identities0.IDENTITY_SOMETHINGINDEXED;
 
     // -------------------------------------------------------------------------
     // UNIQUE and PRIMARY KEY definitions
     // -------------------------------------------------------------------------
 
-    public static final UniqueKey<SomethingRecord> SYS_PK_10161 = UniqueKeys0.SYS_PK_10161;
-    public static final UniqueKey<SomethingcompositeRecord> SYS_PK_10165 = UniqueKeys0.SYS_PK_10165;
+    public static final UniqueKey<SomethingRecord> SYS_PK_10290 = UniqueKeys0.SYS_PK_10290;
+    public static final UniqueKey<SomethingcompositeRecord> SYS_PK_10294 = UniqueKeys0.SYS_PK_10294;
+    public static final UniqueKey<SomethingindexedRecord> SYS_PK_10296 = UniqueKeys0.SYS_PK_10296;
+    public static final UniqueKey<SomethingindexedRecord> SYS_CT_10297 = UniqueKeys0.SYS_CT_10297;
 
     // -------------------------------------------------------------------------
     // FOREIGN KEY definitions
     // -------------------------------------------------------------------------
 
+    public static final ForeignKey<SomethingindexedRecord, SomethingRecord> SYS_FK_10298 = ForeignKeys0.SYS_FK_10298;
 
     // -------------------------------------------------------------------------
     // [#1459] distribute members to avoid static initialisers > 64kb
@@ -54,10 +61,17 @@ public class Keys {
 
     private static class Identities0 {
         public static Identity<SomethingRecord, Integer> IDENTITY_SOMETHING = Internal.createIdentity(Something.SOMETHING, Something.SOMETHING.SOMEID);
+        public static Identity<SomethingindexedRecord, Integer> IDENTITY_SOMETHINGINDEXED = Internal.createIdentity(Somethingindexed.SOMETHINGINDEXED, Somethingindexed.SOMETHINGINDEXED.SOMEID);
     }
 
     private static class UniqueKeys0 {
-        public static final UniqueKey<SomethingRecord> SYS_PK_10161 = Internal.createUniqueKey(Something.SOMETHING, "SYS_PK_10161", Something.SOMETHING.SOMEID);
-        public static final UniqueKey<SomethingcompositeRecord> SYS_PK_10165 = Internal.createUniqueKey(Somethingcomposite.SOMETHINGCOMPOSITE, "SYS_PK_10165", Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID);
+        public static final UniqueKey<SomethingRecord> SYS_PK_10290 = Internal.createUniqueKey(Something.SOMETHING, "SYS_PK_10290", Something.SOMETHING.SOMEID);
+        public static final UniqueKey<SomethingcompositeRecord> SYS_PK_10294 = Internal.createUniqueKey(Somethingcomposite.SOMETHINGCOMPOSITE, "SYS_PK_10294", Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID);
+        public static final UniqueKey<SomethingindexedRecord> SYS_PK_10296 = Internal.createUniqueKey(Somethingindexed.SOMETHINGINDEXED, "SYS_PK_10296", Somethingindexed.SOMETHINGINDEXED.SOMEID);
+        public static final UniqueKey<SomethingindexedRecord> SYS_CT_10297 = Internal.createUniqueKey(Somethingindexed.SOMETHINGINDEXED, "SYS_CT_10297", Somethingindexed.SOMETHINGINDEXED.SOMECODE, Somethingindexed.SOMETHINGINDEXED.SOMEVERSION);
+    }
+
+    private static class ForeignKeys0 {
+        public static final ForeignKey<SomethingindexedRecord, SomethingRecord> SYS_FK_10298 = Internal.createForeignKey(generated.classic.jdbc.regular.vertx.Keys.SYS_PK_10290, Somethingindexed.SOMETHINGINDEXED, "SYS_FK_10298", Somethingindexed.SOMETHINGINDEXED.SOMETHINGID);
     }
 }
@@ -0,0 +1,201 @@
+/*
+ * This file is generated by jOOQ.
+*/
+package generated.classic.jdbc.regular.vertx.tables;
+
+
+import generated.classic.jdbc.regular.vertx.Indexes;
+import generated.classic.jdbc.regular.vertx.Keys;
+import generated.classic.jdbc.regular.vertx.Vertx;
+import generated.classic.jdbc.regular.vertx.tables.records.SomethingindexedRecord;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Generated;
+
+import org.jooq.Field;
+import org.jooq.ForeignKey;
+import org.jooq.Identity;
+import org.jooq.Index;
+import org.jooq.Name;
+import org.jooq.Schema;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.impl.DSL;
+import org.jooq.impl.TableImpl;
+
+
+/**
+ * This class is generated by jOOQ.
+ */
+@Generated(
+    value = {
+        "http://www.jooq.org",
+        "jOOQ version:3.10.6"
+    },
+    comments = "This class is generated by jOOQ"
+)
+@SuppressWarnings({ "all", "unchecked", "rawtypes" })
+public class Somethingindexed extends TableImpl<SomethingindexedRecord> {
+
+    private static final long serialVersionUID = 892287424;
+
+    /**
+     * The reference instance of <code>VERTX.SOMETHINGINDEXED</code>
+     */
+    public static final Somethingindexed SOMETHINGINDEXED = new Somethingindexed();
+
+    /**
+     * The class holding records for this type
+     */
+    @Override
+    public Class<SomethingindexedRecord> getRecordType() {
+        return SomethingindexedRecord.class;
+    }
+
+    /**
+     * The column <code>VERTX.SOMETHINGINDEXED.SOMEID</code>.
+     */
+    public final TableField<SomethingindexedRecord, Integer> SOMEID = createField("SOMEID", org.jooq.impl.SQLDataType.INTEGER.nullable(false).identity(true), this, "");
+
+    /**
+     * The column <code>VERTX.SOMETHINGINDEXED.SOMETHINGID</code>.
+     */
+    public final TableField<SomethingindexedRecord, Integer> SOMETHINGID = createField("SOMETHINGID", org.jooq.impl.SQLDataType.INTEGER, this, "");
+
+    /**
+     * The column <code>VERTX.SOMETHINGINDEXED.SOMECODE</code>.
+     */
+    public final TableField<SomethingindexedRecord, String> SOMECODE = createField("SOMECODE", org.jooq.impl.SQLDataType.VARCHAR(45), this, "");
+
+    /**
+     * The column <code>VERTX.SOMETHINGINDEXED.SOMEVERSION</code>.
+     */
+    public final TableField<SomethingindexedRecord, Integer> SOMEVERSION = createField("SOMEVERSION", org.jooq.impl.SQLDataType.INTEGER, this, "");
+
+    /**
+     * The column <code>VERTX.SOMETHINGINDEXED.SOMECATEGORY</code>.
+     */
+    public final TableField<SomethingindexedRecord, String> SOMECATEGORY = createField("SOMECATEGORY", org.jooq.impl.SQLDataType.VARCHAR(45), this, "");
+
+    /**
+     * The column <code>VERTX.SOMETHINGINDEXED.SOMERANK</code>.
+     */
+    public final TableField<SomethingindexedRecord, Integer> SOMERANK = createField("SOMERANK", org.jooq.impl.SQLDataType.INTEGER, this, "");
+
+    /**
+     * The column <code>VERTX.SOMETHINGINDEXED.SOMENOTE</code>.
+     */
+    public final TableField<SomethingindexedRecord, String> SOMENOTE = createField("SOMENOTE", org.jooq.impl.SQLDataType.VARCHAR(45), this, "");
+
+    /**
+     * Create a <code>VERTX.SOMETHINGINDEXED</code> table reference
+     */
+    public Somethingindexed() {
+        this(DSL.name("SOMETHINGINDEXED"), null);
+    }
+
+    /**
+     * Create an aliased <code>VERTX.SOMETHINGINDEXED</code> table reference
+     */
+    public Somethingindexed(String alias) {
+        this(DSL.name(alias), SOMETHINGINDEXED);
+    }
+
+    /**
+     * Create an aliased <code>VERTX.SOMETHINGINDEXED</code> table reference
+     */
+    public Somethingindexed(Name alias) {
+        this(alias, SOMETHINGINDEXED);
+    }
+
+    private Somethingindexed(Name alias, Table<SomethingindexedRecord> aliased) {
+        this(alias, aliased, null);
+    }
+
+    private Somethingindexed(Name alias, Table<SomethingindexedRecord> aliased, Field<?>[] parameters) {
+        super(alias, null, aliased, parameters, "");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Schema getSchema() {
+        return Vertx.VERTX;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Index> getIndexes() {
+        return Arrays.<Index>asList(Indexes.SOMETHINGINDEXED_CATEGORY_RANK, Indexes.SYS_IDX_10301, Indexes.SYS_IDX_SYS_CT_10297_10300, Indexes.SYS_IDX_SYS_PK_10296_10299);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Identity<SomethingindexedRecord, Integer> getIdentity() {
+        return Keys.IDENTITY_SOMETHINGINDEXED;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UniqueKey<SomethingindexedRecord> getPrimaryKey() {
+        return Keys.SYS_PK_10296;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<UniqueKey<SomethingindexedRecord>> getKeys() {
+        return Arrays.<UniqueKey<SomethingindexedRecord>>asList(Keys.SYS_PK_10296, Keys.SYS_CT_10297);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ForeignKey<SomethingindexedRecord, ?>> getReferences() {
+        return Arrays.<ForeignKey<SomethingindexedRecord, ?>>asList(Keys.SYS_FK_10298);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Somethingindexed as(String alias) {
+        return new Somethingindexed(DSL.name(alias), this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Somethingindexed as(Name alias) {
+        return new Somethingindexed(alias, this);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Somethingindexed rename(String name) {
+        return new Somethingindexed(DSL.name(name), null);
+    }
+
+    /**
+     * Rename this table
+     */
+    @Override
+    public Somethingindexed rename(Name name) {
+        return new Somethingindexed(name, null);
+    }
+}
@@ -6,6 +6,7 @@ package generated.rx.jdbc.guice.vertx;
 
 import generated.rx.jdbc.guice.vertx.tables.Something;
 import generated.rx.jdbc.guice.vertx.tables.Somethingcomposite;
+import generated.rx.jdbc.guice.vertx.tables.Somethingindexed;
 
 import javax.annotation.Generated;
 
@@ -31,15 +32,23 @@ public class Indexes {
     // INDEX definitions
     // -------------------------------------------------------------------------
 
-    public static final Index SYS_IDX_SYS_PK_10373_10375 = Indexes0.SYS_IDX_SYS_PK_10373_10375;
-    public static final Index SYS_IDX_SYS_PK_10377_10378 = Indexes0.SYS_IDX_SYS_PK_10377_10378;
+    public static final Index SYS_IDX_SYS_PK_11292_11294 = Indexes0.SYS_IDX_SYS_PK_11292_11294;
+    public static final Index SYS_IDX_SYS_PK_11296_11297 = Indexes0.SYS_IDX_SYS_PK_11296_11297;
+    public static final Index SOMETHINGINDEXED_CATEGORY_RANK = Indexes0.SOMETHINGINDEXED_CATEGORY_RANK;
+    public static final Index SYS_IDX_11303 = Indexes0.SYS_IDX_11303;
+    public static final Index SYS_IDX_SYS_CT_11299_11302 = Indexes0.SYS_IDX_SYS_CT_11299_11302;
+    public static final Index SYS_IDX_SYS_PK_11298_11301 = Indexes0.SYS_IDX_SYS_PK_11298_11301;
 
     // -------------------------------------------------------------------------
     // [#1459] distribute members to avoid static initialisers > 64kb
     // -------------------------------------------------------------------------
 
     private static class Indexes0 {
-        public static Index SYS_IDX_SYS_PK_10373_10375 = Internal.createIndex("SYS_IDX_SYS_PK_10373_10375", Something.SOMETHING, new OrderField[] { Something.SOMETHING.SOMEID }, true);
-        public static Index SYS_IDX_SYS_PK_10377_10378 = Internal.createIndex("SYS_IDX_SYS_PK_10377_10378", Somethingcomposite.SOMETHINGCOMPOSITE, new OrderField[] { Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID }, true);
+        public static Index SYS_IDX_SYS_PK_11292_11294 = Internal.createIndex("SYS_IDX_SYS_PK_11292_11294", Something.SOMETHING, new OrderField[] { Something.SOMETHING.SOMEID }, true);
+        public static Index SYS_IDX_SYS_PK_11296_11297 = Internal.createIndex("SYS_IDX_SYS_PK_11296_11297", Somethingcomposite.SOMETHINGCOMPOSITE, new OrderField[] { Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID }, true);
+        public static Index SOMETHINGINDEXED_CATEGORY_RANK = Internal.createIndex("SOMETHINGINDEXED_CATEGORY_RANK", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMECATEGORY, Somethingindexed.SOMETHINGINDEXED.SOMERANK }, false);
+        public static Index SYS_IDX_11303 = Internal.createIndex("SYS_IDX_11303", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMETHINGID }, false);
+        public static Index SYS_IDX_SYS_CT_11299_11302 = Internal.createIndex("SYS_IDX_SYS_CT_11299_11302", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMECODE, Somethingindexed.SOMETHINGINDEXED.SOMEVERSION }, true);
+        public static Index SYS_IDX_SYS_PK_11298_11301 = Internal.createIndex("SYS_IDX_SYS_PK_11298_11301", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMEID }, true);
     }
 }
@@ -6,11 +6,14 @@ package generated.rx.jdbc.guice.vertx;
 
 import generated.rx.jdbc.guice.vertx.tables.Something;
 import generated.rx.jdbc.guice.vertx.tables.Somethingcomposite;
+import generated.rx.jdbc.guice.vertx.tables.Somethingindexed;
 import generated.rx.jdbc.guice.vertx.tables.records.SomethingRecord;
 import generated.rx.jdbc.guice.vertx.tables.records.SomethingcompositeRecord;
+import generated.rx.jdbc.guice.vertx.tables.records.SomethingindexedRecord;
 
 import javax.annotation.Generated;
 
+import org.jooq.ForeignKey;
 import org.jooq.Identity;
 import org.jooq.UniqueKey;
 import org.jooq.impl.Internal;
@@ -35,18 +38,22 @@ public class Keys {
     // -------------------------------------------------------------------------
 
     public static final Identity<SomethingRecord, Integer> IDENTITY_SOMETHING = Identities0.IDENTITY_SOMETHING;
+    public static final Identity<SomethingindexedRecord, Integer> IDENTITY_SOMETHINGINDEXED = Identities0.IDENTITY_SOMETHINGINDEXED;
 
     // -------------------------------------------------------------------------
     // UNIQUE and PRIMARY KEY definitions
     // -------------------------------------------------------------------------
 
-    public static final UniqueKey<SomethingRecord> SYS_PK_10373 = UniqueKeys0.SYS_PK_10373;
-    public static final UniqueKey<SomethingcompositeRecord> SYS_PK_10377 = UniqueKeys0.SYS_PK_10377;
+    public static final UniqueKey<SomethingRecord> SYS_PK_11292 = UniqueKeys0.SYS_PK_11292;
+    public static final UniqueKey<SomethingcompositeRecord> SYS_PK_11296 = UniqueKeys0.SYS_PK_11296;
+    public static final UniqueKey<SomethingindexedRecord> SYS_PK_11298 = UniqueKeys0.SYS_PK_11298;
+    public static final UniqueKey<SomethingindexedRecord> SYS_CT_11299 = UniqueKeys0.SYS_CT_11299;
 
     // -------------------------------------------------------------------------
     // FOREIGN KEY definitions
     // -------------------------------------------------------------------------
 
+    public static final ForeignKey<SomethingindexedRecord, SomethingRecord> SYS_FK_11300 = ForeignKeys0.SYS_FK_11300;
 
     // -------------------------------------------------------------------------
     // [#1459] distribute members to avoid static initialisers > 64kb
@@ -54,10 +61,17 @@ public class Keys {
 
     private static class Identities0 {
         public static Identity<SomethingRecord, Integer> IDENTITY_SOMETHING = Internal.createIdentity(Something.SOMETHING, Something.SOMETHING.SOMEID);
+        public static Identity<SomethingindexedRecord, Integer> IDENTITY_SOMETHINGINDEXED = Internal.createIdentity(Somethingindexed.SOMETHINGINDEXED, Somethingindexed.SOMETHINGINDEXED.SOMEID);
     }
 
     private static class UniqueKeys0 {
-        public static final UniqueKey<SomethingRecord> SYS_PK_10373 = Internal.createUniqueKey(Something.SOMETHING, "SYS_PK_10373", Something.SOMETHING.SOMEID);
-        public static final UniqueKey<SomethingcompositeRecord> SYS_PK_10377 = Internal.createUniqueKey(Somethingcomposite.SOMETHINGCOMPOSITE, "SYS_PK_10377", Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID);
+        public static final UniqueKey<SomethingRecord> SYS_PK_11292 = Internal.createUniqueKey(Something.SOMETHING, "SYS_PK_11292", Something.SOMETHING.SOMEID);
+        public static final UniqueKey<SomethingcompositeRecord> SYS_PK_11296 = Internal.createUniqueKey(Somethingcomposite.SOMETHINGCOMPOSITE, "SYS_PK_11296", Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID);
+        public static final UniqueKey<SomethingindexedRecord> SYS_PK_11298 = Internal.createUniqueKey(Somethingindexed.SOMETHINGINDEXED, "SYS_PK_11298", Somethingindexed.SOMETHINGINDEXED.SOMEID);
+        public static final UniqueKey<SomethingindexedRecord> SYS_CT_11299 = Internal.createUniqueKey(Somethingindexed.SOMETHINGINDEXED, "SYS_CT_11299", Somethingindexed.SOMETHINGINDEXED.SOMECODE, Somethingindexed.SOMETHINGINDEXED.SOMEVERSION);
+    }
+
+    private static class ForeignKeys0 {
+        public static final ForeignKey<SomethingindexedRecord, SomethingRecord> SYS_FK_11300 = Internal.createForeignKey(generated.rx.jdbc.guice.vertx.Keys.SYS_PK_11292, Somethingindexed.SOMETHINGINDEXED, "SYS_FK_11300", Somethingindexed.SOMETHINGINDEXED.SOMETHINGID);
     }
 }
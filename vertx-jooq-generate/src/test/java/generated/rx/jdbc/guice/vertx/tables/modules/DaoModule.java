@@ -11,5 +11,7 @@ public class DaoModule extends AbstractModule {
         bind(new TypeLiteral<VertxDAO<generated.rx.jdbc.guice.vertx.tables.records.SomethingRecord, generated.rx.jdbc.guice.vertx.tables.pojos.Something, java.lang.Integer>>() {}).to(generated.rx.jdbc.guice.vertx.tables.daos.SomethingDao.class).asEagerSingleton();
         bind(new TypeLiteral<VertxDAO<generated.rx.jdbc.guice.vertx.tables.records.SomethingcompositeRecord, ? extends generated.rx.jdbc.guice.vertx.tables.interfaces.ISomethingcomposite, org.jooq.Record2<java.lang.Integer, java.lang.Integer>>>() {}).to(generated.rx.jdbc.guice.vertx.tables.daos.SomethingcompositeDao.class).asEagerSingleton();
         bind(new TypeLiteral<VertxDAO<generated.rx.jdbc.guice.vertx.tables.records.SomethingcompositeRecord, generated.rx.jdbc.guice.vertx.tables.pojos.Somethingcomposite, org.jooq.Record2<java.lang.Integer, java.lang.Integer>>>() {}).to(generated.rx.jdbc.guice.vertx.tables.daos.SomethingcompositeDao.class).asEagerSingleton();
+        bind(new TypeLiteral<VertxDAO<generated.rx.jdbc.guice.vertx.tables.records.SomethingindexedRecord, ? extends generated.rx.jdbc.guice.vertx.tables.interfaces.ISomethingindexed, java.lang.Integer>>() {}).to(generated.rx.jdbc.guice.vertx.tables.daos.SomethingindexedDao.class).asEagerSingleton();
+        bind(new TypeLiteral<VertxDAO<generated.rx.jdbc.guice.vertx.tables.records.SomethingindexedRecord, generated.rx.jdbc.guice.vertx.tables.pojos.Somethingindexed, java.lang.Integer>>() {}).to(generated.rx.jdbc.guice.vertx.tables.daos.SomethingindexedDao.class).asEagerSingleton();
     }
 }
@@ -6,6 +6,7 @@ package generated.rx.jdbc.regular.vertx;
 
 import generated.rx.jdbc.regular.vertx.tables.Something;
 import generated.rx.jdbc.regular.vertx.tables.Somethingcomposite;
+import generated.rx.jdbc.regular.vertx.tables.Somethingindexed;
 
 import javax.annotation.Generated;
 
@@ -31,15 +32,23 @@ public class Indexes {
     // INDEX definitions
     // -------------------------------------------------------------------------
 
-    public static final Index SYS_IDX_SYS_PK_10434_10436 = Indexes0.SYS_IDX_SYS_PK_10434_10436;
-    public static final Index SYS_IDX_SYS_PK_10438_10439 = Indexes0.SYS_IDX_SYS_PK_10438_10439;
+    public static final Index SYS_IDX_SYS_PK_11200_11202 = Indexes0.SYS_IDX_SYS_PK_11200_11202;
+    public static final Index SYS_IDX_SYS_PK_11204_11205 = Indexes0.SYS_IDX_SYS_PK_11204_11205;
+    public static final Index SOMETHINGINDEXED_CATEGORY_RANK = Indexes0.SOMETHINGINDEXED_CATEGORY_RANK;
+    public static final Index SYS_IDX_11211 = Indexes0.SYS_IDX_11211;
+    public static final Index SYS_IDX_SYS_CT_11207_11210 = Indexes0.SYS_IDX_SYS_CT_11207_11210;
+    public static final Index SYS_IDX_SYS_PK_11206_11209 = Indexes0.SYS_IDX_SYS_PK_11206_11209;
 
     // -------------------------------------------------------------------------
     // [#1459] distribute members to avoid static initialisers > 64kb
     // -------------------------------------------------------------------------
 
     private static class Indexes0 {
-        public static Index SYS_IDX_SYS_PK_10434_10436 = Internal.createIndex("SYS_IDX_SYS_PK_10434_10436", Something.SOMETHING, new OrderField[] { Something.SOMETHING.SOMEID }, true);
-        public static Index SYS_IDX_SYS_PK_10438_10439 = Internal.createIndex("SYS_IDX_SYS_PK_10438_10439", Somethingcomposite.SOMETHINGCOMPOSITE, new OrderField[] { Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID }, true);
+        public static Index SYS_IDX_SYS_PK_11200_11202 = Internal.createIndex("SYS_IDX_SYS_PK_11200_11202", Something.SOMETHING, new OrderField[] { Something.SOMETHING.SOMEID }, true);
+        public static Index SYS_IDX_SYS_PK_11204_11205 = Internal.createIndex("SYS_IDX_SYS_PK_11204_11205", Somethingcomposite.SOMETHINGCOMPOSITE, new OrderField[] { Somethingcomposite.SOMETHINGCOMPOSITE.SOMEID, Somethingcomposite.SOMETHINGCOMPOSITE.SOMESECONDID }, true);
+        public static Index SOMETHINGINDEXED_CATEGORY_RANK = Internal.createIndex("SOMETHINGINDEXED_CATEGORY_RANK", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMECATEGORY, Somethingindexed.SOMETHINGINDEXED.SOMERANK }, false);
+        public static Index SYS_IDX_11211 = Internal.createIndex("SYS_IDX_11211", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMETHINGID }, false);
+        public static Index SYS_IDX_SYS_CT_11207_11210 = Internal.createIndex("SYS_IDX_SYS_CT_11207_11210", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMECODE, Somethingindexed.SOMETHINGINDEXED.SOMEVERSION }, true);
+        public static Index SYS_IDX_SYS_PK_11206_11209 = Internal.createIndex("SYS_IDX_SYS_PK_11206_11209", Somethingindexed.SOMETHINGINDEXED, new OrderField[] { Somethingindexed.SOMETHINGINDEXED.SOMEID }, true);
     }
 }
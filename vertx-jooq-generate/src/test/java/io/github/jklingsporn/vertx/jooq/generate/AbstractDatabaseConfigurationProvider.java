@@ -49,7 +49,7 @@ abstract class AbstractDatabaseConfigurationProvider {
         databaseConfig.setName(dbType);
         databaseConfig.setInputSchema("");
         databaseConfig.setOutputSchema("");
-        databaseConfig.setIncludes("something|somethingComposite|somethingWithoutJson|something_someEnum");
+        databaseConfig.setIncludes("something|somethingComposite|somethingIndexed|somethingWithoutJson|something_someEnum");
         databaseConfig.setForcedTypes(Arrays.asList(jsonArrayType, jsonObjectType));
 //        databaseConfig.setEnumTypes(Collections.singletonList(new EnumType().withName("someEnum").withLiterals("FOO,BAR,BAZ")));
 
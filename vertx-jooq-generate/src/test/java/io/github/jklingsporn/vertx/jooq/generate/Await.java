@@ -0,0 +1,36 @@
+package io.github.jklingsporn.vertx.jooq.generate;
+
+import io.vertx.core.Future;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Blocks the test thread until a <code>Future</code> has been completed.
+ */
+public class Await {
+
+    private Await() {
+    }
+
+    /**
+     * @param future the future to wait for.
+     * @param <X> the result type
+     * @return the result of the future.
+     * @throws ExecutionException if the future has been failed, the cause is the failure of the future.
+     * @throws TimeoutException if the future has not been completed within five seconds.
+     */
+    public static <X> X await(Future<X> future) throws InterruptedException, ExecutionException, TimeoutException {
+        CompletableFuture<X> cf = new CompletableFuture<>();
+        future.setHandler(h -> {
+            if(h.succeeded()){
+                cf.complete(h.result());
+            }else{
+                cf.completeExceptionally(h.cause());
+            }
+        });
+        return cf.get(5, TimeUnit.SECONDS);
+    }
+}
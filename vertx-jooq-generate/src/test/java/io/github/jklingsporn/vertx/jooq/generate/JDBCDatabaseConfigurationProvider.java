@@ -47,6 +47,19 @@ public class JDBCDatabaseConfigurationProvider extends AbstractDatabaseConfigura
                 "  someSecondId INTEGER,\n" +
                 "  someJsonObject varchar(45), PRIMARY KEY (someId,someSecondId)\n" +
                 ");").execute();
+        connection.prepareStatement("\n" +
+                "CREATE TABLE somethingIndexed (\n" +
+                "  someId INTEGER IDENTITY PRIMARY KEY,\n" +
+                "  somethingId INTEGER,\n" +
+                "  someCode varchar(45),\n" +
+                "  someVersion INTEGER,\n" +
+                "  someCategory varchar(45),\n" +
+                "  someRank INTEGER,\n" +
+                "  someNote varchar(45),\n" +
+                "  UNIQUE (someCode, someVersion),\n" +
+                "  FOREIGN KEY (somethingId) REFERENCES something (someId) ON DELETE CASCADE\n" +
+                ");").execute();
+        connection.prepareStatement("CREATE INDEX somethingIndexed_category_rank ON somethingIndexed (someCategory, someRank);").execute();
         connection.close();
     }
 
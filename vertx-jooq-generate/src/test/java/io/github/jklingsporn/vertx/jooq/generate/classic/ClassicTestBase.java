@@ -1,6 +1,6 @@
 package io.github.jklingsporn.vertx.jooq.generate.classic;
 
-import io.github.jklingsporn.vertx.jooq.shared.internal.GenericVertxDAO;
+import io.github.jklingsporn.vertx.jooq.classic.VertxDAO;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
@@ -15,6 +15,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -25,7 +26,7 @@ import java.util.stream.Collectors;
 /**
  * Created by jensklingsporn on 09.02.18.
  */
-public abstract class ClassicTestBase<P,T,O, DAO extends GenericVertxDAO<P, T, Future<List<P>>, Future<P>, Future<Integer>, Future<T>>> {
+public abstract class ClassicTestBase<P,T,O, DAO extends VertxDAO<?, P, T>> {
 
     private static final Logger logger = LoggerFactory.getLogger(ClassicTestBase.class);
 
@@ -132,6 +133,159 @@ public abstract class ClassicTestBase<P,T,O, DAO extends GenericVertxDAO<P, T, F
         await(latch);
     }
 
+    @Test
+    public void updateMultipleShouldSucceed() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        P something1 = createWithId();
+        P something2 = createWithId();
+        O someO = createSomeO();
+        List<T> ids = Arrays.asList(getId(something1), getId(something2));
+        dao.insert(Arrays.asList(something1, something2))
+                .compose(v -> dao.findManyByIds(ids))
+                .compose(values -> dao.update(values.stream().map(value -> setSomeO(value, someO)).collect(Collectors.toList())))
+                .map(toVoid(updated -> Assert.assertEquals(2L, updated.longValue())))
+                .compose(v -> dao.findManyByCondition(otherfield.eq(someO)))
+                .map(toVoid(values -> Assert.assertEquals(2L, values.size())))
+                .compose(v -> dao.deleteByIds(ids))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void updateByIdShouldOnlyUpdateGivenColumns() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        O someO = createSomeO();
+        insertAndReturn(create())
+                .compose(id -> dao.findOneById(id)
+                        .compose(before -> dao.updateById(id, Collections.singletonMap(otherfield, someO))
+                                .map(toVoid(updated -> Assert.assertEquals(1L, updated.longValue())))
+                                .compose(v -> dao.findOneById(id))
+                                //all other columns are unchanged
+                                .map(toVoid(after -> Assert.assertEquals(setSomeO(before, someO), after))))
+                        .compose(v -> dao.updateByCondition(eqPrimaryKey(id), Collections.singletonMap(otherfield, null)))
+                        .compose(v -> dao.findOneByCondition(otherfield.eq(someO)))
+                        .map(toVoid(Assert::assertNull))
+                        .compose(v -> dao.deleteById(id)))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void insertReturningPrimariesShouldReturnKeysInOrder() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        O someO = createSomeO();
+        dao.insertReturningPrimaries(Arrays.asList(setSomeO(create(), someO), create()))
+                .compose(keys -> {
+                    Assert.assertEquals(2, keys.size());
+                    return dao.findOneByCondition(otherfield.eq(someO).and(eqPrimaryKey(keys.get(0))))
+                            .map(toVoid(Assert::assertNotNull))
+                            .compose(v -> dao.deleteByIds(keys))
+                            .map(toVoid(deleted -> Assert.assertEquals(2L, deleted.longValue())));
+                })
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void findPageShouldSeekPastPreviousPage() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        dao.insertReturningPrimaries(Arrays.asList(create(), create(), create()))
+                .compose(keys -> {
+                    Condition inserted = eqPrimaryKey(keys.get(0)).or(eqPrimaryKey(keys.get(1))).or(eqPrimaryKey(keys.get(2)));
+                    return dao.findPageByCondition(inserted, 2, null)
+                            .compose(first -> {
+                                Assert.assertEquals(2, first.getItems().size());
+                                Assert.assertTrue(first.hasNext());
+                                return dao.findPageByCondition(inserted, 2, first.getContinuationToken())
+                                        .map(toVoid(second -> {
+                                            Assert.assertEquals(1, second.getItems().size());
+                                            Assert.assertFalse(second.hasNext());
+                                            T lastId = getId(second.getItems().get(0));
+                                            Assert.assertTrue(first.getItems().stream().map(this::getId).noneMatch(lastId::equals));
+                                        }));
+                            })
+                            .compose(v -> dao.deleteByIds(keys));
+                })
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void findManyByConditionShouldOnlySelectProjection() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        O someO = createSomeO();
+        insertAndReturn(setSomeO(create(), someO))
+                .compose(id -> dao.findManyByCondition(eqPrimaryKey(id), Collections.singletonList(otherfield))
+                        .map(toVoid(values -> {
+                            Assert.assertEquals(1L, values.size());
+                            Assert.assertNotEquals(id, getId(values.get(0)));
+                        }))
+                        .compose(v -> dao.findOneByCondition(otherfield.eq(someO), Collections.singletonList(otherfield)))
+                        .map(toVoid(Assert::assertNotNull))
+                        .compose(v -> dao.deleteById(id)))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void countAndExistsShouldBeEvaluatedByDatabase() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        O someO = createSomeO();
+        dao.insertReturningPrimaries(Arrays.asList(setSomeO(create(), someO), setSomeO(create(), someO)))
+                .compose(keys -> dao.countByCondition(otherfield.eq(someO))
+                        .map(toVoid(count -> Assert.assertEquals(2L, count.longValue())))
+                        .compose(v -> dao.existsById(keys.get(0)))
+                        .map(toVoid(Assert::assertTrue))
+                        .compose(v -> dao.maxByCondition(otherfield, otherfield.eq(someO)))
+                        .map(toVoid(max -> Assert.assertEquals(someO, max)))
+                        .compose(v -> dao.deleteByIds(keys))
+                        .compose(v -> dao.existsByCondition(otherfield.eq(someO)))
+                        .map(toVoid(Assert::assertFalse)))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void findManyGroupedByShouldGroupByKey() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        O someO = createSomeO();
+        dao.insertReturningPrimaries(Arrays.asList(setSomeO(create(), someO), setSomeO(create(), someO)))
+                .compose(keys -> dao.findManyGroupedBy(otherfield, Arrays.asList(someO, someO))
+                        .map(toVoid(groups -> {
+                            Assert.assertEquals(Collections.singleton(someO), groups.keySet());
+                            Assert.assertEquals(2L, groups.get(someO).size());
+                        }))
+                        .compose(v -> dao.findManyMappedBy(otherfield, Collections.singletonList(someO)))
+                        .map(toVoid(mapped -> Assert.fail("Expected TooManyRowsException")))
+                        .otherwise(x -> {
+                            //both rows have the same key
+                            Assert.assertEquals(TooManyRowsException.class, x.getClass());
+                            return null;
+                        })
+                        .compose(v -> dao.findManyGroupedBy(otherfield, Collections.emptyList()))
+                        .map(toVoid(groups -> Assert.assertTrue(groups.isEmpty())))
+                        .compose(v -> dao.deleteByIds(keys)))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void upsertShouldInsertAndUpdate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        P something1 = createWithId();
+        P something2 = createWithId();
+        O someO = createSomeO();
+        dao.upsert(something1)
+                .compose(v -> dao.upsert(Arrays.asList(setSomeO(something1, someO), something2)))
+                .compose(v -> dao.findManyByIds(Arrays.asList(getId(something1), getId(something2))))
+                .map(toVoid(values -> Assert.assertEquals(2L, values.size())))
+                .compose(v -> dao.findManyByCondition(otherfield.eq(someO)))
+                .map(toVoid(values -> Assert.assertEquals(1L, values.size())))
+                .compose(v -> dao.deleteByIds(Arrays.asList(getId(something1), getId(something2))))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
     @Test
     public void asyncCRUDConditionShouldSucceed() throws InterruptedException {
         CountDownLatch latch = new CountDownLatch(1);
@@ -0,0 +1,131 @@
+package io.github.jklingsporn.vertx.jooq.generate.classic.async.regular;
+
+import generated.classic.async.regular.tables.daos.SomethingDao;
+import generated.classic.async.regular.tables.daos.SomethingcompositeDao;
+import generated.classic.async.regular.tables.pojos.Something;
+import generated.classic.async.regular.tables.pojos.Somethingcomposite;
+import generated.classic.async.regular.tables.records.SomethingcompositeRecord;
+import io.github.jklingsporn.vertx.jooq.classic.async.AsyncClassicGenericQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.generate.AsyncDatabaseClientProvider;
+import io.github.jklingsporn.vertx.jooq.generate.AsyncDatabaseConfigurationProvider;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.asyncsql.AsyncSQLClient;
+import org.jooq.Configuration;
+import org.jooq.Record2;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.github.jklingsporn.vertx.jooq.generate.Await.await;
+
+/**
+ * Tests sessions and transactions of the <code>AsyncClassicGenericQueryExecutor</code> spanning multiple DAOs.
+ */
+public class AsyncTransactionTest {
+
+    private final Configuration configuration = AsyncDatabaseConfigurationProvider.getInstance().createDAOConfiguration();
+    private final AsyncSQLClient client = AsyncDatabaseClientProvider.getInstance().getClient();
+    private final AsyncClassicGenericQueryExecutor executor = new AsyncClassicGenericQueryExecutor(client);
+    private final SomethingDao somethingDao = new SomethingDao(configuration, client);
+    private final SomethingcompositeDao compositeDao = new SomethingcompositeDao(configuration, client);
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        AsyncDatabaseConfigurationProvider.getInstance().setupDatabase();
+    }
+
+    private Something createSomething(){
+        Random random = new Random();
+        return new Something()
+                .setSomedouble(random.nextDouble())
+                .setSomeregularnumber(random.nextInt())
+                .setSomehugenumber(random.nextLong())
+                .setSomejsonarray(new JsonArray().add(1))
+                .setSomejsonobject(new JsonObject().put("key", "value"))
+                .setSomesmallnumber((short) random.nextInt(Short.MAX_VALUE))
+                .setSomestring("my_string")
+                .setSometimestamp(LocalDateTime.now());
+    }
+
+    private Somethingcomposite createComposite(){
+        Random random = new Random();
+        return new Somethingcomposite().setSomeid(random.nextInt()).setSomesecondid(random.nextInt()).setSomejsonobject(new JsonObject().put("key", "value"));
+    }
+
+    private Record2<Integer, Integer> key(Somethingcomposite pojo){
+        SomethingcompositeRecord record = new SomethingcompositeRecord();
+        record.from(pojo);
+        return record.key();
+    }
+
+    @Test
+    public void sessionShouldShareConnectionBetweenDAOs() throws Exception {
+        Somethingcomposite composite = createComposite();
+        Integer id = await(executor.session(session -> {
+            SomethingDao dao = new SomethingDao(configuration, session);
+            SomethingcompositeDao composites = new SomethingcompositeDao(configuration, session);
+            return dao.insertReturningPrimary(createSomething())
+                    .compose(someId -> composites.insert(composite).map(v -> someId));
+        }));
+        Assert.assertNotNull(await(somethingDao.findOneById(id)));
+        Assert.assertNotNull(await(compositeDao.findOneById(key(composite))));
+        Assert.assertEquals(1, await(somethingDao.deleteById(id)).intValue());
+        Assert.assertEquals(1, await(compositeDao.deleteById(key(composite))).intValue());
+    }
+
+    @Test
+    public void transactionShouldCommitWritesOfAllDAOs() throws Exception {
+        Somethingcomposite composite = createComposite();
+        Integer id = await(executor.transaction(tx -> {
+            SomethingDao dao = new SomethingDao(configuration, tx);
+            SomethingcompositeDao composites = new SomethingcompositeDao(configuration, tx);
+            return dao.insertReturningPrimary(createSomething())
+                    .compose(someId -> composites.insert(composite).map(v -> someId));
+        }));
+        Assert.assertNotNull(await(somethingDao.findOneById(id)));
+        Assert.assertNotNull(await(compositeDao.findOneById(key(composite))));
+        Assert.assertEquals(1, await(somethingDao.deleteById(id)).intValue());
+        Assert.assertEquals(1, await(compositeDao.deleteById(key(composite))).intValue());
+    }
+
+    @Test
+    public void failedTransactionShouldRollBackWritesOfAllDAOs() throws Exception {
+        Somethingcomposite composite = createComposite();
+        AtomicReference<Integer> id = new AtomicReference<>();
+        try{
+            await(executor.transaction(tx -> {
+                SomethingDao dao = new SomethingDao(configuration, tx);
+                SomethingcompositeDao composites = new SomethingcompositeDao(configuration, tx);
+                return dao.insertReturningPrimary(createSomething())
+                        .compose(someId -> {
+                            id.set(someId);
+                            return composites.insert(composite);
+                        })
+                        .compose(v -> composites.insert(composite));
+            }));
+            Assert.fail("Expected a duplicate key");
+        }catch (ExecutionException e){
+            Assert.assertNotNull(id.get());
+        }
+        Assert.assertNull(await(somethingDao.findOneById(id.get())));
+        Assert.assertNull(await(compositeDao.findOneById(key(composite))));
+    }
+
+    @Test
+    public void clientShouldBeRejectedAfterSessionCompleted() throws Exception {
+        AsyncSQLClient session = await(executor.session(Future::succeededFuture));
+        try{
+            await(new SomethingDao(configuration, session).findOneById(1));
+            Assert.fail("Expected the session to be completed");
+        }catch (ExecutionException e){
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.jklingsporn.vertx.jooq.generate.classic.async.regular;
+
+import generated.classic.async.regular.Tables;
+import generated.classic.async.regular.tables.pojos.Somethingcomposite;
+import io.github.jklingsporn.vertx.jooq.classic.async.AsyncClassicGenericQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.generate.AsyncDatabaseClientProvider;
+import io.github.jklingsporn.vertx.jooq.generate.AsyncDatabaseConfigurationProvider;
+import io.github.jklingsporn.vertx.jooq.shared.async.BatchResult;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.Record1;
+import org.jooq.ResultQuery;
+import org.jooq.impl.DSL;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+
+import static io.github.jklingsporn.vertx.jooq.generate.Await.await;
+
+/**
+ * Tests the <code>batch()</code> of the <code>AsyncClassicGenericQueryExecutor</code>.
+ */
+public class QueryBatchTest {
+
+    private final DSLContext dsl = DSL.using(AsyncDatabaseConfigurationProvider.getInstance().createDAOConfiguration());
+    private final AsyncClassicGenericQueryExecutor executor = new AsyncClassicGenericQueryExecutor(AsyncDatabaseClientProvider.getInstance().getClient());
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        AsyncDatabaseConfigurationProvider.getInstance().setupDatabase();
+    }
+
+    @Test
+    public void batchShouldReturnResultsPerQuery() throws Exception {
+        int someId = new Random().nextInt();
+        Query insert = dsl.insertInto(Tables.SOMETHINGCOMPOSITE, Tables.SOMETHINGCOMPOSITE.SOMEID, Tables.SOMETHINGCOMPOSITE.SOMESECONDID).values(someId, 1);
+        ResultQuery<Record1<Integer>> count = dsl.selectCount().from(Tables.SOMETHINGCOMPOSITE).where(Tables.SOMETHINGCOMPOSITE.SOMEID.eq(someId));
+        ResultQuery<?> find = dsl.selectFrom(Tables.SOMETHINGCOMPOSITE).where(Tables.SOMETHINGCOMPOSITE.SOMEID.eq(someId));
+        Query delete = dsl.deleteFrom(Tables.SOMETHINGCOMPOSITE).where(Tables.SOMETHINGCOMPOSITE.SOMEID.eq(someId));
+        BatchResult result = await(executor.batch().add(insert).add(count).add(find).add(delete).execute());
+        Assert.assertEquals(4, result.size());
+        Assert.assertEquals(1, result.getUpdated(insert));
+        Assert.assertEquals(1, result.get(count).get(0, Integer.class).intValue());
+        List<Integer> secondIds = result.getRows(find, json -> new Somethingcomposite(json).getSomesecondid());
+        Assert.assertEquals(1, secondIds.size());
+        Assert.assertEquals(1, secondIds.get(0).intValue());
+        Assert.assertEquals(1, result.getUpdated(delete));
+    }
+
+    @Test
+    public void failingQueryShouldFailBatch() throws Exception {
+        int someId = new Random().nextInt();
+        Query insert = dsl.insertInto(Tables.SOMETHINGCOMPOSITE, Tables.SOMETHINGCOMPOSITE.SOMEID, Tables.SOMETHINGCOMPOSITE.SOMESECONDID).values(someId, 1);
+        try{
+            await(executor.batch().add(insert).add(insert).execute());
+            Assert.fail("Expected a duplicate key");
+        }catch (ExecutionException e){
+            Assert.assertNotNull(e.getCause());
+        }
+        Assert.assertEquals(1, await(executor.batch().add(dsl.deleteFrom(Tables.SOMETHINGCOMPOSITE).where(Tables.SOMETHINGCOMPOSITE.SOMEID.eq(someId))).execute()).getUpdated(0));
+    }
+}
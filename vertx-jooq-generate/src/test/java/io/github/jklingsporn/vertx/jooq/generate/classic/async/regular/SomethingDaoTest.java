@@ -11,9 +11,12 @@ import io.vertx.core.json.JsonObject;
 import org.jooq.Condition;
 import org.junit.Assert;
 import org.junit.BeforeClass;
+import org.junit.Test;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
 
 /**
  * Created by jensklingsporn on 02.11.16.
@@ -81,4 +84,28 @@ public class SomethingDaoTest extends ClassicTestBase<Something, Integer, Long,
         Assert.assertEquals(com.github.mauricio.async.db.mysql.exceptions.MySQLException.class, x.getClass());
     }
 
+    @Test
+    public void insertReturningPrimariesShouldReturnExplicitKeys() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Something first = createWithId();
+        Something second = createWithId();
+        dao.insertReturningPrimaries(Arrays.asList(first, second))
+                .map(toVoid(keys -> Assert.assertEquals(Arrays.asList(first.getSomeid(), second.getSomeid()), keys)))
+                .compose(v -> dao.deleteByIds(Arrays.asList(first.getSomeid(), second.getSomeid())))
+                .map(toVoid(deleted -> Assert.assertEquals(2, deleted.intValue())))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void insertReturningPrimariesShouldFailOnPartiallyExplicitKeys() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        dao.insertReturningPrimaries(Arrays.asList(createWithId(), create())).setHandler(h -> {
+            Assert.assertTrue(h.failed());
+            Assert.assertEquals(IllegalArgumentException.class, h.cause().getClass());
+            latch.countDown();
+        });
+        await(latch);
+    }
+
 }
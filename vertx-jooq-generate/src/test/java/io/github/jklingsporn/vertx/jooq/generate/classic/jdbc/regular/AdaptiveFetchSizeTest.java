@@ -0,0 +1,114 @@
+package io.github.jklingsporn.vertx.jooq.generate.classic.jdbc.regular;
+
+import generated.classic.jdbc.regular.vertx.Tables;
+import generated.classic.jdbc.regular.vertx.tables.daos.SomethingDao;
+import generated.classic.jdbc.regular.vertx.tables.pojos.Something;
+import io.github.jklingsporn.vertx.jooq.generate.JDBCDatabaseConfigurationProvider;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.AdaptiveFetchSize;
+import io.vertx.core.Vertx;
+import org.jooq.*;
+import org.jooq.impl.DefaultExecuteListener;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.github.jklingsporn.vertx.jooq.generate.Await.await;
+
+/**
+ * Tests the <code>AdaptiveFetchSize</code> by capturing the fetch size of the statements when they are executed.
+ */
+public class AdaptiveFetchSizeTest {
+
+    private static Vertx vertx;
+    private final Configuration configuration = JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration();
+    private final AdaptiveFetchSize adaptiveFetchSize = AdaptiveFetchSize.install(configuration);
+    private final List<Integer> fetchSizes = new ArrayList<>();
+    private final List<String> statements = new ArrayList<>();
+    private final SomethingDao dao;
+
+    public AdaptiveFetchSizeTest() {
+        ExecuteListenerProvider[] providers = Arrays.copyOf(configuration.executeListenerProviders(), 2);
+        providers[1] = new DefaultExecuteListenerProvider(new DefaultExecuteListener(){
+            @Override
+            public void executeStart(ExecuteContext ctx) {
+                if(ctx.type() == ExecuteType.READ){
+                    try {
+                        fetchSizes.add(ctx.statement().getFetchSize());
+                        statements.add(ctx.sql());
+                    } catch (SQLException e) {
+                        throw new AssertionError(e);
+                    }
+                }
+            }
+        });
+        configuration.set(providers);
+        dao = new SomethingDao(configuration, vertx);
+    }
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        vertx = Vertx.vertx();
+        JDBCDatabaseConfigurationProvider.getInstance().setupDatabase();
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        vertx.close();
+    }
+
+    @Test
+    public void fetchSizeShouldFollowObservedResultSize() throws Exception {
+        Long someHugeNumber = System.nanoTime();
+        List<Integer> ids = await(dao.insertReturningPrimaries(Arrays.asList(new Something().setSomehugenumber(someHugeNumber), new Something().setSomehugenumber(someHugeNumber), new Something().setSomehugenumber(someHugeNumber))));
+        Condition condition = Tables.SOMETHING.SOMEHUGENUMBER.eq(someHugeNumber);
+        int before = fetchSizes.size();
+        Assert.assertEquals(3, await(dao.findManyByCondition(condition)).size());
+        Assert.assertEquals(3, await(dao.findManyByCondition(condition)).size());
+        Assert.assertEquals(4, fetchSizes.get(before + 1).intValue());
+        Assert.assertEquals(4, adaptiveFetchSize.fetchSizeOf(statements.get(before)));
+        Assert.assertNotNull(await(dao.findOneById(ids.get(0))));
+        Assert.assertNotNull(await(dao.findOneById(ids.get(1))));
+        Assert.assertEquals(2, fetchSizes.get(before + 3).intValue());
+        Assert.assertEquals(3, await(dao.findManyByConditionWithFetchSize(condition, 50)).size());
+        Assert.assertEquals(50, fetchSizes.get(fetchSizes.size() - 1).intValue());
+        Assert.assertEquals(3, await(dao.deleteByIds(ids)).intValue());
+    }
+
+    @Test
+    public void nonZeroDriverDefaultShouldBeAdapted() throws Exception {
+        //emulates a driver with a default fetch size like Oracle's
+        ExecuteListenerProvider[] providers = configuration.executeListenerProviders();
+        ExecuteListenerProvider[] withDefault = new ExecuteListenerProvider[providers.length + 1];
+        withDefault[0] = new DefaultExecuteListenerProvider(new DefaultExecuteListener(){
+            @Override
+            public void prepareEnd(ExecuteContext ctx) {
+                try {
+                    if(ctx.statement().getFetchSize() == 0){
+                        ctx.statement().setFetchSize(10);
+                    }
+                } catch (SQLException e) {
+                    throw new AssertionError(e);
+                }
+            }
+        });
+        System.arraycopy(providers, 0, withDefault, 1, providers.length);
+        configuration.set(withDefault);
+        Long someHugeNumber = System.nanoTime();
+        List<Integer> ids = await(dao.insertReturningPrimaries(Arrays.asList(new Something().setSomehugenumber(someHugeNumber), new Something().setSomehugenumber(someHugeNumber))));
+        Condition condition = Tables.SOMETHING.SOMEHUGENUMBER.eq(someHugeNumber);
+        Assert.assertEquals(2, await(dao.findManyByCondition(condition)).size());
+        Assert.assertEquals(10, fetchSizes.get(fetchSizes.size() - 1).intValue());
+        Assert.assertEquals(2, await(dao.findManyByCondition(condition)).size());
+        Assert.assertEquals(3, fetchSizes.get(fetchSizes.size() - 1).intValue());
+        Assert.assertEquals(2, await(dao.findManyByConditionWithFetchSize(condition, 50)).size());
+        Assert.assertEquals(50, fetchSizes.get(fetchSizes.size() - 1).intValue());
+        Assert.assertEquals(2, await(dao.deleteByIds(ids)).intValue());
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.jklingsporn.vertx.jooq.generate.classic.jdbc.regular;
+
+import generated.classic.jdbc.regular.vertx.Tables;
+import generated.classic.jdbc.regular.vertx.tables.daos.SomethingDao;
+import generated.classic.jdbc.regular.vertx.tables.pojos.Something;
+import generated.classic.jdbc.regular.vertx.tables.records.SomethingRecord;
+import io.github.jklingsporn.vertx.jooq.classic.CounterAggregator;
+import io.github.jklingsporn.vertx.jooq.generate.JDBCDatabaseConfigurationProvider;
+import io.vertx.core.Vertx;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static io.github.jklingsporn.vertx.jooq.generate.Await.await;
+
+/**
+ * Tests the <code>CounterAggregator</code> against the JDBC-based <code>SomethingDao</code>.
+ */
+public class CounterAggregatorTest {
+
+    private static Vertx vertx;
+    private final SomethingDao dao = new SomethingDao(JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration(), vertx);
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        vertx = Vertx.vertx();
+        JDBCDatabaseConfigurationProvider.getInstance().setupDatabase();
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        vertx.close();
+    }
+
+    @Test
+    public void flushShouldWritePendingDeltas() throws Exception {
+        CounterAggregator<SomethingRecord, Something, Integer> counter = new CounterAggregator<>(dao, Tables.SOMETHING.SOMEREGULARNUMBER);
+        Integer id1 = await(dao.insertReturningPrimary(new Something().setSomeregularnumber(0)));
+        Integer id2 = await(dao.insertReturningPrimary(new Something().setSomeregularnumber(10)));
+        for (int i = 0; i < 5; i++) {
+            counter.increment(id1);
+        }
+        counter.add(id2, -3);
+        Assert.assertEquals(5L, counter.getPendingDelta(id1));
+        Assert.assertEquals(0, await(dao.findOneById(id1)).getSomeregularnumber().intValue());
+        Assert.assertEquals(5, await(counter.findOneById(id1)).getSomeregularnumber().intValue());
+
+        Assert.assertEquals(2, await(counter.flush()).intValue());
+        Assert.assertEquals(0L, counter.getPendingDelta(id1));
+        Assert.assertEquals(5, await(dao.findOneById(id1)).getSomeregularnumber().intValue());
+        Assert.assertEquals(7, await(dao.findOneById(id2)).getSomeregularnumber().intValue());
+        Assert.assertEquals(0, await(counter.flush()).intValue());
+        await(dao.deleteByIds(java.util.Arrays.asList(id1, id2)));
+    }
+
+    @Test
+    public void thresholdShouldTriggerFlush() throws Exception {
+        CounterAggregator<SomethingRecord, Something, Integer> counter = new CounterAggregator<>(dao, Tables.SOMETHING.SOMEREGULARNUMBER, 3, 500);
+        Integer id = await(dao.insertReturningPrimary(new Something().setSomeregularnumber(0)));
+        counter.increment(id);
+        counter.increment(id);
+        counter.increment(id);
+        long deadline = System.currentTimeMillis() + 3000;
+        while(counter.getPendingDelta(id) != 0 && System.currentTimeMillis() < deadline){
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(3, await(dao.findOneById(id)).getSomeregularnumber().intValue());
+        await(dao.deleteById(id));
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.jklingsporn.vertx.jooq.generate.classic.jdbc.regular;
+
+import generated.classic.jdbc.regular.vertx.Tables;
+import generated.classic.jdbc.regular.vertx.tables.daos.SomethingDao;
+import generated.classic.jdbc.regular.vertx.tables.daos.SomethingcompositeDao;
+import generated.classic.jdbc.regular.vertx.tables.pojos.Something;
+import generated.classic.jdbc.regular.vertx.tables.pojos.Somethingcomposite;
+import generated.classic.jdbc.regular.vertx.tables.records.SomethingRecord;
+import generated.classic.jdbc.regular.vertx.tables.records.SomethingcompositeRecord;
+import io.github.jklingsporn.vertx.jooq.classic.FetchPlan;
+import io.github.jklingsporn.vertx.jooq.generate.JDBCDatabaseConfigurationProvider;
+import io.github.jklingsporn.vertx.jooq.shared.internal.FetchNode;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import org.jooq.Configuration;
+import org.jooq.ForeignKey;
+import org.jooq.impl.Internal;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.github.jklingsporn.vertx.jooq.generate.Await.await;
+
+/**
+ * Tests the <code>FetchPlan</code> using a foreign key from <code>somethingComposite.someId</code> to
+ * <code>something.someId</code>. The key is not declared in the database, so it is created here.
+ */
+public class FetchPlanTest {
+
+    private static final ForeignKey<SomethingcompositeRecord, SomethingRecord> FK_SOMETHINGCOMPOSITE_SOMETHING =
+            Internal.createForeignKey(Tables.SOMETHING.getPrimaryKey(), Tables.SOMETHINGCOMPOSITE, "fk_somethingcomposite_something", Tables.SOMETHINGCOMPOSITE.SOMEID);
+
+    private static Vertx vertx;
+    private final Configuration configuration = JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration();
+    private final SomethingDao somethingDao = new SomethingDao(configuration, vertx);
+    private final SomethingcompositeDao compositeDao = new SomethingcompositeDao(configuration, vertx);
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        vertx = Vertx.vertx();
+        JDBCDatabaseConfigurationProvider.getInstance().setupDatabase();
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        vertx.close();
+    }
+
+    private Somethingcomposite composite(Integer someId, int someSecondId){
+        return new Somethingcomposite().setSomeid(someId).setSomesecondid(someSecondId).setSomejsonobject(new JsonObject().put("second", someSecondId));
+    }
+
+    @Test
+    public void oneToManyStepShouldGroupChildren() throws Exception {
+        List<Integer> ids = await(somethingDao.insertReturningPrimaries(Arrays.asList(new Something().setSomeregularnumber(1), new Something().setSomeregularnumber(2))));
+        await(compositeDao.insert(Arrays.asList(composite(ids.get(0), 1), composite(ids.get(0), 2))));
+        FetchPlan<Something> plan = new FetchPlan<>(somethingDao).with("composites", compositeDao, FK_SOMETHINGCOMPOSITE_SOMETHING);
+        List<FetchNode<Something>> nodes = await(plan.fetch(Tables.SOMETHING.SOMEID.in(ids)));
+        Assert.assertEquals(2, nodes.size());
+        for (FetchNode<Something> node : nodes) {
+            List<FetchNode<Somethingcomposite>> composites = node.getMany("composites");
+            if(node.getPojo().getSomeid().equals(ids.get(0))){
+                Assert.assertEquals(Arrays.asList(1, 2), composites.stream().map(c -> c.getPojo().getSomesecondid()).sorted().collect(Collectors.toList()));
+            }else{
+                Assert.assertTrue(composites.isEmpty());
+            }
+        }
+        List<JsonObject> json = await(plan.fetchJson(Tables.SOMETHING.SOMEID.eq(ids.get(0))));
+        Assert.assertEquals(1, json.size());
+        Assert.assertEquals(2, json.get(0).getJsonArray("composites").size());
+    }
+
+    @Test
+    public void manyToOneStepShouldShareParents() throws Exception {
+        Integer id = await(somethingDao.insertReturningPrimary(new Something().setSomeregularnumber(3)));
+        await(compositeDao.insert(Arrays.asList(composite(id, 1), composite(id, 2))));
+        FetchPlan<Somethingcomposite> plan = new FetchPlan<>(compositeDao)
+                .with("something", somethingDao, FK_SOMETHINGCOMPOSITE_SOMETHING)
+                .with("something.composites", compositeDao, FK_SOMETHINGCOMPOSITE_SOMETHING);
+        List<FetchNode<Somethingcomposite>> nodes = await(plan.fetch(Tables.SOMETHINGCOMPOSITE.SOMEID.eq(id)));
+        Assert.assertEquals(2, nodes.size());
+        FetchNode<Something> something = nodes.get(0).getOne("something");
+        Assert.assertSame(something, nodes.get(1).getOne("something"));
+        Assert.assertEquals(id, something.getPojo().getSomeid());
+        Assert.assertEquals(2, something.getMany("composites").size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unrelatedForeignKeyShouldBeRejected() {
+        new FetchPlan<>(somethingDao).with("self", somethingDao, FK_SOMETHINGCOMPOSITE_SOMETHING);
+    }
+}
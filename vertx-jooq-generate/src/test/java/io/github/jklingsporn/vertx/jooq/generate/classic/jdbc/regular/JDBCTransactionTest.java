@@ -0,0 +1,142 @@
+package io.github.jklingsporn.vertx.jooq.generate.classic.jdbc.regular;
+
+import generated.classic.jdbc.regular.vertx.Tables;
+import generated.classic.jdbc.regular.vertx.tables.daos.SomethingDao;
+import generated.classic.jdbc.regular.vertx.tables.daos.SomethingcompositeDao;
+import generated.classic.jdbc.regular.vertx.tables.pojos.Something;
+import generated.classic.jdbc.regular.vertx.tables.pojos.Somethingcomposite;
+import generated.classic.jdbc.regular.vertx.tables.records.SomethingcompositeRecord;
+import io.github.jklingsporn.vertx.jooq.classic.jdbc.JDBCClassicGenericQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.generate.JDBCDatabaseConfigurationProvider;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCTransaction;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import org.jooq.Configuration;
+import org.jooq.Record2;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.github.jklingsporn.vertx.jooq.generate.Await.await;
+
+/**
+ * Tests transactions of the <code>JDBCClassicGenericQueryExecutor</code> spanning multiple DAOs.
+ */
+public class JDBCTransactionTest {
+
+    private static Vertx vertx;
+    private final Configuration configuration = JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration();
+    private final JDBCClassicGenericQueryExecutor executor = new JDBCClassicGenericQueryExecutor(configuration, vertx);
+    private final SomethingDao somethingDao = new SomethingDao(configuration, vertx);
+    private final SomethingcompositeDao compositeDao = new SomethingcompositeDao(configuration, vertx);
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        vertx = Vertx.vertx();
+        JDBCDatabaseConfigurationProvider.getInstance().setupDatabase();
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        vertx.close();
+    }
+
+    private Throwable awaitFailure(Future<?> future) throws Exception {
+        try{
+            await(future);
+        }catch (ExecutionException e){
+            return e.getCause();
+        }
+        throw new AssertionError("Expected a failure");
+    }
+
+    private Somethingcomposite createComposite(int someId){
+        return new Somethingcomposite().setSomeid(someId).setSomesecondid(new Random().nextInt()).setSomejsonobject(new JsonObject().put("key", "value"));
+    }
+
+    private Record2<Integer, Integer> key(Somethingcomposite pojo){
+        SomethingcompositeRecord record = new SomethingcompositeRecord();
+        record.from(pojo);
+        return record.key();
+    }
+
+    @Test
+    public void transactionShouldCommitWritesOfAllDAOs() throws Exception {
+        Somethingcomposite composite = createComposite(1);
+        Integer id = await(executor.transaction(tx -> {
+            SomethingDao dao = tx.dao(SomethingDao::new);
+            SomethingcompositeDao composites = tx.dao(SomethingcompositeDao::new);
+            Assert.assertTrue(JDBCTransaction.isBound(tx.configuration()));
+            return dao.insertReturningPrimary(new Something().setSomeregularnumber(1))
+                    .compose(dao::findOneById)
+                    .compose(something -> dao.update(something.setSomeregularnumber(2))
+                            .compose(v -> composites.insert(composite))
+                            .map(v -> something.getSomeid()));
+        }));
+        Assert.assertEquals(2, await(somethingDao.findOneById(id)).getSomeregularnumber().intValue());
+        Assert.assertNotNull(await(compositeDao.findOneById(key(composite))));
+        Assert.assertEquals(1, await(somethingDao.deleteById(id)).intValue());
+        Assert.assertEquals(1, await(compositeDao.deleteById(key(composite))).intValue());
+    }
+
+    @Test
+    public void failedTransactionShouldRollBackWritesOfAllDAOs() throws Exception {
+        Somethingcomposite composite = createComposite(2);
+        AtomicReference<Integer> id = new AtomicReference<>();
+        Throwable failure = awaitFailure(executor.transaction(tx -> {
+            SomethingDao dao = tx.dao(SomethingDao::new);
+            SomethingcompositeDao composites = tx.dao(SomethingcompositeDao::new);
+            return dao.insertReturningPrimary(new Something().setSomeregularnumber(3))
+                    .compose(someId -> {
+                        id.set(someId);
+                        return composites.insert(composite);
+                    })
+                    .compose(v -> composites.insert(composite));
+        }));
+        Assert.assertNotNull(failure);
+        Assert.assertNotNull(id.get());
+        Assert.assertNull(await(somethingDao.findOneById(id.get())));
+        Assert.assertNull(await(compositeDao.findOneById(key(composite))));
+    }
+
+    @Test
+    public void nestedTransactionShouldRollBackToSavepoint() throws Exception {
+        Integer id = await(executor.transaction(tx -> {
+            SomethingDao dao = tx.dao(SomethingDao::new);
+            Future<Integer> outer = dao.insertReturningPrimary(new Something().setSomeregularnumber(4));
+            try{
+                JDBCTransaction.execute(tx.configuration(), vertx, nested -> {
+                    nested.dao(SomethingDao::new).insert(new Something().setSomeregularnumber(5));
+                    throw new IllegalStateException("roll back nested");
+                });
+                Assert.fail("Expected the nested transaction to fail");
+            }catch (IllegalStateException e){
+                Assert.assertEquals("roll back nested", e.getMessage());
+            }
+            return outer;
+        }));
+        Assert.assertNotNull(await(somethingDao.findOneById(id)));
+        Assert.assertEquals(0, DSL.using(configuration).fetchCount(Tables.SOMETHING, Tables.SOMETHING.SOMEREGULARNUMBER.eq(5)));
+        Assert.assertEquals(1, await(somethingDao.deleteById(id)).intValue());
+    }
+
+    @Test
+    public void daoShouldBeRejectedAfterTransactionCompleted() throws Exception {
+        SomethingDao dao = await(executor.transaction(tx -> Future.succeededFuture(tx.dao(SomethingDao::new))));
+        Assert.assertTrue(awaitFailure(dao.findOneById(1)) instanceof DataAccessException);
+    }
+
+    @Test
+    public void transactionShouldFailIfUnitOfWorkIsNotCompleted() throws Exception {
+        Throwable failure = awaitFailure(executor.transaction(tx -> Future.future()));
+        Assert.assertTrue(failure instanceof IllegalStateException);
+    }
+}
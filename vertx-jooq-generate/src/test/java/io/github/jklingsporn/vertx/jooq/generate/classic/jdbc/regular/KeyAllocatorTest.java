@@ -0,0 +1,106 @@
+package io.github.jklingsporn.vertx.jooq.generate.classic.jdbc.regular;
+
+import generated.classic.jdbc.regular.vertx.tables.daos.SomethingDao;
+import generated.classic.jdbc.regular.vertx.tables.pojos.Something;
+import io.github.jklingsporn.vertx.jooq.classic.KeyAllocator;
+import io.github.jklingsporn.vertx.jooq.classic.jdbc.JDBCClassicGenericQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.generate.JDBCDatabaseConfigurationProvider;
+import io.vertx.core.Vertx;
+import org.jooq.*;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+import static io.github.jklingsporn.vertx.jooq.generate.Await.await;
+
+/**
+ * Tests the <code>KeyAllocator</code> using a sequence and a hi/lo-table.
+ */
+public class KeyAllocatorTest {
+
+    private static final Sequence<Long> SEQUENCE = DSL.sequence(DSL.name("VERTX", "KEY_SEQ"), SQLDataType.BIGINT);
+    private static final Table<Record> HILO = DSL.table(DSL.name("VERTX", "HILO"));
+    private static final Field<String> NAME = DSL.field(DSL.name("NAME"), String.class);
+    private static final Field<Long> HI = DSL.field(DSL.name("HI"), Long.class);
+
+    private static Vertx vertx;
+    private final Configuration configuration = JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration();
+    private final JDBCClassicGenericQueryExecutor queryExecutor = new JDBCClassicGenericQueryExecutor(configuration, vertx);
+    private final SomethingDao dao = new SomethingDao(configuration, vertx);
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        vertx = Vertx.vertx();
+        JDBCDatabaseConfigurationProvider.getInstance().setupDatabase();
+        DSLContext dslContext = DSL.using(JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration());
+        dslContext.execute("CREATE SEQUENCE vertx.key_seq START WITH 1");
+        dslContext.execute("CREATE TABLE vertx.hilo (name VARCHAR(64) PRIMARY KEY, hi BIGINT NOT NULL)");
+        dslContext.execute("INSERT INTO vertx.hilo VALUES ('something', 0)");
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        vertx.close();
+    }
+
+    @Test
+    public void sequenceAllocatorsShouldNotOverlap() throws Exception {
+        KeyAllocator allocator1 = new KeyAllocator(queryExecutor, configuration, SEQUENCE, 10);
+        KeyAllocator allocator2 = new KeyAllocator(queryExecutor, configuration, SEQUENCE, 10);
+        List<Long> keys1 = await(allocator1.nextKeys(25));
+        List<Long> keys2 = await(allocator2.nextKeys(25));
+        keys1.add(await(allocator1.nextKey()));
+        Assert.assertEquals(26, keys1.size());
+        Set<Long> distinct = new HashSet<>(keys1);
+        distinct.addAll(keys2);
+        Assert.assertEquals(51, distinct.size());
+        Assert.assertFalse(distinct.contains(0L));
+    }
+
+    @Test
+    public void tableAllocatorsShouldNotOverlap() throws Exception {
+        KeyAllocator allocator1 = new KeyAllocator(queryExecutor, configuration, HILO, NAME, HI, "something", 10);
+        KeyAllocator allocator2 = new KeyAllocator(queryExecutor, configuration, HILO, NAME, HI, "something", 10);
+        List<io.vertx.core.Future<List<Long>>> pending = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            pending.add(allocator1.nextKeys(7));
+            pending.add(allocator2.nextKeys(7));
+        }
+        Set<Long> distinct = new HashSet<>();
+        for (io.vertx.core.Future<List<Long>> future : pending) {
+            distinct.addAll(await(future));
+        }
+        Assert.assertEquals(140, distinct.size());
+    }
+
+    @Test
+    public void missingTableRowShouldFail() throws Exception {
+        KeyAllocator allocator = new KeyAllocator(queryExecutor, configuration, HILO, NAME, HI, "unknown", 10);
+        try{
+            await(allocator.nextKey());
+            Assert.fail("Expected failure");
+        }catch(ExecutionException e){
+            Assert.assertTrue(e.getCause() instanceof DataAccessException);
+        }
+    }
+
+    @Test
+    public void assignKeysShouldAllowBatchInsert() throws Exception {
+        KeyAllocator allocator = new KeyAllocator(queryExecutor, configuration, SEQUENCE, 1000);
+        List<Something> somethings = Arrays.asList(new Something().setSomeregularnumber(1), new Something().setSomeregularnumber(2));
+        await(allocator.assignKeys(somethings, (something, key) -> something.setSomeid(key.intValue())));
+        List<Integer> ids = somethings.stream().map(Something::getSomeid).collect(Collectors.toList());
+        Assert.assertTrue(ids.stream().allMatch(Objects::nonNull));
+        Assert.assertEquals(2, await(dao.insert(somethings)).intValue());
+        Assert.assertEquals(2, await(dao.findManyByIds(ids)).size());
+        await(dao.deleteByIds(ids));
+    }
+}
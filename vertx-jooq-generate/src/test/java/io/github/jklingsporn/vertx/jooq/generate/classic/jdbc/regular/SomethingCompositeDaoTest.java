@@ -9,12 +9,27 @@ import io.github.jklingsporn.vertx.jooq.generate.classic.ClassicTestBase;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 import org.jooq.Condition;
+import org.jooq.Configuration;
+import org.jooq.ExecuteContext;
 import org.jooq.Record2;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultExecuteListener;
+import org.jooq.impl.DefaultExecuteListenerProvider;
 import org.junit.Assert;
 import org.junit.BeforeClass;
+import org.junit.Test;
 
 import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Created by jensklingsporn on 02.11.16.
@@ -78,4 +93,104 @@ public class SomethingCompositeDaoTest extends ClassicTestBase<Somethingcomposit
         Assert.assertEquals(SQLIntegrityConstraintViolationException.class, x.getCause().getClass());
     }
 
+    @Test
+    public void compositeLookupsAboveThresholdShouldJoinValues() throws InterruptedException {
+        SomethingcompositeDao valuesDao = new SomethingcompositeDao(JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration(), Vertx.vertx());
+        valuesDao.setValuesLookupThreshold(1);
+        List<Somethingcomposite> somethings = Arrays.asList(createWithId(), createWithId());
+        List<Record2<Integer, Integer>> ids = somethings.stream().map(this::getId).collect(Collectors.toList());
+        CountDownLatch latch = new CountDownLatch(1);
+        valuesDao.insert(somethings)
+                .compose(v -> valuesDao.findManyByIds(ids))
+                .map(toVoid(values -> Assert.assertEquals(2, values.size())))
+                .compose(v -> valuesDao.deleteByIds(ids))
+                .map(toVoid(deleted -> Assert.assertEquals(2, deleted.intValue())))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void paddedLookupsShouldRenderSameStatement() throws InterruptedException {
+        List<String> statements = new ArrayList<>();
+        Configuration configuration = JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration()
+                .derive(new Settings().withInListPadding(true))
+                .derive(new DefaultExecuteListenerProvider(new DefaultExecuteListener(){
+                    @Override
+                    public void executeStart(ExecuteContext ctx) {
+                        statements.add(ctx.sql());
+                    }
+                }));
+        SomethingcompositeDao paddingDao = new SomethingcompositeDao(configuration, Vertx.vertx());
+        List<Somethingcomposite> somethings = Stream.generate(this::createWithId).limit(4).collect(Collectors.toList());
+        List<Record2<Integer, Integer>> ids = somethings.stream().map(this::getId).collect(Collectors.toList());
+        CountDownLatch latch = new CountDownLatch(1);
+        paddingDao.insert(somethings)
+                .compose(v -> paddingDao.findManyByIds(ids.subList(0, 3)))
+                .map(toVoid(values -> Assert.assertEquals(3, values.size())))
+                .compose(v -> paddingDao.findManyByIds(ids))
+                .map(toVoid(values -> Assert.assertEquals(4, values.size())))
+                .map(toVoid(v -> Assert.assertEquals(statements.get(statements.size() - 2), statements.get(statements.size() - 1))))
+                .compose(v -> paddingDao.deleteByIds(ids))
+                .map(toVoid(deleted -> Assert.assertEquals(4, deleted.intValue())))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void compositeLookupsAboveBindValueLimitShouldBeSplit() throws InterruptedException {
+        List<String> statements = new ArrayList<>();
+        Configuration configuration = JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration()
+                .derive(new DefaultExecuteListenerProvider(new DefaultExecuteListener(){
+                    @Override
+                    public void executeStart(ExecuteContext ctx) {
+                        statements.add(ctx.sql());
+                    }
+                }));
+        SomethingcompositeDao chunkingDao = new SomethingcompositeDao(configuration, Vertx.vertx()){
+            @Override
+            protected int maxBindValues() {
+                //two keys per chunk
+                return 4;
+            }
+        };
+        List<Somethingcomposite> somethings = Stream.generate(this::createWithId).limit(5).collect(Collectors.toList());
+        List<Record2<Integer, Integer>> ids = somethings.stream().map(this::getId).collect(Collectors.toList());
+        CountDownLatch latch = new CountDownLatch(1);
+        chunkingDao.insert(somethings)
+                .compose(v -> {
+                    statements.clear();
+                    return chunkingDao.findManyByIds(ids);
+                })
+                .map(toVoid(values -> Assert.assertEquals(5, values.size())))
+                //one statement per chunk of two keys
+                .map(toVoid(v -> Assert.assertEquals(statements.toString(), 3, statements.size())))
+                .compose(v -> {
+                    chunkingDao.setValuesLookupThreshold(1);
+                    return chunkingDao.findManyByIds(ids);
+                })
+                .map(toVoid(values -> Assert.assertEquals(5, values.size())))
+                .compose(v -> chunkingDao.deleteByIds(ids))
+                .map(toVoid(deleted -> Assert.assertEquals(5, deleted.intValue())))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void compositeLookupsOnMySQLShouldNotUseRowInLists() {
+        class MySQLDao extends SomethingcompositeDao {
+            MySQLDao() {
+                super(new DefaultConfiguration().set(SQLDialect.MYSQL), Vertx.vertx());
+            }
+
+            Condition lookup(List<Record2<Integer, Integer>> ids){
+                return lookupKeys(ids);
+            }
+        }
+        MySQLDao mySQLDao = new MySQLDao();
+        List<Record2<Integer, Integer>> ids = Stream.generate(this::createWithId).limit(3).map(this::getId).collect(Collectors.toList());
+        String sql = DSL.using(SQLDialect.MYSQL).renderInlined(mySQLDao.lookup(ids));
+        Assert.assertFalse(sql, sql.contains(" in "));
+        Assert.assertEquals(sql, 2, sql.split(" or ").length - 1);
+        Assert.assertEquals(sql, 3, sql.split(" and ").length - 1);
+    }
 }
@@ -5,16 +5,28 @@ import generated.classic.jdbc.regular.vertx.tables.daos.SomethingDao;
 import generated.classic.jdbc.regular.vertx.tables.pojos.Something;
 import io.github.jklingsporn.vertx.jooq.generate.JDBCDatabaseConfigurationProvider;
 import io.github.jklingsporn.vertx.jooq.generate.classic.ClassicTestBase;
+import io.github.jklingsporn.vertx.jooq.shared.internal.KeyLookupStrategy;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.jooq.Condition;
+import org.jooq.Configuration;
+import org.jooq.ExecuteContext;
+import org.jooq.impl.DefaultExecuteListener;
+import org.jooq.impl.DefaultExecuteListenerProvider;
 import org.junit.Assert;
 import org.junit.BeforeClass;
+import org.junit.Test;
 
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Created by jensklingsporn on 02.11.16.
@@ -82,4 +94,213 @@ public class SomethingDaoTest extends ClassicTestBase<Something, Integer, Long,
         Assert.assertEquals(SQLIntegrityConstraintViolationException.class, x.getCause().getClass());
     }
 
+    @Test
+    public void updateMultipleShouldBeSplitByBindValueLimit() throws InterruptedException {
+        SomethingDao chunkingDao = new SomethingDao(JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration(), Vertx.vertx()){
+            @Override
+            protected int maxBindValues() {
+                //two POJOs per statement
+                return 40;
+            }
+        };
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Something> somethings = Stream.generate(this::createWithId).limit(5).collect(Collectors.toList());
+        List<Integer> ids = somethings.stream().map(Something::getSomeid).collect(Collectors.toList());
+        Long someO = createSomeO();
+        chunkingDao.insert(somethings)
+                .compose(v -> chunkingDao.findManyByIds(ids))
+                .compose(values -> chunkingDao.update(values.stream().map(value -> setSomeO(value, someO)).collect(Collectors.toList())))
+                .map(toVoid(updated -> Assert.assertEquals(5L, updated.longValue())))
+                .compose(v -> chunkingDao.findManyByCondition(Tables.SOMETHING.SOMEHUGENUMBER.eq(someO)))
+                .map(toVoid(values -> Assert.assertEquals(5L, values.size())))
+                .compose(v -> chunkingDao.deleteByIds(ids))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void updateMultipleWithNullsShouldBeSplitByBindValueLimit() throws InterruptedException {
+        SomethingDao chunkingDao = new SomethingDao(JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration(), Vertx.vertx()){
+            @Override
+            protected int maxBindValues() {
+                //two POJOs per statement
+                return 40;
+            }
+        };
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Something> somethings = Stream.generate(this::createWithId).limit(5).collect(Collectors.toList());
+        List<Integer> ids = somethings.stream().map(Something::getSomeid).collect(Collectors.toList());
+        chunkingDao.insert(somethings)
+                .compose(v -> chunkingDao.findManyByIds(ids))
+                .compose(values -> chunkingDao.update(values.stream().map(value -> value.setSomestring(null)).collect(Collectors.toList())))
+                .map(toVoid(updated -> Assert.assertEquals(5L, updated.longValue())))
+                .compose(v -> chunkingDao.findManyByIds(ids))
+                .map(toVoid(values -> Assert.assertTrue(values.stream().allMatch(value -> value.getSomestring() == null))))
+                .compose(v -> chunkingDao.deleteByIds(ids))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void failingChunkShouldRollBackUpdateMultiple() throws InterruptedException {
+        SomethingDao chunkingDao = new SomethingDao(JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration(), Vertx.vertx()){
+            @Override
+            protected int maxBindValues() {
+                //two POJOs per statement
+                return 40;
+            }
+        };
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Something> somethings = Stream.generate(this::createWithId).limit(5).collect(Collectors.toList());
+        List<Integer> ids = somethings.stream().map(Something::getSomeid).collect(Collectors.toList());
+        chunkingDao.insert(somethings)
+                .compose(v -> chunkingDao.findManyByIds(ids))
+                .compose(values -> {
+                    values.forEach(value -> value.setSomestring("updated"));
+                    //someBoolean is not nullable, so the last chunk fails
+                    values.get(values.size() - 1).setSomeboolean(null);
+                    return chunkingDao.update(values).otherwise(-1);
+                })
+                .map(toVoid(updated -> Assert.assertEquals(-1, updated.intValue())))
+                .compose(v -> chunkingDao.findManyByIds(ids))
+                .map(toVoid(values -> Assert.assertTrue(values.stream().allMatch(value -> "my_string".equals(value.getSomestring())))))
+                .compose(v -> chunkingDao.deleteByIds(ids))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void lookupsAboveBindValueLimitShouldBeSplit() throws InterruptedException {
+        List<String> statements = new ArrayList<>();
+        Configuration configuration = JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration()
+                .derive(new DefaultExecuteListenerProvider(new DefaultExecuteListener(){
+                    @Override
+                    public void executeStart(ExecuteContext ctx) {
+                        statements.add(ctx.sql());
+                    }
+                }));
+        SomethingDao chunkingDao = new SomethingDao(configuration, Vertx.vertx()){
+            @Override
+            protected int maxBindValues() {
+                return 2;
+            }
+        };
+        List<KeyLookupStrategy> strategies = new ArrayList<>();
+        chunkingDao.setKeyLookupListener((strategy, keys) -> strategies.add(strategy));
+        CountDownLatch latch = new CountDownLatch(1);
+        chunkingDao.insertReturningPrimaries(Stream.generate(this::create).limit(5).collect(Collectors.toList()))
+                .compose(keys -> {
+                    statements.clear();
+                    return chunkingDao.findManyByIds(keys)
+                        .map(toVoid(values -> Assert.assertEquals(5, values.size())))
+                        //one statement per chunk of two keys
+                        .map(toVoid(v -> Assert.assertEquals(statements.toString(), 3, statements.size())))
+                        .compose(v -> chunkingDao.findManyByIds(keys.stream().mapToInt(Integer::intValue).toArray()))
+                        .map(toVoid(values -> Assert.assertEquals(5, values.size())))
+                        .map(toVoid(v -> Assert.assertEquals(statements.toString(), 6, statements.size())))
+                        .compose(v -> {
+                            chunkingDao.setValuesLookupThreshold(1);
+                            return chunkingDao.findManyByIds(keys);
+                        })
+                        .map(toVoid(values -> Assert.assertEquals(5, values.size())))
+                        .map(toVoid(v -> Assert.assertEquals(statements.toString(), 9, statements.size())))
+                        .compose(v -> chunkingDao.deleteByIds(keys))
+                        .map(toVoid(deleted -> Assert.assertEquals(5, deleted.intValue())))
+                        .map(toVoid(v -> Assert.assertEquals(statements.toString(), 12, statements.size())))
+                        .compose(v -> chunkingDao.findManyByIds(keys))
+                        .map(toVoid(values -> Assert.assertTrue(values.isEmpty())));
+                })
+                .map(toVoid(v -> Assert.assertEquals(Arrays.asList(KeyLookupStrategy.IN_LIST, KeyLookupStrategy.IN_LIST, KeyLookupStrategy.VALUES, KeyLookupStrategy.VALUES, KeyLookupStrategy.VALUES), strategies)))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void lookupsAboveThresholdShouldJoinValues() throws InterruptedException {
+        SomethingDao valuesDao = new SomethingDao(JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration(), Vertx.vertx());
+        List<KeyLookupStrategy> strategies = new ArrayList<>();
+        valuesDao.setValuesLookupThreshold(2);
+        valuesDao.setKeyLookupListener((strategy, keys) -> strategies.add(strategy));
+        CountDownLatch latch = new CountDownLatch(1);
+        valuesDao.insertReturningPrimaries(Arrays.asList(create(), create(), create()))
+                .compose(keys -> valuesDao.findManyByIds(keys)
+                        .map(toVoid(values -> Assert.assertEquals(keys, values.stream().map(Something::getSomeid).sorted().collect(Collectors.toList()))))
+                        .compose(v -> valuesDao.findManyByIds(keys.subList(0, 2)))
+                        .map(toVoid(values -> Assert.assertEquals(2, values.size())))
+                        .compose(v -> valuesDao.deleteByIds(keys))
+                        .map(toVoid(deleted -> Assert.assertEquals(3, deleted.intValue()))))
+                .map(toVoid(v -> Assert.assertEquals(Arrays.asList(KeyLookupStrategy.VALUES, KeyLookupStrategy.IN_LIST, KeyLookupStrategy.VALUES), strategies)))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void primitiveKeyLookupsShouldFindAndDelete() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        dao.insertReturningPrimaries(Arrays.asList(create(), create(), create()))
+                .compose(keys -> {
+                    int[] ids = keys.stream().mapToInt(Integer::intValue).toArray();
+                    return dao.findManyByIds(ids)
+                            .map(toVoid(values -> Assert.assertEquals(keys, values.stream().map(Something::getSomeid).sorted().collect(Collectors.toList()))))
+                            .compose(v -> dao.deleteByIds(ids))
+                            .map(toVoid(deleted -> Assert.assertEquals(3, deleted.intValue())))
+                            .compose(v -> dao.findManyByIds(ids))
+                            .map(toVoid(values -> Assert.assertTrue(values.isEmpty())));
+                })
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void findManyJsonByConditionShouldOnlyContainFetchGroup() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        insertAndReturn(create())
+                .compose(id -> dao.findManyJsonByCondition(eqPrimaryKey(id), SomethingDao.FETCH_GROUP_WITHOUT_LOBS)
+                        .map(toVoid(values -> {
+                            Assert.assertEquals(1L, values.size());
+                            JsonObject json = values.get(0);
+                            Assert.assertEquals(id, json.getInteger(Tables.SOMETHING.SOMEID.getName()));
+                            Assert.assertEquals("my_string", json.getString(Tables.SOMETHING.SOMESTRING.getName()));
+                            Assert.assertFalse(json.containsKey(Tables.SOMETHING.SOMEJSONOBJECT.getName()));
+                            Assert.assertFalse(json.containsKey(Tables.SOMETHING.SOMEJSONARRAY.getName()));
+                        }))
+                        .compose(v -> dao.deleteById(id)))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void sumAndMinShouldBeEvaluatedByDatabase() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Long someO = createSomeO();
+        Condition inserted = Tables.SOMETHING.SOMEHUGENUMBER.eq(someO);
+        dao.insertReturningPrimaries(Arrays.asList(setSomeO(create(), someO).setSomeregularnumber(1), setSomeO(create(), someO).setSomeregularnumber(2)))
+                .compose(keys -> dao.sumByCondition(Tables.SOMETHING.SOMEREGULARNUMBER, inserted)
+                        .map(toVoid(sum -> Assert.assertEquals(3L, sum.longValue())))
+                        .compose(v -> dao.minByCondition(Tables.SOMETHING.SOMEREGULARNUMBER, inserted))
+                        .map(toVoid(min -> Assert.assertEquals(1, min.intValue())))
+                        .compose(v -> dao.deleteByIds(keys))
+                        .compose(v -> dao.sumByCondition(Tables.SOMETHING.SOMEREGULARNUMBER, inserted))
+                        .map(toVoid(sum -> Assert.assertEquals(0L, sum.longValue())))
+                        .compose(v -> dao.minByCondition(Tables.SOMETHING.SOMEREGULARNUMBER, inserted))
+                        .map(toVoid(Assert::assertNull)))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void rangeAndTopNFindersShouldBeLimited() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        dao.insertReturningPrimaries(Arrays.asList(create(), create(), create()))
+                .compose(keys -> dao.findManyBySomeidBetween(keys.get(0), keys.get(2), 2, false)
+                        .map(toVoid(values -> Assert.assertEquals(keys.subList(0, 2), values.stream().map(Something::getSomeid).collect(Collectors.toList()))))
+                        .compose(v -> dao.findManyBySomeidBetween(keys.get(0), keys.get(2), 2, true))
+                        .map(toVoid(values -> Assert.assertEquals(Arrays.asList(keys.get(2), keys.get(1)), values.stream().map(Something::getSomeid).collect(Collectors.toList()))))
+                        .compose(v -> dao.findTopNBySomeid(1, true))
+                        .map(toVoid(values -> Assert.assertEquals(keys.subList(2, 3), values.stream().map(Something::getSomeid).collect(Collectors.toList()))))
+                        .compose(v -> dao.deleteByIds(keys)))
+                .setHandler(countdownLatchHandler(latch));
+        await(latch);
+    }
+
 }
@@ -0,0 +1,132 @@
+package io.github.jklingsporn.vertx.jooq.generate.classic.jdbc.regular;
+
+import generated.classic.jdbc.regular.vertx.tables.daos.SomethingDao;
+import generated.classic.jdbc.regular.vertx.tables.daos.SomethingindexedDao;
+import generated.classic.jdbc.regular.vertx.tables.pojos.Something;
+import generated.classic.jdbc.regular.vertx.tables.pojos.Somethingindexed;
+import io.github.jklingsporn.vertx.jooq.generate.JDBCDatabaseConfigurationProvider;
+import io.github.jklingsporn.vertx.jooq.generate.VertxGenerator;
+import io.github.jklingsporn.vertx.jooq.generate.classic.JDBCClassicVertxGeneratorStrategy;
+import io.vertx.core.Vertx;
+import org.jooq.Configuration;
+import org.jooq.util.GenerationTool;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static io.github.jklingsporn.vertx.jooq.generate.Await.await;
+
+/**
+ * Tests the finders generated for the composite unique key, the index and the foreign key of the
+ * <code>somethingIndexed</code>-table.
+ */
+public class SomethingIndexedDaoTest {
+
+    private static Vertx vertx;
+    private final Configuration configuration = JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration();
+    private final SomethingindexedDao dao = new SomethingindexedDao(configuration, vertx);
+    private final SomethingDao somethingDao = new SomethingDao(configuration, vertx);
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        vertx = Vertx.vertx();
+        JDBCDatabaseConfigurationProvider.getInstance().setupDatabase();
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        vertx.close();
+    }
+
+    private Somethingindexed create(String code, int version, String category, int rank){
+        return new Somethingindexed().setSomecode(code).setSomeversion(version).setSomecategory(category).setSomerank(rank);
+    }
+
+    @Test
+    public void findOneByUniqueKeyShouldMatchAllColumns() throws Exception {
+        String code = UUID.randomUUID().toString();
+        List<Integer> ids = await(dao.insertReturningPrimaries(Arrays.asList(create(code, 1, "a", 1), create(code, 2, "a", 1))));
+        Assert.assertEquals(ids.get(1), await(dao.findOneBySomecodeAndSomeversion(code, 2)).getSomeid());
+        Assert.assertNull(await(dao.findOneBySomecodeAndSomeversion(code, 3)));
+        Assert.assertTrue(await(dao.existsBySomecodeAndSomeversion(code, 1)));
+        Assert.assertFalse(await(dao.existsBySomecodeAndSomeversion(code, 3)));
+        Assert.assertEquals(2, await(dao.deleteByIds(ids)).intValue());
+    }
+
+    @Test
+    public void findManyByIndexPrefixShouldMatchAllColumns() throws Exception {
+        String category = UUID.randomUUID().toString();
+        List<Integer> ids = await(dao.insertReturningPrimaries(Arrays.asList(
+                create(UUID.randomUUID().toString(), 1, category, 1),
+                create(UUID.randomUUID().toString(), 1, category, 1),
+                create(UUID.randomUUID().toString(), 1, category, 2))));
+        List<Somethingindexed> found = await(dao.findManyBySomecategoryAndSomerank(category, 1));
+        Assert.assertEquals(ids.subList(0, 2), found.stream().map(Somethingindexed::getSomeid).sorted().collect(Collectors.toList()));
+        Assert.assertTrue(await(dao.findManyBySomecategoryAndSomerank(category, 3)).isEmpty());
+        Assert.assertEquals(3, await(dao.deleteByIds(ids)).intValue());
+    }
+
+    @Test
+    public void foreignKeyLoadersShouldGroupAndMapByKey() throws Exception {
+        List<Integer> parentIds = await(somethingDao.insertReturningPrimaries(Arrays.asList(new Something(), new Something(), new Something())));
+        List<Integer> childIds = await(dao.insertReturningPrimaries(Arrays.asList(
+                create(UUID.randomUUID().toString(), 1, "a", 1).setSomethingid(parentIds.get(0)),
+                create(UUID.randomUUID().toString(), 1, "a", 1).setSomethingid(parentIds.get(0)),
+                create(UUID.randomUUID().toString(), 1, "a", 1).setSomethingid(parentIds.get(1)))));
+        Map<Integer, List<Somethingindexed>> children = await(dao.findManyBySomethingidGrouped(parentIds));
+        Assert.assertEquals(parentIds, new ArrayList<>(children.keySet()));
+        Assert.assertEquals(childIds.subList(0, 2), children.get(parentIds.get(0)).stream().map(Somethingindexed::getSomeid).sorted().collect(Collectors.toList()));
+        Assert.assertEquals(childIds.subList(2, 3), children.get(parentIds.get(1)).stream().map(Somethingindexed::getSomeid).collect(Collectors.toList()));
+        Assert.assertTrue(children.get(parentIds.get(2)).isEmpty());
+        List<Integer> referenced = children.values().stream().flatMap(List::stream).map(Somethingindexed::getSomethingid).collect(Collectors.toList());
+        Map<Integer, Something> parents = await(somethingDao.findManyBySomeidMapped(referenced));
+        Assert.assertEquals(parentIds.subList(0, 2), new ArrayList<>(parents.keySet()));
+        Assert.assertEquals(parentIds.get(1), parents.get(parentIds.get(1)).getSomeid());
+        //the children are deleted by the foreign key
+        Assert.assertEquals(3, await(somethingDao.deleteByIds(parentIds)).intValue());
+        Assert.assertTrue(await(dao.findManyByIds(childIds)).isEmpty());
+    }
+
+    @Test
+    public void unindexedColumnsShouldNotGetFindersIfDisabled() throws Exception {
+        org.jooq.util.jaxb.Configuration generatorConfig = JDBCDatabaseConfigurationProvider.getInstance().createGeneratorConfig(
+                IndexedFindersOnlyGenerator.class.getName(), "classic.jdbc.indexed", JDBCClassicVertxGeneratorStrategy.class);
+        generatorConfig.getGenerator().getTarget().setDirectory(folder.getRoot().getAbsolutePath());
+        GenerationTool.generate(generatorConfig);
+        Path daoFile = folder.getRoot().toPath().resolve("generated/classic/jdbc/indexed/vertx/tables/daos/SomethingindexedDao.java");
+        String dao = new String(Files.readAllBytes(daoFile), StandardCharsets.UTF_8);
+        //leading columns of the unique key and of the indexes
+        Assert.assertTrue(dao.contains(" findManyBySomecode("));
+        Assert.assertTrue(dao.contains(" findManyBySomecategory("));
+        Assert.assertTrue(dao.contains(" findManyBySomethingid("));
+        Assert.assertTrue(dao.contains(" findOneBySomecodeAndSomeversion("));
+        Assert.assertTrue(dao.contains(" findManyBySomecategoryAndSomerank("));
+        Assert.assertFalse(dao.contains(" findManyBySomeversion("));
+        Assert.assertFalse(dao.contains(" findManyBySomerank("));
+        Assert.assertFalse(dao.contains(" findManyBySomenote("));
+    }
+
+    public static class IndexedFindersOnlyGenerator extends VertxGenerator {
+
+        public IndexedFindersOnlyGenerator() {
+            setGenerateFindersOnUnindexedColumns(false);
+        }
+    }
+
+}
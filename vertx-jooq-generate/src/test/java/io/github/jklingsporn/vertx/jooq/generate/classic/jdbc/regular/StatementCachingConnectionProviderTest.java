@@ -0,0 +1,102 @@
+package io.github.jklingsporn.vertx.jooq.generate.classic.jdbc.regular;
+
+import generated.classic.jdbc.regular.vertx.tables.daos.SomethingDao;
+import generated.classic.jdbc.regular.vertx.tables.pojos.Something;
+import io.github.jklingsporn.vertx.jooq.generate.JDBCDatabaseConfigurationProvider;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.StatementCachingConnectionProvider;
+import io.vertx.core.Vertx;
+import org.jooq.Configuration;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static io.github.jklingsporn.vertx.jooq.generate.Await.await;
+
+/**
+ * Tests the <code>StatementCachingConnectionProvider</code> with the single connection of the test configuration.
+ */
+public class StatementCachingConnectionProviderTest {
+
+    private static Vertx vertx;
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        vertx = Vertx.vertx();
+        JDBCDatabaseConfigurationProvider.getInstance().setupDatabase();
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        vertx.close();
+    }
+
+    private StatementCachingConnectionProvider cachingConfiguration(Configuration configuration, int maxStatementsPerConnection){
+        StatementCachingConnectionProvider provider = new StatementCachingConnectionProvider(configuration.connectionProvider(), maxStatementsPerConnection);
+        configuration.set(provider);
+        return provider;
+    }
+
+    @Test
+    public void repeatedStatementsShouldBeTakenFromCache() throws Exception {
+        Configuration configuration = JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration();
+        StatementCachingConnectionProvider provider = cachingConfiguration(configuration, 8);
+        SomethingDao dao = new SomethingDao(configuration, vertx);
+        Integer id = await(dao.insertReturningPrimary(new Something().setSomeregularnumber(1)));
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(id, await(dao.findOneById(id)).getSomeid());
+        }
+        Assert.assertEquals(2, provider.getHits());
+        Assert.assertEquals(2, provider.getMisses());
+        Assert.assertEquals(0.5, provider.getHitRate(), 0.0);
+        Assert.assertEquals(1, await(dao.deleteById(id)).intValue());
+        Assert.assertNull(await(dao.findOneById(id)));
+        Assert.assertEquals(0, provider.getEvictions());
+    }
+
+    @Test
+    public void evictedStatementsShouldBePreparedAgain() throws Exception {
+        Configuration configuration = JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration();
+        StatementCachingConnectionProvider provider = cachingConfiguration(configuration, 1);
+        SomethingDao dao = new SomethingDao(configuration, vertx);
+        Integer id = await(dao.insertReturningPrimary(new Something().setSomeregularnumber(2)));
+        Assert.assertEquals(id, await(dao.findOneById(id)).getSomeid());
+        Assert.assertTrue(await(dao.existsById(id)));
+        Assert.assertEquals(id, await(dao.findOneById(id)).getSomeid());
+        Assert.assertEquals(0, provider.getHits());
+        Assert.assertEquals(4, provider.getMisses());
+        Assert.assertEquals(3, provider.getEvictions());
+        Assert.assertEquals(1, await(dao.deleteById(id)).intValue());
+    }
+
+    @Test
+    public void cachedStatementsShouldBeResetWhenClosed() throws Exception {
+        Configuration configuration = JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration();
+        StatementCachingConnectionProvider provider = cachingConfiguration(configuration, 8);
+        Connection connection = provider.acquire();
+        try{
+            String sql = "SELECT * FROM vertx.something";
+            PreparedStatement statement = connection.prepareStatement(sql);
+            int fetchSize = statement.getFetchSize();
+            int maxRows = statement.getMaxRows();
+            int queryTimeout = statement.getQueryTimeout();
+            statement.setFetchSize(fetchSize + 50);
+            statement.setMaxRows(maxRows + 3);
+            statement.setQueryTimeout(queryTimeout + 7);
+            statement.close();
+            PreparedStatement cached = connection.prepareStatement(sql);
+            Assert.assertSame(statement, cached);
+            Assert.assertEquals(1, provider.getHits());
+            Assert.assertEquals(fetchSize, cached.getFetchSize());
+            Assert.assertEquals(maxRows, cached.getMaxRows());
+            Assert.assertEquals(queryTimeout, cached.getQueryTimeout());
+            Assert.assertNull(cached.getWarnings());
+            cached.close();
+        }finally {
+            provider.release(connection);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.jklingsporn.vertx.jooq.generate.classic.jdbc.regular;
+
+import generated.classic.jdbc.regular.vertx.tables.daos.SomethingDao;
+import generated.classic.jdbc.regular.vertx.tables.pojos.Something;
+import io.github.jklingsporn.vertx.jooq.generate.JDBCDatabaseConfigurationProvider;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.StripedConnectionProvider;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.jooq.Configuration;
+import org.jooq.SQLDialect;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DefaultConfiguration;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.github.jklingsporn.vertx.jooq.generate.Await.await;
+
+/**
+ * Tests the <code>StripedConnectionProvider</code> against the in-memory database.
+ */
+public class StripedConnectionProviderTest {
+
+    private static Vertx vertx;
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        vertx = Vertx.vertx(new VertxOptions().setWorkerPoolSize(4));
+        JDBCDatabaseConfigurationProvider.getInstance().setupDatabase();
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        vertx.close();
+    }
+
+    private static JDBCDataSource dataSource(){
+        JDBCDataSource dataSource = new JDBCDataSource();
+        dataSource.setUrl("jdbc:hsqldb:mem:test");
+        dataSource.setUser("test");
+        dataSource.setPassword("");
+        return dataSource;
+    }
+
+    @Test
+    public void concurrentQueriesShouldShareThePool() throws Exception {
+        StripedConnectionProvider provider = new StripedConnectionProvider(dataSource(), new VertxOptions().setWorkerPoolSize(4));
+        Configuration configuration = new DefaultConfiguration().set(SQLDialect.HSQLDB).set(provider);
+        SomethingDao dao = new SomethingDao(configuration, vertx);
+        List<Future> inserts = IntStream.range(0, 20)
+                .mapToObj(i -> dao.insertReturningPrimary(new Something().setSomeregularnumber(i)))
+                .collect(Collectors.toList());
+        List<Integer> ids = await(CompositeFuture.all(inserts)).list();
+        Assert.assertEquals(20, await(dao.findManyByIds(ids)).size());
+        Assert.assertEquals(20, await(dao.deleteByIds(ids)).intValue());
+        Assert.assertEquals(4, provider.getSize());
+        Assert.assertEquals(22, provider.getBorrows());
+        Assert.assertEquals(0, provider.getBorrowed());
+        Assert.assertEquals(0.0, provider.getUtilization(), 0.0);
+        provider.close();
+    }
+
+    @Test
+    public void threadShouldGetBackItsConnection() throws Exception {
+        StripedConnectionProvider provider = new StripedConnectionProvider(dataSource(), 2, 100);
+        Connection first = provider.acquire();
+        provider.release(first);
+        Connection second = provider.acquire();
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, provider.getAffineBorrows());
+        Assert.assertEquals(0.5, provider.getUtilization(), 0.0);
+        provider.release(second);
+        provider.close();
+        Assert.assertTrue(first.isClosed());
+    }
+
+    @Test
+    public void exhaustedPoolShouldTimeOut() throws Exception {
+        StripedConnectionProvider provider = new StripedConnectionProvider(dataSource(), 1, 50);
+        Connection connection = provider.acquire();
+        CompletableFuture<Connection> other = CompletableFuture.supplyAsync(provider::acquire);
+        try{
+            other.get(3, TimeUnit.SECONDS);
+            Assert.fail("Expected a timeout");
+        }catch (java.util.concurrent.ExecutionException e){
+            Assert.assertEquals(DataAccessException.class, e.getCause().getClass());
+        }
+        Assert.assertEquals(1, provider.getWaits());
+        Assert.assertTrue(provider.getMaxWaitMillis() >= 50);
+        Assert.assertEquals(1.0, provider.getUtilization(), 0.0);
+        provider.release(connection);
+        provider.close();
+    }
+}
@@ -0,0 +1,173 @@
+package io.github.jklingsporn.vertx.jooq.generate.classic.jdbc.regular;
+
+import generated.classic.jdbc.regular.vertx.Tables;
+import generated.classic.jdbc.regular.vertx.tables.daos.SomethingDao;
+import generated.classic.jdbc.regular.vertx.tables.pojos.Something;
+import generated.classic.jdbc.regular.vertx.tables.records.SomethingRecord;
+import io.github.jklingsporn.vertx.jooq.classic.TableScanner;
+import io.github.jklingsporn.vertx.jooq.classic.jdbc.JDBCClassicQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.generate.JDBCDatabaseConfigurationProvider;
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.jooq.Configuration;
+import org.jooq.TableField;
+import org.jooq.UniqueKey;
+import org.jooq.impl.*;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.github.jklingsporn.vertx.jooq.generate.Await.await;
+
+/**
+ * Tests the <code>TableScanner</code> against the JDBC-based <code>SomethingDao</code>.
+ */
+public class TableScannerTest {
+
+    private static Vertx vertx;
+    private final SomethingDao dao = new SomethingDao(JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration(), vertx);
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        vertx = Vertx.vertx();
+        JDBCDatabaseConfigurationProvider.getInstance().setupDatabase();
+        DSL.using(JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration()).execute("CREATE TABLE vertx.scanned (id BIGINT PRIMARY KEY)");
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        vertx.close();
+    }
+
+    private List<Integer> insert(int count) throws Exception {
+        List<Something> somethings = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            somethings.add(new Something().setSomeregularnumber(i));
+        }
+        return await(dao.insertReturningPrimaries(somethings));
+    }
+
+    @Test
+    public void scanShouldDeliverEveryRowOnceAndOnePageAtATime() throws Exception {
+        List<Integer> ids = insert(25);
+        TableScanner<SomethingRecord, Something, Integer> scanner = new TableScanner<>(dao, 4, 3);
+        AtomicBoolean consuming = new AtomicBoolean();
+        List<Integer> scanned = Collections.synchronizedList(new ArrayList<>());
+        Long count = await(scanner.scan(Tables.SOMETHING.SOMEID.in(ids), page -> {
+            Assert.assertTrue(consuming.compareAndSet(false, true));
+            Assert.assertTrue(page.size() <= 3);
+            page.forEach(something -> scanned.add(something.getSomeid()));
+            Future<Void> processed = Future.future();
+            vertx.setTimer(5, t -> {
+                consuming.set(false);
+                processed.complete();
+            });
+            return processed;
+        }));
+        Assert.assertEquals(25L, count.longValue());
+        Assert.assertEquals(25, scanned.size());
+        Assert.assertEquals(new HashSet<>(ids), new HashSet<>(scanned));
+        await(dao.deleteByIds(ids));
+    }
+
+    @Test
+    public void scanWithoutMatchingRowsShouldComplete() throws Exception {
+        TableScanner<SomethingRecord, Something, Integer> scanner = new TableScanner<>(dao, 4, 3);
+        Long count = await(scanner.scan(Tables.SOMETHING.SOMEID.lt(0), page -> Future.failedFuture("Unexpected page")));
+        Assert.assertEquals(0L, count.longValue());
+    }
+
+    @Test
+    public void failingConsumerShouldAbortScan() throws Exception {
+        List<Integer> ids = insert(10);
+        TableScanner<SomethingRecord, Something, Integer> scanner = new TableScanner<>(dao, 2, 2);
+        try{
+            await(scanner.scan(Tables.SOMETHING.SOMEID.in(ids), page -> Future.failedFuture("Consumer failed")));
+            Assert.fail("Expected failure");
+        }catch(ExecutionException e){
+            Assert.assertEquals("Consumer failed", e.getCause().getMessage());
+        }
+        await(dao.deleteByIds(ids));
+    }
+
+    @Test
+    public void scanShouldSplitTheWholeRangeOfLongKeys() throws Exception {
+        ScannedDao scannedDao = new ScannedDao(JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration(), vertx);
+        List<Long> ids = Arrays.asList(Long.MIN_VALUE, Long.MIN_VALUE + 1, -1L, 0L, 1L, Long.MAX_VALUE - 1, Long.MAX_VALUE);
+        for (Long id : ids) {
+            await(scannedDao.insert(new Scanned().setId(id)));
+        }
+        TableScanner<ScannedRecord, Scanned, Long> scanner = new TableScanner<>(scannedDao, 3, 2);
+        List<Long> scanned = Collections.synchronizedList(new ArrayList<>());
+        Long count = await(scanner.scan(page -> {
+            page.forEach(p -> scanned.add(p.getId()));
+            return Future.succeededFuture();
+        }));
+        Assert.assertEquals(ids.size(), count.intValue());
+        Assert.assertEquals(new HashSet<>(ids), new HashSet<>(scanned));
+        Assert.assertEquals(ids.size(), await(scannedDao.deleteByIds(ids)).intValue());
+    }
+
+    /**
+     * A table with a <code>BIGINT</code> primary key, created in {@link #beforeClass()}.
+     */
+    public static class ScannedTable extends TableImpl<ScannedRecord> {
+
+        public final TableField<ScannedRecord, Long> ID = createField("ID", SQLDataType.BIGINT.nullable(false), this);
+
+        private ScannedTable() {
+            super("SCANNED", new SchemaImpl("VERTX"));
+        }
+
+        @Override
+        public Class<ScannedRecord> getRecordType() {
+            return ScannedRecord.class;
+        }
+
+        @Override
+        public UniqueKey<ScannedRecord> getPrimaryKey() {
+            return Internal.createUniqueKey(this, ID);
+        }
+    }
+
+    public static final ScannedTable SCANNED = new ScannedTable();
+
+    public static class ScannedRecord extends UpdatableRecordImpl<ScannedRecord> {
+
+        public ScannedRecord() {
+            super(SCANNED);
+        }
+    }
+
+    public static class Scanned {
+
+        private Long id;
+
+        public Long getId() {
+            return id;
+        }
+
+        public Scanned setId(Long id) {
+            this.id = id;
+            return this;
+        }
+    }
+
+    public static class ScannedDao extends AbstractVertxDAO<ScannedRecord, Scanned, Long, Future<List<Scanned>>, Future<Scanned>, Future<Integer>, Future<Long>> {
+
+        public ScannedDao(Configuration configuration, Vertx vertx) {
+            super(SCANNED, Scanned.class, new JDBCClassicQueryExecutor<>(Scanned.class, configuration, vertx), configuration);
+        }
+
+        @Override
+        protected Long getId(Scanned object) {
+            return object.getId();
+        }
+    }
+}
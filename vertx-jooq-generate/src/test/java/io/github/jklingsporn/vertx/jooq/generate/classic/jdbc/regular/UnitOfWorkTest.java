@@ -0,0 +1,179 @@
+package io.github.jklingsporn.vertx.jooq.generate.classic.jdbc.regular;
+
+import generated.classic.jdbc.regular.vertx.tables.daos.SomethingDao;
+import generated.classic.jdbc.regular.vertx.tables.daos.SomethingcompositeDao;
+import generated.classic.jdbc.regular.vertx.tables.daos.SomethingindexedDao;
+import generated.classic.jdbc.regular.vertx.tables.pojos.Something;
+import generated.classic.jdbc.regular.vertx.tables.pojos.Somethingcomposite;
+import generated.classic.jdbc.regular.vertx.tables.pojos.Somethingindexed;
+import generated.classic.jdbc.regular.vertx.tables.records.SomethingcompositeRecord;
+import io.github.jklingsporn.vertx.jooq.classic.jdbc.JDBCClassicGenericQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.generate.JDBCDatabaseConfigurationProvider;
+import io.github.jklingsporn.vertx.jooq.shared.internal.UnitOfWork;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import org.jooq.Configuration;
+import org.jooq.Query;
+import org.jooq.Record2;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+
+import static io.github.jklingsporn.vertx.jooq.generate.Await.await;
+
+/**
+ * Tests coalescing and flushing of a <code>UnitOfWork</code> with the <code>JDBCClassicGenericQueryExecutor</code>.
+ */
+public class UnitOfWorkTest {
+
+    private static Vertx vertx;
+    private final Configuration configuration = JDBCDatabaseConfigurationProvider.getInstance().createDAOConfiguration();
+    private final JDBCClassicGenericQueryExecutor executor = new JDBCClassicGenericQueryExecutor(configuration, vertx);
+    private final SomethingDao somethingDao = new SomethingDao(configuration, vertx);
+    private final SomethingcompositeDao compositeDao = new SomethingcompositeDao(configuration, vertx);
+    private final SomethingindexedDao indexedDao = new SomethingindexedDao(configuration, vertx);
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        vertx = Vertx.vertx();
+        JDBCDatabaseConfigurationProvider.getInstance().setupDatabase();
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        vertx.close();
+    }
+
+    private Somethingcomposite createComposite(int someId, String value){
+        return new Somethingcomposite().setSomeid(someId).setSomesecondid(new Random().nextInt()).setSomejsonobject(new JsonObject().put("key", value));
+    }
+
+    private Record2<Integer, Integer> key(Somethingcomposite pojo){
+        SomethingcompositeRecord record = new SomethingcompositeRecord();
+        record.from(pojo);
+        return record.key();
+    }
+
+    @Test
+    public void writesShouldBeCoalescedPerRow() throws Exception {
+        int someId = new Random().nextInt();
+        Somethingcomposite inserted = createComposite(someId, "inserted");
+        Somethingcomposite dropped = createComposite(someId, "dropped");
+        UnitOfWork unitOfWork = new UnitOfWork()
+                .insert(compositeDao, inserted)
+                .update(compositeDao, new Somethingcomposite(inserted).setSomejsonobject(new JsonObject().put("key", "updated")))
+                .insert(compositeDao, dropped)
+                .delete(compositeDao, dropped);
+        List<Query> queries = unitOfWork.getQueries();
+        Assert.assertEquals(1, queries.size());
+        Assert.assertEquals(1, await(executor.flush(unitOfWork)).intValue());
+        Assert.assertEquals("updated", await(compositeDao.findOneById(key(inserted))).getSomejsonobject().getString("key"));
+        Assert.assertNull(await(compositeDao.findOneById(key(dropped))));
+
+        UnitOfWork second = new UnitOfWork()
+                .update(compositeDao, new Somethingcomposite(inserted).setSomejsonobject(new JsonObject().put("key", "first")))
+                .update(compositeDao, new Somethingcomposite(inserted).setSomejsonobject(new JsonObject().put("key", "second")));
+        Assert.assertEquals(1, second.getQueries().size());
+        await(executor.flush(second));
+        Assert.assertEquals("second", await(compositeDao.findOneById(key(inserted))).getSomejsonobject().getString("key"));
+        Assert.assertEquals(1, await(compositeDao.deleteById(key(inserted))).intValue());
+    }
+
+    @Test
+    public void writesShouldBeGroupedPerTableAndKind() throws Exception {
+        Integer id1 = await(somethingDao.insertReturningPrimary(new Something().setSomeregularnumber(1)));
+        Integer id2 = await(somethingDao.insertReturningPrimary(new Something().setSomeregularnumber(2)));
+        Integer id3 = await(somethingDao.insertReturningPrimary(new Something().setSomeregularnumber(3)));
+        int someId = new Random().nextInt();
+        Somethingcomposite composite1 = createComposite(someId, "1");
+        Somethingcomposite composite2 = createComposite(someId, "2");
+        UnitOfWork unitOfWork = new UnitOfWork()
+                .insert(compositeDao, composite1)
+                .update(somethingDao, await(somethingDao.findOneById(id1)).setSomeregularnumber(10))
+                .deleteById(somethingDao, id3)
+                .insert(compositeDao, composite2)
+                .update(somethingDao, await(somethingDao.findOneById(id2)).setSomeregularnumber(20));
+        //one insert, one update and one delete
+        Assert.assertEquals(3, unitOfWork.getQueries().size());
+        Assert.assertEquals(5, await(executor.flush(unitOfWork)).intValue());
+        Assert.assertEquals(10, await(somethingDao.findOneById(id1)).getSomeregularnumber().intValue());
+        Assert.assertEquals(20, await(somethingDao.findOneById(id2)).getSomeregularnumber().intValue());
+        Assert.assertNull(await(somethingDao.findOneById(id3)));
+        Assert.assertEquals(2, await(compositeDao.deleteByIds(Arrays.asList(key(composite1), key(composite2)))).intValue());
+        Assert.assertEquals(2, await(somethingDao.deleteByIds(Arrays.asList(id1, id2))).intValue());
+    }
+
+    @Test
+    public void failedFlushShouldRollBackAllWrites() throws Exception {
+        Integer id = await(somethingDao.insertReturningPrimary(new Something().setSomeregularnumber(1)));
+        Somethingcomposite existing = createComposite(new Random().nextInt(), "existing");
+        await(compositeDao.insert(existing));
+        UnitOfWork unitOfWork = new UnitOfWork()
+                .deleteById(somethingDao, id)
+                .insert(compositeDao, new Somethingcomposite(existing));
+        try{
+            await(executor.flush(unitOfWork));
+            Assert.fail("Expected a duplicate key");
+        }catch (ExecutionException e){
+            Assert.assertNotNull(e.getCause());
+        }
+        Assert.assertNotNull(await(somethingDao.findOneById(id)));
+        Assert.assertEquals(1, await(somethingDao.deleteById(id)).intValue());
+        Assert.assertEquals(1, await(compositeDao.deleteById(key(existing))).intValue());
+    }
+
+    @Test
+    public void writesShouldBeOrderedByForeignKeys() throws Exception {
+        //somethingIndexed references something
+        int parentId = Math.abs(new Random().nextInt());
+        Somethingindexed child = new Somethingindexed().setSomethingid(parentId).setSomecode(UUID.randomUUID().toString()).setSomeversion(1);
+        UnitOfWork inserts = new UnitOfWork()
+                .insert(indexedDao, child)
+                .insert(somethingDao, new Something().setSomeid(parentId).setSomeregularnumber(1));
+        List<Query> insertQueries = inserts.getQueries();
+        Assert.assertEquals(2, insertQueries.size());
+        Assert.assertTrue(insertQueries.get(0).getSQL().contains("SOMETHING\""));
+        Assert.assertTrue(insertQueries.get(1).getSQL().contains("SOMETHINGINDEXED"));
+        Assert.assertEquals(2, await(executor.flush(inserts)).intValue());
+
+        Integer childId = await(indexedDao.findOneBySomecodeAndSomeversion(child.getSomecode(), 1)).getSomeid();
+        UnitOfWork deletes = new UnitOfWork()
+                .deleteById(somethingDao, parentId)
+                .deleteById(indexedDao, childId);
+        List<Query> deleteQueries = deletes.getQueries();
+        Assert.assertEquals(2, deleteQueries.size());
+        Assert.assertTrue(deleteQueries.get(0).getSQL().contains("SOMETHINGINDEXED"));
+        Assert.assertTrue(deleteQueries.get(1).getSQL().contains("SOMETHING\""));
+        //deleting the parent first would cascade to the child and report one row only
+        Assert.assertEquals(2, await(executor.flush(deletes)).intValue());
+    }
+
+    @Test
+    public void deletesShouldBeSplitByBindValueLimit() throws Exception {
+        SomethingDao chunkingDao = new SomethingDao(configuration, vertx){
+            @Override
+            protected int maxBindValues() {
+                return 2;
+            }
+        };
+        List<Integer> ids = await(chunkingDao.insertReturningPrimaries(Arrays.asList(new Something(), new Something(), new Something())));
+        UnitOfWork unitOfWork = new UnitOfWork();
+        ids.forEach(id -> unitOfWork.deleteById(chunkingDao, id));
+        Assert.assertEquals(2, unitOfWork.getQueries().size());
+        Assert.assertEquals(3, await(executor.flush(unitOfWork)).intValue());
+        Assert.assertTrue(await(chunkingDao.findManyByIds(ids)).isEmpty());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void updatingPendingDeleteShouldFail() {
+        Somethingcomposite composite = createComposite(1, "value");
+        new UnitOfWork().delete(compositeDao, composite).update(compositeDao, composite);
+    }
+}
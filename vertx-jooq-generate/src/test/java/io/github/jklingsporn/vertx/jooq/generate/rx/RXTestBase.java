@@ -1,6 +1,6 @@
 package io.github.jklingsporn.vertx.jooq.generate.rx;
 
-import io.github.jklingsporn.vertx.jooq.shared.internal.GenericVertxDAO;
+import io.github.jklingsporn.vertx.jooq.rx.VertxDAO;
 import io.reactivex.Single;
 import io.reactivex.SingleObserver;
 import io.reactivex.disposables.Disposable;
@@ -14,6 +14,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
@@ -23,7 +24,7 @@ import java.util.stream.Collectors;
 /**
  * Created by jensklingsporn on 09.02.18.
  */
-public abstract class RXTestBase<P,T,O, DAO extends GenericVertxDAO<P, T, Single<List<P>>, Single<Optional<P>>, Single<Integer>, Single<T>>> {
+public abstract class RXTestBase<P,T,O, DAO extends VertxDAO<?, P, T>> {
 
     private static final Logger logger = LoggerFactory.getLogger(RXTestBase.class);
 
@@ -148,6 +149,159 @@ public abstract class RXTestBase<P,T,O, DAO extends GenericVertxDAO<P, T, Single
         await(latch);
     }
 
+    @Test
+    public void updateMultipleShouldSucceed() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        P something1 = createWithId();
+        P something2 = createWithId();
+        O someO = createSomeO();
+        List<T> ids = Arrays.asList(getId(something1), getId(something2));
+        dao.insert(Arrays.asList(something1, something2))
+                .flatMap(v -> dao.findManyByIds(ids))
+                .flatMap(values -> dao.update(values.stream().map(value -> setSomeO(value, someO)).collect(Collectors.toList())))
+                .doOnSuccess(updated -> Assert.assertEquals(2L, updated.longValue()))
+                .flatMap(v -> dao.findManyByCondition(otherfield.eq(someO)))
+                .doOnSuccess(values -> Assert.assertEquals(2L, values.size()))
+                .flatMap(v -> dao.deleteByIds(ids))
+                .subscribe(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void updateByIdShouldOnlyUpdateGivenColumns() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        O someO = createSomeO();
+        insertAndReturn(create())
+                .flatMap(id -> dao.findOneById(id)
+                        .flatMap(before -> dao.updateById(id, Collections.singletonMap(otherfield, someO))
+                                .doOnSuccess(updated -> Assert.assertEquals(1L, updated.longValue()))
+                                .flatMap(v -> dao.findOneById(id))
+                                //all other columns are unchanged
+                                .doOnSuccess(after -> Assert.assertEquals(setSomeO(before.get(), someO), after.get())))
+                        .flatMap(v -> dao.updateByCondition(eqPrimaryKey(id), Collections.singletonMap(otherfield, null)))
+                        .flatMap(v -> dao.findOneByCondition(otherfield.eq(someO)))
+                        .doOnSuccess(value -> Assert.assertFalse(value.isPresent()))
+                        .flatMap(v -> dao.deleteById(id)))
+                .subscribe(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void insertReturningPrimariesShouldReturnKeysInOrder() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        O someO = createSomeO();
+        dao.insertReturningPrimaries(Arrays.asList(setSomeO(create(), someO), create()))
+                .flatMap(keys -> {
+                    Assert.assertEquals(2, keys.size());
+                    return dao.findOneByCondition(otherfield.eq(someO).and(eqPrimaryKey(keys.get(0))))
+                            .doOnSuccess(value -> Assert.assertTrue(value.isPresent()))
+                            .flatMap(v -> dao.deleteByIds(keys))
+                            .doOnSuccess(deleted -> Assert.assertEquals(2L, deleted.longValue()));
+                })
+                .subscribe(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void findPageShouldSeekPastPreviousPage() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        dao.insertReturningPrimaries(Arrays.asList(create(), create(), create()))
+                .flatMap(keys -> {
+                    Condition inserted = eqPrimaryKey(keys.get(0)).or(eqPrimaryKey(keys.get(1))).or(eqPrimaryKey(keys.get(2)));
+                    return dao.findPageByCondition(inserted, 2, null)
+                            .flatMap(first -> {
+                                Assert.assertEquals(2, first.getItems().size());
+                                Assert.assertTrue(first.hasNext());
+                                return dao.findPageByCondition(inserted, 2, first.getContinuationToken())
+                                        .doOnSuccess(second -> {
+                                            Assert.assertEquals(1, second.getItems().size());
+                                            Assert.assertFalse(second.hasNext());
+                                            T lastId = getId(second.getItems().get(0));
+                                            Assert.assertTrue(first.getItems().stream().map(this::getId).noneMatch(lastId::equals));
+                                        });
+                            })
+                            .flatMap(v -> dao.deleteByIds(keys));
+                })
+                .subscribe(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void findManyByConditionShouldOnlySelectProjection() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        O someO = createSomeO();
+        insertAndReturn(setSomeO(create(), someO))
+                .flatMap(id -> dao.findManyByCondition(eqPrimaryKey(id), Collections.singletonList(otherfield))
+                        .doOnSuccess(values -> {
+                            Assert.assertEquals(1L, values.size());
+                            Assert.assertNotEquals(id, getId(values.get(0)));
+                        })
+                        .flatMap(v -> dao.findOneByCondition(otherfield.eq(someO), Collections.singletonList(otherfield)))
+                        .doOnSuccess(value -> Assert.assertTrue(value.isPresent()))
+                        .flatMap(v -> dao.deleteById(id)))
+                .subscribe(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void countAndExistsShouldBeEvaluatedByDatabase() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        O someO = createSomeO();
+        dao.insertReturningPrimaries(Arrays.asList(setSomeO(create(), someO), setSomeO(create(), someO)))
+                .flatMap(keys -> dao.countByCondition(otherfield.eq(someO))
+                        .doOnSuccess(count -> Assert.assertEquals(2L, count.longValue()))
+                        .flatMap(v -> dao.existsById(keys.get(0)))
+                        .doOnSuccess(Assert::assertTrue)
+                        .flatMap(v -> dao.maxByCondition(otherfield, otherfield.eq(someO)))
+                        .doOnSuccess(max -> Assert.assertEquals(Optional.of(someO), max))
+                        .flatMap(v -> dao.deleteByIds(keys))
+                        .flatMap(v -> dao.existsByCondition(otherfield.eq(someO)))
+                        .doOnSuccess(Assert::assertFalse))
+                .subscribe(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void findManyGroupedByShouldGroupByKey() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        O someO = createSomeO();
+        dao.insertReturningPrimaries(Arrays.asList(setSomeO(create(), someO), setSomeO(create(), someO)))
+                .flatMap(keys -> dao.findManyGroupedBy(otherfield, Arrays.asList(someO, someO))
+                        .doOnSuccess(groups -> {
+                            Assert.assertEquals(Collections.singleton(someO), groups.keySet());
+                            Assert.assertEquals(2L, groups.get(someO).size());
+                        })
+                        .flatMap(v -> dao.findManyMappedBy(otherfield, Collections.singletonList(someO)))
+                        .doOnSuccess(mapped -> Assert.fail("Expected TooManyRowsException"))
+                        .onErrorResumeNext(x -> {
+                            //both rows have the same key
+                            assertException(TooManyRowsException.class, x);
+                            return Single.just(Collections.emptyMap());
+                        })
+                        .flatMap(v -> dao.findManyGroupedBy(otherfield, Collections.emptyList()))
+                        .doOnSuccess(groups -> Assert.assertTrue(groups.isEmpty()))
+                        .flatMap(v -> dao.deleteByIds(keys)))
+                .subscribe(countdownLatchHandler(latch));
+        await(latch);
+    }
+
+    @Test
+    public void upsertShouldInsertAndUpdate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        P something1 = createWithId();
+        P something2 = createWithId();
+        O someO = createSomeO();
+        dao.upsert(something1)
+                .flatMap(v -> dao.upsert(Arrays.asList(setSomeO(something1, someO), something2)))
+                .flatMap(v -> dao.findManyByIds(Arrays.asList(getId(something1), getId(something2))))
+                .doOnSuccess(values -> Assert.assertEquals(2L, values.size()))
+                .flatMap(v -> dao.findManyByCondition(otherfield.eq(someO)))
+                .doOnSuccess(values -> Assert.assertEquals(1L, values.size()))
+                .flatMap(v -> dao.deleteByIds(Arrays.asList(getId(something1), getId(something2))))
+                .subscribe(countdownLatchHandler(latch));
+        await(latch);
+    }
+
     @Test
     public void asyncCRUDConditionShouldSucceed() throws InterruptedException {
         CountDownLatch latch = new CountDownLatch(1);
@@ -1,10 +1,20 @@
 package io.github.jklingsporn.vertx.jooq.rx.async;
 
 import io.github.jklingsporn.vertx.jooq.shared.async.AbstractAsyncQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.async.AsyncQueryResult;
+import io.github.jklingsporn.vertx.jooq.shared.async.BatchResult;
+import io.github.jklingsporn.vertx.jooq.shared.async.PinnedConnectionClient;
+import io.github.jklingsporn.vertx.jooq.shared.async.QueryBatch;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
+import io.github.jklingsporn.vertx.jooq.shared.internal.UnifiedQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.UnitOfWork;
+import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.sql.ResultSet;
 import io.vertx.ext.sql.UpdateResult;
+import io.vertx.reactivex.core.impl.AsyncResultCompletable;
+import io.vertx.reactivex.core.impl.AsyncResultSingle;
 import io.vertx.reactivex.ext.asyncsql.AsyncSQLClient;
 import org.jooq.Query;
 import org.jooq.Record;
@@ -18,7 +28,7 @@ import java.util.function.Function;
 /**
  * Created by jensklingsporn on 07.02.18.
  */
-public class AsyncRXGenericQueryExecutor extends AbstractAsyncQueryExecutor<Single<List<JsonObject>>,Single<Optional<JsonObject>>,Single<Integer>> {
+public class AsyncRXGenericQueryExecutor extends AbstractAsyncQueryExecutor<Single<List<JsonObject>>,Single<Optional<JsonObject>>,Single<Integer>> implements UnifiedQueryExecutor<Single<Integer>, Single<QueryResult>> {
 
     protected final AsyncSQLClient delegate;
 
@@ -37,6 +47,32 @@ public class AsyncRXGenericQueryExecutor extends AbstractAsyncQueryExecutor<Sing
                 );
     }
 
+    /**
+     * Executes the given queries one after another in one transaction on one connection of the pool, so either all or
+     * none of them are applied. If the executor's client is already in a transaction, the queries are executed in it.
+     * @param queries
+     * @return a single emitting the total number of affected rows.
+     */
+    @Override
+    public Single<Integer> executeBatch(List<? extends Query> queries) {
+        if(PinnedConnectionClient.isInTransaction(delegate.getDelegate())){
+            return updateAll(queries);
+        }
+        return transaction(client -> new AsyncRXGenericQueryExecutor(client).updateAll(queries));
+    }
+
+    private Single<Integer> updateAll(List<? extends Query> queries) {
+        return getConnection()
+                .flatMap(executeAndClose(sqlConnection ->
+                                Observable.fromIterable(queries)
+                                        .concatMap(query -> {
+                                            log(query);
+                                            return sqlConnection.rxUpdateWithParams(query.getSQL(), getBindValues(query)).toObservable();
+                                        })
+                                        .reduce(0, (sum, res) -> sum + res.getUpdated()))
+                );
+    }
+
     @Override
     public <Q extends Record> Single<List<JsonObject>> findManyJson(ResultQuery<Q> query) {
         log(query);
@@ -59,6 +95,72 @@ public class AsyncRXGenericQueryExecutor extends AbstractAsyncQueryExecutor<Sing
     }
 
 
+    @Override
+    public <Q extends Record> Single<QueryResult> query(ResultQuery<Q> query) {
+        log(query);
+        return getConnection().flatMap(executeAndClose(sqlConnection ->
+                sqlConnection.rxQueryWithParams(query.getSQL(), getBindValues(query)).map(AsyncQueryResult::new)));
+    }
+
+    /**
+     * @return a batch of queries sent back to back on one connection of the pool.
+     * @see QueryBatch
+     */
+    public QueryBatch<Single<BatchResult>> batch(){
+        return new QueryBatch<>(queries -> getConnection().flatMap(executeAndClose(sqlConnection ->
+                new AsyncResultSingle<BatchResult>(h -> executeBatch(sqlConnection.getDelegate(), queries, h)))));
+    }
+
+    /**
+     * Executes a unit of work on one connection of the pool: all DAOs and query executors created with the client
+     * passed to the unit, e.g. <code>new SomethingDao(configuration, client)</code>, share the connection. The
+     * connection is released when the single returned by the unit terminates.
+     * @param unit the unit of work.
+     * @param <X> the result type
+     * @return a single emitting the result of the unit of work after the connection has been released.
+     * @see PinnedConnectionClient
+     */
+    public <X> Single<X> session(Function<AsyncSQLClient, Single<X>> unit){
+        return withPinnedConnection(client -> unit.apply(AsyncSQLClient.newInstance(client)));
+    }
+
+    /**
+     * Executes a unit of work in a transaction on one connection of the pool, see {@link #session(Function)}. The
+     * transaction is committed when the single returned by the unit succeeds and rolled back otherwise.
+     * @param unit the unit of work.
+     * @param <X> the result type
+     * @return a single emitting the result of the unit of work after the transaction has been committed, or failing
+     * if it has been rolled back.
+     */
+    public <X> Single<X> transaction(Function<AsyncSQLClient, Single<X>> unit){
+        return withPinnedConnection(client -> new AsyncResultCompletable(client::begin)
+                .andThen(Single.defer(() -> unit.apply(AsyncSQLClient.newInstance(client))))
+                .flatMap(res -> new AsyncResultCompletable(h -> client.end(true, h)).andThen(Single.just(res)))
+                .onErrorResumeNext(x -> new AsyncResultCompletable(h -> client.end(false, h)).onErrorComplete().andThen(Single.error(x))));
+    }
+
+    /**
+     * Writes the pending changes of a unit of work back to back in one transaction, see {@link UnitOfWork}.
+     * @param unitOfWork the unit of work.
+     * @return a single emitting the number of written rows after the transaction has been committed.
+     */
+    public Single<Integer> flush(UnitOfWork unitOfWork){
+        List<Query> queries = unitOfWork.getQueries();
+        if(queries.isEmpty()){
+            return Single.just(0);
+        }
+        return transaction(client -> new AsyncRXGenericQueryExecutor(client).executeBatch(queries));
+    }
+
+    private <X> Single<X> withPinnedConnection(Function<PinnedConnectionClient, Single<X>> unit){
+        return getConnection().flatMap(sqlConnection -> {
+            PinnedConnectionClient client = new PinnedConnectionClient(sqlConnection.getDelegate());
+            return Single.defer(() -> unit.apply(client))
+                    .flatMap(res -> new AsyncResultCompletable(client::close).andThen(Single.just(res)))
+                    .onErrorResumeNext(x -> new AsyncResultCompletable(client::close).onErrorComplete().andThen(Single.error(x)));
+        });
+    }
+
     protected Single<io.vertx.reactivex.ext.sql.SQLConnection> getConnection(){
         return delegate.rxGetConnection();
     }
@@ -1,14 +1,21 @@
 package io.github.jklingsporn.vertx.jooq.rx.async;
 
+import io.github.jklingsporn.vertx.jooq.shared.async.AsyncQueryResult;
 import io.github.jklingsporn.vertx.jooq.shared.internal.QueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
 import io.reactivex.Single;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.json.JsonObject;
 import io.vertx.reactivex.ext.asyncsql.AsyncSQLClient;
 import org.jooq.InsertResultStep;
+import org.jooq.Record;
 import org.jooq.ResultQuery;
 import org.jooq.Table;
 import org.jooq.UpdatableRecord;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -31,6 +38,12 @@ public class AsyncRXQueryExecutor<R extends UpdatableRecord<R>,P,T> extends Asyn
         return findManyJson(query).map(rs -> rs.stream().map(pojoMapper).collect(Collectors.toList()));
     }
 
+    @Override
+    public Single<List<P>> findMany(List<? extends ResultQuery<R>> queries) {
+        return Single.concat(queries.stream().map(this::findMany).collect(Collectors.toList()))
+                .<List<P>>collect(ArrayList::new, List::addAll);
+    }
+
     @Override
     public Single<Optional<P>> findOne(ResultQuery<R> query) {
         return findOneJson(query).map(val->val.map(pojoMapper));
@@ -40,6 +53,15 @@ public class AsyncRXQueryExecutor<R extends UpdatableRecord<R>,P,T> extends Asyn
     @SuppressWarnings("unchecked")
     public Single<T> insertReturning(InsertResultStep<R> query, Function<Object, T> keyMapper) {
         log(query);
+        if(isReturningSupported(query)){
+            return getConnection()
+                    .flatMap(executeAndClose(sqlConnection ->
+                                            sqlConnection
+                                                    .rxQueryWithParams(query.getSQL(), getBindValues(query))
+                                                    .map(resultSet -> keyMapper.apply(new AsyncQueryResult(resultSet)))
+                            )
+                    );
+        }
         return getConnection()
                 .flatMap(executeAndClose(sqlConnection ->
                                         sqlConnection
@@ -49,4 +71,24 @@ public class AsyncRXQueryExecutor<R extends UpdatableRecord<R>,P,T> extends Asyn
                 );
     }
 
+    @Override
+    public void insertReturningRows(InsertResultStep<R> query, Handler<AsyncResult<QueryResult>> handler) {
+        log(query);
+        getConnection()
+                .flatMap(executeAndClose(sqlConnection -> isReturningSupported(query)
+                                        ? sqlConnection
+                                                .rxQueryWithParams(query.getSQL(), getBindValues(query))
+                                                .<QueryResult>map(AsyncQueryResult::new)
+                                        : sqlConnection
+                                                .rxUpdateWithParams(query.getSQL(), getBindValues(query))
+                                                .map(this::generatedKeys)
+                        )
+                )
+                .subscribe(res -> handler.handle(Future.succeededFuture(res)), x -> handler.handle(Future.failedFuture(x)));
+    }
+
+    @Override
+    public <Q extends Record> void query(ResultQuery<Q> query, Handler<AsyncResult<QueryResult>> handler) {
+        query(query).subscribe(res -> handler.handle(Future.succeededFuture(res)), x -> handler.handle(Future.failedFuture(x)));
+    }
 }
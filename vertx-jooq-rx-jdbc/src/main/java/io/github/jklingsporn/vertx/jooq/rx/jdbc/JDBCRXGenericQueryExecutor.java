@@ -1,20 +1,29 @@
 package io.github.jklingsporn.vertx.jooq.rx.jdbc;
 
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
+import io.github.jklingsporn.vertx.jooq.shared.internal.UnifiedQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.UnitOfWork;
 import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCQueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCQueryResult;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCTransaction;
 import io.reactivex.Single;
 import io.vertx.core.Handler;
 import io.vertx.reactivex.core.Future;
 import io.vertx.reactivex.core.Vertx;
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
 import org.jooq.impl.DSL;
 
+import java.util.List;
 import java.util.function.Function;
 
 /**
  * Created by jensklingsporn on 05.02.18.
  */
-public class JDBCRXGenericQueryExecutor implements JDBCQueryExecutor<Single<?>>{
+public class JDBCRXGenericQueryExecutor implements JDBCQueryExecutor<Single<?>>, UnifiedQueryExecutor<Single<Integer>, Single<QueryResult>> {
 
     protected final Configuration configuration;
     protected final Vertx vertx;
@@ -29,7 +38,90 @@ public class JDBCRXGenericQueryExecutor implements JDBCQueryExecutor<Single<?>>{
         return executeBlocking(h -> h.complete(function.apply(DSL.using(configuration))));
     }
 
+    @Override
+    public Single<Integer> execute(Query query) {
+        return executeBlocking(h -> h.complete(query.execute()));
+    }
+
+    /**
+     * Executes the given queries one after another as prepared statements in one transaction on one worker thread, so
+     * either all or none of them are applied. If the executor is already bound to a transaction, a savepoint is used.
+     * @param queries
+     * @return the total number of affected rows.
+     */
+    @Override
+    public Single<Integer> executeBatch(List<? extends Query> queries) {
+        return executeBlocking(h -> h.complete(JDBCTransaction.execute(configuration, vertx, tx -> tx.executeAll(queries))));
+    }
+
+    @Override
+    public <Q extends Record> Single<QueryResult> query(ResultQuery<Q> query) {
+        return executeBlocking(h -> h.complete(new JDBCQueryResult(query.fetch())));
+    }
+
+    /**
+     * Executes a unit of work in a transaction on one worker thread and one connection, e.g.
+     * <code>executor.transaction(tx -&gt; tx.dao(SomethingDao::new).insert(something))</code>. The returned single
+     * succeeds after the transaction has been committed.
+     * @param unit the unit of work. It may only use DAOs created by the transaction, so the single it returns
+     *             completes synchronously when subscribed.
+     * @param <X> the result type
+     * @return a single emitting the result of the unit of work, or failing if the transaction has been rolled back.
+     * @see JDBCTransaction
+     */
+    public <X> Single<X> transaction(Function<JDBCTransaction<Vertx>, Single<X>> unit){
+        return executeBlocking(h -> h.complete(JDBCTransaction.execute(configuration, vertx, tx -> {
+            Object[] result = new Object[1];
+            Throwable[] failure = new Throwable[1];
+            unit.apply(tx).subscribe(res -> result[0] = res, x -> failure[0] = x).dispose();
+            if(failure[0] != null){
+                throw failure[0];
+            }
+            if(result[0] == null){
+                throw new IllegalStateException("The unit of work has not been completed synchronously");
+            }
+            @SuppressWarnings("unchecked")
+            X x = (X) result[0];
+            return x;
+        })));
+    }
+
+    /**
+     * Writes the pending changes of a unit of work one after another in one transaction on one worker thread, see
+     * {@link UnitOfWork}.
+     * @param unitOfWork the unit of work.
+     * @return a single emitting the number of written rows after the transaction has been committed.
+     */
+    public Single<Integer> flush(UnitOfWork unitOfWork){
+        List<Query> queries = unitOfWork.getQueries();
+        if(queries.isEmpty()){
+            return Single.just(0);
+        }
+        return executeBatch(queries);
+    }
+
+    /**
+     * Executes the blocking code on the worker pool, or on the subscribing thread if the configuration is bound to a
+     * transaction.
+     */
     <X> Single<X> executeBlocking(Handler<Future<X>> blockingCodeHandler) {
+        if(JDBCTransaction.isBound(configuration)){
+            return Single.create(emitter -> {
+                io.vertx.core.Future<X> result = io.vertx.core.Future.future();
+                result.setHandler(h -> {
+                    if(h.succeeded()){
+                        emitter.onSuccess(h.result());
+                    }else{
+                        emitter.onError(h.cause());
+                    }
+                });
+                try{
+                    blockingCodeHandler.handle(Future.newInstance(result));
+                }catch(Throwable e){
+                    result.tryFail(e);
+                }
+            });
+        }
         return vertx.rxExecuteBlocking(blockingCodeHandler);
     }
 }
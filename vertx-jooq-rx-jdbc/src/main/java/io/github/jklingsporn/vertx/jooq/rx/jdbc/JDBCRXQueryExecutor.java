@@ -1,10 +1,16 @@
 package io.github.jklingsporn.vertx.jooq.rx.jdbc;
 
 import io.github.jklingsporn.vertx.jooq.shared.internal.QueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.JDBCQueryResult;
 import io.reactivex.Single;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.reactivex.core.Vertx;
 import org.jooq.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -27,17 +33,35 @@ public class JDBCRXQueryExecutor<R extends UpdatableRecord<R>,P,T> extends JDBCR
     }
 
     @Override
-    public Single<Optional<P>> findOne(ResultQuery<R> query) {
-        return executeBlocking(h -> h.complete(Optional.ofNullable(query.fetchOneInto(daoType))));
+    public Single<List<P>> findMany(List<? extends ResultQuery<R>> queries) {
+        return executeBlocking(h -> h.complete(fetchInto(queries)));
     }
 
     @Override
-    public Single<Integer> execute(Query query) {
-        return executeBlocking(h -> h.complete(query.execute()));
+    public Single<Optional<P>> findOne(ResultQuery<R> query) {
+        return executeBlocking(h -> h.complete(Optional.ofNullable(query.fetchOneInto(daoType))));
     }
 
     @Override
     public Single<T> insertReturning(InsertResultStep<R> query,Function<Object,T> keyMapper) {
         return executeBlocking(h -> h.complete(keyMapper.apply(query.fetchOne())));
     }
+
+    @Override
+    public void insertReturningRows(InsertResultStep<R> query, Handler<AsyncResult<QueryResult>> handler) {
+        this.<QueryResult>executeBlocking(h -> h.complete(new JDBCQueryResult(query.fetch()))).subscribe(res -> handler.handle(Future.succeededFuture(res)), x -> handler.handle(Future.failedFuture(x)));
+    }
+
+    @Override
+    public <Q extends Record> void query(ResultQuery<Q> query, Handler<AsyncResult<QueryResult>> handler) {
+        query(query).subscribe(res -> handler.handle(Future.succeededFuture(res)), x -> handler.handle(Future.failedFuture(x)));
+    }
+
+    private List<P> fetchInto(List<? extends ResultQuery<R>> queries) {
+        List<P> pojos = new ArrayList<>();
+        for (ResultQuery<R> query : queries) {
+            pojos.addAll(query.fetchInto(daoType));
+        }
+        return pojos;
+    }
 }
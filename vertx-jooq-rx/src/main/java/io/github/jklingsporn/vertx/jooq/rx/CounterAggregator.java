@@ -0,0 +1,54 @@
+package io.github.jklingsporn.vertx.jooq.rx;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractCounterAggregator;
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
+import io.reactivex.Single;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.jooq.TableField;
+import org.jooq.UpdatableRecord;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A {@code io.reactivex.Single}-based <code>AbstractCounterAggregator</code>. The <code>Single</code> returned by
+ * {@link #flush()} is lazy, so the pending deltas are collected when it is subscribed.
+ * @param <R> The {@code Record} type.
+ * @param <P> The POJO
+ * @param <T> The primary key.
+ */
+public class CounterAggregator<R extends UpdatableRecord<R>, P, T> extends AbstractCounterAggregator<R, P, T, Single<Optional<P>>, Single<Integer>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(CounterAggregator.class);
+
+    public CounterAggregator(AbstractVertxDAO<R, P, T, ?, Single<Optional<P>>, Single<Integer>, ?> dao, TableField<R, ? extends Number> counterField) {
+        this(dao, counterField, 10_000, 500);
+    }
+
+    public CounterAggregator(AbstractVertxDAO<R, P, T, ?, Single<Optional<P>>, Single<Integer>, ?> dao, TableField<R, ? extends Number> counterField, long flushThreshold, int maxKeysPerStatement) {
+        super(dao, counterField, flushThreshold, maxKeysPerStatement);
+    }
+
+    @Override
+    public Single<Integer> flush() {
+        return Single.defer(() -> {
+            List<FlushBatch> batches = prepareFlush();
+            List<Single<Integer>> results = new ArrayList<>(batches.size());
+            for (FlushBatch batch : batches) {
+                results.add(Single.defer(() -> execute(batch))
+                        .doOnEvent((updated, x) -> batch.complete(x == null))
+                        .doOnDispose(() -> batch.complete(false)));
+            }
+            return Single.merge(results).reduce(0, Integer::sum);
+        });
+    }
+
+    @Override
+    protected void flushInBackground() {
+        flush().subscribe(
+                updated -> {},
+                x -> logger.error("Failed flushing counters, deltas remain pending", x));
+    }
+}
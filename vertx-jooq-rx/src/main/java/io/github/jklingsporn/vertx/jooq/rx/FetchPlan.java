@@ -0,0 +1,69 @@
+package io.github.jklingsporn.vertx.jooq.rx;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractFetchPlan;
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
+import io.github.jklingsporn.vertx.jooq.shared.internal.FetchNode;
+import io.reactivex.Single;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonObject;
+import org.jooq.Condition;
+import org.jooq.ForeignKey;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A {@code io.reactivex.Single}-based <code>AbstractFetchPlan</code>.
+ * @param <P> The POJO of the root DAO
+ */
+public class FetchPlan<P> extends AbstractFetchPlan<P, Single<List<P>>> {
+
+    public FetchPlan(AbstractVertxDAO<?, P, ?, Single<List<P>>, ?, ?, ?> root) {
+        super(root);
+    }
+
+    /**
+     * Adds a step to this plan.
+     * @param path the path of the step, e.g. <code>"lines.product"</code>.
+     * @param dao the DAO of the step's table.
+     * @param foreignKey a single-column foreign key between the table of the parent step and the table of the DAO.
+     * @return this plan.
+     */
+    public FetchPlan<P> with(String path, AbstractVertxDAO<?, ?, ?, ? extends Single<? extends List<?>>, ?, ?, ?> dao, ForeignKey<?, ?> foreignKey){
+        addStep(path, dao, foreignKey);
+        return this;
+    }
+
+    /**
+     * Executes this plan. The queries are executed when the returned <code>Single</code> is subscribed.
+     * @param condition the condition selecting the root POJOs.
+     * @return a node per root POJO.
+     */
+    public Single<List<FetchNode<P>>> fetch(Condition condition){
+        return Single.create(emitter -> fetch(condition, h -> {
+            if(h.succeeded()){
+                emitter.onSuccess(h.result());
+            }else{
+                emitter.onError(h.cause());
+            }
+        }));
+    }
+
+    /**
+     * Executes this plan and converts the graph into JSON.
+     * @param condition the condition selecting the root POJOs.
+     * @return a <code>JsonObject</code> per root POJO.
+     * @see FetchNode#toJson()
+     */
+    public Single<List<JsonObject>> fetchJson(Condition condition){
+        return fetch(condition).map(nodes -> nodes.stream().map(FetchNode::toJson).collect(Collectors.toList()));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected void subscribe(Object result, Handler<AsyncResult<List<?>>> handler) {
+        ((Single<List<?>>) result).subscribe(res -> handler.handle(Future.succeededFuture(res)), x -> handler.handle(Future.failedFuture(x)));
+    }
+}
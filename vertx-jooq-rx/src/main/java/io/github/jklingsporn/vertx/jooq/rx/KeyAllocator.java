@@ -0,0 +1,75 @@
+package io.github.jklingsporn.vertx.jooq.rx;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractKeyAllocator;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
+import io.github.jklingsporn.vertx.jooq.shared.internal.UnifiedQueryExecutor;
+import io.reactivex.Single;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import org.jooq.*;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@code io.reactivex.Single}-based <code>AbstractKeyAllocator</code>. Keys are allocated when the returned
+ * <code>Single</code> is subscribed.
+ */
+public class KeyAllocator extends AbstractKeyAllocator<Single<Integer>, Single<QueryResult>> {
+
+    public KeyAllocator(UnifiedQueryExecutor<Single<Integer>, Single<QueryResult>> queryExecutor, Configuration configuration, Sequence<? extends Number> sequence, int blockSize) {
+        super(queryExecutor, configuration, sequence, blockSize);
+    }
+
+    public KeyAllocator(UnifiedQueryExecutor<Single<Integer>, Single<QueryResult>> queryExecutor, Configuration configuration, Table<?> table, Field<String> nameField, Field<? extends Number> hiField, String name, int blockSize) {
+        super(queryExecutor, configuration, table, nameField, hiField, name, blockSize);
+    }
+
+    /**
+     * @return the next key.
+     */
+    public Single<Long> nextKey(){
+        return nextKeys(1).map(keys -> keys.get(0));
+    }
+
+    /**
+     * @param count the number of keys to allocate.
+     * @return the allocated keys in ascending order.
+     */
+    public Single<List<Long>> nextKeys(int count){
+        return Single.create(emitter -> allocate(count, h -> {
+            if(h.succeeded()){
+                emitter.onSuccess(h.result());
+            }else{
+                emitter.onError(h.cause());
+            }
+        }));
+    }
+
+    /**
+     * Allocates one key per POJO and assigns it using the given setter, so the POJOs can be inserted afterwards.
+     * @param pojos the POJOs.
+     * @param keySetter sets the key on a POJO, e.g. <code>(p, key) -> p.setId(key.intValue())</code>.
+     * @param <P> the POJO-type
+     * @return the given POJOs with their keys set.
+     */
+    public <P> Single<List<P>> assignKeys(List<P> pojos, BiConsumer<? super P, Long> keySetter){
+        return nextKeys(pojos.size()).map(keys -> {
+            Iterator<Long> iterator = keys.iterator();
+            pojos.forEach(pojo -> keySetter.accept(pojo, iterator.next()));
+            return pojos;
+        });
+    }
+
+    @Override
+    protected void query(ResultQuery<?> query, Handler<AsyncResult<QueryResult>> handler) {
+        queryExecutor().query(query).subscribe(res -> handler.handle(Future.succeededFuture(res)), x -> handler.handle(Future.failedFuture(x)));
+    }
+
+    @Override
+    protected void execute(Query query, Handler<AsyncResult<Integer>> handler) {
+        queryExecutor().execute(query).subscribe(res -> handler.handle(Future.succeededFuture(res)), x -> handler.handle(Future.failedFuture(x)));
+    }
+}
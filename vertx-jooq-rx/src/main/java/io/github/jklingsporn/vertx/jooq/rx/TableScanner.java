@@ -0,0 +1,63 @@
+package io.github.jklingsporn.vertx.jooq.rx;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractTableScanner;
+import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
+import io.reactivex.Completable;
+import io.reactivex.Single;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import org.jooq.Condition;
+import org.jooq.UpdatableRecord;
+import org.jooq.impl.DSL;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A {@code io.reactivex.Single}-based <code>AbstractTableScanner</code>. The scan starts when the returned
+ * <code>Single</code> is subscribed.
+ * @param <R> The {@code Record} type.
+ * @param <P> The POJO
+ * @param <T> The primary key.
+ */
+public class TableScanner<R extends UpdatableRecord<R>, P, T> extends AbstractTableScanner<R, P, T, Single<List<P>>> {
+
+    public TableScanner(AbstractVertxDAO<R, P, T, Single<List<P>>, ?, ?, ?> dao, int partitions, int pageSize) {
+        super(dao, partitions, pageSize);
+    }
+
+    /**
+     * Scans all rows of the table.
+     * @param consumer processes a page. The next page is passed to the consumer after the returned
+     *                 <code>Completable</code> completed.
+     * @return the number of scanned rows.
+     */
+    public Single<Long> scan(Function<List<P>, Completable> consumer){
+        return scan(DSL.trueCondition(), consumer);
+    }
+
+    /**
+     * Scans all rows matching the given condition.
+     * @param condition the condition.
+     * @param consumer processes a page. The next page is passed to the consumer after the returned
+     *                 <code>Completable</code> completed.
+     * @return the number of scanned rows.
+     */
+    public Single<Long> scan(Condition condition, Function<List<P>, Completable> consumer){
+        return Single.create(emitter -> scan(condition,
+                (page, done) -> consumer.apply(page).subscribe(() -> done.handle(Future.succeededFuture()), x -> done.handle(Future.failedFuture(x))),
+                h -> {
+                    if(h.succeeded()){
+                        emitter.onSuccess(h.result());
+                    }else{
+                        emitter.onError(h.cause());
+                    }
+                }));
+    }
+
+    @Override
+    protected void subscribe(Single<List<P>> result, Handler<AsyncResult<List<P>>> handler) {
+        result.subscribe(res -> handler.handle(Future.succeededFuture(res)), x -> handler.handle(Future.failedFuture(x)));
+    }
+}
@@ -1,11 +1,21 @@
 package io.github.jklingsporn.vertx.jooq.rx;
 
 import io.github.jklingsporn.vertx.jooq.shared.internal.GenericVertxDAO;
+import io.github.jklingsporn.vertx.jooq.shared.internal.Page;
+import io.github.jklingsporn.vertx.jooq.shared.internal.VertxPojo;
 import io.reactivex.Single;
+import io.vertx.core.json.JsonObject;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.SortField;
 import org.jooq.UpdatableRecord;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * A {@code io.reactivex.Single}-based API. Unlike the other APIs, the result of the {@code findOne}-operation
@@ -17,5 +27,176 @@ import java.util.Optional;
  */
 public interface VertxDAO<R extends UpdatableRecord<R>, P, T> extends GenericVertxDAO<P, T, Single<List<P>>, Single<Optional<P>>, Single<Integer>, Single<T>> {
 
+    /**
+     * Performs an async <code>INSERT</code> statement for all given POJOs in one round trip and returns their
+     * primary keys in the order of the POJOs. The statement is executed when the returned <code>Single</code> is
+     * subscribed.
+     * @param pojos
+     * @return the primary keys.
+     * @see #insertReturningPrimaries(Collection, io.vertx.core.Handler)
+     */
+    default Single<List<T>> insertReturningPrimaries(Collection<P> pojos){
+        return Single.create(emitter -> insertReturningPrimaries(pojos, h -> {
+            if(h.succeeded()){
+                emitter.onSuccess(h.result());
+            }else{
+                emitter.onError(h.cause());
+            }
+        }));
+    }
+
+    /**
+     * Performs an async keyset-paginated <code>SELECT</code> using the given condition.
+     * @param condition
+     * @param limit the size of a page.
+     * @param continuationToken the token of the previous page or <code>null</code> to fetch the first page.
+     * @param sortFields columns of this DAO's table. The POJOs are ordered by primary key if none are given.
+     * @return the page.
+     * @see #findManyByCondition(Condition, int, Object[], SortField[])
+     */
+    default Single<Page<P>> findPageByCondition(Condition condition, int limit, String continuationToken, SortField<?>... sortFields){
+        Object[] seekValues = continuationToken == null ? null : seekValues(continuationToken, sortFields);
+        return findManyByCondition(condition, limit + 1, seekValues, sortFields).map(rows -> Page.of(rows, limit, last -> continuationToken(last, sortFields)));
+    }
+
+    /**
+     * Performs an async <code>SELECT</code> using the given condition that only selects the given columns and
+     * converts each row into a <code>JsonObject</code> containing these columns. The POJOs have to be generated with
+     * JSON-support.
+     * @param condition
+     * @param projection columns of this DAO's table, e.g. a fetch group of the generated DAO.
+     * @return the rows as JSON.
+     * @see #findManyByCondition(Condition, Collection)
+     */
+    default Single<List<JsonObject>> findManyJsonByCondition(Condition condition, Collection<? extends Field<?>> projection){
+        return findManyByCondition(condition, projection).map(pojos -> pojos.stream().map(pojo -> ((VertxPojo) pojo).toJson(projection)).collect(Collectors.toList()));
+    }
+
+    /**
+     * Performs an async <code>SELECT COUNT(*)</code> using the given condition. The query is executed when the
+     * returned <code>Single</code> is subscribed.
+     * @param condition
+     * @return the number of matching rows.
+     */
+    default Single<Long> countByCondition(Condition condition){
+        return Single.create(emitter -> countByCondition(condition, h -> {
+            if(h.succeeded()){
+                emitter.onSuccess(h.result());
+            }else{
+                emitter.onError(h.cause());
+            }
+        }));
+    }
+
+    /**
+     * Checks asynchronously whether a row matching the given condition exists. The query is executed when the
+     * returned <code>Single</code> is subscribed.
+     * @param condition
+     * @return <code>true</code> if a matching row exists.
+     */
+    default Single<Boolean> existsByCondition(Condition condition){
+        return Single.create(emitter -> existsByCondition(condition, h -> {
+            if(h.succeeded()){
+                emitter.onSuccess(h.result());
+            }else{
+                emitter.onError(h.cause());
+            }
+        }));
+    }
+
+    /**
+     * Checks asynchronously whether a row with the given primary key exists. The query is executed when the
+     * returned <code>Single</code> is subscribed.
+     * @param id
+     * @return <code>true</code> if the row exists.
+     */
+    default Single<Boolean> existsById(T id){
+        return Single.create(emitter -> existsById(id, h -> {
+            if(h.succeeded()){
+                emitter.onSuccess(h.result());
+            }else{
+                emitter.onError(h.cause());
+            }
+        }));
+    }
+
+    /**
+     * Performs an async <code>SELECT MIN(field)</code> using the given condition. The query is executed when the
+     * returned <code>Single</code> is subscribed.
+     * @param field a column of this DAO's table.
+     * @param condition
+     * @param <Z> the type of the column.
+     * @return the smallest value or an empty <code>Optional</code> if no row matches.
+     */
+    default <Z> Single<Optional<Z>> minByCondition(Field<Z> field, Condition condition){
+        return Single.create(emitter -> minByCondition(field, condition, h -> {
+            if(h.succeeded()){
+                emitter.onSuccess(Optional.ofNullable(h.result()));
+            }else{
+                emitter.onError(h.cause());
+            }
+        }));
+    }
+
+    /**
+     * Performs an async <code>SELECT MAX(field)</code> using the given condition. The query is executed when the
+     * returned <code>Single</code> is subscribed.
+     * @param field a column of this DAO's table.
+     * @param condition
+     * @param <Z> the type of the column.
+     * @return the largest value or an empty <code>Optional</code> if no row matches.
+     */
+    default <Z> Single<Optional<Z>> maxByCondition(Field<Z> field, Condition condition){
+        return Single.create(emitter -> maxByCondition(field, condition, h -> {
+            if(h.succeeded()){
+                emitter.onSuccess(Optional.ofNullable(h.result()));
+            }else{
+                emitter.onError(h.cause());
+            }
+        }));
+    }
+
+    /**
+     * Performs an async <code>SELECT SUM(field)</code> using the given condition. The query is executed when the
+     * returned <code>Single</code> is subscribed.
+     * @param field a numeric column of this DAO's table.
+     * @param condition
+     * @return the sum, which is zero if no row matches.
+     */
+    default Single<BigDecimal> sumByCondition(Field<? extends Number> field, Condition condition){
+        return Single.create(emitter -> sumByCondition(field, condition, h -> {
+            if(h.succeeded()){
+                emitter.onSuccess(h.result());
+            }else{
+                emitter.onError(h.cause());
+            }
+        }));
+    }
+
+    /**
+     * Performs async <code>SELECT</code>s for all POJOs whose column matches one of the given keys, e.g. to load the
+     * children of many parents at once. Instead of one query per key, only one query per chunk of keys is executed.
+     * @param field a column of this DAO's table, usually a foreign key.
+     * @param keys the keys.
+     * @param <Z> the type of the column.
+     * @return the POJOs grouped by key. Each key is contained, keys without POJOs are mapped to an empty list.
+     * @see #findManyIn(Field, Collection)
+     */
+    default <Z> Single<Map<Z, List<P>>> findManyGroupedBy(Field<Z> field, Collection<Z> keys){
+        return findManyIn(field, keys).map(pojos -> groupBy(field, keys, pojos));
+    }
+
+    /**
+     * Like {@link #findManyGroupedBy(Field, Collection)} but for a unique column, e.g. to load the parents referenced
+     * by many children at once.
+     * @param field a unique column of this DAO's table.
+     * @param keys the keys.
+     * @param <Z> the type of the column.
+     * @return the POJOs by key. Keys without POJO are not contained. Fails with a
+     * <code>TooManyRowsException</code> if more than one POJO has the same key.
+     */
+    default <Z> Single<Map<Z, P>> findManyMappedBy(Field<Z> field, Collection<Z> keys){
+        return findManyIn(field, keys).map(pojos -> mapBy(field, keys, pojos));
+    }
 
 }
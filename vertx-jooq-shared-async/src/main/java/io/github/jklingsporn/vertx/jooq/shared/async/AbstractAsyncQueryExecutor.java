@@ -1,10 +1,17 @@
 package io.github.jklingsporn.vertx.jooq.shared.async;
 
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
 import io.github.jklingsporn.vertx.jooq.shared.internal.async.AsyncQueryExecutor;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.ext.sql.ResultSet;
+import io.vertx.ext.sql.SQLConnection;
+import io.vertx.ext.sql.UpdateResult;
 import org.joda.time.DateTimeZone;
 import org.jooq.*;
 import org.jooq.conf.ParamType;
@@ -12,6 +19,8 @@ import org.jooq.conf.ParamType;
 import java.time.*;
 import java.time.temporal.ChronoField;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -68,6 +77,57 @@ public abstract class AbstractAsyncQueryExecutor<FIND_MANY_JSON, FIND_ONE_JSON,
         return convertToAsyncDriverTypes(param.getBinding().converter().to(param.getValue()));
     }
 
+    /**
+     * @param query an <code>INSERT ... RETURNING</code> statement.
+     * @return <code>true</code> if the <code>RETURNING</code>-clause is rendered, which is the case for Postgres.
+     * The <code>AsyncSQLClient</code> only returns the resulting rows when such a statement is executed as a query.
+     */
+    protected boolean isReturningSupported(Query query){
+        Configuration configuration = query.configuration();
+        return configuration != null && configuration.dialect().family() == SQLDialect.POSTGRES;
+    }
+
+    /**
+     * @param updateResult
+     * @return a <code>QueryResult</code> containing the keys generated by an <code>INSERT</code> as a single row.
+     */
+    protected QueryResult generatedKeys(UpdateResult updateResult){
+        return new AsyncQueryResult(new ResultSet(Collections.emptyList(), Collections.singletonList(updateResult.getKeys()), null));
+    }
+
+    /**
+     * Sends the queries of a {@link QueryBatch} back to back on the given connection, each one as soon as the previous
+     * one has returned. The connection is not closed.
+     * @param sqlConnection the connection.
+     * @param queries the queries.
+     * @param handler called with the results of all queries or the first failure.
+     */
+    protected void executeBatch(SQLConnection sqlConnection, List<Query> queries, Handler<AsyncResult<BatchResult>> handler){
+        executeBatch(sqlConnection, queries, new ArrayList<>(queries.size()), handler);
+    }
+
+    private void executeBatch(SQLConnection sqlConnection, List<Query> queries, List<Object> results, Handler<AsyncResult<BatchResult>> handler){
+        if(results.size() == queries.size()){
+            handler.handle(Future.succeededFuture(new BatchResult(queries, results)));
+            return;
+        }
+        Query query = queries.get(results.size());
+        log(query);
+        Handler<AsyncResult<?>> next = h -> {
+            if(h.succeeded()){
+                results.add(h.result());
+                executeBatch(sqlConnection, queries, results, handler);
+            }else{
+                handler.handle(Future.failedFuture(h.cause()));
+            }
+        };
+        if(query instanceof ResultQuery){
+            sqlConnection.queryWithParams(query.getSQL(), getBindValues(query), next::handle);
+        }else{
+            sqlConnection.updateWithParams(query.getSQL(), getBindValues(query), h -> next.handle(h.map(UpdateResult::getUpdated)));
+        }
+    }
+
     protected void log(Query query){
         if(logger.isDebugEnabled()){
             logger.debug("Executing {}", query.getSQL(ParamType.INLINED));
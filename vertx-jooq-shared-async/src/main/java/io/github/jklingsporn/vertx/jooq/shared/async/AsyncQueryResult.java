@@ -0,0 +1,75 @@
+package io.github.jklingsporn.vertx.jooq.shared.async;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
+import io.vertx.core.json.JsonArray;
+import io.vertx.ext.sql.ResultSet;
+import org.jooq.Field;
+import org.jooq.tools.Convert;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A <code>QueryResult</code> backed by the <code>ResultSet</code> of an <code>AsyncSQLClient</code>. Values are
+ * converted from the types returned by the async driver into the requested types on access.
+ */
+public class AsyncQueryResult implements QueryResult {
+
+    private final ResultSet resultSet;
+    private final JsonArray current;
+
+    public AsyncQueryResult(ResultSet resultSet) {
+        this(resultSet, resultSet.getNumRows() == 0 ? null : resultSet.getResults().get(0));
+    }
+
+    private AsyncQueryResult(ResultSet resultSet, JsonArray current) {
+        this.resultSet = resultSet;
+        this.current = current;
+    }
+
+    @Override
+    public <T> T get(Field<T> field) {
+        if(current == null){
+            return null;
+        }
+        Object value = current.getValue(indexOf(field.getName()));
+        if(field.getConverter() != null){
+            return Convert.convert(value, field.getConverter());
+        }
+        return Convert.convert(value, field.getType());
+    }
+
+    @Override
+    public <T> T get(int index, Class<T> type) {
+        return current == null ? null : Convert.convert(current.getValue(index), type);
+    }
+
+    @Override
+    public <T> T get(String columnName, Class<T> type) {
+        return current == null ? null : Convert.convert(current.getValue(indexOf(columnName)), type);
+    }
+
+    @Override
+    public boolean hasResults() {
+        return current != null;
+    }
+
+    @Override
+    public List<QueryResult> asList() {
+        return resultSet.getResults().stream().map(row -> new AsyncQueryResult(resultSet, row)).collect(Collectors.toList());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> U unwrap() {
+        return (U) resultSet;
+    }
+
+    private int indexOf(String columnName){
+        int index = resultSet.getColumnNames().indexOf(columnName);
+        if(index == -1){
+            throw new IllegalArgumentException(String.format("Column %s not found in %s", columnName, resultSet.getColumnNames()));
+        }
+        return index;
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.jklingsporn.vertx.jooq.shared.async;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.sql.ResultSet;
+import org.jooq.Query;
+import org.jooq.ResultQuery;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The results of a {@link QueryBatch}, addressable by the queries that have been added to the batch or by their
+ * position in it.
+ */
+public class BatchResult {
+
+    private final List<Query> queries;
+    private final List<Object> results;
+
+    /**
+     * @param queries the queries of the batch.
+     * @param results for each query either its <code>ResultSet</code> or the number of updated rows.
+     */
+    public BatchResult(List<Query> queries, List<Object> results) {
+        this.queries = queries;
+        this.results = results;
+    }
+
+    /**
+     * @return the number of queries in the batch.
+     */
+    public int size(){
+        return queries.size();
+    }
+
+    /**
+     * @param query a <code>ResultQuery</code> of the batch.
+     * @return the result of the query.
+     */
+    public QueryResult get(ResultQuery<?> query){
+        return get(indexOf(query));
+    }
+
+    /**
+     * @param index the position of a <code>ResultQuery</code> in the batch.
+     * @return the result of the query.
+     */
+    public QueryResult get(int index){
+        return new AsyncQueryResult(resultSet(index));
+    }
+
+    /**
+     * @param query a <code>ResultQuery</code> of the batch.
+     * @param mapper maps a row to the desired type. Values are passed as returned by the async driver, converters are
+     *               not applied.
+     * @param <P> the result type
+     * @return the mapped rows of the query.
+     */
+    public <P> List<P> getRows(ResultQuery<?> query, Function<JsonObject, P> mapper){
+        return resultSet(indexOf(query)).getRows().stream().map(mapper).collect(Collectors.toList());
+    }
+
+    /**
+     * @param query a query of the batch that is no <code>ResultQuery</code>.
+     * @return the number of rows updated by the query.
+     */
+    public int getUpdated(Query query){
+        return getUpdated(indexOf(query));
+    }
+
+    /**
+     * @param index the position of a query in the batch that is no <code>ResultQuery</code>.
+     * @return the number of rows updated by the query.
+     */
+    public int getUpdated(int index){
+        Object result = results.get(index);
+        if(!(result instanceof Integer)){
+            throw new IllegalArgumentException(String.format("Query %d is a ResultQuery", index));
+        }
+        return (Integer) result;
+    }
+
+    private ResultSet resultSet(int index){
+        Object result = results.get(index);
+        if(!(result instanceof ResultSet)){
+            throw new IllegalArgumentException(String.format("Query %d is no ResultQuery", index));
+        }
+        return (ResultSet) result;
+    }
+
+    private int indexOf(Query query){
+        //identity, since jOOQ's queries are equal if they render the same SQL
+        for (int i = 0; i < queries.size(); i++) {
+            if(queries.get(i) == query){
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Query is not part of the batch");
+    }
+}
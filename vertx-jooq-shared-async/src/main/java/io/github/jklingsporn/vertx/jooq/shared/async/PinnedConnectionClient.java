@@ -0,0 +1,262 @@
+package io.github.jklingsporn.vertx.jooq.shared.async;
+
+import com.github.mauricio.async.db.Connection;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonArray;
+import io.vertx.ext.asyncsql.AsyncSQLClient;
+import io.vertx.ext.sql.*;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An <code>AsyncSQLClient</code> that hands out the same connection on every <code>getConnection</code>, so all DAOs
+ * and query executors created with this client share one connection of the pool instead of checking out a connection
+ * per statement. Closing a handed out connection does nothing, the pinned connection is released when this client is
+ * closed.<br>
+ * The async query executors create such clients for their sessions and transactions, e.g.
+ * <code>executor.transaction(client -&gt; new SomethingDao(configuration, client).insert(something))</code>.
+ * Statements sent to the connection are executed in the order they have been sent, it is up to the caller to wait
+ * for a statement before sending the next one if it depends on its result.
+ */
+public class PinnedConnectionClient implements AsyncSQLClient {
+
+    private final SQLConnection connection;
+    private final SQLConnection pinned;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile boolean inTransaction;
+
+    /**
+     * @param connection the connection to pin. It is closed when this client is closed.
+     */
+    public PinnedConnectionClient(SQLConnection connection) {
+        this.connection = Objects.requireNonNull(connection);
+        this.pinned = new PinnedConnection();
+    }
+
+    @Override
+    public SQLClient getConnection(Handler<AsyncResult<SQLConnection>> handler) {
+        if(closed.get()){
+            handler.handle(Future.failedFuture(new IllegalStateException("Session has already been completed")));
+        }else{
+            handler.handle(Future.succeededFuture(pinned));
+        }
+        return this;
+    }
+
+    /**
+     * Starts a transaction on the pinned connection.
+     * @param handler called when the transaction has been started.
+     */
+    public void begin(Handler<AsyncResult<Void>> handler){
+        connection.setAutoCommit(false, begun -> {
+            inTransaction = begun.succeeded();
+            handler.handle(begun);
+        });
+    }
+
+    /**
+     * @param client a client.
+     * @return <code>true</code> if the client is a <code>PinnedConnectionClient</code> whose transaction has been
+     * started and not yet ended. The async query executors execute batches of such clients in that transaction
+     * instead of starting their own.
+     */
+    public static boolean isInTransaction(AsyncSQLClient client) {
+        return client instanceof PinnedConnectionClient && ((PinnedConnectionClient) client).inTransaction;
+    }
+
+    /**
+     * Ends the transaction started by {@link #begin(Handler)} and enables auto-commit again, so the connection can be
+     * returned to the pool. If auto-commit cannot be enabled, the connection is disconnected and released, so the pool
+     * discards it instead of handing it out with auto-commit disabled. Subsequent calls to <code>getConnection</code>
+     * fail in that case.
+     * @param commit <code>true</code> to commit the transaction, <code>false</code> to roll it back.
+     * @param handler called with the result of the commit or rollback.
+     */
+    public void end(boolean commit, Handler<AsyncResult<Void>> handler){
+        inTransaction = false;
+        Handler<AsyncResult<Void>> restoreAutoCommit = ended -> connection.setAutoCommit(true, restored -> {
+            if(restored.succeeded()){
+                handler.handle(ended);
+            }else{
+                discard(discarded -> handler.handle(ended.failed() ? ended : restored));
+            }
+        });
+        if(commit){
+            connection.commit(restoreAutoCommit);
+        }else{
+            connection.rollback(restoreAutoCommit);
+        }
+    }
+
+    /**
+     * Releases the pinned connection. Subsequent calls to <code>getConnection</code> fail.
+     * @param handler called when the connection has been released.
+     */
+    @Override
+    public void close(Handler<AsyncResult<Void>> handler) {
+        if(closed.compareAndSet(false, true)){
+            connection.close(handler);
+        }else{
+            handler.handle(Future.succeededFuture());
+        }
+    }
+
+    @Override
+    public void close() {
+        close(h -> {});
+    }
+
+    private void discard(Handler<AsyncResult<Void>> handler){
+        if(!closed.compareAndSet(false, true)){
+            handler.handle(Future.succeededFuture());
+            return;
+        }
+        Object unwrapped = connection.unwrap();
+        if(unwrapped instanceof Connection){
+            //the pool drops connections that are no longer connected
+            ((Connection) unwrapped).disconnect();
+        }
+        connection.close(handler);
+    }
+
+    /**
+     * Delegates to the pinned connection but ignores <code>close</code>, since the query executors close their
+     * connection after each statement.
+     */
+    private class PinnedConnection implements SQLConnection {
+
+        @Override
+        public SQLConnection setOptions(SQLOptions options) {
+            connection.setOptions(options);
+            return this;
+        }
+
+        @Override
+        public SQLConnection setAutoCommit(boolean autoCommit, Handler<AsyncResult<Void>> resultHandler) {
+            connection.setAutoCommit(autoCommit, resultHandler);
+            return this;
+        }
+
+        @Override
+        public SQLConnection execute(String sql, Handler<AsyncResult<Void>> resultHandler) {
+            connection.execute(sql, resultHandler);
+            return this;
+        }
+
+        @Override
+        public SQLConnection query(String sql, Handler<AsyncResult<ResultSet>> resultHandler) {
+            connection.query(sql, resultHandler);
+            return this;
+        }
+
+        @Override
+        public SQLConnection queryStream(String sql, Handler<AsyncResult<SQLRowStream>> handler) {
+            connection.queryStream(sql, handler);
+            return this;
+        }
+
+        @Override
+        public SQLConnection queryWithParams(String sql, JsonArray params, Handler<AsyncResult<ResultSet>> resultHandler) {
+            connection.queryWithParams(sql, params, resultHandler);
+            return this;
+        }
+
+        @Override
+        public SQLConnection queryStreamWithParams(String sql, JsonArray params, Handler<AsyncResult<SQLRowStream>> handler) {
+            connection.queryStreamWithParams(sql, params, handler);
+            return this;
+        }
+
+        @Override
+        public SQLConnection update(String sql, Handler<AsyncResult<UpdateResult>> resultHandler) {
+            connection.update(sql, resultHandler);
+            return this;
+        }
+
+        @Override
+        public SQLConnection updateWithParams(String sql, JsonArray params, Handler<AsyncResult<UpdateResult>> resultHandler) {
+            connection.updateWithParams(sql, params, resultHandler);
+            return this;
+        }
+
+        @Override
+        public SQLConnection call(String sql, Handler<AsyncResult<ResultSet>> resultHandler) {
+            connection.call(sql, resultHandler);
+            return this;
+        }
+
+        @Override
+        public SQLConnection callWithParams(String sql, JsonArray params, JsonArray outputs, Handler<AsyncResult<ResultSet>> resultHandler) {
+            connection.callWithParams(sql, params, outputs, resultHandler);
+            return this;
+        }
+
+        @Override
+        public void close(Handler<AsyncResult<Void>> handler) {
+            handler.handle(Future.succeededFuture());
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public SQLConnection commit(Handler<AsyncResult<Void>> handler) {
+            connection.commit(handler);
+            return this;
+        }
+
+        @Override
+        public SQLConnection rollback(Handler<AsyncResult<Void>> handler) {
+            connection.rollback(handler);
+            return this;
+        }
+
+        @Override
+        @Deprecated
+        @SuppressWarnings("deprecation")
+        public SQLConnection setQueryTimeout(int timeoutInSeconds) {
+            connection.setQueryTimeout(timeoutInSeconds);
+            return this;
+        }
+
+        @Override
+        public SQLConnection batch(List<String> sqlStatements, Handler<AsyncResult<List<Integer>>> handler) {
+            connection.batch(sqlStatements, handler);
+            return this;
+        }
+
+        @Override
+        public SQLConnection batchWithParams(String sqlStatement, List<JsonArray> args, Handler<AsyncResult<List<Integer>>> handler) {
+            connection.batchWithParams(sqlStatement, args, handler);
+            return this;
+        }
+
+        @Override
+        public SQLConnection batchCallableWithParams(String sqlStatement, List<JsonArray> inArgs, List<JsonArray> outArgs, Handler<AsyncResult<List<Integer>>> handler) {
+            connection.batchCallableWithParams(sqlStatement, inArgs, outArgs, handler);
+            return this;
+        }
+
+        @Override
+        public SQLConnection setTransactionIsolation(TransactionIsolation isolation, Handler<AsyncResult<Void>> handler) {
+            connection.setTransactionIsolation(isolation, handler);
+            return this;
+        }
+
+        @Override
+        public SQLConnection getTransactionIsolation(Handler<AsyncResult<TransactionIsolation>> handler) {
+            connection.getTransactionIsolation(handler);
+            return this;
+        }
+
+        @Override
+        public <N> N unwrap() {
+            return connection.unwrap();
+        }
+    }
+}
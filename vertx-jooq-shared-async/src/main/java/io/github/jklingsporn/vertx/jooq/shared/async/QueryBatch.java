@@ -0,0 +1,56 @@
+package io.github.jklingsporn.vertx.jooq.shared.async;
+
+import org.jooq.Query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Collects unrelated queries that are sent back to back on one connection of an <code>AsyncSQLClient</code>, e.g.
+ * <code>executor.batch().add(findUser).add(findOrders).add(countVisits).execute()</code>. Instead of checking out a
+ * connection of the pool for every query, the batch checks out one connection, sends each query as soon as the
+ * previous one has returned and releases the connection after the last one. The results are addressable by the
+ * queries that have been added, see {@link BatchResult}.<br>
+ * Queries of type <code>ResultQuery</code> are executed as queries, all other queries as updates. If one query fails,
+ * the batch fails and the remaining queries are not sent.
+ * @param <EXECUTE> the result type of {@link #execute()}, e.g. <code>Future&lt;BatchResult&gt;</code>.
+ */
+public class QueryBatch<EXECUTE> {
+
+    private final Function<List<Query>, EXECUTE> executor;
+    private final List<Query> queries = new ArrayList<>();
+
+    /**
+     * @param executor executes the collected queries in the order they have been added.
+     */
+    public QueryBatch(Function<List<Query>, EXECUTE> executor) {
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * @param query the query to add.
+     * @return this batch.
+     */
+    public QueryBatch<EXECUTE> add(Query query){
+        queries.add(Objects.requireNonNull(query));
+        return this;
+    }
+
+    /**
+     * @return the queries added so far.
+     */
+    public List<Query> getQueries() {
+        return Collections.unmodifiableList(queries);
+    }
+
+    /**
+     * Sends all queries added so far.
+     * @return the result of all queries, failed if any of them failed.
+     */
+    public EXECUTE execute(){
+        return executor.apply(new ArrayList<>(queries));
+    }
+}
@@ -0,0 +1,287 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.Arguments;
+import org.jooq.*;
+import org.jooq.impl.DSL;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates increments of a numeric column in memory and writes them back to the database in batches.
+ * Instead of issuing an <code>UPDATE t SET c = c + 1 WHERE id = ?</code> for every increment, the deltas are accumulated
+ * per key in striped <code>LongAdder</code>-cells and flushed as <code>UPDATE t SET c = c + CASE ... END WHERE id IN (...)</code>
+ * either periodically (see {@link #flushPeriodically(Vertx, long)}) or when the number of pending updates exceeds
+ * the flush threshold.<br>
+ * A failed flush does not lose any increments: the deltas stay pending and are written by the next flush.
+ * @param <R> the <code>Record</code> type.
+ * @param <P> the POJO-type
+ * @param <T> the Key-Type
+ * @param <FIND_ONE> the result type returned for all findOneXYZ-operations. This varies on the VertxDAO-subtypes , e.g. {@code Future<P>}.
+ * @param <EXECUTE> the result type returned for all insert, update and delete-operations. This varies on the VertxDAO-subtypes, e.g. {@code Future<Integer>}.
+ */
+public abstract class AbstractCounterAggregator<R extends UpdatableRecord<R>, P, T, FIND_ONE, EXECUTE> {
+
+    private final AbstractVertxDAO<R, P, T, ?, FIND_ONE, EXECUTE, ?> dao;
+    private final TableField<R, ? extends Number> counterField;
+    private final long flushThreshold;
+    private final int maxKeysPerStatement;
+    private final ConcurrentHashMap<T, Cell> cells = new ConcurrentHashMap<>();
+    private final LongAdder pendingUpdates = new LongAdder();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    /**
+     * Cells that have been evicted by the previous flush. Threads that obtained a reference to such a cell right
+     * before it got evicted might still add to it, so their late deltas are moved to a new cell by the next flush
+     * before they are dropped.
+     */
+    private List<Cell> evicted = new ArrayList<>();
+
+    /**
+     * @param dao the DAO used for rendering and executing the update-statements.
+     * @param counterField the numeric column to aggregate.
+     * @param flushThreshold the number of pending updates that automatically trigger a flush.
+     * @param maxKeysPerStatement the maximum number of keys written by one <code>UPDATE</code>-statement. Keep this
+     *                            below the bind value limit of your database.
+     */
+    protected AbstractCounterAggregator(AbstractVertxDAO<R, P, T, ?, FIND_ONE, EXECUTE, ?> dao, TableField<R, ? extends Number> counterField, long flushThreshold, int maxKeysPerStatement) {
+        Arguments.require(flushThreshold > 0, "flushThreshold must be positive");
+        Arguments.require(maxKeysPerStatement > 0, "maxKeysPerStatement must be positive");
+        this.dao = Objects.requireNonNull(dao);
+        this.counterField = Objects.requireNonNull(counterField);
+        this.flushThreshold = flushThreshold;
+        this.maxKeysPerStatement = maxKeysPerStatement;
+    }
+
+    /**
+     * Increments the counter of the given key by one.
+     * @param key the primary key of the row to increment.
+     */
+    public void increment(T key){
+        add(key, 1L);
+    }
+
+    /**
+     * Adds the given delta to the counter of the given key. This method does not block and does not touch the
+     * database, unless the flush threshold has been reached.
+     * @param key the primary key of the row to update.
+     * @param delta the delta, may be negative.
+     */
+    public void add(T key, long delta){
+        Objects.requireNonNull(key);
+        cells.computeIfAbsent(key, Cell::new).adder.add(delta);
+        pendingUpdates.increment();
+        if(pendingUpdates.sum() >= flushThreshold && flushRequested.compareAndSet(false, true)){
+            flushInBackground();
+        }
+    }
+
+    /**
+     * @param key the primary key.
+     * @return the delta that has been added to the given key but has not been written to the database yet.
+     */
+    public long getPendingDelta(T key){
+        Cell cell = cells.get(key);
+        return cell == null ? 0L : cell.pending();
+    }
+
+    /**
+     * Performs an async <code>SELECT</code> using the given primary key. The counter column of the returned POJO
+     * contains the approximate current value, that is the persisted value plus the pending delta.
+     * @param key the primary key.
+     * @return the result type returned for all find-one-value-operations.
+     */
+    @SuppressWarnings("unchecked")
+    public FIND_ONE findOneById(T key){
+        long pendingDelta = getPendingDelta(key);
+        SelectQuery<R> query = DSL.using(dao.configuration()).selectQuery(dao.getTable());
+        for (Field<?> field : dao.getTable().fields()) {
+            if(field.equals(counterField)){
+                query.addSelect(((Field<Number>) counterField).add(pendingDelta).as(counterField.getName()));
+            }else{
+                query.addSelect(field);
+            }
+        }
+        query.addConditions(dao.equalKey(key));
+        return dao.queryExecutor().findOne(query);
+    }
+
+    /**
+     * Periodically flushes the pending deltas.
+     * @param vertx the vertx instance used for scheduling.
+     * @param delayMillis the delay between two flushes.
+     * @return the timer id, use it to cancel the periodic flush.
+     */
+    public long flushPeriodically(Vertx vertx, long delayMillis){
+        return vertx.setPeriodic(delayMillis, id -> flushInBackground());
+    }
+
+    /**
+     * Writes all pending deltas to the database.
+     * @return the result type returned for all insert, update and delete-operations. It contains the number of
+     * updated rows.
+     */
+    public abstract EXECUTE flush();
+
+    /**
+     * Runs {@link #flush()} without waiting for its result. Implementations should log failures: the affected deltas
+     * stay pending and are retried with the next flush.
+     */
+    protected abstract void flushInBackground();
+
+    /**
+     * Claims all cells with a pending delta and renders the statements that write them back. Each claimed cell is
+     * excluded from subsequent flushes until the batch it belongs to has been completed, so callers <b>must</b>
+     * complete every returned batch exactly once.
+     * @return the batches to execute, empty if there is nothing to flush.
+     */
+    protected synchronized List<FlushBatch> prepareFlush(){
+        flushRequested.set(false);
+        pendingUpdates.reset();
+        List<Cell> stale = evicted;
+        evicted = new ArrayList<>();
+        for (Cell cell : stale) {
+            long late = cell.drain();
+            if(late != 0){
+                cells.computeIfAbsent(cell.key, Cell::new).adder.add(late);
+            }
+        }
+        List<Cell> dirty = new ArrayList<>();
+        for (Cell cell : cells.values()) {
+            if(cell.claim()){
+                dirty.add(cell);
+            }else if(cell.isEvictable() && cells.remove(cell.key, cell)){
+                evicted.add(cell);
+            }
+        }
+        List<FlushBatch> batches = new ArrayList<>();
+        for (int i = 0; i < dirty.size(); i += maxKeysPerStatement) {
+            batches.add(new FlushBatch(dirty.subList(i, Math.min(dirty.size(), i + maxKeysPerStatement))));
+        }
+        return batches;
+    }
+
+    /**
+     * @param batch the batch to execute.
+     * @return the result of executing the batch's statement. Callers have to call {@link FlushBatch#complete(boolean)}
+     * after the statement has been executed.
+     */
+    protected EXECUTE execute(FlushBatch batch){
+        return dao.queryExecutor().execute(batch.query);
+    }
+
+    /**
+     * A set of claimed cells that is written back by one <code>UPDATE</code>-statement.
+     */
+    protected class FlushBatch {
+
+        private final List<Cell> claimed;
+        private final Query query;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        @SuppressWarnings("unchecked")
+        private FlushBatch(List<Cell> claimed) {
+            this.claimed = new ArrayList<>(claimed);
+            CaseConditionStep<Long> delta = null;
+            List<T> keys = new ArrayList<>(claimed.size());
+            for (Cell cell : claimed) {
+                Condition keyCondition = dao.equalKey(cell.key);
+                Field<Long> value = DSL.val(cell.snapshot - cell.flushed);
+                delta = delta == null ? DSL.decode().when(keyCondition, value) : delta.when(keyCondition, value);
+                keys.add(cell.key);
+            }
+            Field<Number> field = (Field<Number>) counterField;
+            this.query = DSL.using(dao.configuration())
+                    .update(dao.getTable())
+                    .set(field, field.add(delta))
+                    .where(dao.equalKeys(keys));
+        }
+
+        /**
+         * @return the number of keys written by this batch.
+         */
+        public int size(){
+            return claimed.size();
+        }
+
+        /**
+         * Releases the claimed cells. Subsequent invocations are ignored.
+         * @param succeeded whether the statement has been executed successfully. If <code>false</code>, the deltas
+         *                  stay pending.
+         */
+        public void complete(boolean succeeded){
+            if(!completed.compareAndSet(false, true)){
+                return;
+            }
+            for (Cell cell : claimed) {
+                synchronized (cell){
+                    if(succeeded){
+                        cell.flushed = cell.snapshot;
+                    }
+                    cell.inFlight = false;
+                }
+            }
+        }
+    }
+
+    private class Cell {
+        private final T key;
+        private final LongAdder adder = new LongAdder();
+        //the following fields are guarded by this cell's monitor
+        private long flushed;
+        private long snapshot;
+        private boolean inFlight;
+        private int idleFlushes;
+
+        private Cell(T key) {
+            this.key = key;
+        }
+
+        private long pending(){
+            long written;
+            synchronized (this){
+                written = flushed;
+            }
+            return adder.sum() - written;
+        }
+
+        /**
+         * @return <code>true</code> if this cell has a pending delta and has been claimed for the current flush.
+         */
+        private synchronized boolean claim(){
+            if(inFlight){
+                return false;
+            }
+            long sum = adder.sum();
+            if(sum == flushed){
+                idleFlushes++;
+                return false;
+            }
+            idleFlushes = 0;
+            inFlight = true;
+            snapshot = sum;
+            return true;
+        }
+
+        /**
+         * @return <code>true</code> if nothing has been added to this cell during the last two flushes.
+         */
+        private synchronized boolean isEvictable(){
+            return !inFlight && idleFlushes >= 2;
+        }
+
+        /**
+         * Marks everything that has been added to this evicted cell as written.
+         * @return the delta that has been added after the cell got evicted.
+         */
+        private synchronized long drain(){
+            long sum = adder.sum();
+            long late = sum - flushed;
+            flushed = sum;
+            return late;
+        }
+    }
+
+}
@@ -0,0 +1,244 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.impl.Arguments;
+import org.jooq.*;
+import org.jooq.impl.DSL;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Loads a graph of POJOs along foreign keys with one query per step instead of one query per row. First the POJOs of
+ * the root DAO are loaded, then each step loads the POJOs of its DAO for all nodes of its parent step at once using
+ * <code>IN</code>-conditions (see {@link AbstractVertxDAO#inConditions(Field, Collection)}). A plan with
+ * <code>n</code> steps therefore executes <code>n + 1</code> queries, unless a step has so many keys that its
+ * condition is split into chunks.<br>
+ * Steps are identified by their path: <code>"lines"</code> is a step of the root, <code>"lines.product"</code> a
+ * step of the <code>"lines"</code>-step. Parents have to be added before their steps. Depending on the direction of
+ * the foreign key, a step is either one-to-many (the step's table references the parent's table) or many-to-one (the
+ * parent's table references the step's table). For self-referencing foreign keys, the step is one-to-many.<br>
+ * A plan can be executed several times, but must not be modified while being executed.
+ * @param <P> the POJO-type of the root DAO
+ * @param <FIND_MANY> the result type returned for all findManyXYZ-operations. This varies on the VertxDAO-subtypes, e.g. {@code Future<List<P>>}.
+ */
+public abstract class AbstractFetchPlan<P, FIND_MANY> {
+
+    private final AbstractVertxDAO<?, P, ?, FIND_MANY, ?, ?, ?> root;
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+
+    /**
+     * @param root the DAO of the root POJOs.
+     */
+    protected AbstractFetchPlan(AbstractVertxDAO<?, P, ?, FIND_MANY, ?, ?, ?> root) {
+        this.root = Objects.requireNonNull(root);
+    }
+
+    /**
+     * Adds a step to this plan.
+     * @param path the path of the step. Its last segment is the name of the step.
+     * @param dao the DAO of the step's table. It has to be of the same VertxDAO-subtype as the root DAO.
+     * @param foreignKey a single-column foreign key between the table of the parent step and the table of the DAO.
+     */
+    @SuppressWarnings("unchecked")
+    protected void addStep(String path, AbstractVertxDAO<?, ?, ?, ?, ?, ?, ?> dao, ForeignKey<?, ?> foreignKey){
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(dao);
+        Objects.requireNonNull(foreignKey);
+        Arguments.require(!steps.containsKey(path), "Duplicate step "+path);
+        int separator = path.lastIndexOf('.');
+        String parentPath = separator < 0 ? "" : path.substring(0, separator);
+        String name = path.substring(separator + 1);
+        Arguments.require(!name.isEmpty(), "Empty step name in "+path);
+        Arguments.require(parentPath.isEmpty() || steps.containsKey(parentPath), "Unknown parent step "+parentPath);
+        Arguments.require(foreignKey.getFields().size() == 1, "Only single-column foreign keys are supported: "+foreignKey.getName());
+        Table<?> parentTable = parentPath.isEmpty() ? root.getTable() : steps.get(parentPath).dao.getTable();
+        Field<Object> foreignKeyField = (Field<Object>) foreignKey.getFields().get(0);
+        Field<Object> keyField = (Field<Object>) foreignKey.getKey().getFields().get(0);
+        Step step;
+        if(foreignKey.getTable().equals(dao.getTable()) && foreignKey.getKey().getTable().equals(parentTable)){
+            step = new Step(parentPath, name, dao, keyField, foreignKeyField, true);
+        }else if(foreignKey.getTable().equals(parentTable) && foreignKey.getKey().getTable().equals(dao.getTable())){
+            step = new Step(parentPath, name, dao, foreignKeyField, keyField, false);
+        }else{
+            throw new IllegalArgumentException(String.format("%s does not connect %s and %s", foreignKey.getName(), parentTable.getName(), dao.getTable().getName()));
+        }
+        steps.put(path, step);
+    }
+
+    /**
+     * Executes this plan.
+     * @param condition the condition selecting the root POJOs.
+     * @param handler the handler receiving a node per root POJO.
+     */
+    @SuppressWarnings("unchecked")
+    protected void fetch(Condition condition, Handler<AsyncResult<List<FetchNode<P>>>> handler){
+        Objects.requireNonNull(condition);
+        Objects.requireNonNull(handler);
+        findMany(() -> root.findManyByCondition(condition), res -> {
+            if(res.failed()){
+                handler.handle(Future.failedFuture(res.cause()));
+                return;
+            }
+            List<FetchNode<?>> nodes = new ArrayList<>(res.result().size());
+            for (Object pojo : res.result()) {
+                nodes.add(new FetchNode<>(pojo));
+            }
+            Map<String, List<FetchNode<?>>> nodesByPath = new HashMap<>();
+            nodesByPath.put("", nodes);
+            fetchSteps(new ArrayList<>(steps.entrySet()).iterator(), nodesByPath, done -> {
+                if(done.failed()){
+                    handler.handle(Future.failedFuture(done.cause()));
+                }else{
+                    handler.handle(Future.succeededFuture((List<FetchNode<P>>) (List<?>) nodes));
+                }
+            });
+        });
+    }
+
+    /**
+     * Passes the result of a find-many-operation of any DAO of this plan to the handler.
+     * @param result the result of the find-many-operation.
+     * @param handler the handler.
+     */
+    protected abstract void subscribe(Object result, Handler<AsyncResult<List<?>>> handler);
+
+    private void findMany(Supplier<Object> query, Handler<AsyncResult<List<?>>> handler){
+        try{
+            subscribe(query.get(), handler);
+        }catch(Throwable e){
+            handler.handle(Future.failedFuture(e));
+        }
+    }
+
+    private void fetchSteps(Iterator<Map.Entry<String, Step>> remaining, Map<String, List<FetchNode<?>>> nodesByPath, Handler<AsyncResult<Void>> handler){
+        if(!remaining.hasNext()){
+            handler.handle(Future.succeededFuture());
+            return;
+        }
+        Map.Entry<String, Step> entry = remaining.next();
+        Step step = entry.getValue();
+        List<FetchNode<?>> parents = nodesByPath.get(step.parentPath);
+        AbstractVertxDAO<?, ?, ?, ?, ?, ?, ?> parentDao = step.parentPath.isEmpty() ? root : steps.get(step.parentPath).dao;
+        Set<Object> keys = new LinkedHashSet<>();
+        for (FetchNode<?> parent : parents) {
+            keys.add(valueOf(parentDao, parent.getPojo(), step.parentField));
+        }
+        List<Condition> conditions;
+        try{
+            conditions = step.dao.inConditions(step.field, keys);
+        }catch(Throwable e){
+            handler.handle(Future.failedFuture(e));
+            return;
+        }
+        findChunks(step.dao, conditions, res -> {
+            if(res.failed()){
+                handler.handle(Future.failedFuture(res.cause()));
+                return;
+            }
+            nodesByPath.put(entry.getKey(), step.attach(parents, parentDao, res.result()));
+            fetchSteps(remaining, nodesByPath, handler);
+        });
+    }
+
+    private void findChunks(AbstractVertxDAO<?, ?, ?, ?, ?, ?, ?> dao, List<Condition> conditions, Handler<AsyncResult<List<Object>>> handler){
+        if(conditions.isEmpty()){
+            handler.handle(Future.succeededFuture(Collections.emptyList()));
+            return;
+        }
+        Chunks chunks = new Chunks(conditions.size(), handler);
+        for (Condition condition : conditions) {
+            findMany(() -> dao.findManyByCondition(condition), chunks::onChunk);
+        }
+    }
+
+    private static Object valueOf(AbstractVertxDAO<?, ?, ?, ?, ?, ?, ?> dao, Object pojo, Field<Object> field){
+        return DSL.using(dao.configuration()).newRecord(dao.getTable(), pojo).get(field);
+    }
+
+    /**
+     * Collects the POJOs of the chunks of a step that are queried concurrently.
+     */
+    private static class Chunks {
+
+        private final Handler<AsyncResult<List<Object>>> handler;
+        //the following fields are guarded by this object's monitor
+        private final List<Object> pojos = new ArrayList<>();
+        private int pending;
+        private boolean done;
+
+        private Chunks(int pending, Handler<AsyncResult<List<Object>>> handler) {
+            this.pending = pending;
+            this.handler = handler;
+        }
+
+        private void onChunk(AsyncResult<List<?>> res){
+            synchronized (this){
+                if(done){
+                    return;
+                }
+                if(res.succeeded()){
+                    pojos.addAll(res.result());
+                    done = --pending == 0;
+                }else{
+                    done = true;
+                }
+            }
+            if(res.failed()){
+                handler.handle(Future.failedFuture(res.cause()));
+            }else if(done){
+                handler.handle(Future.succeededFuture(pojos));
+            }
+        }
+    }
+
+    private static class Step {
+
+        private final String parentPath;
+        private final String name;
+        private final AbstractVertxDAO<?, ?, ?, ?, ?, ?, ?> dao;
+        /**
+         * The column of the parent's table holding the key.
+         */
+        private final Field<Object> parentField;
+        /**
+         * The column of the step's table that is compared with the parent's key.
+         */
+        private final Field<Object> field;
+        private final boolean many;
+
+        private Step(String parentPath, String name, AbstractVertxDAO<?, ?, ?, ?, ?, ?, ?> dao, Field<Object> parentField, Field<Object> field, boolean many) {
+            this.parentPath = parentPath;
+            this.name = name;
+            this.dao = dao;
+            this.parentField = parentField;
+            this.field = field;
+            this.many = many;
+        }
+
+        /**
+         * Attaches the loaded POJOs to their parents.
+         * @return the distinct nodes of this step.
+         */
+        private List<FetchNode<?>> attach(List<FetchNode<?>> parents, AbstractVertxDAO<?, ?, ?, ?, ?, ?, ?> parentDao, List<Object> pojos){
+            Map<Object, List<FetchNode<?>>> nodesByKey = new HashMap<>();
+            List<FetchNode<?>> nodes = new ArrayList<>(pojos.size());
+            for (Object pojo : pojos) {
+                FetchNode<?> node = new FetchNode<>(pojo);
+                nodesByKey.computeIfAbsent(valueOf(dao, pojo, field), k -> new ArrayList<>()).add(node);
+                nodes.add(node);
+            }
+            for (FetchNode<?> parent : parents) {
+                List<FetchNode<?>> matches = nodesByKey.getOrDefault(valueOf(parentDao, parent.getPojo(), parentField), Collections.emptyList());
+                if(many){
+                    parent.setMany(name, matches);
+                }else{
+                    parent.setOne(name, matches.isEmpty() ? null : matches.get(0));
+                }
+            }
+            return nodes;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.impl.Arguments;
+import org.jooq.*;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+
+import java.util.*;
+
+/**
+ * Allocates numeric primary keys on the client side using the hi/lo-algorithm: a <i>hi</i>-value is obtained from the
+ * database and reserves the block of keys <code>[hi * blockSize, (hi + 1) * blockSize)</code>. Keys of that block are
+ * then handed out from memory, so the database is only contacted once per block. Because each hi-value is obtained
+ * atomically, several allocators - even on different nodes - never hand out the same key.<br>
+ * The hi-value is either taken from a sequence or from a row in a hi/lo-table. In the latter case, the row is
+ * incremented with an optimistic compare-and-set, so no transaction is required.<br>
+ * Keys are never reused, so there will be gaps, e.g. when the application restarts. The key <code>0</code> is never
+ * handed out.
+ * @param <EXECUTE> the result type returned for all insert, update and delete-operations. This varies on the subtypes, e.g. {@code Future<Integer>}.
+ * @param <QUERY> the result type returned for all queries. This varies on the subtypes, e.g. {@code Future<QueryResult>}.
+ */
+public abstract class AbstractKeyAllocator<EXECUTE, QUERY> {
+
+    private static final int MAX_RETRIES = 16;
+
+    private final UnifiedQueryExecutor<EXECUTE, QUERY> queryExecutor;
+    private final Configuration configuration;
+    private final int blockSize;
+    private final Sequence<? extends Number> sequence;
+    private final Table<?> table;
+    private final Field<String> nameField;
+    private final Field<? extends Number> hiField;
+    private final String name;
+    //the following fields are guarded by this allocator's monitor
+    private long next;
+    private long limit;
+    private boolean fetching;
+    private final Deque<Request> waiting = new ArrayDeque<>();
+
+    /**
+     * Creates an allocator that obtains its hi-values from the given sequence. The sequence must not be used for
+     * anything else.
+     * @param queryExecutor the executor used to query the sequence.
+     * @param configuration the configuration used to render the queries.
+     * @param sequence the sequence.
+     * @param blockSize the number of keys reserved by one hi-value.
+     */
+    protected AbstractKeyAllocator(UnifiedQueryExecutor<EXECUTE, QUERY> queryExecutor, Configuration configuration, Sequence<? extends Number> sequence, int blockSize) {
+        this(queryExecutor, configuration, Objects.requireNonNull(sequence), null, null, null, null, blockSize);
+    }
+
+    /**
+     * Creates an allocator that obtains its hi-values from a hi/lo-table. The row identified by <code>name</code> has
+     * to exist before the first key is allocated, its hi-column should be initialized with <code>0</code>.
+     * @param queryExecutor the executor used to query and update the table.
+     * @param configuration the configuration used to render the queries.
+     * @param table the hi/lo-table.
+     * @param nameField the column identifying the row, e.g. the name of the table the keys are allocated for.
+     * @param hiField the column holding the next hi-value.
+     * @param name the value of <code>nameField</code>.
+     * @param blockSize the number of keys reserved by one hi-value.
+     */
+    protected AbstractKeyAllocator(UnifiedQueryExecutor<EXECUTE, QUERY> queryExecutor, Configuration configuration, Table<?> table, Field<String> nameField, Field<? extends Number> hiField, String name, int blockSize) {
+        this(queryExecutor, configuration, null, Objects.requireNonNull(table), Objects.requireNonNull(nameField), Objects.requireNonNull(hiField), Objects.requireNonNull(name), blockSize);
+    }
+
+    private AbstractKeyAllocator(UnifiedQueryExecutor<EXECUTE, QUERY> queryExecutor, Configuration configuration, Sequence<? extends Number> sequence, Table<?> table, Field<String> nameField, Field<? extends Number> hiField, String name, int blockSize) {
+        Arguments.require(blockSize > 0, "blockSize must be positive");
+        this.queryExecutor = Objects.requireNonNull(queryExecutor);
+        this.configuration = Objects.requireNonNull(configuration);
+        this.sequence = sequence;
+        this.table = table;
+        this.nameField = nameField;
+        this.hiField = hiField;
+        this.name = name;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * @return the number of keys reserved by one hi-value.
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    protected UnifiedQueryExecutor<EXECUTE, QUERY> queryExecutor(){
+        return queryExecutor;
+    }
+
+    /**
+     * Allocates the given number of keys. The handler is called immediately if the current block contains enough
+     * keys, otherwise as soon as the next block has been reserved. Requests are served in the order they arrive.
+     * @param count the number of keys to allocate.
+     * @param handler the handler receiving the keys in ascending order.
+     */
+    protected void allocate(int count, Handler<AsyncResult<List<Long>>> handler){
+        Arguments.require(count >= 0, "count must not be negative");
+        synchronized (this){
+            waiting.add(new Request(count, handler));
+        }
+        serveWaiting();
+    }
+
+    /**
+     * Executes the given query.
+     * @param query the query.
+     * @param handler the handler receiving the result.
+     */
+    protected abstract void query(ResultQuery<?> query, Handler<AsyncResult<QueryResult>> handler);
+
+    /**
+     * Executes the given statement.
+     * @param query the statement.
+     * @param handler the handler receiving the number of affected rows.
+     */
+    protected abstract void execute(Query query, Handler<AsyncResult<Integer>> handler);
+
+    private void serveWaiting(){
+        List<Request> completed = new ArrayList<>();
+        boolean fetch = false;
+        synchronized (this){
+            while(!waiting.isEmpty()){
+                Request request = waiting.peek();
+                while(request.keys.size() < request.count && next < limit){
+                    request.keys.add(next++);
+                }
+                if(request.keys.size() < request.count){
+                    fetch = !fetching;
+                    fetching = true;
+                    break;
+                }
+                completed.add(waiting.poll());
+            }
+        }
+        //handlers are invoked outside of the lock
+        for (Request request : completed) {
+            request.handler.handle(Future.succeededFuture(request.keys));
+        }
+        if(fetch){
+            try{
+                fetchHi(MAX_RETRIES, this::onHi);
+            }catch(Throwable e){
+                onHi(Future.failedFuture(e));
+            }
+        }
+    }
+
+    private void onHi(AsyncResult<Long> hi){
+        if(hi.succeeded()){
+            synchronized (this){
+                fetching = false;
+                next = Math.max(1, hi.result() * blockSize);
+                limit = (hi.result() + 1) * blockSize;
+            }
+            serveWaiting();
+        }else{
+            List<Request> failed;
+            synchronized (this){
+                fetching = false;
+                failed = new ArrayList<>(waiting);
+                waiting.clear();
+            }
+            for (Request request : failed) {
+                request.handler.handle(Future.failedFuture(hi.cause()));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fetchHi(int retries, Handler<AsyncResult<Long>> handler){
+        DSLContext dslContext = DSL.using(configuration);
+        if(sequence != null){
+            query(dslContext.select(sequence.nextval()), res -> handler.handle(res.map(r -> r.get(0, Long.class))));
+            return;
+        }
+        query(dslContext.select(hiField).from(table).where(nameField.eq(name)), res -> {
+            if(res.failed()){
+                handler.handle(Future.failedFuture(res.cause()));
+                return;
+            }
+            Long hi = res.result().get(0, Long.class);
+            if(hi == null){
+                handler.handle(Future.failedFuture(new DataAccessException(String.format("No row %s in %s", name, table.getName()))));
+                return;
+            }
+            Field<Number> field = (Field<Number>) hiField;
+            execute(dslContext.update(table).set(field, field.add(1)).where(nameField.eq(name).and(field.eq(hi))), updated -> {
+                if(updated.failed()){
+                    handler.handle(Future.failedFuture(updated.cause()));
+                }else if(updated.result() == 1){
+                    handler.handle(Future.succeededFuture(hi));
+                }else if(retries > 0){
+                    //another allocator reserved this block in the meantime
+                    fetchHi(retries - 1, handler);
+                }else{
+                    handler.handle(Future.failedFuture(new DataAccessException(String.format("Failed reserving a block of keys for %s after %d retries", name, MAX_RETRIES))));
+                }
+            });
+        });
+    }
+
+    private static class Request {
+        private final int count;
+        private final List<Long> keys;
+        private final Handler<AsyncResult<List<Long>>> handler;
+
+        private Request(int count, Handler<AsyncResult<List<Long>>> handler) {
+            this.count = count;
+            this.keys = new ArrayList<>(count);
+            this.handler = handler;
+        }
+    }
+}
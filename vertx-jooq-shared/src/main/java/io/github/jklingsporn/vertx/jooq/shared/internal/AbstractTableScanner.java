@@ -0,0 +1,272 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.impl.Arguments;
+import org.jooq.*;
+import org.jooq.impl.DSL;
+
+import java.math.BigInteger;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Scans all rows of a table matching a condition using several concurrent queries. The table is split into ranges of
+ * its primary key and each range is read page by page using keyset pagination (see
+ * {@link GenericVertxDAO#findManyByCondition(Condition, int, Object[], SortField[])}), so every range occupies its own
+ * connection while the pages are delivered to a single consumer one after another.<br>
+ * The ranges are derived from the smallest and largest key matching the condition and have equal width, so tables
+ * with a numeric single-column primary key whose values are roughly evenly distributed benefit most. Tables with a
+ * composite or non-numeric primary key are scanned in a single range.<br>
+ * While the consumer processes a page, the next page of the same range is already being fetched. A range does not
+ * fetch further pages until its buffered page has been handed to the consumer, so at most two pages per range are
+ * held in memory.
+ * @param <R> the <code>Record</code> type.
+ * @param <P> the POJO-type
+ * @param <T> the Key-Type
+ * @param <FIND_MANY> the result type returned for all findManyXYZ-operations. This varies on the VertxDAO-subtypes, e.g. {@code Future<List<P>>}.
+ */
+public abstract class AbstractTableScanner<R extends UpdatableRecord<R>, P, T, FIND_MANY> {
+
+    private final AbstractVertxDAO<R, P, T, FIND_MANY, ?, ?, ?> dao;
+    private final int partitions;
+    private final int pageSize;
+
+    /**
+     * @param dao the DAO used for rendering and executing the queries.
+     * @param partitions the maximum number of ranges that are scanned concurrently. Keep this below the size of the
+     *                   connection pool.
+     * @param pageSize the number of rows fetched by one query.
+     */
+    protected AbstractTableScanner(AbstractVertxDAO<R, P, T, FIND_MANY, ?, ?, ?> dao, int partitions, int pageSize) {
+        Arguments.require(partitions > 0, "partitions must be positive");
+        Arguments.require(pageSize > 0, "pageSize must be positive");
+        this.dao = Objects.requireNonNull(dao);
+        this.partitions = partitions;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Scans all rows matching the given condition.
+     * @param condition the condition.
+     * @param consumer receives one page at a time and has to call the passed handler once the page has been
+     *                 processed. The next page is not passed to the consumer before. The order of the pages is
+     *                 only defined within a range.
+     * @param handler the handler receiving the number of scanned rows, or the first failure of a query or of the
+     *                consumer. The scan is aborted after a failure.
+     */
+    protected void scan(Condition condition, BiConsumer<List<P>, Handler<AsyncResult<Void>>> consumer, Handler<AsyncResult<Long>> handler){
+        new Scan(Objects.requireNonNull(condition), Objects.requireNonNull(consumer), Objects.requireNonNull(handler)).start();
+    }
+
+    /**
+     * Passes the result of a find-many-operation to the handler.
+     * @param result the result of the find-many-operation.
+     * @param handler the handler.
+     */
+    protected abstract void subscribe(FIND_MANY result, Handler<AsyncResult<List<P>>> handler);
+
+    private void findMany(Condition condition, int limit, Object[] seekValues, SortField<?>[] sortFields, Handler<AsyncResult<List<P>>> handler){
+        try{
+            subscribe(dao.findManyByCondition(condition, limit, seekValues, sortFields), handler);
+        }catch(Throwable e){
+            handler.handle(Future.failedFuture(e));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private TableField<R, Object> partitionField(){
+        UniqueKey<R> key = dao.getTable().getPrimaryKey();
+        Objects.requireNonNull(key,()->"No primary key");
+        if(key.getFields().size() != 1 || !Number.class.isAssignableFrom(key.getFields().get(0).getType())){
+            return null;
+        }
+        return (TableField<R, Object>) key.getFields().get(0);
+    }
+
+    private Object[] keyOf(P pojo){
+        Record record = DSL.using(dao.configuration()).newRecord(dao.getTable(), pojo);
+        return dao.getTable().getPrimaryKey().getFields().stream().map(record::get).toArray();
+    }
+
+    private class Scan {
+
+        private final Condition condition;
+        private final BiConsumer<List<P>, Handler<AsyncResult<Void>>> consumer;
+        private final Handler<AsyncResult<Long>> handler;
+        //the following fields are guarded by this scan's monitor
+        private final Deque<Range> ready = new ArrayDeque<>();
+        private int activeRanges;
+        private boolean consuming;
+        private boolean done;
+        private long count;
+
+        private Scan(Condition condition, BiConsumer<List<P>, Handler<AsyncResult<Void>>> consumer, Handler<AsyncResult<Long>> handler) {
+            this.condition = condition;
+            this.consumer = consumer;
+            this.handler = handler;
+        }
+
+        private void start(){
+            TableField<R, Object> field = partitionField();
+            if(field == null || partitions == 1){
+                startRanges(Collections.singletonList(condition));
+                return;
+            }
+            findMany(condition, 1, null, new SortField<?>[]{field.asc()}, first -> {
+                if(first.failed()){
+                    fail(first.cause());
+                }else if(first.result().isEmpty()){
+                    startRanges(Collections.emptyList());
+                }else{
+                    findMany(condition, 1, null, new SortField<?>[]{field.desc()}, last -> {
+                        if(last.failed()){
+                            fail(last.cause());
+                        }else{
+                            long min = ((Number) keyOf(first.result().get(0))[0]).longValue();
+                            long max = ((Number) keyOf(last.result().get(0))[0]).longValue();
+                            startRanges(split(field, min, max));
+                        }
+                    });
+                }
+            });
+        }
+
+        /**
+         * @return the conditions of at most <code>partitions</code> ranges of equal width covering
+         * <code>[min, max]</code>. The first and last range are unbounded, so no row is missed. The bounds are
+         * computed with <code>BigInteger</code> since the width of the key range may exceed <code>Long.MAX_VALUE</code>.
+         */
+        private List<Condition> split(TableField<R, Object> field, long min, long max){
+            BigInteger last = BigInteger.valueOf(max);
+            BigInteger step = last.subtract(BigInteger.valueOf(min)).divide(BigInteger.valueOf(partitions)).add(BigInteger.ONE);
+            List<Condition> ranges = new ArrayList<>(partitions);
+            Object lower = null;
+            for (BigInteger bound = BigInteger.valueOf(min).add(step); bound.compareTo(last) <= 0; bound = bound.add(step)) {
+                Object upper = field.getDataType().convert(bound.longValue());
+                ranges.add(lower == null ? condition.and(field.lt(upper)) : condition.and(field.ge(lower)).and(field.lt(upper)));
+                lower = upper;
+            }
+            ranges.add(lower == null ? condition : condition.and(field.ge(lower)));
+            return ranges;
+        }
+
+        private void startRanges(List<Condition> conditions){
+            synchronized (this){
+                activeRanges = conditions.size();
+            }
+            if(conditions.isEmpty()){
+                drain();
+                return;
+            }
+            for (Condition rangeCondition : conditions) {
+                new Range(rangeCondition).fetch(null);
+            }
+        }
+
+        private void onPage(Range range, AsyncResult<List<P>> page){
+            if(page.failed()){
+                fail(page.cause());
+                return;
+            }
+            synchronized (this){
+                if(done){
+                    return;
+                }
+                range.page = page.result();
+                ready.add(range);
+            }
+            drain();
+        }
+
+        private void drain(){
+            Range range;
+            List<P> page;
+            boolean complete = false;
+            synchronized (this){
+                if(done || consuming){
+                    return;
+                }
+                range = ready.poll();
+                if(range == null){
+                    if(activeRanges == 0){
+                        done = true;
+                        complete = true;
+                    }
+                    page = null;
+                }else{
+                    page = range.page;
+                    range.page = null;
+                    consuming = true;
+                    if(page.size() < pageSize){
+                        activeRanges--;
+                    }
+                }
+            }
+            if(complete){
+                handler.handle(Future.succeededFuture(count));
+                return;
+            }
+            if(range == null){
+                return;
+            }
+            if(page.size() == pageSize){
+                //read ahead while the consumer processes this page
+                range.fetch(keyOf(page.get(page.size() - 1)));
+            }
+            if(page.isEmpty()){
+                onConsumed(page, Future.succeededFuture());
+                return;
+            }
+            try{
+                consumer.accept(page, res -> onConsumed(page, res));
+            }catch(Throwable e){
+                onConsumed(page, Future.failedFuture(e));
+            }
+        }
+
+        private void onConsumed(List<P> page, AsyncResult<Void> res){
+            if(res.failed()){
+                fail(res.cause());
+                return;
+            }
+            synchronized (this){
+                count += page.size();
+                consuming = false;
+            }
+            drain();
+        }
+
+        private void fail(Throwable cause){
+            synchronized (this){
+                if(done){
+                    return;
+                }
+                done = true;
+                ready.clear();
+            }
+            handler.handle(Future.failedFuture(cause));
+        }
+
+        private class Range {
+
+            private final Condition condition;
+            //guarded by the scan's monitor
+            private List<P> page;
+
+            private Range(Condition condition) {
+                this.condition = condition;
+            }
+
+            private void fetch(Object[] seekValues){
+                synchronized (Scan.this){
+                    if(done){
+                        return;
+                    }
+                }
+                findMany(condition, pageSize, seekValues, new SortField<?>[0], res -> onPage(this, res));
+            }
+        }
+    }
+}
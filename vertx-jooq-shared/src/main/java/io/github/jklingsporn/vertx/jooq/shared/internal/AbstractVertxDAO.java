@@ -1,10 +1,22 @@
 package io.github.jklingsporn.vertx.jooq.shared.internal;
 
+import io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.AdaptiveFetchSize;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.impl.Arguments;
+import io.vertx.core.json.JsonArray;
 import org.jooq.*;
+import org.jooq.exception.DataAccessException;
+import org.jooq.exception.TooManyRowsException;
 import org.jooq.impl.DSL;
+import org.jooq.tools.Convert;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
 
 import static org.jooq.impl.DSL.row;
 import static org.jooq.impl.DSL.using;
@@ -26,6 +38,8 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
     private final Table<R> table;
     private final QueryExecutor<R, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETURNING> queryExecutor;
     private Configuration configuration;
+    private int valuesLookupThreshold = 1000;
+    private ObjIntConsumer<KeyLookupStrategy> keyLookupListener = (strategy, keys) -> {};
 
 
     protected AbstractVertxDAO(Table<R> table, Class<P> type, QueryExecutor<R, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETURNING> queryExecutor, Configuration configuration) {
@@ -40,6 +54,31 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
         return this;
     }
 
+    /**
+     * Sets the number of keys above which {@link #findManyByIds(Collection)} and {@link #deleteByIds(Collection)}
+     * join against a <code>VALUES</code> table instead of rendering an <code>IN</code>-list. The threshold is ignored
+     * on dialects without native <code>VALUES</code>-support. Defaults to <code>1000</code>.
+     * @param valuesLookupThreshold the threshold.
+     * @return this DAO.
+     * @see KeyLookupStrategy
+     */
+    public AbstractVertxDAO setValuesLookupThreshold(int valuesLookupThreshold) {
+        Arguments.require(valuesLookupThreshold > 0, "valuesLookupThreshold must be positive");
+        this.valuesLookupThreshold = valuesLookupThreshold;
+        return this;
+    }
+
+    /**
+     * Sets a listener that is notified about the strategy and the number of keys of every lookup by many primary
+     * keys, e.g. to increment a counter in a metrics registry.
+     * @param keyLookupListener the listener.
+     * @return this DAO.
+     */
+    public AbstractVertxDAO setKeyLookupListener(ObjIntConsumer<KeyLookupStrategy> keyLookupListener) {
+        this.keyLookupListener = Objects.requireNonNull(keyLookupListener);
+        return this;
+    }
+
     public Table<R> getTable() {
         return table;
     }
@@ -71,6 +110,83 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
         return queryExecutor().execute(dslContext.update(getTable()).set(valuesToUpdate).where(where));
     }
 
+    @Override
+    public EXECUTE update(Collection<P> pojos){
+        Arguments.require(!pojos.isEmpty(), "No elements");
+        List<Query> queries = updateQueries(pojos);
+        return queries.size() == 1 ? queryExecutor().execute(queries.get(0)) : queryExecutor().executeBatch(queries);
+    }
+
+    /**
+     * @param pojos the pojos to update.
+     * @return <code>UPDATE</code>-statements of the given pojos, each updating as many pojos as the bind value limit
+     * allows.
+     */
+    List<Query> updateQueries(Collection<P> pojos){
+        UniqueKey<R> pk = getTable().getPrimaryKey();
+        Objects.requireNonNull(pk,()->"No primary key");
+        List<Field<?>> updateFields = new ArrayList<>();
+        for (Field<?> field : getTable().fields()) {
+            if(!pk.getFields().contains(field)){
+                updateFields.add(field);
+            }
+        }
+        Arguments.require(!updateFields.isEmpty(), "No columns to update");
+        int keySize = pk.getFields().size();
+        //each POJO binds its key and a value per column plus its key in the WHERE-clause
+        int bindValuesPerPojo = updateFields.size() * (keySize + 1) + keySize;
+        int chunkSize = Math.max(1, maxBindValues() / bindValuesPerPojo);
+        DSLContext dslContext = using(configuration());
+        List<P> list = new ArrayList<>(pojos);
+        List<Query> queries = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += chunkSize) {
+            queries.add(updateQuery(dslContext, list.subList(i, Math.min(list.size(), i + chunkSize)), updateFields));
+        }
+        return queries;
+    }
+
+    @Override
+    public EXECUTE updateById(T id, Map<Field<?>, ?> values){
+        return updateByCondition(equalKey(id), values);
+    }
+
+    @Override
+    public EXECUTE updateByCondition(Condition condition, Map<Field<?>, ?> values){
+        Arguments.require(!values.isEmpty(), "No columns to update");
+        //render the columns in table order so a set of columns always results in the same statement
+        Map<Field<?>, Object> valuesToUpdate = new LinkedHashMap<>();
+        for (Field<?> field : getTable().fields()) {
+            if(values.containsKey(field)){
+                valuesToUpdate.put(field, values.get(field));
+            }
+        }
+        Arguments.require(valuesToUpdate.size() == values.size(), "Not all columns belong to "+getTable().getName());
+        return queryExecutor().execute(using(configuration()).update(getTable()).set(valuesToUpdate).where(condition));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Query updateQuery(DSLContext dslContext, List<P> pojos, List<Field<?>> updateFields){
+        List<T> ids = new ArrayList<>(pojos.size());
+        List<Condition> keyConditions = new ArrayList<>(pojos.size());
+        List<R> records = new ArrayList<>(pojos.size());
+        for (P pojo : pojos) {
+            T id = getId(pojo);
+            ids.add(id);
+            keyConditions.add(equalKey(id));
+            records.add(dslContext.newRecord(getTable(), pojo));
+        }
+        Map<Field<?>, Field<?>> valuesToUpdate = new LinkedHashMap<>();
+        for (Field<?> field : updateFields) {
+            CaseConditionStep<Object> value = null;
+            for (int i = 0; i < records.size(); i++) {
+                Field<Object> bindValue = DSL.val(records.get(i).get(field), (Field<Object>) field);
+                value = value == null ? DSL.decode().when(keyConditions.get(i), bindValue) : value.when(keyConditions.get(i), bindValue);
+            }
+            valuesToUpdate.put(field, value);
+        }
+        return dslContext.update(getTable()).set(valuesToUpdate).where(equalKeys(ids));
+    }
+
     private SelectConditionStep<R> selectQuery(Condition condition) {
         return using(configuration()).selectFrom(getTable()).where(condition);
     }
@@ -85,9 +201,194 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
         return queryExecutor().findMany(selectQuery(condition).orderBy(orderField));
     }
 
+    @Override
+    public FIND_MANY findManyByCondition(Condition condition, Collection<? extends Field<?>> projection) {
+        return queryExecutor().findMany(selectQuery(condition, projection));
+    }
+
+    @Override
+    public FIND_MANY findManyByConditionWithFetchSize(Condition condition, int fetchSize) {
+        Arguments.require(fetchSize > 0, "fetchSize must be positive");
+        Configuration configuration = configuration().derive();
+        configuration.data(AdaptiveFetchSize.EXPLICIT_FETCH_SIZE, true);
+        return queryExecutor().findMany(using(configuration).selectFrom(getTable()).where(condition).fetchSize(fetchSize));
+    }
+
+    /**
+     * @param condition
+     * @param projection
+     * @return a query that only selects the given columns but still returns records of this DAO's table, so the
+     * query executors map them into partial POJOs.
+     */
+    private SelectQuery<R> selectQuery(Condition condition, Collection<? extends Field<?>> projection) {
+        Arguments.require(!projection.isEmpty(), "No columns to select");
+        SelectQuery<R> query = using(configuration()).selectQuery(getTable());
+        for (Field<?> field : projection) {
+            Arguments.require(getTable().field(field) != null, "Not a column of "+getTable().getName()+": "+field.getName());
+            query.addSelect(field);
+        }
+        query.addConditions(condition);
+        return query;
+    }
+
+    @Override
+    public FIND_MANY findManyByCondition(Condition condition, int limit, SortField<?>... sortFields) {
+        return findManyByCondition(condition, limit, null, sortFields);
+    }
+
+    @Override
+    public FIND_MANY findManyByCondition(Condition condition, int limit, Object[] seekValues, SortField<?>... sortFields) {
+        Arguments.require(limit > 0, "limit must be positive");
+        SortField<?>[] order = keysetOrder(sortFields);
+        SelectSeekStepN<R> query = selectQuery(condition).orderBy(order);
+        if(seekValues == null){
+            return queryExecutor().findMany(query.limit(limit));
+        }
+        Arguments.require(seekValues.length == order.length, "Expected "+order.length+" seek values");
+        return queryExecutor().findMany(query.seek(seekValues).limit(limit));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String continuationToken(P pojo, SortField<?>... sortFields){
+        Record record = using(configuration()).newRecord(getTable(), pojo);
+        JsonArray values = new JsonArray();
+        for (SortField<?> sortField : keysetOrder(sortFields)) {
+            Field<Object> field = (Field<Object>) sortFieldOf(sortField);
+            Object value = record.get(field);
+            Converter<Object, Object> converter = (Converter<Object, Object>) field.getConverter();
+            if(converter != null){
+                value = converter.to(value);
+            }
+            if(value == null){
+                values.addNull();
+            }else if(value instanceof Number || value instanceof Boolean || value instanceof String){
+                values.add(value);
+            }else{
+                values.add(Convert.convert(value, String.class));
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(values.encode().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object[] seekValues(String continuationToken, SortField<?>... sortFields){
+        JsonArray values = new JsonArray(new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8));
+        SortField<?>[] order = keysetOrder(sortFields);
+        Arguments.require(values.size() == order.length, "Continuation token does not match the sort fields");
+        Object[] seekValues = new Object[order.length];
+        for (int i = 0; i < order.length; i++) {
+            Field<?> field = sortFieldOf(order[i]);
+            Converter<Object, Object> converter = (Converter<Object, Object>) field.getConverter();
+            Object value = values.getValue(i);
+            seekValues[i] = converter == null ? Convert.convert(value, field.getType()) : converter.from(Convert.convert(value, converter.fromType()));
+        }
+        return seekValues;
+    }
+
+    /**
+     * @param sortFields
+     * @return the given sort fields followed by the primary key columns that are not part of them.
+     */
+    private SortField<?>[] keysetOrder(SortField<?>... sortFields){
+        UniqueKey<R> key = getTable().getPrimaryKey();
+        Objects.requireNonNull(key,()->"No primary key");
+        List<SortField<?>> order = new ArrayList<>(Arrays.asList(sortFields));
+        for (TableField<R, ?> keyField : key.getFields()) {
+            if(order.stream().noneMatch(sortField -> sortField.getName().equals(keyField.getName()))){
+                order.add(keyField.asc());
+            }
+        }
+        return order.toArray(new SortField<?>[order.size()]);
+    }
+
+    private Field<?> sortFieldOf(SortField<?> sortField){
+        Field<?> field = getTable().field(sortField.getName());
+        Arguments.require(field != null, "Not a column of "+getTable().getName()+": "+sortField.getName());
+        return field;
+    }
+
+    /**
+     * Renders <code>field IN (values)</code>-conditions for the given values. Duplicate and <code>null</code>-values
+     * are removed and the remaining values are split into chunks, so that each condition stays below the bind value
+     * limit of the database. Use it to load the rows of many keys with a few queries instead of one query per key.
+     * If <code>IN</code>-list padding is enabled in the settings of the configuration, the chunk size is a power of
+     * two, so padded chunks stay below the limit too.
+     * @param field a column of this DAO's table.
+     * @param values the values.
+     * @param <Z> the column type
+     * @return one condition per chunk, empty if there are no values.
+     * @see #groupBy(Field, Collection, Collection)
+     */
+    protected <Z> List<Condition> inConditions(Field<Z> field, Collection<Z> values){
+        Arguments.require(getTable().field(field) != null, "Not a column of "+getTable().getName()+": "+field.getName());
+        List<Z> distinct = new ArrayList<>(new LinkedHashSet<>(values));
+        distinct.removeIf(Objects::isNull);
+        //padded chunks must not exceed the limit either
+        int chunkSize = inListPadding() ? Integer.highestOneBit(maxBindValues()) : maxBindValues();
+        List<Condition> conditions = new ArrayList<>();
+        for (int i = 0; i < distinct.size(); i += chunkSize) {
+            conditions.add(field.in(distinct.subList(i, Math.min(distinct.size(), i + chunkSize))));
+        }
+        return conditions;
+    }
+
+    @Override
+    public <Z> Map<Z, List<P>> groupBy(Field<Z> field, Collection<Z> keys, Collection<P> pojos){
+        Map<Z, List<P>> groups = new LinkedHashMap<>();
+        for (Z key : keys) {
+            groups.put(key, new ArrayList<>());
+        }
+        DSLContext dslContext = using(configuration());
+        for (P pojo : pojos) {
+            groups.computeIfAbsent(dslContext.newRecord(getTable(), pojo).get(field), k -> new ArrayList<>()).add(pojo);
+        }
+        return groups;
+    }
+
+    @Override
+    public <Z> Map<Z, P> mapBy(Field<Z> field, Collection<Z> keys, Collection<P> pojos){
+        Map<Z, P> unique = new LinkedHashMap<>();
+        for (Map.Entry<Z, List<P>> group : groupBy(field, keys, pojos).entrySet()) {
+            if(group.getValue().size() > 1){
+                throw new TooManyRowsException(String.format("%d rows have %s = %s", group.getValue().size(), field.getName(), group.getKey()));
+            }
+            if(!group.getValue().isEmpty()){
+                unique.put(group.getKey(), group.getValue().get(0));
+            }
+        }
+        return unique;
+    }
+
+    @Override
+    public <Z> FIND_MANY findManyIn(Field<Z> field, Collection<Z> values){
+        List<Condition> conditions = inConditions(field, values);
+        return conditions.isEmpty() ? findManyByCondition(DSL.falseCondition()) : findManyByConditions(conditions);
+    }
+
     @Override
     public FIND_MANY findManyByIds(Collection<T> ids){
-        return findManyByCondition(equalKeys(ids));
+        return findManyByConditions(lookupKeyChunks(ids));
+    }
+
+    /**
+     * Runs one <code>SELECT</code>-statement per condition and concatenates the results.
+     * @param conditions the conditions, usually the chunks of a key lookup.
+     * @return the result type returned for all findManyXYZ-operations.
+     * @see #lookupKeyChunks(Collection)
+     */
+    protected FIND_MANY findManyByConditions(List<Condition> conditions){
+        Arguments.require(!conditions.isEmpty(), "No conditions");
+        if (conditions.size() == 1) {
+            return findManyByCondition(conditions.get(0));
+        }
+        DSLContext dslContext = using(configuration());
+        List<ResultQuery<R>> queries = new ArrayList<>(conditions.size());
+        for (Condition condition : conditions) {
+            queries.add(dslContext.selectFrom(getTable()).where(condition));
+        }
+        return queryExecutor().findMany(queries);
     }
 
     @Override
@@ -100,11 +401,56 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
         return findOneByCondition(equalKey(id));
     }
 
+    @Override
+    public void countByCondition(Condition condition, Handler<AsyncResult<Long>> handler){
+        queryExecutor().query(using(configuration()).selectCount().from(getTable()).where(condition), res -> handler.handle(res.map(row -> row.get(0, Long.class))));
+    }
+
+    @Override
+    public void existsByCondition(Condition condition, Handler<AsyncResult<Boolean>> handler){
+        queryExecutor().query(using(configuration()).selectOne().from(getTable()).where(condition).limit(1), res -> handler.handle(res.map(QueryResult::hasResults)));
+    }
+
+    @Override
+    public void existsById(T id, Handler<AsyncResult<Boolean>> handler){
+        existsByCondition(equalKey(id), handler);
+    }
+
+    @Override
+    public <Z> void minByCondition(Field<Z> field, Condition condition, Handler<AsyncResult<Z>> handler){
+        aggregate(field, DSL.min(field), condition, handler);
+    }
+
+    @Override
+    public <Z> void maxByCondition(Field<Z> field, Condition condition, Handler<AsyncResult<Z>> handler){
+        aggregate(field, DSL.max(field), condition, handler);
+    }
+
+    @Override
+    public void sumByCondition(Field<? extends Number> field, Condition condition, Handler<AsyncResult<BigDecimal>> handler){
+        Arguments.require(getTable().field(field) != null, "Not a column of "+getTable().getName()+": "+field.getName());
+        queryExecutor().query(using(configuration()).select(DSL.coalesce(DSL.sum(field), BigDecimal.ZERO)).from(getTable()).where(condition), res -> handler.handle(res.map(row -> row.get(0, BigDecimal.class))));
+    }
+
+    /**
+     * Selects the given aggregate of a column. The aggregate is aliased with the column's name, so the value is
+     * converted like the column itself.
+     */
+    private <Z> void aggregate(Field<Z> field, Field<Z> aggregate, Condition condition, Handler<AsyncResult<Z>> handler){
+        Arguments.require(getTable().field(field) != null, "Not a column of "+getTable().getName()+": "+field.getName());
+        queryExecutor().query(using(configuration()).select(aggregate.as(field.getName())).from(getTable()).where(condition), res -> handler.handle(res.map(row -> row.get(field))));
+    }
+
     @Override
     public FIND_ONE findOneByCondition(Condition condition){
         return queryExecutor().findOne(using(configuration()).selectFrom(getTable()).where(condition));
     }
 
+    @Override
+    public FIND_ONE findOneByCondition(Condition condition, Collection<? extends Field<?>> projection){
+        return queryExecutor().findOne(selectQuery(condition, projection));
+    }
+
     @Override
     public EXECUTE deleteByCondition(Condition condition){
         return queryExecutor().execute(using(configuration()).deleteFrom(getTable()).where(condition));
@@ -117,7 +463,27 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
 
     @Override
     public EXECUTE deleteByIds(Collection<T> ids){
-        return deleteByCondition(equalKeys(ids));
+        return deleteByConditions(lookupKeyChunks(ids));
+    }
+
+    /**
+     * Runs one <code>DELETE</code>-statement per condition and returns the total number of deleted rows. Like
+     * {@link #update(Collection)}, several statements are executed by {@link QueryExecutor#executeBatch(List)}.
+     * @param conditions the conditions, usually the chunks of a key lookup.
+     * @return the result type returned for all insert, update and delete-operations.
+     * @see #lookupKeyChunks(Collection)
+     */
+    protected EXECUTE deleteByConditions(List<Condition> conditions){
+        Arguments.require(!conditions.isEmpty(), "No conditions");
+        if (conditions.size() == 1) {
+            return deleteByCondition(conditions.get(0));
+        }
+        DSLContext dslContext = using(configuration());
+        List<Query> queries = new ArrayList<>(conditions.size());
+        for (Condition condition : conditions) {
+            queries.add(dslContext.deleteFrom(getTable()).where(condition));
+        }
+        return queryExecutor().executeBatch(queries);
     }
 
     @Override
@@ -130,13 +496,115 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
     @Override
     public EXECUTE insert(Collection<P> pojos){
         Arguments.require(!pojos.isEmpty(), "No elements");
+        return queryExecutor().execute(insertValues(using(configuration()), pojos));
+    }
+
+    /**
+     * @param pojos the pojos to insert.
+     * @return multi-row <code>INSERT</code>-statements of the given pojos, each inserting as many pojos as the bind
+     * value limit allows.
+     */
+    List<Query> insertQueries(Collection<P> pojos){
         DSLContext dslContext = using(configuration());
-        InsertSetStep<R> insertSetStep = dslContext.insertInto(getTable());
-        InsertValuesStepN<R> insertValuesStepN = null;
-        for (P pojo : pojos) {
-            insertValuesStepN = insertSetStep.values(newRecord(dslContext, pojo).intoArray());
+        int chunkSize = Math.max(1, maxBindValues() / getTable().fields().length);
+        List<P> list = new ArrayList<>(pojos);
+        List<Query> queries = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += chunkSize) {
+            queries.add(insertValues(dslContext, list.subList(i, Math.min(list.size(), i + chunkSize))));
+        }
+        return queries;
+    }
+
+    /**
+     * @param ids the primary keys of the rows to delete.
+     * @return <code>DELETE</code>-statements of the given rows, each deleting as many rows as the bind value limit
+     * allows.
+     */
+    List<Query> deleteQueries(Collection<T> ids){
+        DSLContext dslContext = using(configuration());
+        List<Query> queries = new ArrayList<>();
+        for (Condition chunk : lookupKeyChunks(ids)) {
+            queries.add(dslContext.deleteFrom(getTable()).where(chunk));
         }
-        return queryExecutor().execute(insertValuesStepN);
+        return queries;
+    }
+
+    @Override
+    public EXECUTE upsert(P pojo){
+        Objects.requireNonNull(pojo);
+        return upsert(Collections.singletonList(pojo));
+    }
+
+    @Override
+    public EXECUTE upsert(Collection<P> pojos){
+        UniqueKey<R> pk = getTable().getPrimaryKey();
+        Objects.requireNonNull(pk,()->"No primary key");
+        return upsert(pojos, pk);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public EXECUTE upsert(Collection<P> pojos, UniqueKey<?> key){
+        Arguments.require(!pojos.isEmpty(), "No elements");
+        Arguments.require(getTable().equals(key.getTable()), "Key does not belong to "+getTable().getName());
+        DSLContext dslContext = using(configuration());
+        //neither the primary key nor the conflicting key are updated
+        Set<Field<?>> keyFields = new HashSet<>(key.getFields());
+        if(getTable().getPrimaryKey() != null){
+            keyFields.addAll(getTable().getPrimaryKey().getFields());
+        }
+        List<Field<?>> updateFields = new ArrayList<>();
+        for (Field<?> field : getTable().fields()) {
+            if(!keyFields.contains(field)){
+                updateFields.add(field);
+            }
+        }
+        Query query;
+        switch (configuration().dialect().family()){
+            case MYSQL:
+            case MARIADB: {
+                InsertValuesStepN<R> insert = insertValues(dslContext, pojos);
+                if(updateFields.isEmpty()){
+                    query = insert.onDuplicateKeyIgnore();
+                }else{
+                    Map<Field<?>, Field<?>> valuesToUpdate = new LinkedHashMap<>();
+                    updateFields.forEach(f -> valuesToUpdate.put(f, DSL.field("values({0})", f.getDataType(), DSL.name(f.getName()))));
+                    query = insert.onDuplicateKeyUpdate().set(valuesToUpdate);
+                }
+                break;
+            }
+            case POSTGRES: {
+                InsertOnConflictDoUpdateStep<R> insert = insertValues(dslContext, pojos).onConflict(key.getFields());
+                if(updateFields.isEmpty()){
+                    query = insert.doNothing();
+                }else{
+                    Map<Field<?>, Field<?>> valuesToUpdate = new LinkedHashMap<>();
+                    updateFields.forEach(f -> valuesToUpdate.put(f, DSL.field(DSL.name("excluded", f.getName()), f.getDataType())));
+                    query = insert.doUpdate().set(valuesToUpdate);
+                }
+                break;
+            }
+            default: {
+                Field<?>[] fields = getTable().fields();
+                String[] names = Arrays.stream(fields).map(Field::getName).toArray(String[]::new);
+                RowN[] rows = pojos.stream().map(pojo -> mergeRow(dslContext.newRecord(getTable(), pojo))).toArray(RowN[]::new);
+                Table<Record> source = DSL.values(rows).as("upsert", names);
+                Condition on = null;
+                for (TableField<?, ?> keyField : key.getFields()) {
+                    Condition eq = ((Field<Object>) keyField).eq(source.field(keyField.getName()));
+                    on = on == null ? eq : on.and(eq);
+                }
+                MergeOnConditionStep<R> merge = dslContext.mergeInto(getTable()).using(source).on(on);
+                MergeNotMatchedStep<R> notMatched = merge;
+                if(!updateFields.isEmpty()){
+                    Map<Field<?>, Field<?>> valuesToUpdate = new LinkedHashMap<>();
+                    updateFields.forEach(f -> valuesToUpdate.put(f, source.field(f.getName())));
+                    notMatched = merge.whenMatchedThenUpdate().set(valuesToUpdate);
+                }
+                query = notMatched.whenNotMatchedThenInsert(fields).values(Arrays.asList(source.fields()));
+            }
+        }
+        return queryExecutor().execute(query);
     }
 
     @SuppressWarnings("unchecked")
@@ -157,6 +625,66 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
                 });
     }
 
+    @Override
+    public void insertReturningPrimaries(Collection<P> pojos, Handler<AsyncResult<List<T>>> handler){
+        UniqueKey<R> key = getTable().getPrimaryKey();
+        Objects.requireNonNull(key,()->"No primary key");
+        if(pojos.isEmpty()){
+            handler.handle(Future.succeededFuture(Collections.emptyList()));
+            return;
+        }
+        DSLContext dslContext = using(configuration());
+        queryExecutor().insertReturningRows(insertValues(dslContext, pojos).returning(key.getFields()), res -> {
+            if(res.failed()){
+                handler.handle(Future.failedFuture(res.cause()));
+                return;
+            }
+            List<T> keys = new ArrayList<>(pojos.size());
+            for (QueryResult row : res.result().asList()) {
+                keys.add(keyOf(row, key));
+            }
+            if(keys.size() != pojos.size()){
+                handler.handle(Future.failedFuture(new DataAccessException(String.format("Expected %d keys but got %d", pojos.size(), keys.size()))));
+                return;
+            }
+            handler.handle(Future.succeededFuture(keys));
+        });
+    }
+
+    /**
+     * @param row a row containing the primary key columns.
+     * @param key the primary key.
+     * @return the primary key of the given row.
+     */
+    @SuppressWarnings("unchecked")
+    protected T keyOf(QueryResult row, UniqueKey<R> key){
+        TableField<R, ?>[] fields = key.getFieldsArray();
+        if(fields.length == 1){
+            return (T) row.get(fields[0]);
+        }
+        Object[] values = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            values[i] = row.get(fields[i]);
+        }
+        return compositeKeyRecord(values);
+    }
+
+    /**
+     * @return the maximum number of bind values a single statement may contain. Operations that render statements
+     * with a variable number of bind values (e.g. {@link #update(Collection)}) split their statements accordingly.
+     */
+    protected int maxBindValues(){
+        switch (configuration().dialect().family()){
+            case SQLITE:
+                return 999;
+            case MYSQL:
+            case MARIADB:
+                return 65535;
+            default:
+                return 32767;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     protected Condition equalKey(T id){
         UniqueKey<?> uk = getTable().getPrimaryKey();
@@ -190,12 +718,217 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
             }else {
                 condition = pk[0].in(pk[0].getDataType().convert(ids));
             }
+        }else if (rowInListsUseIndexes()) {
+            condition = row(pk).in(pad(ids.toArray(new Record[ids.size()])));
         }else {
-            condition = row(pk).in(ids.toArray(new Record[ids.size()]));
+            List<Condition> keyConditions = new ArrayList<>(ids.size());
+            for (Record id : pad(ids.toArray(new Record[ids.size()]))) {
+                List<Condition> columnConditions = new ArrayList<>(pk.length);
+                for (int i = 0; i < pk.length; i++) {
+                    columnConditions.add(((Field<Object>) pk[i]).equal(id.get(i)));
+                }
+                keyConditions.add(DSL.and(columnConditions));
+            }
+            condition = DSL.or(keyConditions);
         }
         return condition;
     }
 
+    /**
+     * @return <code>false</code> if composite keys are looked up by <code>(pk1 = ? AND pk2 = ?) OR ...</code> instead
+     * of <code>(pk1, pk2) IN ((?, ?), ...)</code>, because the dialect does not use an index for the latter. This is the
+     * case for MySQL and MariaDB.
+     */
+    protected boolean rowInListsUseIndexes(){
+        switch (configuration().dialect().family()){
+            case MYSQL:
+            case MARIADB:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * @return <code>true</code> if <code>IN</code>-lists should be padded, see {@link org.jooq.conf.Settings#isInListPadding()}.
+     */
+    protected boolean inListPadding(){
+        return Boolean.TRUE.equals(configuration().settings().isInListPadding());
+    }
+
+    /**
+     * jOOQ only pads the <code>IN</code>-lists of single columns. To render the same SQL for a similar number of
+     * composite keys or <code>VALUES</code>-rows, this method pads them the same way: up to the next power of two by
+     * repeating the last element.
+     * @param elements the elements.
+     * @param <E> the element type
+     * @return the padded elements if {@link #inListPadding()} is enabled, otherwise <code>elements</code>.
+     */
+    protected <E> E[] pad(E[] elements){
+        if(!inListPadding() || elements.length < 2 || Integer.bitCount(elements.length) == 1){
+            return elements;
+        }
+        E[] padded = Arrays.copyOf(elements, Integer.highestOneBit(elements.length) << 1);
+        Arrays.fill(padded, elements.length, padded.length, elements[elements.length - 1]);
+        return padded;
+    }
+
+    /**
+     * @param keys the number of keys of a lookup.
+     * @return the strategy used to render the condition of a lookup with the given number of keys.
+     */
+    protected KeyLookupStrategy keyLookupStrategy(int keys){
+        if(keys <= valuesLookupThreshold){
+            return KeyLookupStrategy.IN_LIST;
+        }
+        switch (configuration().dialect().family()){
+            case H2:
+            case HSQLDB:
+            case POSTGRES:
+                return KeyLookupStrategy.VALUES;
+            default:
+                //other dialects emulate VALUES with UNION ALL, which is even worse than a long IN-list
+                return KeyLookupStrategy.IN_LIST;
+        }
+    }
+
+    /**
+     * @param ids the primary keys.
+     * @return a condition matching all rows with the given primary keys, rendered according to
+     * {@link #keyLookupStrategy(int)}. The condition is not split, use {@link #lookupKeyChunks(Collection)} for
+     * lookups that may exceed {@link #maxBindValues()}.
+     */
+    protected Condition lookupKeys(Collection<T> ids){
+        KeyLookupStrategy strategy = keyLookupStrategy(ids.size());
+        keyLookupListener.accept(strategy, ids.size());
+        return lookupKeys(strategy, ids);
+    }
+
+    /**
+     * @param ids the primary keys.
+     * @return one condition per chunk of keys that fits into {@link #maxBindValues()}, each rendered according to
+     * the {@link #keyLookupStrategy(int)} of the whole lookup. Run one query per condition, e.g. with
+     * {@link #findManyByConditions(List)} or {@link #deleteByConditions(List)}. The list contains a single condition
+     * matching no rows if there are no keys.
+     */
+    protected List<Condition> lookupKeyChunks(Collection<T> ids){
+        KeyLookupStrategy strategy = keyLookupStrategy(ids.size());
+        keyLookupListener.accept(strategy, ids.size());
+        List<T> list = new ArrayList<>(ids);
+        if (list.isEmpty()) {
+            return Collections.singletonList(equalKeys(list));
+        }
+        int chunkSize = keyChunkSize(primaryKeyFields().length);
+        List<Condition> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += chunkSize) {
+            chunks.add(lookupKeys(strategy, list.subList(i, Math.min(list.size(), i + chunkSize))));
+        }
+        return chunks;
+    }
+
+    private Condition lookupKeys(KeyLookupStrategy strategy, Collection<T> ids){
+        return strategy == KeyLookupStrategy.VALUES ? valuesKeys(ids) : equalKeys(ids);
+    }
+
+    /**
+     * @param keySize the number of columns of the primary key.
+     * @return the maximum number of keys bound by a chunk of a lookup, so neither the chunk nor its padding exceeds
+     * {@link #maxBindValues()}.
+     */
+    private int keyChunkSize(int keySize){
+        int chunkSize = Math.max(1, maxBindValues() / keySize);
+        return inListPadding() ? Integer.highestOneBit(chunkSize) : chunkSize;
+    }
+
+    /**
+     * Like {@link #lookupKeyChunks(Collection)} but for single-column <code>Integer</code>-keys. The keys are bound
+     * directly without collecting them into a list of boxed and then converted keys first.
+     * @param ids the primary keys.
+     * @return one condition per chunk of keys.
+     */
+    protected List<Condition> lookupKeyChunks(int[] ids){
+        return lookupKeyChunks(ids.length, i -> ids[i]);
+    }
+
+    /**
+     * Like {@link #lookupKeyChunks(Collection)} but for single-column <code>Long</code>-keys. The keys are bound
+     * directly without collecting them into a list of boxed and then converted keys first.
+     * @param ids the primary keys.
+     * @return one condition per chunk of keys.
+     */
+    protected List<Condition> lookupKeyChunks(long[] ids){
+        return lookupKeyChunks(ids.length, i -> ids[i]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Condition> lookupKeyChunks(int size, IntFunction<Object> id){
+        TableField<? extends Record, ?>[] pk = primaryKeyFields();
+        Arguments.require(pk.length == 1, "Not a single-column primary key: "+getTable().getName());
+        Field<Object> field = (Field<Object>) pk[0];
+        KeyLookupStrategy strategy = keyLookupStrategy(size);
+        keyLookupListener.accept(strategy, size);
+        if (size == 0) {
+            return Collections.singletonList(field.in(Collections.emptyList()));
+        }
+        int chunkSize = keyChunkSize(1);
+        List<Condition> chunks = new ArrayList<>();
+        for (int from = 0; from < size; from += chunkSize) {
+            int to = Math.min(size, from + chunkSize);
+            if (strategy == KeyLookupStrategy.VALUES) {
+                RowN[] rows = new RowN[to - from];
+                for (int i = from; i < to; i++) {
+                    rows[i - from] = row(new Field<?>[]{DSL.val(id.apply(i), field)});
+                }
+                chunks.add(joinValues(pk, rows));
+            }else {
+                Field<?>[] values = new Field<?>[to - from];
+                for (int i = from; i < to; i++) {
+                    values[i - from] = DSL.val(id.apply(i), field);
+                }
+                chunks.add(field.in(values));
+            }
+        }
+        return chunks;
+    }
+
+    private Condition valuesKeys(Collection<T> ids){
+        TableField<? extends Record, ?>[] pk = primaryKeyFields();
+        RowN[] rows = new RowN[ids.size()];
+        int i = 0;
+        for (T id : ids) {
+            Field<?>[] values = new Field<?>[pk.length];
+            if (pk.length == 1) {
+                values[0] = DSL.val(id, pk[0]);
+            }else {
+                Record record = (Record) id;
+                for (int j = 0; j < pk.length; j++) {
+                    values[j] = DSL.val(record.get(j), pk[j]);
+                }
+            }
+            rows[i++] = row(values);
+        }
+        return joinValues(pk, rows);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Condition joinValues(TableField<? extends Record, ?>[] pk, RowN[] rows){
+        String[] names = new String[pk.length];
+        for (int i = 0; i < pk.length; i++) {
+            names[i] = pk[i].getName();
+        }
+        Table<Record> keys = DSL.values(pad(rows)).as("ids", names);
+        if (pk.length == 1) {
+            return ((Field<Object>) pk[0]).in((Select<Record1<Object>>) (Select<?>) DSL.select(keys.field(0)).from(keys));
+        }
+        return row(pk).in(DSL.select(keys.fields()).from(keys));
+    }
+
+    private TableField<? extends Record, ?>[] primaryKeyFields(){
+        UniqueKey<?> uk = getTable().getPrimaryKey();
+        Objects.requireNonNull(uk,()->"No primary key");
+        return uk.getFieldsArray();
+    }
+
     @SuppressWarnings("unchecked")
     protected /* non-final */ T compositeKeyRecord(Object... values) {
         UniqueKey<R> key = table.getPrimaryKey();
@@ -221,6 +954,41 @@ public abstract class AbstractVertxDAO<R extends UpdatableRecord<R>, P, T, FIND_
         return setDefault(dslContext.newRecord(getTable(), pojo));
     }
 
+    /**
+     * @param dslContext
+     * @param pojos
+     * @return a multi-row <code>INSERT</code> statement for the given pojos.
+     */
+    protected InsertValuesStepN<R> insertValues(DSLContext dslContext, Collection<P> pojos) {
+        InsertSetStep<R> insertSetStep = dslContext.insertInto(getTable());
+        InsertValuesStepN<R> insertValuesStepN = null;
+        for (P pojo : pojos) {
+            insertValuesStepN = insertSetStep.values(newRecord(dslContext, pojo).intoArray());
+        }
+        return insertValuesStepN;
+    }
+
+    /**
+     * <code>DEFAULT</code> cannot be used as a value in the source of a <code>MERGE</code>-statement, so the default
+     * expression of the column is used instead.
+     * @param record
+     * @return a row of bind values for the given record.
+     */
+    @SuppressWarnings("unchecked")
+    private RowN mergeRow(Record record) {
+        List<Field<?>> values = new ArrayList<>(record.size());
+        for (int i = 0; i < record.size(); i++) {
+            Field<Object> field = (Field<Object>) record.field(i);
+            Object value = record.get(i);
+            if(value == null && !field.getDataType().nullable() && field.getDataType().defaulted()){
+                values.add(field.getDataType().defaultValue());
+            }else{
+                values.add(DSL.val(value, field));
+            }
+        }
+        return DSL.row(values);
+    }
+
     /**
      * Defaults fields that have a default value and are nullable.
      * @param record the record
@@ -0,0 +1,76 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.*;
+
+/**
+ * A POJO loaded by a fetch plan together with the POJOs that have been loaded for it along the plan's foreign keys.
+ * Nodes loaded over a many-to-one relation are shared by all nodes referencing them.
+ * @param <P> the POJO-type
+ * @see AbstractFetchPlan
+ */
+public class FetchNode<P> {
+
+    private final P pojo;
+    private final Map<String, List<FetchNode<?>>> many = new LinkedHashMap<>();
+    private final Map<String, FetchNode<?>> one = new LinkedHashMap<>();
+
+    public FetchNode(P pojo) {
+        this.pojo = Objects.requireNonNull(pojo);
+    }
+
+    /**
+     * @return the POJO.
+     */
+    public P getPojo() {
+        return pojo;
+    }
+
+    /**
+     * @param name the name of a one-to-many step.
+     * @param <C> the POJO-type of the step's DAO
+     * @return the nodes referencing this node, empty if there are none or the step is unknown.
+     */
+    @SuppressWarnings("unchecked")
+    public <C> List<FetchNode<C>> getMany(String name){
+        List<FetchNode<?>> children = many.get(name);
+        return children == null ? Collections.emptyList() : (List<FetchNode<C>>) (List<?>) Collections.unmodifiableList(children);
+    }
+
+    /**
+     * @param name the name of a many-to-one step.
+     * @param <C> the POJO-type of the step's DAO
+     * @return the node referenced by this node or <code>null</code>.
+     */
+    @SuppressWarnings("unchecked")
+    public <C> FetchNode<C> getOne(String name){
+        return (FetchNode<C>) one.get(name);
+    }
+
+    void setMany(String name, List<FetchNode<?>> children){
+        many.put(name, children);
+    }
+
+    void setOne(String name, FetchNode<?> node){
+        one.put(name, node);
+    }
+
+    /**
+     * Converts the POJO into a <code>JsonObject</code> and adds the loaded nodes using the names of their steps: a
+     * <code>JsonArray</code> for one-to-many and a <code>JsonObject</code> or <code>null</code> for many-to-one steps.
+     * The POJOs have to be generated with JSON-support.
+     * @return the JSON.
+     */
+    public JsonObject toJson(){
+        JsonObject json = ((VertxPojo) pojo).toJson();
+        many.forEach((name, children) -> {
+            JsonArray array = new JsonArray();
+            children.forEach(child -> array.add(child.toJson()));
+            json.put(name, array);
+        });
+        one.forEach((name, node) -> json.put(name, node == null ? null : node.toJson()));
+        return json;
+    }
+}
@@ -1,9 +1,17 @@
 package io.github.jklingsporn.vertx.jooq.shared.internal;
 
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
 import org.jooq.Condition;
+import org.jooq.Field;
 import org.jooq.OrderField;
+import org.jooq.SortField;
+import org.jooq.UniqueKey;
 
+import java.math.BigDecimal;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 /**
  * @param <P> the POJO-type
@@ -16,7 +24,6 @@ import java.util.Collection;
  */
 public interface GenericVertxDAO<P, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETURNING>  {
 
-
     /**
      * Performs an async <code>INSERT</code> statement for a given POJO
      * @param pojo
@@ -38,6 +45,36 @@ public interface GenericVertxDAO<P, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETU
      */
     public INSERT_RETURNING insertReturningPrimary(P pojo);
 
+    /**
+     * Performs an async <code>INSERT</code> statement for a given POJO or updates the existing row if one with the same
+     * primary key already exists. Depending on the dialect this renders an <code>ON DUPLICATE KEY UPDATE</code>,
+     * <code>ON CONFLICT DO UPDATE</code> or <code>MERGE</code>-statement, so no additional round trip is required.
+     * @param pojo
+     * @return the result type returned for all insert, update and delete-operations.
+     */
+    public EXECUTE upsert(P pojo);
+
+    /**
+     * Performs an async <code>INSERT</code> statement for all given POJOs, updating all rows whose primary key
+     * already exists.
+     * @param pojos
+     * @return the result type returned for all insert, update and delete-operations. Note that some databases (e.g.
+     * MySQL) count an updated row twice.
+     * @see #upsert(Object)
+     */
+    public EXECUTE upsert(Collection<P> pojos);
+
+    /**
+     * Performs an async <code>INSERT</code> statement for all given POJOs, updating all rows that conflict on the
+     * given unique key. All columns except the primary key and the given key are updated. MySQL ignores the key and
+     * updates on a conflict with any unique key.
+     * @param pojos
+     * @param key a unique key of this DAO's table.
+     * @return the result type returned for all insert, update and delete-operations.
+     * @see #upsert(Object)
+     */
+    public EXECUTE upsert(Collection<P> pojos, UniqueKey<?> key);
+
     /**
      * Performs an async <code>UPDATE</code> statement for a given POJO. For performance reasons, consider writing
      * your own update-statements by using a <code>QueryExecutor</code> directly.
@@ -46,6 +83,38 @@ public interface GenericVertxDAO<P, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETU
      */
     public EXECUTE update(P pojo);
 
+    /**
+     * Performs an async <code>UPDATE</code> statement for all given POJOs. The POJOs are updated by a single
+     * <code>UPDATE ... SET c = CASE WHEN pk = ? THEN ? ... END WHERE pk IN (...)</code>-statement. If that statement
+     * would exceed the bind value limit of the database, it is split into several statements which are executed as a
+     * batch.
+     * @param pojos
+     * @return the result type returned for all insert, update and delete-operations. It contains the total number
+     * of updated rows.
+     */
+    public EXECUTE update(Collection<P> pojos);
+
+    /**
+     * Performs an async <code>UPDATE</code> statement that only sets the given columns of the row with the given
+     * primary key. The POJO does not need to be loaded beforehand.
+     * @param id
+     * @param values the columns to update and their new values. A value may also be a <code>Field</code>, e.g.
+     *               <code>DSL.currentTimestamp()</code>.
+     * @return the result type returned for all insert, update and delete-operations.
+     * @see #updateByCondition(Condition, Map)
+     */
+    public EXECUTE updateById(T id, Map<Field<?>, ?> values);
+
+    /**
+     * Performs an async <code>UPDATE</code> statement that only sets the given columns of all rows matching the
+     * given condition. The columns are rendered in the order of the table's columns, so the same set of columns
+     * always renders the same SQL and can be served by the statement caches of the driver and the database.
+     * @param condition
+     * @param values the columns to update and their new values.
+     * @return the result type returned for all insert, update and delete-operations.
+     */
+    public EXECUTE updateByCondition(Condition condition, Map<Field<?>, ?> values);
+
     /**
      * Performs an async <code>DELETE</code> statement using the given id
      * @param id
@@ -75,6 +144,16 @@ public interface GenericVertxDAO<P, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETU
      */
     public FIND_ONE findOneByCondition(Condition condition);
 
+    /**
+     * Performs an async <code>SELECT</code> using the given condition that only selects the given columns. The
+     * returned POJO is partial: all other values are <code>null</code>. If more than one row is found, a
+     * <code>TooManyRowsException</code> is raised.
+     * @param condition
+     * @param projection columns of this DAO's table, e.g. a fetch group of the generated DAO.
+     * @return the result type returned for all find-one-value-operations.
+     */
+    public FIND_ONE findOneByCondition(Condition condition, Collection<? extends Field<?>> projection);
+
     /**
      * Performs an async <code>SELECT</code> using the given primary key.
      * @param id
@@ -104,10 +183,163 @@ public interface GenericVertxDAO<P, T, FIND_MANY, FIND_ONE, EXECUTE, INSERT_RETU
      */
     public FIND_MANY findManyByCondition(Condition condition, OrderField<?> ... orderFields);
 
+    /**
+     * Performs an async <code>SELECT</code> using the given condition that only selects the given columns, so wide
+     * columns that are not needed, e.g. for a list view, are neither transferred nor mapped. The returned POJOs are
+     * partial: all other values are <code>null</code>.
+     * @param condition
+     * @param projection columns of this DAO's table, e.g. a fetch group of the generated DAO.
+     * @return the result type returned for all find-many-values-operations.
+     */
+    public FIND_MANY findManyByCondition(Condition condition, Collection<? extends Field<?>> projection);
+
+    /**
+     * Performs an async <code>SELECT</code> using the given condition that returns at most <code>limit</code> POJOs
+     * ordered by the given fields. The primary key columns are appended to the sort fields unless they are already
+     * part of them, so the order is unique. If no sort fields are given, the POJOs are ordered by primary key.
+     * @param condition
+     * @param limit the maximum number of POJOs to return.
+     * @param sortFields columns of this DAO's table.
+     * @return the result type returned for all find-many-values-operations.
+     */
+    public FIND_MANY findManyByCondition(Condition condition, int limit, SortField<?> ... sortFields);
+
+    /**
+     * Performs an async <code>SELECT</code> like {@link #findManyByCondition(Condition, int, SortField[])} that
+     * only returns POJOs ordered after the row with the given sort key values. The query is rendered using jOOQ's
+     * <code>SEEK</code>-clause, so unlike an <code>OFFSET</code>, the database does not have to skip the rows of the
+     * previous pages. The sort fields should not be nullable.
+     * @param condition
+     * @param limit the maximum number of POJOs to return.
+     * @param seekValues the values of the sort fields, including the appended primary key columns, of the last POJO
+     *                   of the previous page, or <code>null</code> to return the first page.
+     * @param sortFields columns of this DAO's table.
+     * @return the result type returned for all find-many-values-operations.
+     * @see #seekValues(String, SortField[])
+     */
+    public FIND_MANY findManyByCondition(Condition condition, int limit, Object[] seekValues, SortField<?> ... sortFields);
+
+    /**
+     * @param pojo the last POJO of a page.
+     * @param sortFields the sort fields of the page.
+     * @return an opaque token containing the sort key values of the given POJO.
+     */
+    public String continuationToken(P pojo, SortField<?> ... sortFields);
+
+    /**
+     * @param continuationToken a token created by {@link #continuationToken(Object, SortField[])}.
+     * @param sortFields the same sort fields that have been used to create the token.
+     * @return the sort key values contained in the token.
+     */
+    public Object[] seekValues(String continuationToken, SortField<?> ... sortFields);
+
     /**
      * Performs an async <code>SELECT</code>.
      * @return the result type returned for all find-many-values-operations.
      */
     public FIND_MANY findAll();
 
+    /**
+     * Performs an async <code>SELECT</code> using the given condition and JDBC fetch size, i.e. the number of rows the
+     * driver transfers per round trip. Use it to stream large results with a big fetch size. It takes precedence over
+     * {@link io.github.jklingsporn.vertx.jooq.shared.internal.jdbc.AdaptiveFetchSize}. The async drivers fetch all
+     * rows of a result at once, so the async DAOs ignore the fetch size and behave like
+     * {@link #findManyByCondition(Condition)}.
+     * @param condition
+     * @param fetchSize the fetch size.
+     * @return the result type returned for all find-many-values-operations.
+     */
+    public FIND_MANY findManyByConditionWithFetchSize(Condition condition, int fetchSize);
+
+    /**
+     * Performs async <code>SELECT</code>s for all POJOs whose column matches one of the given values. Instead of one
+     * query per value, one query per chunk of values that fits into the bind value limit of the database is executed.
+     * @param field a column of this DAO's table, usually a foreign key.
+     * @param values the values.
+     * @param <Z> the type of the column.
+     * @return the result type returned for all find-many-values-operations.
+     * @see #groupBy(Field, Collection, Collection)
+     */
+    public <Z> FIND_MANY findManyIn(Field<Z> field, Collection<Z> values);
+
+    /**
+     * Groups the given POJOs by the value of a column.
+     * @param field a column of this DAO's table.
+     * @param keys the values the POJOs have been loaded for.
+     * @param pojos the POJOs.
+     * @param <Z> the column type
+     * @return a map containing an entry for each of the given keys in their iteration order. Keys without
+     * POJOs are mapped to an empty list.
+     */
+    public <Z> Map<Z, List<P>> groupBy(Field<Z> field, Collection<Z> keys, Collection<P> pojos);
+
+    /**
+     * Like {@link #groupBy(Field, Collection, Collection)} but for a unique column.
+     * @param field a unique column of this DAO's table.
+     * @param keys the values the POJOs have been loaded for.
+     * @param pojos the POJOs.
+     * @param <Z> the column type
+     * @return the POJO of each key in the iteration order of the keys. Keys without POJO are not contained.
+     * @throws org.jooq.exception.TooManyRowsException if more than one POJO has the same key.
+     */
+    public <Z> Map<Z, P> mapBy(Field<Z> field, Collection<Z> keys, Collection<P> pojos);
+
+    /**
+     * Performs an async <code>INSERT</code> statement for all given POJOs in one round trip and passes their
+     * primary keys in the order of the POJOs to the handler. The <code>VertxDAO</code>-subtypes offer a variant that
+     * returns their result type instead.
+     * @param pojos
+     * @param handler the handler receiving the primary keys.
+     */
+    public void insertReturningPrimaries(Collection<P> pojos, Handler<AsyncResult<List<T>>> handler);
+
+    /**
+     * Performs an async <code>SELECT COUNT(*)</code> using the given condition, so the rows are counted by the
+     * database instead of being fetched.
+     * @param condition
+     * @param handler the handler receiving the number of matching rows.
+     */
+    public void countByCondition(Condition condition, Handler<AsyncResult<Long>> handler);
+
+    /**
+     * Checks asynchronously whether a row matching the given condition exists. At most one row is selected and
+     * none of its columns are fetched.
+     * @param condition
+     * @param handler the handler receiving <code>true</code> if a matching row exists.
+     */
+    public void existsByCondition(Condition condition, Handler<AsyncResult<Boolean>> handler);
+
+    /**
+     * Checks asynchronously whether a row with the given primary key exists.
+     * @param id
+     * @param handler the handler receiving <code>true</code> if the row exists.
+     */
+    public void existsById(T id, Handler<AsyncResult<Boolean>> handler);
+
+    /**
+     * Performs an async <code>SELECT MIN(field)</code> using the given condition.
+     * @param field a column of this DAO's table.
+     * @param condition
+     * @param handler the handler receiving the smallest value or <code>null</code> if no row matches.
+     * @param <Z> the type of the column.
+     */
+    public <Z> void minByCondition(Field<Z> field, Condition condition, Handler<AsyncResult<Z>> handler);
+
+    /**
+     * Performs an async <code>SELECT MAX(field)</code> using the given condition.
+     * @param field a column of this DAO's table.
+     * @param condition
+     * @param handler the handler receiving the largest value or <code>null</code> if no row matches.
+     * @param <Z> the type of the column.
+     */
+    public <Z> void maxByCondition(Field<Z> field, Condition condition, Handler<AsyncResult<Z>> handler);
+
+    /**
+     * Performs an async <code>SELECT SUM(field)</code> using the given condition.
+     * @param field a numeric column of this DAO's table.
+     * @param condition
+     * @param handler the handler receiving the sum, which is zero if no row matches.
+     */
+    public void sumByCondition(Field<? extends Number> field, Condition condition, Handler<AsyncResult<BigDecimal>> handler);
+
 }
@@ -0,0 +1,21 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+/**
+ * The way a DAO renders the condition of a lookup by many primary keys, e.g. in
+ * {@link GenericVertxDAO#findManyByIds(java.util.Collection)}. Lookups exceeding the bind value limit of the dialect are
+ * split into chunks combined with <code>OR</code>, each rendered with the same strategy.
+ * @see AbstractVertxDAO#setKeyLookupListener(java.util.function.ObjIntConsumer)
+ */
+public enum KeyLookupStrategy {
+
+    /**
+     * <code>pk IN (?, ?, ...)</code> or <code>(pk1, pk2) IN ((?, ?), ...)</code> for composite keys. On MySQL and
+     * MariaDB, composite keys are rendered as <code>(pk1 = ? AND pk2 = ?) OR ...</code>, which can use the index.
+     */
+    IN_LIST,
+    /**
+     * <code>pk IN (SELECT v.pk FROM (VALUES (?), (?), ...) AS v(pk))</code>, which lets the database join against
+     * the keys instead of evaluating a long list. Only used on dialects supporting <code>VALUES</code> natively.
+     */
+    VALUES
+}
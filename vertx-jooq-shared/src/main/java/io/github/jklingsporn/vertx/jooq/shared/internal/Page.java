@@ -0,0 +1,61 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of POJOs returned by a keyset-paginated query. Instead of an offset, the next page is identified by a
+ * continuation token that contains the sort key values of the last POJO of this page, so fetching page N costs the
+ * same as fetching the first page.
+ * @param <P> the POJO-type
+ * @see GenericVertxDAO#findManyByCondition(org.jooq.Condition, int, Object[], org.jooq.SortField[])
+ */
+public class Page<P> {
+
+    private final List<P> items;
+    private final String continuationToken;
+
+    public Page(List<P> items, String continuationToken) {
+        this.items = Collections.unmodifiableList(items);
+        this.continuationToken = continuationToken;
+    }
+
+    /**
+     * @param rows the rows returned by a query that has been limited to <code>limit + 1</code> rows.
+     * @param limit the size of a page.
+     * @param tokenOf creates the continuation token for the last POJO of a page.
+     * @param <P> the POJO-type
+     * @return a page containing at most <code>limit</code> POJOs. It has a continuation token if <code>rows</code>
+     * contained more than <code>limit</code> POJOs.
+     */
+    public static <P> Page<P> of(List<P> rows, int limit, Function<P, String> tokenOf){
+        if(rows.size() <= limit){
+            return new Page<>(rows, null);
+        }
+        List<P> items = new ArrayList<>(rows.subList(0, limit));
+        return new Page<>(items, tokenOf.apply(items.get(limit - 1)));
+    }
+
+    /**
+     * @return the POJOs of this page.
+     */
+    public List<P> getItems() {
+        return items;
+    }
+
+    /**
+     * @return the token to fetch the next page or <code>null</code> if this is the last page.
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    /**
+     * @return <code>true</code> if there is another page.
+     */
+    public boolean hasNext() {
+        return continuationToken != null;
+    }
+}
@@ -1,10 +1,14 @@
 package io.github.jklingsporn.vertx.jooq.shared.internal;
 
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
 import org.jooq.InsertResultStep;
 import org.jooq.Query;
+import org.jooq.Record;
 import org.jooq.ResultQuery;
 import org.jooq.UpdatableRecord;
 
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -27,6 +31,14 @@ public interface QueryExecutor<R extends UpdatableRecord<R>, T, FIND_MANY, FIND_
      */
     FIND_MANY findMany(ResultQuery<R> query);
 
+    /**
+     * Runs the given queries and concatenates their results, e.g. the chunks of a lookup that would exceed the bind
+     * value limit of the database in a single query.
+     * @param queries
+     * @return the result type returned for all find-many-values-operations.
+     */
+    FIND_MANY findMany(List<? extends ResultQuery<R>> queries);
+
     /**
      * Runs a query and returns at most one value or <code>null</code>.
      * @param query
@@ -42,12 +54,44 @@ public interface QueryExecutor<R extends UpdatableRecord<R>, T, FIND_MANY, FIND_
      */
     EXECUTE execute(Query query);
 
+    /**
+     * Executes the given queries one after another using a single connection and returns the total number of
+     * affected rows. The queries are executed in one transaction, so either all or none of them are applied.
+     * @param queries
+     * @return the result type returned for all insert, update and delete-operations.
+     */
+    EXECUTE executeBatch(List<? extends Query> queries);
+
     /**
      * Performs an async <code>INSERT</code> statement for a given POJO and returns it's primary key.
      * @param query
-     * @param keyMapper a function to map the result returned by the underlying executor into the key type.
+     * @param keyMapper a function to map the result returned by the underlying executor into the key type. Depending
+     *                  on the executor, this is the returned <code>Record</code>, the last insert id or a
+     *                  <code>QueryResult</code> containing the returned row.
      * @return the result type returned for INSERT_RETURNING.
      */
     INSERT_RETURNING insertReturning(InsertResultStep<R> query,Function<Object,T> keyMapper);
 
+    /**
+     * Performs an async <code>INSERT</code> statement that may insert multiple rows and passes the returned rows to
+     * the handler. This variant does not depend on the result types of this executor, so it can be used by the
+     * <code>AbstractVertxDAO</code> directly.<br>
+     * The JDBC-executors and the async-executors on Postgres return one row per inserted row containing the
+     * requested columns. Because the <code>AsyncSQLClient</code> only reports the last insert id for MySQL, the
+     * async-executors return a single row containing the key generated for the first inserted row in that case.
+     * @param query
+     * @param handler the handler receiving the returned rows.
+     */
+    void insertReturningRows(InsertResultStep<R> query, Handler<AsyncResult<QueryResult>> handler);
+
+    /**
+     * Runs a query that does not return records of this executor's table, e.g. an aggregation, and passes the
+     * result to the handler. Like {@link #insertReturningRows(InsertResultStep, Handler)}, this variant does not
+     * depend on the result types of this executor.
+     * @param query
+     * @param handler the handler receiving the result.
+     * @param <Q> the record type of the query.
+     */
+    <Q extends Record> void query(ResultQuery<Q> query, Handler<AsyncResult<QueryResult>> handler);
+
 }
@@ -0,0 +1,54 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import org.jooq.Field;
+
+import java.util.List;
+
+/**
+ * A driver-independent view on the result of an arbitrary <code>ResultQuery</code>. Use it to read values that don't
+ * map to the POJO of a DAO, e.g. aggregates, sequence values or custom projections.<br>
+ * All getters read from the current row, which is the first row of the result. Use {@link #asList()} to access
+ * subsequent rows.
+ */
+public interface QueryResult {
+
+    /**
+     * @param field the field, converters attached to it are applied.
+     * @param <T> the value type
+     * @return the value of the given field in the current row or <code>null</code> if there are no results.
+     */
+    public <T> T get(Field<T> field);
+
+    /**
+     * @param index the column index, starting at 0.
+     * @param type the value type
+     * @param <T> the value type
+     * @return the value of the given column in the current row or <code>null</code> if there are no results.
+     */
+    public <T> T get(int index, Class<T> type);
+
+    /**
+     * @param columnName the column name
+     * @param type the value type
+     * @param <T> the value type
+     * @return the value of the given column in the current row or <code>null</code> if there are no results.
+     */
+    public <T> T get(String columnName, Class<T> type);
+
+    /**
+     * @return <code>true</code> if the query returned at least one row.
+     */
+    public boolean hasResults();
+
+    /**
+     * @return one <code>QueryResult</code> per row, never <code>null</code>.
+     */
+    public List<QueryResult> asList();
+
+    /**
+     * @param <U> the driver-specific type
+     * @return the underlying driver-specific result, e.g. a <code>org.jooq.Result</code> or a
+     * <code>io.vertx.ext.sql.ResultSet</code>.
+     */
+    public <U> U unwrap();
+}
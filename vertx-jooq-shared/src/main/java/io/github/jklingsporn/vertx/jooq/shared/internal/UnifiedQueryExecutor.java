@@ -0,0 +1,39 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.ResultQuery;
+
+import java.util.List;
+
+/**
+ * An executor for arbitrary queries that is implemented by all driver-specific executors of the same API.
+ * @param <EXECUTE> the result type returned for all insert, update and delete-operations. This varies on the subtypes, e.g. {@code Future<Integer>}.
+ * @param <QUERY> the result type returned for all queries. This varies on the subtypes, e.g. {@code Future<QueryResult>}.
+ */
+public interface UnifiedQueryExecutor<EXECUTE, QUERY> {
+
+    /**
+     * Executes a query and returns the result of the execution (usually an <code>Integer</code>-value)
+     * @param query
+     * @return the result type returned for all insert, update and delete-operations.
+     * @see Query#execute()
+     */
+    public EXECUTE execute(Query query);
+
+    /**
+     * Executes the given queries one after another using a single connection and returns the total number of
+     * affected rows. The queries are executed in one transaction, so either all or none of them are applied.
+     * @param queries
+     * @return the result type returned for all insert, update and delete-operations.
+     */
+    public EXECUTE executeBatch(List<? extends Query> queries);
+
+    /**
+     * Executes the given query and wraps all returned rows into a <code>QueryResult</code>.
+     * @param query the query
+     * @param <Q> the Record-type
+     * @return the result type returned for all queries.
+     */
+    public <Q extends Record> QUERY query(ResultQuery<Q> query);
+}
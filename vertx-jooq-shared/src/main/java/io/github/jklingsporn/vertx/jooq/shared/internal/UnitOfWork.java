@@ -0,0 +1,206 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal;
+
+import org.jooq.ForeignKey;
+import org.jooq.Query;
+import org.jooq.Table;
+
+import java.util.*;
+
+/**
+ * Records inserts, updates and deletes of POJOs across several DAOs and turns them into as few statements as possible
+ * when it is flushed, e.g. <code>executor.flush(new UnitOfWork().insert(authorDao, author).insert(bookDao, book))</code>.
+ * <br>
+ * Writes of the same row are coalesced before anything is sent to the database:
+ * <ul>
+ *     <li>Updating a row several times results in one update with the last values.</li>
+ *     <li>Updating a pending insert inserts the updated values.</li>
+ *     <li>Deleting a pending insert drops both, deleting a pending update only deletes.</li>
+ *     <li>Inserting a row that has been deleted before updates it instead.</li>
+ * </ul>
+ * Rows are identified by their primary key, POJOs without a key (e.g. an identity that is generated by the database)
+ * are always inserted.<br>
+ * The remaining writes are grouped per table: a multi-row <code>INSERT</code>, an <code>UPDATE</code> of all updated
+ * rows and a <code>DELETE</code> of all deleted rows, each split further only if it exceeds the bind value limit.
+ * Inserts and updates are executed for referenced tables first, deletes for referencing tables first, according to the
+ * foreign keys of the generated tables. Foreign keys of a table referencing itself are not considered.<br>
+ * A unit of work is not thread-safe and is not cleared by flushing it, use a new one for every unit.
+ */
+public class UnitOfWork {
+
+    private enum Kind {INSERT, UPDATE, DELETE}
+
+    private final Map<Table<?>, TableWrites<?, ?>> writes = new LinkedHashMap<>();
+
+    /**
+     * @param dao the DAO of the POJO.
+     * @param pojo the POJO to insert.
+     * @param <P> the POJO-type
+     * @param <T> the Key-Type
+     * @return this unit of work.
+     * @throws IllegalStateException if the row is already going to be inserted or updated.
+     */
+    public <P, T> UnitOfWork insert(AbstractVertxDAO<?, P, T, ?, ?, ?, ?> dao, P pojo){
+        TableWrites<P, T> tableWrites = writesOf(dao);
+        T id = dao.getId(pojo);
+        Object key = id == null ? new Object() : id;
+        Write<P, T> pending = tableWrites.writes.get(key);
+        if(pending == null){
+            tableWrites.writes.put(key, new Write<>(Kind.INSERT, pojo, id));
+        }else if(pending.kind == Kind.DELETE){
+            tableWrites.writes.put(key, new Write<>(Kind.UPDATE, pojo, id));
+        }else{
+            throw new IllegalStateException(String.format("%s %s is already pending for %s", pending.kind, id, dao.getTable().getName()));
+        }
+        return this;
+    }
+
+    /**
+     * @param dao the DAO of the POJO.
+     * @param pojo the POJO to update.
+     * @param <P> the POJO-type
+     * @param <T> the Key-Type
+     * @return this unit of work.
+     * @throws IllegalStateException if the row is already going to be deleted.
+     */
+    public <P, T> UnitOfWork update(AbstractVertxDAO<?, P, T, ?, ?, ?, ?> dao, P pojo){
+        TableWrites<P, T> tableWrites = writesOf(dao);
+        T id = Objects.requireNonNull(dao.getId(pojo), "No primary key");
+        Write<P, T> pending = tableWrites.writes.get(id);
+        if(pending == null){
+            tableWrites.writes.put(id, new Write<>(Kind.UPDATE, pojo, id));
+        }else if(pending.kind == Kind.DELETE){
+            throw new IllegalStateException(String.format("%s %s is already pending for %s", pending.kind, id, dao.getTable().getName()));
+        }else{
+            tableWrites.writes.put(id, new Write<>(pending.kind, pojo, id));
+        }
+        return this;
+    }
+
+    /**
+     * @param dao the DAO of the POJO.
+     * @param pojo the POJO to delete.
+     * @param <P> the POJO-type
+     * @param <T> the Key-Type
+     * @return this unit of work.
+     */
+    public <P, T> UnitOfWork delete(AbstractVertxDAO<?, P, T, ?, ?, ?, ?> dao, P pojo){
+        return deleteById(dao, dao.getId(pojo));
+    }
+
+    /**
+     * @param dao the DAO of the row.
+     * @param id the primary key of the row to delete.
+     * @param <P> the POJO-type
+     * @param <T> the Key-Type
+     * @return this unit of work.
+     */
+    public <P, T> UnitOfWork deleteById(AbstractVertxDAO<?, P, T, ?, ?, ?, ?> dao, T id){
+        Objects.requireNonNull(id, "No primary key");
+        TableWrites<P, T> tableWrites = writesOf(dao);
+        Write<P, T> pending = tableWrites.writes.get(id);
+        if(pending != null && pending.kind == Kind.INSERT){
+            tableWrites.writes.remove(id);
+        }else{
+            tableWrites.writes.put(id, new Write<>(Kind.DELETE, null, id));
+        }
+        return this;
+    }
+
+    /**
+     * @return <code>true</code> if there is nothing to write.
+     */
+    public boolean isEmpty(){
+        return writes.values().stream().allMatch(tableWrites -> tableWrites.writes.isEmpty());
+    }
+
+    /**
+     * @return the statements writing the pending changes in the order they have to be executed.
+     */
+    public List<Query> getQueries(){
+        List<Table<?>> order = dependencyOrder();
+        List<Query> queries = new ArrayList<>();
+        for (Table<?> table : order) {
+            queries.addAll(writes.get(table).queries(Kind.INSERT));
+        }
+        for (Table<?> table : order) {
+            queries.addAll(writes.get(table).queries(Kind.UPDATE));
+        }
+        for (int i = order.size() - 1; i >= 0; i--) {
+            queries.addAll(writes.get(order.get(i)).queries(Kind.DELETE));
+        }
+        return queries;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <P, T> TableWrites<P, T> writesOf(AbstractVertxDAO<?, P, T, ?, ?, ?, ?> dao){
+        return (TableWrites<P, T>) writes.computeIfAbsent(dao.getTable(), table -> new TableWrites<>(dao));
+    }
+
+    /**
+     * @return the tables of this unit of work, every table after the tables it references. Tables that reference each
+     * other are kept in the order they have been added.
+     */
+    private List<Table<?>> dependencyOrder(){
+        List<Table<?>> order = new ArrayList<>(writes.size());
+        Set<Table<?>> visited = new HashSet<>();
+        for (Table<?> table : writes.keySet()) {
+            visit(table, visited, order);
+        }
+        return order;
+    }
+
+    private void visit(Table<?> table, Set<Table<?>> visited, List<Table<?>> order){
+        if(!visited.add(table)){
+            return;
+        }
+        for (ForeignKey<?, ?> reference : table.getReferences()) {
+            Table<?> referenced = reference.getKey().getTable();
+            if(!referenced.equals(table) && writes.containsKey(referenced)){
+                visit(referenced, visited, order);
+            }
+        }
+        order.add(table);
+    }
+
+    private static class TableWrites<P, T> {
+
+        private final AbstractVertxDAO<?, P, T, ?, ?, ?, ?> dao;
+        private final Map<Object, Write<P, T>> writes = new LinkedHashMap<>();
+
+        private TableWrites(AbstractVertxDAO<?, P, T, ?, ?, ?, ?> dao) {
+            this.dao = dao;
+        }
+
+        private List<Query> queries(Kind kind){
+            List<P> pojos = new ArrayList<>();
+            List<T> ids = new ArrayList<>();
+            for (Write<P, T> write : writes.values()) {
+                if(write.kind == kind){
+                    pojos.add(write.pojo);
+                    ids.add(write.id);
+                }
+            }
+            if(ids.isEmpty()){
+                return Collections.emptyList();
+            }
+            switch (kind){
+                case INSERT: return dao.insertQueries(pojos);
+                case UPDATE: return dao.updateQueries(pojos);
+                default: return dao.deleteQueries(ids);
+            }
+        }
+    }
+
+    private static class Write<P, T> {
+
+        private final Kind kind;
+        private final P pojo;
+        private final T id;
+
+        private Write(Kind kind, P pojo, T id) {
+            this.kind = kind;
+            this.pojo = pojo;
+            this.id = id;
+        }
+    }
+}
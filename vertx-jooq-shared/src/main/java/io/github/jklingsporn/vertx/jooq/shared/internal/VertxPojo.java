@@ -17,4 +17,21 @@ public interface VertxPojo {
      * @return a JSON-representation of this POJO.
      */
     public io.vertx.core.json.JsonObject toJson();
+
+    /**
+     * Converts the given columns of this <code>VertxPOJO</code> into a <code>JsonObject</code>. This requires the
+     * JSON-keys to match the column names, which is the default.
+     * @param fields the columns to convert, e.g. the projection used to fetch this POJO.
+     * @return a JSON-representation containing only the given columns.
+     */
+    public default io.vertx.core.json.JsonObject toJson(java.util.Collection<? extends org.jooq.Field<?>> fields){
+        io.vertx.core.json.JsonObject json = toJson();
+        io.vertx.core.json.JsonObject projected = new io.vertx.core.json.JsonObject();
+        for (org.jooq.Field<?> field : fields) {
+            if(json.containsKey(field.getName())){
+                projected.put(field.getName(), json.getValue(field.getName()));
+            }
+        }
+        return projected;
+    }
 }
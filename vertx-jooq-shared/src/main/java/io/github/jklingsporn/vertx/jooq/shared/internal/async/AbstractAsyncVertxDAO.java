@@ -2,12 +2,22 @@ package io.github.jklingsporn.vertx.jooq.shared.internal.async;
 
 import io.github.jklingsporn.vertx.jooq.shared.internal.AbstractVertxDAO;
 import io.github.jklingsporn.vertx.jooq.shared.internal.QueryExecutor;
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.impl.Arguments;
 import org.jooq.*;
 import org.jooq.impl.DSL;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 /**
  * Abstract base class for all async DAOs.
@@ -30,16 +40,88 @@ public abstract class AbstractAsyncVertxDAO<R extends UpdatableRecord<R>, P, T,
     /**
      * @return the converter used to convert the returned primary key to type T. Since the input argument of the Function
      * is always a Long, only non-compound numeric keys can be returned. This method gets automatically overridden during
-     * DAO-creation depending on T.
+     * DAO-creation depending on T. It is not used if {@link #isReturningSupported()}.
      */
     protected Function<Object,T> keyConverter(){
         throw new UnsupportedOperationException("Cannot be converted");
     }
 
+    /**
+     * @return <code>true</code> if the dialect supports <code>INSERT ... RETURNING</code>, which is the case for
+     * Postgres. The primary key is then returned by the database in the same round trip, so any key type is
+     * supported. Otherwise, only the last insert id reported by MySQL is available.
+     */
+    protected boolean isReturningSupported(){
+        return configuration().dialect().family() == SQLDialect.POSTGRES;
+    }
+
     @Override
     public INSERT_RETURNING insertReturningPrimary(P object) {
-        Arguments.require(INSERT_RETURNING_SUPPORT.contains(configuration().dialect()), "Only MySQL supported");
         DSLContext dslContext = DSL.using(configuration());
+        if(isReturningSupported()){
+            UniqueKey<R> key = getTable().getPrimaryKey();
+            Objects.requireNonNull(key,()->"No primary key");
+            return queryExecutor().insertReturning(
+                    dslContext.insertInto(getTable()).set(newRecord(dslContext, object)).returning(key.getFields()),
+                    row -> {
+                        Arguments.require(((QueryResult) row).hasResults(), "Failed inserting record or no key");
+                        return keyOf((QueryResult) row, key);
+                    });
+        }
+        Arguments.require(INSERT_RETURNING_SUPPORT.contains(configuration().dialect()), "Only MySQL and Postgres supported");
         return queryExecutor().insertReturning(dslContext.insertInto(getTable()).set(newRecord(dslContext, object)).returning(), keyConverter());
     }
+
+    /**
+     * Performs an async multi-row <code>INSERT</code> statement. Unless {@link #isReturningSupported()}, the
+     * primary keys are derived from the last insert id reported by MySQL, which is the key generated for the first
+     * row. This requires the keys of a single statement to be consecutive, which is the case for
+     * <code>auto_increment_increment = 1</code> and an <code>innodb_autoinc_lock_mode</code> other than
+     * <i>interleaved</i>. If all POJOs have a primary key, their keys are returned instead. The handler is failed
+     * with an <code>IllegalArgumentException</code> if only some of them have one, since the generated keys could
+     * not be told apart.
+     * @param pojos
+     * @param handler the handler receiving the primary keys.
+     */
+    @Override
+    public void insertReturningPrimaries(Collection<P> pojos, Handler<AsyncResult<List<T>>> handler) {
+        if(isReturningSupported()){
+            super.insertReturningPrimaries(pojos, handler);
+            return;
+        }
+        if(!INSERT_RETURNING_SUPPORT.contains(configuration().dialect())){
+            handler.handle(Future.failedFuture(new IllegalArgumentException("Only MySQL and Postgres supported")));
+            return;
+        }
+        if(pojos.isEmpty()){
+            handler.handle(Future.succeededFuture(Collections.emptyList()));
+            return;
+        }
+        List<T> ids = pojos.stream().map(this::getId).collect(Collectors.toList());
+        long explicitIds = ids.stream().filter(Objects::nonNull).count();
+        DSLContext dslContext = DSL.using(configuration());
+        if(explicitIds == ids.size()){
+            queryExecutor().insertReturningRows(insertValues(dslContext, pojos).returning(), res -> handler.handle(res.map(ids)));
+            return;
+        }
+        if(explicitIds > 0){
+            handler.handle(Future.failedFuture(new IllegalArgumentException("Either all or none of the POJOs must have a primary key")));
+            return;
+        }
+        Function<Object,T> keyConverter;
+        try{
+            keyConverter = keyConverter();
+        }catch(UnsupportedOperationException e){
+            handler.handle(Future.failedFuture(e));
+            return;
+        }
+        queryExecutor().insertReturningRows(insertValues(dslContext, pojos).returning(), res -> {
+            if(res.failed()){
+                handler.handle(Future.failedFuture(res.cause()));
+                return;
+            }
+            long firstKey = res.result().get(0, Long.class);
+            handler.handle(Future.succeededFuture(LongStream.range(firstKey, firstKey + pojos.size()).boxed().map(keyConverter).collect(Collectors.toList())));
+        });
+    }
 }
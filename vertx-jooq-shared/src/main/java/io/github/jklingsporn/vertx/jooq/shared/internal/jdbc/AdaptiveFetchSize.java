@@ -0,0 +1,165 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.jdbc;
+
+import io.vertx.core.impl.Arguments;
+import org.jooq.Configuration;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.ExecuteType;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DefaultExecuteListener;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An <code>ExecuteListener</code> that records the number of rows each query shape returns and sets the JDBC fetch
+ * size of the next execution of the same shape accordingly: point lookups fetch a few rows per round trip, queries
+ * returning many rows fetch up to <code>maxFetchSize</code> rows per round trip. The shape of a query is its SQL, so
+ * queries only differing in their bind values share a fetch size. Queries of unknown shape use the driver's default.
+ * <br>
+ * Install it on the configuration passed to the JDBC DAOs using {@link #install(Configuration)}. Queries with an
+ * explicit fetch size, i.e. whose configuration contains {@link #EXPLICIT_FETCH_SIZE} like the queries of
+ * {@link io.github.jklingsporn.vertx.jooq.shared.internal.GenericVertxDAO#findManyByConditionWithFetchSize(org.jooq.Condition, int)},
+ * are left alone. Note that some drivers ignore the fetch size unless configured otherwise, e.g.
+ * MySQL requires <code>useCursorFetch=true</code>.
+ */
+public class AdaptiveFetchSize extends DefaultExecuteListener {
+
+    /**
+     * The key of the configuration data marking queries whose fetch size has been set explicitly. The statement's
+     * fetch size cannot tell, since drivers may default to a non-zero fetch size, e.g. Oracle fetches 10 rows.
+     */
+    public static final String EXPLICIT_FETCH_SIZE = AdaptiveFetchSize.class.getName() + ".explicit";
+
+    private static final String ROWS = AdaptiveFetchSize.class.getName() + ".rows";
+
+    private final int minFetchSize;
+    private final int maxFetchSize;
+    private final int maxShapes;
+    private final ConcurrentMap<String, Shape> shapes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a listener choosing fetch sizes between <code>1</code> and <code>1000</code> for at most
+     * <code>10000</code> query shapes.
+     */
+    public AdaptiveFetchSize() {
+        this(1, 1000, 10000);
+    }
+
+    /**
+     * @param minFetchSize the fetch size of queries expected to return no or a single row.
+     * @param maxFetchSize the fetch size of queries expected to return many rows.
+     * @param maxShapes the maximum number of query shapes to record. Queries of further shapes use the driver's
+     *                  default fetch size.
+     */
+    public AdaptiveFetchSize(int minFetchSize, int maxFetchSize, int maxShapes) {
+        Arguments.require(minFetchSize > 0, "minFetchSize must be positive");
+        Arguments.require(maxFetchSize >= minFetchSize, "maxFetchSize must not be smaller than minFetchSize");
+        Arguments.require(maxShapes > 0, "maxShapes must be positive");
+        this.minFetchSize = minFetchSize;
+        this.maxFetchSize = maxFetchSize;
+        this.maxShapes = maxShapes;
+    }
+
+    /**
+     * Adds a new <code>AdaptiveFetchSize</code> with default limits to the execute listeners of the given
+     * configuration.
+     * @param configuration the configuration passed to the JDBC DAOs.
+     * @return the listener.
+     */
+    public static AdaptiveFetchSize install(Configuration configuration){
+        return install(configuration, new AdaptiveFetchSize());
+    }
+
+    /**
+     * Adds the listener to the execute listeners of the given configuration.
+     * @param configuration the configuration passed to the JDBC DAOs.
+     * @param listener the listener.
+     * @return the listener.
+     */
+    public static AdaptiveFetchSize install(Configuration configuration, AdaptiveFetchSize listener){
+        ExecuteListenerProvider[] providers = configuration.executeListenerProviders();
+        providers = Arrays.copyOf(providers, providers.length + 1);
+        providers[providers.length - 1] = new DefaultExecuteListenerProvider(listener);
+        configuration.set(providers);
+        return listener;
+    }
+
+    /**
+     * @param sql the SQL of a query.
+     * @return the fetch size used for the next execution of the given query, <code>0</code> if its shape is unknown.
+     */
+    public int fetchSizeOf(String sql){
+        Shape shape = shapes.get(sql);
+        return shape == null ? 0 : shape.fetchSize();
+    }
+
+    /**
+     * @return the number of recorded query shapes.
+     */
+    public int getShapes(){
+        return shapes.size();
+    }
+
+    @Override
+    public void prepareEnd(ExecuteContext ctx) {
+        if(ctx.type() != ExecuteType.READ || ctx.statement() == null || ctx.configuration().data(EXPLICIT_FETCH_SIZE) != null){
+            return;
+        }
+        try {
+            ctx.data(ROWS, new int[1]);
+            Shape shape = shapes.get(ctx.sql());
+            if(shape != null){
+                ctx.statement().setFetchSize(shape.fetchSize());
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed setting the fetch size", e);
+        }
+    }
+
+    @Override
+    public void recordEnd(ExecuteContext ctx) {
+        int[] rows = (int[]) ctx.data(ROWS);
+        if(rows != null){
+            rows[0]++;
+        }
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        int[] rows = (int[]) ctx.data(ROWS);
+        if(rows == null || ctx.exception() != null){
+            return;
+        }
+        Shape shape = shapes.get(ctx.sql());
+        if(shape == null){
+            if(shapes.size() >= maxShapes){
+                return;
+            }
+            shape = shapes.computeIfAbsent(ctx.sql(), sql -> new Shape());
+        }
+        shape.observe(rows[0]);
+    }
+
+    private class Shape {
+
+        //guarded by this shape's monitor
+        private double expectedRows = -1;
+
+        private synchronized void observe(int rows){
+            //exponential moving average, so a shape adapts when its results grow
+            expectedRows = expectedRows < 0 ? rows : expectedRows + (rows - expectedRows) / 4;
+        }
+
+        /**
+         * @return one more than the expected number of rows, so the driver can tell that there are no further rows
+         * without another round trip.
+         */
+        private synchronized int fetchSize(){
+            return (int) Math.min(maxFetchSize, Math.max(minFetchSize, Math.ceil(expectedRows) + 1));
+        }
+    }
+}
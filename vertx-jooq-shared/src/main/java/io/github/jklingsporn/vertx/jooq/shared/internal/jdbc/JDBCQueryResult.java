@@ -0,0 +1,58 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.jdbc;
+
+import io.github.jklingsporn.vertx.jooq.shared.internal.QueryResult;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A <code>QueryResult</code> backed by a jOOQ <code>Result</code>.
+ */
+public class JDBCQueryResult implements QueryResult {
+
+    private final Result<? extends Record> result;
+    private final Record current;
+
+    public JDBCQueryResult(Result<? extends Record> result) {
+        this(result, result.isEmpty() ? null : result.get(0));
+    }
+
+    private JDBCQueryResult(Result<? extends Record> result, Record current) {
+        this.result = result;
+        this.current = current;
+    }
+
+    @Override
+    public <T> T get(Field<T> field) {
+        return current == null ? null : current.get(field);
+    }
+
+    @Override
+    public <T> T get(int index, Class<T> type) {
+        return current == null ? null : current.get(index, type);
+    }
+
+    @Override
+    public <T> T get(String columnName, Class<T> type) {
+        return current == null ? null : current.get(columnName, type);
+    }
+
+    @Override
+    public boolean hasResults() {
+        return current != null;
+    }
+
+    @Override
+    public List<QueryResult> asList() {
+        return result.stream().map(record -> new JDBCQueryResult(result, record)).collect(Collectors.toList());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> U unwrap() {
+        return (U) result;
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.jdbc;
+
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.Query;
+import org.jooq.exception.DataAccessException;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultExecuteListener;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * A database transaction of the JDBC query executors. The whole unit of work of a transaction is executed by one
+ * worker thread on one connection: the DAOs of the transaction (see {@link #dao(BiFunction)}) execute their
+ * statements on the calling thread instead of passing each of them to the worker pool, so their results are complete
+ * as soon as the DAO-method returns. The transaction is committed when the unit of work completes successfully and
+ * rolled back otherwise. Nested transactions are executed using savepoints.<br>
+ * The unit of work must only use the DAOs of the transaction and must not wait for other asynchronous operations,
+ * because it blocks the worker thread executing it.
+ * @param <VERTX> the Vertx-type of the DAOs' constructor, e.g. <code>io.vertx.core.Vertx</code>.
+ */
+public class JDBCTransaction<VERTX> {
+
+    private static final String BOUND = JDBCTransaction.class.getName() + ".bound";
+
+    private final Configuration configuration;
+    private final VERTX vertx;
+
+    private JDBCTransaction(Configuration configuration, VERTX vertx) {
+        this.configuration = configuration;
+        this.vertx = vertx;
+    }
+
+    /**
+     * @return the configuration bound to the connection of this transaction.
+     */
+    public Configuration configuration() {
+        return configuration;
+    }
+
+    /**
+     * Creates a DAO of this transaction, e.g. <code>tx.dao(SomethingDao::new)</code>.
+     * @param factory the constructor of a generated JDBC DAO.
+     * @param <D> the DAO-type
+     * @return a DAO executing its statements in this transaction. It must not be used after the transaction has
+     * completed.
+     */
+    public <D> D dao(BiFunction<Configuration, VERTX, D> factory) {
+        return factory.apply(configuration, vertx);
+    }
+
+    /**
+     * Executes the queries one after another in this transaction.
+     * @param queries the queries.
+     * @return the total number of affected rows.
+     */
+    public int executeAll(List<? extends Query> queries) {
+        DSLContext dslContext = DSL.using(configuration);
+        int affected = 0;
+        for (Query query : queries) {
+            affected += dslContext.execute(query);
+        }
+        return affected;
+    }
+
+    /**
+     * @param configuration a configuration.
+     * @return <code>true</code> if the configuration is bound to the connection of a transaction. The JDBC query
+     * executors execute statements of such configurations on the calling thread.
+     */
+    public static boolean isBound(Configuration configuration) {
+        return configuration != null && configuration.data(BOUND) != null;
+    }
+
+    /**
+     * Executes a unit of work in a transaction on the calling thread. If the configuration is already bound to a
+     * transaction, a nested transaction is started.
+     * @param configuration the configuration providing the connection.
+     * @param vertx the Vertx-instance passed to the DAOs of the transaction.
+     * @param unit the unit of work.
+     * @param <VERTX> the Vertx-type of the DAOs' constructor
+     * @param <X> the result type
+     * @return the result of the unit of work.
+     * @throws DataAccessException if the unit of work failed with a checked exception or the transaction could not be
+     * committed.
+     */
+    public static <VERTX, X> X execute(Configuration configuration, VERTX vertx, Unit<VERTX, X> unit) {
+        Objects.requireNonNull(unit);
+        return DSL.using(configuration).transactionResult(transactional -> {
+            CompletionGuard guard = new CompletionGuard();
+            ExecuteListenerProvider[] providers = transactional.executeListenerProviders();
+            providers = Arrays.copyOf(providers, providers.length + 1);
+            providers[providers.length - 1] = new DefaultExecuteListenerProvider(guard);
+            Configuration bound = transactional.derive(providers);
+            bound.data(BOUND, guard);
+            try {
+                return unit.run(new JDBCTransaction<>(bound, vertx));
+            } finally {
+                guard.completed = true;
+            }
+        });
+    }
+
+    /**
+     * A unit of work.
+     * @param <VERTX> the Vertx-type of the DAOs' constructor
+     * @param <X> the result type
+     */
+    @FunctionalInterface
+    public interface Unit<VERTX, X> {
+
+        /**
+         * @param transaction the transaction.
+         * @return the result.
+         * @throws Throwable to roll back the transaction.
+         */
+        X run(JDBCTransaction<VERTX> transaction) throws Throwable;
+    }
+
+    /**
+     * Rejects statements of a transaction's configuration after the transaction has completed. The configuration still
+     * references the connection then, which might already be used by someone else.
+     */
+    private static class CompletionGuard extends DefaultExecuteListener {
+
+        private volatile boolean completed;
+
+        @Override
+        public void start(ExecuteContext ctx) {
+            if (completed) {
+                throw new DataAccessException("Transaction has already been completed");
+            }
+        }
+    }
+}
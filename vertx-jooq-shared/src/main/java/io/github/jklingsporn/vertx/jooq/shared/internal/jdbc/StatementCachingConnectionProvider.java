@@ -0,0 +1,275 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.jdbc;
+
+import io.vertx.core.impl.Arguments;
+import org.jooq.ConnectionProvider;
+import org.jooq.exception.DataAccessException;
+import org.jooq.tools.jdbc.DefaultConnection;
+import org.jooq.tools.jdbc.DefaultPreparedStatement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A <code>ConnectionProvider</code> that keeps the prepared statements of each connection in a LRU-cache keyed by
+ * their SQL, so statements executed over and over again by the JDBC DAOs are prepared once per connection. Closing a
+ * cached statement returns it to the cache, statements are only closed when they are evicted.<br>
+ * Set it on the configuration passed to the DAOs: <code>configuration.set(new StatementCachingConnectionProvider(
+ * configuration.connectionProvider(), 64))</code>.<br>
+ * The cache of a connection lives as long as the connection object handed out by the delegate, so the delegate has
+ * to return the same objects again, e.g. a <code>DefaultConnectionProvider</code>. Pools that return a new proxy on
+ * every checkout and close its statements on release (e.g. HikariCP) will not benefit, use the statement cache of
+ * the JDBC driver instead.
+ */
+public class StatementCachingConnectionProvider implements ConnectionProvider {
+
+    private final ConnectionProvider delegate;
+    private final int maxStatementsPerConnection;
+    //guarded by itself
+    private final Map<Connection, CachingConnection> connections = new IdentityHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param delegate the provider of the connections.
+     * @param maxStatementsPerConnection the maximum number of statements cached per connection.
+     */
+    public StatementCachingConnectionProvider(ConnectionProvider delegate, int maxStatementsPerConnection) {
+        Arguments.require(maxStatementsPerConnection > 0, "maxStatementsPerConnection must be positive");
+        this.delegate = Objects.requireNonNull(delegate);
+        this.maxStatementsPerConnection = maxStatementsPerConnection;
+    }
+
+    @Override
+    public Connection acquire() throws DataAccessException {
+        Connection connection = delegate.acquire();
+        synchronized (connections) {
+            CachingConnection caching = connections.get(connection);
+            if (caching == null) {
+                //forget the caches of connections that have been closed by the delegate meanwhile
+                connections.values().removeIf(CachingConnection::isDiscarded);
+                caching = new CachingConnection(connection);
+                connections.put(connection, caching);
+            }
+            return caching;
+        }
+    }
+
+    @Override
+    public void release(Connection connection) throws DataAccessException {
+        delegate.release(connection instanceof CachingConnection ? ((CachingConnection) connection).getDelegate() : connection);
+    }
+
+    /**
+     * @return the number of statements that have been taken from the cache.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of statements that have been prepared because they were not cached.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return the number of statements that have been closed to make room for others.
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * @return the ratio of hits to all prepared statements, <code>0</code> if no statement has been prepared yet.
+     */
+    public double getHitRate() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private class CachingConnection extends DefaultConnection {
+
+        //guarded by this connection's monitor
+        private final LinkedHashMap<String, CachedStatement> statements = new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() <= maxStatementsPerConnection) {
+                    return false;
+                }
+                evictions.incrementAndGet();
+                eldest.getValue().evict();
+                return true;
+            }
+        };
+
+        private CachingConnection(Connection delegate) {
+            super(delegate);
+        }
+
+        private boolean isDiscarded() {
+            try {
+                return getDelegate().isClosed();
+            } catch (SQLException e) {
+                return true;
+            }
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql) throws SQLException {
+            return prepare(sql, () -> getDelegate().prepareStatement(sql));
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+            return prepare(resultSetType + ";" + resultSetConcurrency + ";" + sql, () -> getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency));
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+            return prepare(resultSetType + ";" + resultSetConcurrency + ";" + resultSetHoldability + ";" + sql, () -> getDelegate().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+            return prepare("keys " + autoGeneratedKeys + ";" + sql, () -> getDelegate().prepareStatement(sql, autoGeneratedKeys));
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+            return prepare("keys " + Arrays.toString(columnIndexes) + ";" + sql, () -> getDelegate().prepareStatement(sql, columnIndexes));
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+            return prepare("keys " + Arrays.toString(columnNames) + ";" + sql, () -> getDelegate().prepareStatement(sql, columnNames));
+        }
+
+        private PreparedStatement prepare(String key, StatementFactory factory) throws SQLException {
+            synchronized (this) {
+                CachedStatement cached = statements.get(key);
+                if (cached != null && !cached.inUse && !cached.getDelegate().isClosed()) {
+                    hits.incrementAndGet();
+                    cached.inUse = true;
+                    return cached;
+                }
+                if (cached != null && !cached.inUse) {
+                    //closed by the driver, e.g. because the physical connection has been closed
+                    statements.remove(key);
+                }
+            }
+            misses.incrementAndGet();
+            PreparedStatement statement = factory.prepare();
+            synchronized (this) {
+                if (statements.containsKey(key)) {
+                    //the cached statement is used concurrently, so this one is closed after use
+                    return statement;
+                }
+                CachedStatement cached;
+                try {
+                    cached = new CachedStatement(this, statement);
+                } catch (SQLException e) {
+                    statement.close();
+                    throw e;
+                }
+                cached.inUse = true;
+                statements.put(key, cached);
+                return cached;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface StatementFactory {
+        PreparedStatement prepare() throws SQLException;
+    }
+
+    private static class CachedStatement extends DefaultPreparedStatement {
+
+        private final CachingConnection connection;
+        //the settings of the statement as prepared by the driver, restored when it is returned to the cache
+        private final int fetchSize;
+        private final int maxRows;
+        private final int queryTimeout;
+        //the following fields are guarded by the connection's monitor
+        private boolean inUse;
+        private boolean evicted;
+
+        private CachedStatement(CachingConnection connection, PreparedStatement delegate) throws SQLException {
+            super(delegate);
+            this.connection = connection;
+            this.fetchSize = delegate.getFetchSize();
+            this.maxRows = delegate.getMaxRows();
+            this.queryTimeout = delegate.getQueryTimeout();
+        }
+
+        /**
+         * Returns this statement to the cache, unless it has been evicted while in use. Its parameters, batch and
+         * warnings are cleared and the settings changed by the last user are reset, so they do not leak into the
+         * next execution of the same SQL.
+         */
+        @Override
+        public void close() throws SQLException {
+            boolean closeDelegate;
+            synchronized (connection) {
+                inUse = false;
+                closeDelegate = evicted;
+            }
+            if (!closeDelegate) {
+                try {
+                    PreparedStatement delegate = getDelegate();
+                    delegate.clearParameters();
+                    delegate.clearBatch();
+                    delegate.clearWarnings();
+                    if (delegate.getFetchSize() != fetchSize) {
+                        delegate.setFetchSize(fetchSize);
+                    }
+                    if (delegate.getMaxRows() != maxRows) {
+                        delegate.setMaxRows(maxRows);
+                    }
+                    if (delegate.getQueryTimeout() != queryTimeout) {
+                        delegate.setQueryTimeout(queryTimeout);
+                    }
+                    return;
+                } catch (SQLException e) {
+                    //not reusable, it is removed from the cache when it is prepared the next time
+                }
+            }
+            getDelegate().close();
+        }
+
+        @Override
+        public boolean isClosed() throws SQLException {
+            synchronized (connection) {
+                if (!inUse) {
+                    return true;
+                }
+            }
+            return super.isClosed();
+        }
+
+        /**
+         * Called while holding the connection's monitor.
+         */
+        private void evict() {
+            evicted = true;
+            if (!inUse) {
+                try {
+                    getDelegate().close();
+                } catch (SQLException ignored) {
+                    //the statement is discarded anyway
+                }
+            }
+        }
+
+        @Override
+        public Connection getConnection() {
+            return connection;
+        }
+    }
+}
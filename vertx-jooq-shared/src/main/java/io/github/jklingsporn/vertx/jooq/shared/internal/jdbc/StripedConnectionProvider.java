@@ -0,0 +1,251 @@
+package io.github.jklingsporn.vertx.jooq.shared.internal.jdbc;
+
+import io.vertx.core.VertxOptions;
+import io.vertx.core.impl.Arguments;
+import org.jooq.ConnectionProvider;
+import org.jooq.exception.DataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A small connection pool for the JDBC DAOs. Since the JDBC DAOs execute their statements on the worker pool of
+ * Vert.x, the pool is usually sized like the worker pool, so no worker ever waits for a connection.<br>
+ * Each connection lives in a slot which is borrowed by a compare-and-set. A thread first tries the slot it used last,
+ * so as long as there are at least as many connections as threads, every thread keeps getting back its own connection
+ * without contending with others. Only if all slots are borrowed, a thread blocks until a connection is released or
+ * the acquire timeout expires.<br>
+ * Connections are opened lazily and replaced when they have been closed. The pool does not validate connections
+ * beyond <code>Connection#isClosed()</code> and does not reset their state when they are released.
+ */
+public class StripedConnectionProvider implements ConnectionProvider, AutoCloseable {
+
+    private final DataSource dataSource;
+    private final Slot[] slots;
+    private final Semaphore available;
+    private final long acquireTimeoutNanos;
+    private final ThreadLocal<Slot> lastSlot = new ThreadLocal<>();
+    private final AtomicLong borrows = new AtomicLong();
+    private final AtomicLong affineBorrows = new AtomicLong();
+    private final AtomicLong waits = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Creates a pool with a connection per worker thread.
+     * @param dataSource the source of the connections.
+     * @param vertxOptions the options of the Vertx-instance whose worker pool executes the statements.
+     */
+    public StripedConnectionProvider(DataSource dataSource, VertxOptions vertxOptions) {
+        this(dataSource, vertxOptions.getWorkerPoolSize(), TimeUnit.SECONDS.toMillis(30));
+    }
+
+    /**
+     * @param dataSource the source of the connections.
+     * @param size the maximum number of connections.
+     * @param acquireTimeoutMillis how long to wait for a connection if all are borrowed.
+     */
+    public StripedConnectionProvider(DataSource dataSource, int size, long acquireTimeoutMillis) {
+        Arguments.require(size > 0, "size must be positive");
+        Arguments.require(acquireTimeoutMillis >= 0, "acquireTimeoutMillis must not be negative");
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+        this.available = new Semaphore(size);
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMillis);
+    }
+
+    @Override
+    public Connection acquire() throws DataAccessException {
+        if(closed){
+            throw new DataAccessException("Connection pool has been closed");
+        }
+        if(!available.tryAcquire()){
+            awaitPermit();
+        }
+        Slot slot = borrowSlot();
+        try{
+            Connection connection = slot.connection;
+            if(connection == null || connection.isClosed()){
+                connection = dataSource.getConnection();
+                slot.connection = connection;
+            }
+            borrows.incrementAndGet();
+            return connection;
+        }catch (SQLException e){
+            giveBack(slot);
+            throw new DataAccessException("Failed opening a connection", e);
+        }
+    }
+
+    @Override
+    public void release(Connection connection) throws DataAccessException {
+        Slot slot = lastSlot.get();
+        if(slot == null || slot.connection != connection){
+            slot = null;
+            for (Slot candidate : slots) {
+                if(candidate.connection == connection){
+                    slot = candidate;
+                    break;
+                }
+            }
+        }
+        if(slot == null){
+            throw new DataAccessException("Connection does not belong to this pool");
+        }
+        if(closed){
+            closeQuietly(connection);
+            slot.connection = null;
+        }
+        giveBack(slot);
+    }
+
+    /**
+     * Closes all connections that are not borrowed. Borrowed connections are closed when they are released.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Slot slot : slots) {
+            if(slot.borrowed.compareAndSet(false, true)){
+                Connection connection = slot.connection;
+                slot.connection = null;
+                if(connection != null){
+                    closeQuietly(connection);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the maximum number of connections.
+     */
+    public int getSize() {
+        return slots.length;
+    }
+
+    /**
+     * @return the number of currently borrowed connections.
+     */
+    public int getBorrowed() {
+        return slots.length - available.availablePermits();
+    }
+
+    /**
+     * @return the ratio of borrowed connections to the size of the pool.
+     */
+    public double getUtilization() {
+        return (double) getBorrowed() / slots.length;
+    }
+
+    /**
+     * @return the number of successfully acquired connections.
+     */
+    public long getBorrows() {
+        return borrows.get();
+    }
+
+    /**
+     * @return the number of acquisitions that got the connection the thread had used before.
+     */
+    public long getAffineBorrows() {
+        return affineBorrows.get();
+    }
+
+    /**
+     * @return the number of acquisitions that had to wait because all connections were borrowed.
+     */
+    public long getWaits() {
+        return waits.get();
+    }
+
+    /**
+     * @return the total time spent waiting for a connection in milliseconds.
+     */
+    public long getTotalWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos.get());
+    }
+
+    /**
+     * @return the longest time spent waiting for a connection in milliseconds.
+     */
+    public long getMaxWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+    }
+
+    private void awaitPermit(){
+        long start = System.nanoTime();
+        boolean acquired;
+        try{
+            acquired = available.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        }catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("Interrupted while waiting for a connection", e);
+        }finally {
+            long waited = System.nanoTime() - start;
+            waits.incrementAndGet();
+            waitNanos.addAndGet(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+        }
+        if(!acquired){
+            throw new DataAccessException(String.format("No connection available within %d ms", TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos)));
+        }
+    }
+
+    /**
+     * Called after a permit has been acquired, so there is at least one slot that is not borrowed.
+     */
+    private Slot borrowSlot(){
+        Slot last = lastSlot.get();
+        if(last != null && last.borrowed.compareAndSet(false, true)){
+            affineBorrows.incrementAndGet();
+            return last;
+        }
+        //start at a thread specific slot, so threads without affinity spread over the pool
+        int start = (int) (Thread.currentThread().getId() % slots.length);
+        while(true){
+            for (int i = 0; i < slots.length; i++) {
+                Slot slot = slots[(start + i) % slots.length];
+                if(slot.borrowed.compareAndSet(false, true)){
+                    lastSlot.set(slot);
+                    return slot;
+                }
+            }
+            if(closed){
+                //close() has taken the remaining slots
+                available.release();
+                throw new DataAccessException("Connection pool has been closed");
+            }
+            //another thread has taken the free slot after this thread scanned it, retry
+            Thread.yield();
+        }
+    }
+
+    private void giveBack(Slot slot){
+        slot.borrowed.set(false);
+        available.release();
+    }
+
+    private static void closeQuietly(Connection connection){
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            //the connection is discarded anyway
+        }
+    }
+
+    private static class Slot {
+        private final AtomicBoolean borrowed = new AtomicBoolean();
+        //only accessed by the thread that has borrowed the slot
+        private volatile Connection connection;
+    }
+}